@@ -0,0 +1,95 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.benchmarks;
+
+import java.security.GeneralSecurityException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.californium.scandium.dtls.cipher.BulkCCMBlockCipher;
+import org.eclipse.californium.scandium.dtls.cipher.CCMBlockCipher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link CCMBlockCipher} and {@link BulkCCMBlockCipher}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CcmBlockCipherBenchmark {
+
+	@Param({ "32", "256", "1024" })
+	public int payloadSize;
+
+	@Param({ "8", "16" })
+	public int macSize;
+
+	private SecretKey key;
+	private byte[] nonce;
+	private byte[] additionalData;
+	private byte[] plaintext;
+	private byte[] ciphertext;
+
+	@Setup
+	public void setup() throws GeneralSecurityException {
+		Random random = new Random(4711);
+		byte[] secret = new byte[16];
+		random.nextBytes(secret);
+		key = new SecretKeySpec(secret, "AES");
+		nonce = new byte[12];
+		random.nextBytes(nonce);
+		additionalData = new byte[13];
+		random.nextBytes(additionalData);
+		plaintext = new byte[payloadSize];
+		random.nextBytes(plaintext);
+		ciphertext = CCMBlockCipher.encrypt(key, nonce, additionalData, plaintext, macSize);
+	}
+
+	@Benchmark
+	public byte[] encrypt() throws GeneralSecurityException {
+		return CCMBlockCipher.encrypt(key, nonce, additionalData, plaintext, macSize);
+	}
+
+	@Benchmark
+	public byte[] decrypt() throws GeneralSecurityException {
+		return CCMBlockCipher.decrypt(key, nonce, additionalData, ciphertext, macSize);
+	}
+
+	@Benchmark
+	public byte[] encryptBulk() throws GeneralSecurityException {
+		return BulkCCMBlockCipher.encrypt(key, nonce, additionalData, plaintext, macSize);
+	}
+
+	@Benchmark
+	public byte[] decryptBulk() throws GeneralSecurityException {
+		return BulkCCMBlockCipher.decrypt(key, nonce, additionalData, ciphertext, macSize);
+	}
+}
@@ -0,0 +1,135 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.benchmarks;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.californium.elements.util.DatagramReader;
+import org.eclipse.californium.elements.util.DatagramWriter;
+import org.eclipse.californium.scandium.dtls.CompressionMethod;
+import org.eclipse.californium.scandium.dtls.ContentType;
+import org.eclipse.californium.scandium.dtls.DTLSConnectionState;
+import org.eclipse.californium.scandium.dtls.DtlsAeadConnectionState;
+import org.eclipse.californium.scandium.dtls.HandshakeException;
+import org.eclipse.californium.scandium.dtls.ProtocolVersion;
+import org.eclipse.californium.scandium.dtls.Record;
+import org.eclipse.californium.scandium.dtls.cipher.CipherSuite;
+import org.eclipse.californium.scandium.util.SecretIvParameterSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link Record#fromReader(DatagramReader, org.eclipse.californium.scandium.dtls.ConnectionIdGenerator, long)}
+ * and {@link DtlsAeadConnectionState#encrypt(Record, byte[])} and
+ * {@link DtlsAeadConnectionState#decrypt(Record, byte[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtlsRecordBenchmark {
+
+	private static final int EPOCH = 1;
+
+	@Param({ "TLS_PSK_WITH_AES_128_CCM_8", "TLS_PSK_WITH_AES_128_GCM_SHA256" })
+	public String cipherSuite;
+
+	@Param({ "64", "1024" })
+	public int payloadSize;
+
+	private DTLSConnectionState state;
+	private byte[] plaintext;
+	private byte[] ciphertext;
+	private byte[] datagram;
+	private Record record;
+
+	@Setup
+	public void setup() throws GeneralSecurityException {
+		CipherSuite suite = CipherSuite.valueOf(cipherSuite);
+		Random random = new Random(4711);
+		byte[] secret = new byte[suite.getEncKeyLength()];
+		random.nextBytes(secret);
+		byte[] iv = new byte[suite.getFixedIvLength()];
+		random.nextBytes(iv);
+		state = DTLSConnectionState.create(suite, CompressionMethod.NULL, new SecretKeySpec(secret, "AES"),
+				new SecretIvParameterSpec(iv), null);
+		plaintext = new byte[payloadSize];
+		random.nextBytes(plaintext);
+		record = parse(toDatagram(plaintext));
+		ciphertext = state.encrypt(record, plaintext);
+		datagram = toDatagram(ciphertext);
+	}
+
+	/**
+	 * Create datagram with application data record of epoch {@link #EPOCH}.
+	 * 
+	 * @param fragment fragment of record
+	 * @return datagram
+	 */
+	private static byte[] toDatagram(byte[] fragment) {
+		DatagramWriter writer = new DatagramWriter(fragment.length + 13);
+		writer.write(ContentType.APPLICATION_DATA.getCode(), Byte.SIZE);
+		writer.write(ProtocolVersion.VERSION_DTLS_1_2.getMajor(), Byte.SIZE);
+		writer.write(ProtocolVersion.VERSION_DTLS_1_2.getMinor(), Byte.SIZE);
+		writer.write(EPOCH, Short.SIZE);
+		writer.writeLong(1, 48);
+		writer.write(fragment.length, Short.SIZE);
+		writer.writeBytes(fragment);
+		return writer.toByteArray();
+	}
+
+	private static Record parse(byte[] datagram) {
+		List<Record> records = Record.fromReader(new DatagramReader(datagram, false), null, 0);
+		return records.get(0);
+	}
+
+	@Benchmark
+	public Record parseRecord() {
+		return parse(datagram);
+	}
+
+	@Benchmark
+	public Record parseAndDecryptRecord() throws GeneralSecurityException, HandshakeException {
+		Record record = parse(datagram);
+		record.decodeFragment(state);
+		return record;
+	}
+
+	@Benchmark
+	public byte[] encrypt() throws GeneralSecurityException {
+		return state.encrypt(record, plaintext);
+	}
+
+	@Benchmark
+	public byte[] decrypt() throws GeneralSecurityException {
+		return state.decrypt(record, ciphertext);
+	}
+}
@@ -0,0 +1,122 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.benchmarks;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.core.coap.Request;
+import org.eclipse.californium.core.config.CoapConfig;
+import org.eclipse.californium.core.config.CoapConfig.TrackerMode;
+import org.eclipse.californium.core.network.Exchange;
+import org.eclipse.californium.core.network.Exchange.Origin;
+import org.eclipse.californium.core.network.InMemoryMessageExchangeStore;
+import org.eclipse.californium.core.network.KeyMID;
+import org.eclipse.californium.core.network.deduplication.SweepDeduplicator;
+import org.eclipse.californium.elements.AddressEndpointContext;
+import org.eclipse.californium.elements.config.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link InMemoryMessageExchangeStore} and
+ * {@link SweepDeduplicator}.
+ * 
+ * Neither the store nor the deduplicator are started. Exchanges are removed
+ * explicitly and the deduplicator is cleared for each iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExchangeStoreBenchmark {
+
+	private static final int PEERS = 16;
+
+	static {
+		CoapConfig.register();
+	}
+
+	private final InetSocketAddress[] peers = new InetSocketAddress[PEERS];
+	private final AddressEndpointContext[] contexts = new AddressEndpointContext[PEERS];
+	private InMemoryMessageExchangeStore store;
+	private SweepDeduplicator deduplicator;
+	private Exchange duplicate;
+	private KeyMID duplicateKey;
+	private int counter;
+
+	@Setup
+	public void setup() {
+		Configuration config = Configuration.createStandardWithoutFile();
+		config.set(CoapConfig.MAX_ACTIVE_PEERS, PEERS * 2);
+		// the MIDs are not released during the benchmark
+		config.set(CoapConfig.MID_TRACKER, TrackerMode.NULL);
+		store = new InMemoryMessageExchangeStore(config);
+		deduplicator = new SweepDeduplicator(config);
+		for (int index = 0; index < PEERS; ++index) {
+			peers[index] = new InetSocketAddress(InetAddress.getLoopbackAddress(), 10000 + index);
+			contexts[index] = new AddressEndpointContext(peers[index]);
+		}
+		duplicate = newExchange(0, Origin.REMOTE);
+		duplicateKey = new KeyMID(4711, peers[0]);
+	}
+
+	@Setup(Level.Iteration)
+	public void setupIteration() {
+		deduplicator.clear();
+		deduplicator.findPrevious(duplicateKey, duplicate);
+	}
+
+	private Exchange newExchange(int peer, Origin origin) {
+		Request request = Request.newGet();
+		request.setDestinationContext(contexts[peer]);
+		request.getOptions().setUriPath("bench");
+		return new Exchange(request, peers[peer], origin, null);
+	}
+
+	@Benchmark
+	public boolean registerAndRemove() {
+		Exchange exchange = newExchange(++counter % PEERS, Origin.LOCAL);
+		boolean registered = store.registerOutboundRequest(exchange);
+		store.remove(exchange.getKeyMID(), exchange);
+		store.remove(exchange.getKeyToken(), exchange);
+		return registered;
+	}
+
+	@Benchmark
+	public Exchange findPreviousNew() {
+		int mid = ++counter;
+		// bounded number of keys, 1048576 keys, then findPrevious hits
+		KeyMID key = new KeyMID(mid & 0xffff, peers[(mid >>> 16) % PEERS]);
+		return deduplicator.findPrevious(key, duplicate);
+	}
+
+	@Benchmark
+	public Exchange findPreviousDuplicate() {
+		return deduplicator.findPrevious(new KeyMID(4711, peers[0]), duplicate);
+	}
+}
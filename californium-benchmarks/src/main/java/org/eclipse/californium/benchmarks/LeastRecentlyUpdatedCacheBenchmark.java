@@ -0,0 +1,103 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache;
+import org.eclipse.californium.elements.util.StripedLeastRecentlyUpdatedCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link LeastRecentlyUpdatedCache} and
+ * {@link StripedLeastRecentlyUpdatedCache}.
+ * 
+ * Uses 4 threads by default. Use {@code -t} to benchmark other numbers of
+ * threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LeastRecentlyUpdatedCacheBenchmark {
+
+	@Param({ "10000", "1000000" })
+	public int entries;
+
+	private LeastRecentlyUpdatedCache<Integer, Integer> cache;
+	private StripedLeastRecentlyUpdatedCache<Integer, Integer> stripedCache;
+
+	@Setup
+	public void setup() {
+		cache = new LeastRecentlyUpdatedCache<>(entries, entries, 30, TimeUnit.MINUTES);
+		stripedCache = new StripedLeastRecentlyUpdatedCache<>(entries, entries, 30, TimeUnit.MINUTES);
+		for (int index = 0; index < entries; ++index) {
+			Integer key = index;
+			cache.put(key, key);
+			stripedCache.put(key, key);
+		}
+	}
+
+	private Integer nextKey() {
+		return ThreadLocalRandom.current().nextInt(entries);
+	}
+
+	@Benchmark
+	public Integer get() {
+		return cache.get(nextKey());
+	}
+
+	@Benchmark
+	public Integer update() {
+		return cache.update(nextKey());
+	}
+
+	@Benchmark
+	public boolean put() {
+		Integer key = nextKey();
+		return cache.put(key, key);
+	}
+
+	@Benchmark
+	public Integer stripedGet() {
+		return stripedCache.get(nextKey());
+	}
+
+	@Benchmark
+	public Integer stripedUpdate() {
+		return stripedCache.update(nextKey());
+	}
+
+	@Benchmark
+	public boolean stripedPut() {
+		Integer key = nextKey();
+		return stripedCache.put(key, key);
+	}
+}
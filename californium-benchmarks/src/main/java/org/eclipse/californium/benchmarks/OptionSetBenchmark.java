@@ -0,0 +1,79 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.core.coap.MediaTypeRegistry;
+import org.eclipse.californium.core.coap.Option;
+import org.eclipse.californium.core.coap.OptionSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link OptionSet} construction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionSetBenchmark {
+
+	private static final byte[] ETAG = { 1, 2, 3, 4 };
+
+	private OptionSet options;
+
+	@Setup
+	public void setup() {
+		options = newOptions();
+	}
+
+	private static OptionSet newOptions() {
+		return new OptionSet().setUriHost("sensors.example.com").setUriPath("sensors/temperature/living-room")
+				.setUriQuery("unit=celsius&precision=2").setContentFormat(MediaTypeRegistry.APPLICATION_CBOR)
+				.setAccept(MediaTypeRegistry.APPLICATION_CBOR).addETag(ETAG).setBlock2(6, false, 0);
+	}
+
+	@Benchmark
+	public OptionSet create() {
+		return newOptions();
+	}
+
+	@Benchmark
+	public OptionSet createMinimal() {
+		return new OptionSet().addUriPath("temp").setContentFormat(MediaTypeRegistry.TEXT_PLAIN);
+	}
+
+	@Benchmark
+	public OptionSet copy() {
+		return new OptionSet(options);
+	}
+
+	@Benchmark
+	public List<Option> sortedList() {
+		return options.asSortedList();
+	}
+}
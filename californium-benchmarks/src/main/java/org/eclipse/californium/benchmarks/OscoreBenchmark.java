@@ -0,0 +1,124 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.benchmarks;
+
+import java.net.InetSocketAddress;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.core.coap.CoAP.Code;
+import org.eclipse.californium.core.coap.Request;
+import org.eclipse.californium.core.network.serialization.UdpDataParser;
+import org.eclipse.californium.core.network.serialization.UdpDataSerializer;
+import org.eclipse.californium.cose.AlgorithmID;
+import org.eclipse.californium.elements.AddressEndpointContext;
+import org.eclipse.californium.elements.RawData;
+import org.eclipse.californium.oscore.CoapOSException;
+import org.eclipse.californium.oscore.HashMapCtxDB;
+import org.eclipse.californium.oscore.OSCoreCtx;
+import org.eclipse.californium.oscore.OSException;
+import org.eclipse.californium.oscore.RequestDecryptor;
+import org.eclipse.californium.oscore.RequestEncryptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for OSCORE request protection.
+ * 
+ * Uses a client and a server {@link OSCoreCtx} derived from the same master
+ * secret. The sender sequence number of the client increases with every
+ * encrypted request, therefore the replay window of the server accepts all
+ * requests of {@link #encryptAndDecrypt()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OscoreBenchmark {
+
+	private static final byte[] MASTER_SECRET = { 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0A, 0x0B,
+			0x0C, 0x0D, 0x0E, 0x0F, 0x10 };
+	private static final byte[] MASTER_SALT = { (byte) 0x9e, 0x7c, (byte) 0xa9, 0x22, 0x23, 0x78, 0x63, 0x40 };
+	private static final byte[] CLIENT_ID = { 0x00 };
+	private static final byte[] SERVER_ID = { 0x01 };
+	private static final int REPLAY_WINDOW = 32;
+	private static final int MAX_UNFRAGMENTED_SIZE = 4096;
+
+	@Param({ "0", "32", "256" })
+	public int payloadSize;
+
+	private final UdpDataParser parser = new UdpDataParser();
+	private final UdpDataSerializer serializer = new UdpDataSerializer();
+	private final InetSocketAddress peer = new InetSocketAddress("127.0.0.1", 5683);
+	private final InetSocketAddress local = new InetSocketAddress("127.0.0.1", 5684);
+	private HashMapCtxDB clientDb;
+	private HashMapCtxDB serverDb;
+	private OSCoreCtx clientCtx;
+	private OSCoreCtx serverCtx;
+	private byte[] requestBytes;
+
+	@Setup
+	public void setup() throws OSException {
+		clientCtx = new OSCoreCtx(MASTER_SECRET, true, AlgorithmID.AES_CCM_16_64_128, CLIENT_ID, SERVER_ID,
+				AlgorithmID.HKDF_HMAC_SHA_256, REPLAY_WINDOW, MASTER_SALT, null, MAX_UNFRAGMENTED_SIZE);
+		serverCtx = new OSCoreCtx(MASTER_SECRET, false, AlgorithmID.AES_CCM_16_64_128, SERVER_ID, CLIENT_ID,
+				AlgorithmID.HKDF_HMAC_SHA_256, REPLAY_WINDOW, MASTER_SALT, null, MAX_UNFRAGMENTED_SIZE);
+		clientDb = new HashMapCtxDB();
+		clientDb.addContext(clientCtx);
+		serverDb = new HashMapCtxDB();
+		serverDb.addContext(serverCtx);
+
+		byte[] payload = new byte[payloadSize];
+		new Random(4711).nextBytes(payload);
+		Request request = new Request(payloadSize == 0 ? Code.GET : Code.POST);
+		request.setMID(0x71c3);
+		request.setToken(new byte[] { 0x00, 0x00, (byte) 0xb9, 0x32 });
+		request.getOptions().setUriHost("localhost").setUriPath("tv1");
+		if (payloadSize > 0) {
+			request.setPayload(payload);
+		}
+		requestBytes = serializer.getByteArray(request);
+	}
+
+	private Request parse(byte[] data, InetSocketAddress source) {
+		RawData raw = RawData.inbound(data, new AddressEndpointContext(source), false, 0L, local);
+		return (Request) parser.parseMessage(raw);
+	}
+
+	@Benchmark
+	public Request encrypt() throws OSException {
+		Request request = parse(requestBytes, peer);
+		return RequestEncryptor.encrypt(clientDb, clientCtx, request, null);
+	}
+
+	@Benchmark
+	public Request encryptAndDecrypt() throws OSException, CoapOSException {
+		Request request = parse(requestBytes, peer);
+		request = RequestEncryptor.encrypt(clientDb, clientCtx, request, null);
+		Request protectedRequest = parse(serializer.getByteArray(request), peer);
+		return RequestDecryptor.decrypt(serverDb, protectedRequest, serverCtx);
+	}
+}
@@ -0,0 +1,111 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.benchmarks;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.core.coap.CoAP.ResponseCode;
+import org.eclipse.californium.core.coap.MediaTypeRegistry;
+import org.eclipse.californium.core.coap.Message;
+import org.eclipse.californium.core.coap.Request;
+import org.eclipse.californium.core.coap.Response;
+import org.eclipse.californium.core.coap.Token;
+import org.eclipse.californium.core.network.serialization.UdpDataParser;
+import org.eclipse.californium.core.network.serialization.UdpDataSerializer;
+import org.eclipse.californium.elements.AddressEndpointContext;
+import org.eclipse.californium.elements.RawData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link UdpDataParser} and {@link UdpDataSerializer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UdpSerializationBenchmark {
+
+	@Param({ "0", "64", "1024" })
+	public int payloadSize;
+
+	private final UdpDataParser parser = new UdpDataParser();
+	private final UdpDataSerializer serializer = new UdpDataSerializer();
+	private final AddressEndpointContext context = new AddressEndpointContext(InetAddress.getLoopbackAddress(),
+			5683);
+	private final InetSocketAddress connector = new InetSocketAddress(InetAddress.getLoopbackAddress(), 5684);
+	private byte[] requestBytes;
+	private byte[] responseBytes;
+
+	@Setup
+	public void setup() {
+		requestBytes = serializer.getByteArray(newRequest());
+		responseBytes = serializer.getByteArray(newResponse());
+	}
+
+	private Request newRequest() {
+		Request request = Request.newPost();
+		request.setMID(4711);
+		request.setToken(Token.fromProvider(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+		request.setDestinationContext(context);
+		request.getOptions().setUriPath("sensors/temperature/living-room").setUriQuery("unit=celsius")
+				.setContentFormat(MediaTypeRegistry.APPLICATION_CBOR).setAccept(MediaTypeRegistry.APPLICATION_CBOR);
+		request.setPayload(new byte[payloadSize]);
+		return request;
+	}
+
+	private Response newResponse() {
+		Response response = new Response(ResponseCode.CONTENT);
+		response.setMID(4711);
+		response.setToken(Token.fromProvider(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+		response.setDestinationContext(context);
+		response.getOptions().setContentFormat(MediaTypeRegistry.APPLICATION_CBOR).setMaxAge(30).setObserve(12);
+		response.setPayload(new byte[payloadSize]);
+		return response;
+	}
+
+	@Benchmark
+	public Message parseRequest() {
+		return parser.parseMessage(RawData.inbound(requestBytes, context, false, 0L, connector));
+	}
+
+	@Benchmark
+	public Message parseResponse() {
+		return parser.parseMessage(RawData.inbound(responseBytes, context, false, 0L, connector));
+	}
+
+	@Benchmark
+	public RawData serializeRequest() {
+		return serializer.serializeRequest(newRequest());
+	}
+
+	@Benchmark
+	public RawData serializeResponse() {
+		return serializer.serializeResponse(newResponse());
+	}
+}
@@ -47,13 +47,21 @@ package org.eclipse.californium.core;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 import org.eclipse.californium.core.coap.CoAP;
 import org.eclipse.californium.core.coap.CoAP.Type;
@@ -133,6 +141,21 @@ public class CoapClient {
 	/** The endpoint. */
 	private Endpoint endpoint;
 
+	/**
+	 * Maximum number of asynchronous requests in flight per destination.
+	 * {@code 0} for no limit.
+	 * 
+	 * @since 4.0
+	 */
+	private volatile int maxInFlight;
+
+	/**
+	 * Windows of asynchronous requests in flight per destination.
+	 * 
+	 * @since 4.0
+	 */
+	private final ConcurrentMap<InetSocketAddress, InFlightWindow> inFlightWindows = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs a new CoapClient that has no destination URI yet.
 	 */
@@ -485,6 +508,42 @@ public class CoapClient {
 		return this;
 	}
 
+	/**
+	 * Gets the maximum number of asynchronous requests in flight per
+	 * destination.
+	 * 
+	 * @return maximum number of requests in flight. {@code 0} for no limit.
+	 * @see #setMaxInFlight(int)
+	 * @since 4.0
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * Sets the maximum number of asynchronous requests in flight per
+	 * destination.
+	 * <p>
+	 * Applies to requests sent with the {@link CompletableFuture} based
+	 * functions, e.g. {@link #getAsync()}. If the maximum is reached, further
+	 * requests for the same destination are queued and sent, when a request in
+	 * flight completes. That allows to pipeline many requests over a single
+	 * endpoint without overloading the destination.
+	 * 
+	 * @param maxInFlight maximum number of requests in flight. {@code 0} for no
+	 *            limit.
+	 * @return the CoAP client
+	 * @throws IllegalArgumentException if maxInFlight is negative
+	 * @since 4.0
+	 */
+	public CoapClient setMaxInFlight(int maxInFlight) {
+		if (maxInFlight < 0) {
+			throw new IllegalArgumentException("max. in flight " + maxInFlight + " must not be negative!");
+		}
+		this.maxInFlight = maxInFlight;
+		return this;
+	}
+
 	/**
 	 * Performs a CoAP ping using the default timeout for requests.
 	 * 
@@ -1337,6 +1396,183 @@ public class CoapClient {
 		return observe(accept(request, accept), handler);
 	}
 
+	// Asynchronous requests using CompletableFuture
+
+	/**
+	 * Sends a GET request asynchronously.
+	 * 
+	 * @return future with the CoAP response
+	 * @see #advancedAsync(Request)
+	 * @since 4.0
+	 */
+	public CompletableFuture<CoapResponse> getAsync() {
+		return advancedAsync(newGet());
+	}
+
+	/**
+	 * Sends a GET request with the specified Accept option asynchronously.
+	 * 
+	 * @param accept the Accept option
+	 * @return future with the CoAP response
+	 * @see #advancedAsync(Request)
+	 * @since 4.0
+	 */
+	public CompletableFuture<CoapResponse> getAsync(int accept) {
+		return advancedAsync(accept(newGet(), accept));
+	}
+
+	/**
+	 * Sends a POST request with the specified payload and the specified content
+	 * format asynchronously.
+	 * 
+	 * @param payload the payload
+	 * @param format the Content-Format
+	 * @return future with the CoAP response
+	 * @see #advancedAsync(Request)
+	 * @since 4.0
+	 */
+	public CompletableFuture<CoapResponse> postAsync(byte[] payload, int format) {
+		Request request = newPost();
+		request.setPayload(payload);
+		request.getOptions().setContentFormat(format);
+		return advancedAsync(request);
+	}
+
+	/**
+	 * Sends a PUT request with the specified payload and the specified content
+	 * format asynchronously.
+	 * 
+	 * @param payload the payload
+	 * @param format the Content-Format
+	 * @return future with the CoAP response
+	 * @see #advancedAsync(Request)
+	 * @since 4.0
+	 */
+	public CompletableFuture<CoapResponse> putAsync(byte[] payload, int format) {
+		Request request = newPut();
+		request.setPayload(payload);
+		request.getOptions().setContentFormat(format);
+		return advancedAsync(request);
+	}
+
+	/**
+	 * Sends a DELETE request asynchronously.
+	 * 
+	 * @return future with the CoAP response
+	 * @see #advancedAsync(Request)
+	 * @since 4.0
+	 */
+	public CompletableFuture<CoapResponse> deleteAsync() {
+		return advancedAsync(newDelete());
+	}
+
+	/**
+	 * Sends an advanced request asynchronously.
+	 * <p>
+	 * The returned future is completed with the response, or exceptionally, if
+	 * the request fails, e.g. with the {@link ConnectorException} of a send
+	 * error or an {@link IOException}, if the request timed out or was
+	 * rejected. Cancelling the future cancels the request. The future is
+	 * completed using the client-specific executor, if available.
+	 * <p>
+	 * The number of requests in flight per destination is limited by
+	 * {@link #setMaxInFlight(int)}.
+	 * 
+	 * @param request the custom request
+	 * @return future with the CoAP response
+	 * @throws IllegalArgumentException if the request is a multicast request
+	 * @since 4.0
+	 */
+	public CompletableFuture<CoapResponse> advancedAsync(final Request request) {
+		assignClientUriIfEmpty(request);
+		if (request.isMulticast()) {
+			throw new IllegalArgumentException("multicast requests are not supported!");
+		}
+		final CompletableFuture<CoapResponse> future = new CompletableFuture<>();
+		request.addMessageObserver(new MessageObserverImpl(new FutureHandler(request, future), false));
+		final Runnable job = new Runnable() {
+
+			@Override
+			public void run() {
+				if (future.isDone()) {
+					// canceled while queued
+					request.cancel();
+				} else {
+					send(request);
+				}
+			}
+		};
+		int max = maxInFlight;
+		EndpointContext destination = request.getDestinationContext();
+		if (max > 0 && destination != null) {
+			final InetSocketAddress peer = destination.getPeerAddress();
+			InFlightWindow window;
+			do {
+				window = inFlightWindows.get(peer);
+				if (window == null) {
+					window = new InFlightWindow();
+					InFlightWindow previous = inFlightWindows.putIfAbsent(peer, window);
+					if (previous != null) {
+						window = previous;
+					}
+				}
+			} while (!window.acquire(job, max));
+			final InFlightWindow acquired = window;
+			future.whenComplete(new BiConsumer<CoapResponse, Throwable>() {
+
+				@Override
+				public void accept(CoapResponse response, Throwable error) {
+					Runnable next = acquired.release(job, peer);
+					if (next != null) {
+						next.run();
+					}
+				}
+			});
+		} else {
+			job.run();
+		}
+		return future;
+	}
+
+	/**
+	 * Sends an asynchronous observe request and returns a publisher for the
+	 * notifications.
+	 * <p>
+	 * The observe request is sent, when a subscriber subscribes to the
+	 * publisher.
+	 * 
+	 * @param maxBuffered maximum number of buffered notifications
+	 * @return publisher for notifications
+	 * @see #observeAsync(Request, int)
+	 * @since 4.0
+	 */
+	public CoapObservePublisher observeAsync(int maxBuffered) {
+		Request request = newGet();
+		request.setObserve();
+		return observeAsync(request, maxBuffered);
+	}
+
+	/**
+	 * Sends the specified observe request asynchronously and returns a
+	 * publisher for the notifications.
+	 * <p>
+	 * The observe request is sent, when a subscriber subscribes to the
+	 * publisher.
+	 * 
+	 * @param request the observe request
+	 * @param maxBuffered maximum number of buffered notifications
+	 * @return publisher for notifications
+	 * @throws IllegalArgumentException if the observe option is not set in the
+	 *             request, or maxBuffered is less than {@code 1}.
+	 * @since 4.0
+	 */
+	public CoapObservePublisher observeAsync(Request request, int maxBuffered) {
+		if (!request.getOptions().hasObserve()) {
+			throw new IllegalArgumentException("please make sure that the request has observe option set.");
+		}
+		return new CoapObservePublisher(this, request, maxBuffered);
+	}
+
 	/**
 	 * Shutdown the client-specific executor service, when not detached. Always
 	 * needed unless you used detached executor.
@@ -1711,6 +1947,130 @@ public class CoapClient {
 		destinationContext.compareAndSet(null, response.getSourceContext());
 	}
 
+	/**
+	 * Handler to complete a future.
+	 * 
+	 * @since 4.0
+	 */
+	private static class FutureHandler implements CoapHandler {
+
+		private final Request request;
+		private final CompletableFuture<CoapResponse> future;
+
+		private FutureHandler(final Request request, CompletableFuture<CoapResponse> future) {
+			this.request = request;
+			this.future = future;
+			future.whenComplete(new BiConsumer<CoapResponse, Throwable>() {
+
+				@Override
+				public void accept(CoapResponse response, Throwable error) {
+					if (error instanceof CancellationException) {
+						request.cancel();
+					}
+				}
+			});
+		}
+
+		@Override
+		public void onLoad(CoapResponse response) {
+			future.complete(response);
+		}
+
+		@Override
+		public void onError() {
+			Throwable error = request.getSendError();
+			if (error == null) {
+				error = request.getOnResponseError();
+			}
+			if (error == null) {
+				if (request.isTimedOut()) {
+					error = new IOException("request timed out!");
+				} else if (request.isRejected()) {
+					error = new IOException("request rejected!");
+				} else {
+					error = new CancellationException("request canceled!");
+				}
+			}
+			future.completeExceptionally(error);
+		}
+	}
+
+	/**
+	 * Window of asynchronous requests in flight for a destination.
+	 * 
+	 * @since 4.0
+	 */
+	private class InFlightWindow {
+
+		/**
+		 * Queued jobs to send requests.
+		 */
+		private final Queue<Runnable> pending = new ArrayDeque<>();
+		/**
+		 * Number of requests in flight.
+		 */
+		private int inFlight;
+		/**
+		 * Indicates, that the window is removed from the
+		 * {@link CoapClient#inFlightWindows}.
+		 */
+		private boolean removed;
+
+		/**
+		 * Acquire window for a request.
+		 * 
+		 * @param job job to send the request. Executed immediately, if the
+		 *            window has capacity, or queued otherwise.
+		 * @param max maximum number of requests in flight
+		 * @return {@code true}, if acquired, {@code false}, if the window is
+		 *         already removed and a new window must be used.
+		 */
+		private boolean acquire(Runnable job, int max) {
+			synchronized (this) {
+				if (removed) {
+					return false;
+				}
+				if (inFlight >= max) {
+					pending.add(job);
+					return true;
+				}
+				++inFlight;
+			}
+			job.run();
+			return true;
+		}
+
+		/**
+		 * Release window after a request completes.
+		 * 
+		 * If the job is still queued, e.g. the request is cancelled before
+		 * sending, the job is removed from the queue without releasing the
+		 * window.
+		 * 
+		 * @param job job of the completed request
+		 * @param peer destination of this window.
+		 * @return next queued job, or {@code null}, if no job is queued or the
+		 *         completed job was still queued.
+		 */
+		private Runnable release(Runnable job, InetSocketAddress peer) {
+			synchronized (this) {
+				if (pending.remove(job)) {
+					// not acquired
+					return null;
+				}
+				Runnable next = pending.poll();
+				if (next != null) {
+					return next;
+				}
+				if (--inFlight == 0) {
+					removed = true;
+					inFlightWindows.remove(peer, this);
+				}
+			}
+			return null;
+		}
+	}
+
 	/*
 	 * Adapt MessageObserver for a given request in NotificationListener
 	 */
@@ -0,0 +1,312 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.eclipse.californium.core.coap.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publisher for the notifications of an observe request.
+ * <p>
+ * The interfaces {@link Subscriber} and {@link Subscription} follow the
+ * semantics of {@code java.util.concurrent.Flow}, which is not available for
+ * the java 8 API used by Californium. Adapting them to {@code Flow} is
+ * therefore straight forward.
+ * <p>
+ * The observe request is sent, when the subscriber subscribes. Only one
+ * subscriber is supported. The notifications are delivered according the
+ * demand signaled by {@link Subscription#request(long)}. If the subscriber
+ * is slower than the notifications, at most the configured number of
+ * notifications are buffered and the oldest ones are dropped. According
+ * <a href="https://tools.ietf.org/html/rfc7641#section-1.3" target=
+ * "_blank">RFC 7641, 1.3</a> a client is only interested in the most recent
+ * state of the resource. {@link Subscription#cancel()} cancels the observe
+ * relation proactively.
+ * 
+ * @see CoapClient#observeAsync(Request, int)
+ * @since 4.0
+ */
+public class CoapObservePublisher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CoapObservePublisher.class);
+
+	/**
+	 * Subscriber for notifications.
+	 * 
+	 * @param <T> type of items
+	 */
+	public interface Subscriber<T> {
+
+		/**
+		 * Called before any other method.
+		 * 
+		 * @param subscription subscription to request items or cancel.
+		 */
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * Called with the next item.
+		 * 
+		 * @param item next item
+		 */
+		void onNext(T item);
+
+		/**
+		 * Called on failure. No other methods are called afterwards.
+		 * 
+		 * @param error error
+		 */
+		void onError(Throwable error);
+
+		/**
+		 * Called, if no more items will be delivered. No other methods are
+		 * called afterwards.
+		 */
+		void onComplete();
+	}
+
+	/**
+	 * Subscription of a {@link Subscriber}.
+	 */
+	public interface Subscription {
+
+		/**
+		 * Request more items.
+		 * 
+		 * @param n number of additional items. Must be larger than {@code 0}.
+		 */
+		void request(long n);
+
+		/**
+		 * Cancel the subscription.
+		 */
+		void cancel();
+	}
+
+	private final CoapClient client;
+	private final Request request;
+	private final int maxBuffered;
+	private final Queue<CoapResponse> buffer = new ArrayDeque<>();
+
+	private Subscriber<? super CoapResponse> subscriber;
+	private CoapObserveRelation relation;
+	private long demand;
+	private boolean draining;
+	private boolean canceled;
+	private boolean completed;
+	private Throwable error;
+
+	/**
+	 * Create publisher.
+	 * 
+	 * @param client client to send the observe request
+	 * @param request observe request
+	 * @param maxBuffered maximum number of buffered notifications
+	 * @throws IllegalArgumentException if maxBuffered is less than {@code 1}
+	 */
+	CoapObservePublisher(CoapClient client, Request request, int maxBuffered) {
+		if (maxBuffered < 1) {
+			throw new IllegalArgumentException("max. buffered notifications " + maxBuffered + " must be at least 1!");
+		}
+		this.client = client;
+		this.request = request;
+		this.maxBuffered = maxBuffered;
+	}
+
+	/**
+	 * Subscribe to the notifications and send the observe request.
+	 * 
+	 * @param subscriber subscriber for the notifications
+	 * @throws NullPointerException if subscriber is {@code null}
+	 */
+	public void subscribe(final Subscriber<? super CoapResponse> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("subscriber must not be null!");
+		}
+		synchronized (this) {
+			if (this.subscriber == null) {
+				this.subscriber = subscriber;
+			} else {
+				subscriber.onSubscribe(new Subscription() {
+
+					@Override
+					public void request(long n) {
+					}
+
+					@Override
+					public void cancel() {
+					}
+				});
+				subscriber.onError(new IllegalStateException("publisher supports only one subscriber!"));
+				return;
+			}
+		}
+		subscriber.onSubscribe(new Subscription() {
+
+			@Override
+			public void request(long n) {
+				if (n <= 0) {
+					fail(new IllegalArgumentException("requested items " + n + " must be positive!"));
+				} else {
+					synchronized (CoapObservePublisher.this) {
+						demand += n;
+						if (demand < 0) {
+							demand = Long.MAX_VALUE;
+						}
+					}
+				}
+				drain();
+			}
+
+			@Override
+			public void cancel() {
+				CoapObserveRelation relation;
+				synchronized (CoapObservePublisher.this) {
+					if (canceled) {
+						return;
+					}
+					canceled = true;
+					buffer.clear();
+					relation = CoapObservePublisher.this.relation;
+				}
+				if (relation != null) {
+					relation.proactiveCancel();
+				}
+			}
+		});
+		CoapObserveRelation relation = client.observe(request, new CoapHandler() {
+
+			@Override
+			public void onLoad(CoapResponse response) {
+				synchronized (CoapObservePublisher.this) {
+					if (canceled || completed) {
+						return;
+					}
+					if (buffer.size() >= maxBuffered) {
+						LOGGER.debug("dropping old notification: {}", buffer.poll().advanced());
+					}
+					buffer.add(response);
+					if (!response.getOptions().hasObserve()) {
+						// observe relation not established or terminated
+						completed = true;
+					}
+				}
+				drain();
+			}
+
+			@Override
+			public void onError() {
+				Throwable cause = request.getSendError();
+				if (cause == null) {
+					cause = request.getOnResponseError();
+				}
+				if (cause == null) {
+					cause = new IllegalStateException(request.isTimedOut() ? "observe request timed out!"
+							: "observe request failed!");
+				}
+				fail(cause);
+			}
+		});
+		boolean cancel;
+		synchronized (this) {
+			this.relation = relation;
+			cancel = canceled || error != null;
+		}
+		if (cancel) {
+			relation.proactiveCancel();
+		}
+	}
+
+	/**
+	 * Fail the subscription.
+	 * 
+	 * @param cause cause of the failure
+	 */
+	private void fail(Throwable cause) {
+		CoapObserveRelation relation;
+		synchronized (this) {
+			if (canceled || completed) {
+				return;
+			}
+			completed = true;
+			error = cause;
+			relation = this.relation;
+		}
+		if (relation != null) {
+			relation.proactiveCancel();
+		}
+		drain();
+	}
+
+	/**
+	 * Deliver buffered notifications according the demand and deliver the
+	 * final signal.
+	 */
+	private void drain() {
+		synchronized (this) {
+			if (draining) {
+				return;
+			}
+			draining = true;
+		}
+		boolean drained = false;
+		try {
+			while (true) {
+				CoapResponse next = null;
+				boolean complete = false;
+				Throwable failure = null;
+				synchronized (this) {
+					if (canceled) {
+						draining = false;
+						drained = true;
+						return;
+					}
+					if (demand > 0 && !buffer.isEmpty()) {
+						next = buffer.poll();
+						if (demand != Long.MAX_VALUE) {
+							--demand;
+						}
+					} else if (completed && buffer.isEmpty()) {
+						canceled = true;
+						failure = error;
+						complete = failure == null;
+					} else {
+						draining = false;
+						drained = true;
+						return;
+					}
+				}
+				if (next != null) {
+					subscriber.onNext(next);
+				} else if (complete) {
+					subscriber.onComplete();
+				} else {
+					subscriber.onError(failure);
+				}
+			}
+		} finally {
+			if (!drained) {
+				// subscriber failed
+				synchronized (this) {
+					draining = false;
+				}
+			}
+		}
+	}
+}
@@ -33,7 +33,10 @@
 package org.eclipse.californium.core;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -45,8 +48,10 @@ import org.eclipse.californium.core.coap.CoAP.Code;
 import org.eclipse.californium.core.coap.CoAP.ResponseCode;
 import org.eclipse.californium.core.coap.CoAP.Type;
 import org.eclipse.californium.core.coap.OptionSet;
+import org.eclipse.californium.core.coap.Request;
 import org.eclipse.californium.core.coap.Response;
 import org.eclipse.californium.core.network.Exchange;
+import org.eclipse.californium.core.observe.ObserveNotificationDispatcher;
 import org.eclipse.californium.core.observe.ObserveNotificationOrderer;
 import org.eclipse.californium.core.observe.ObserveRelation;
 import org.eclipse.californium.core.observe.ObserveRelationFilter;
@@ -55,6 +60,7 @@ import org.eclipse.californium.core.server.resources.ObservableResource;
 import org.eclipse.californium.core.server.resources.Resource;
 import org.eclipse.californium.core.server.resources.ResourceAttributes;
 import org.eclipse.californium.core.server.resources.ResourceObserver;
+import org.eclipse.californium.elements.EndpointContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -128,6 +134,15 @@ import org.slf4j.LoggerFactory;
  * done on the executor. A CoAP observe relation between this resource and a
  * CoAP client is represented by an instance of {@link ObserveRelation}.
  * <p>
+ * For resources with many observers, {@link #setSharedRepresentation(boolean)}
+ * enables to process the request only once per representation variant and
+ * send copies of that response as notifications to all observers of that
+ * variant.
+ * <p>
+ * For resources with many observers,
+ * {@link #setNotificationDispatcher(ObserveNotificationDispatcher)} enables to
+ * send the notifications in parallel using shards.
+ * <p>
  * In contrast the class {@link ResourceObserver} has nothing to do with CoAP's
  * observe mechanism but is an implementation of the general observe-pattern. A
  * ResourceObserver is invoked whenever the name or path of a resource changes,
@@ -209,6 +224,23 @@ public class CoapResource implements Resource, ObservableResource {
 	 */
 	private final ObserveNotificationOrderer notificationOrderer;
 
+	/**
+	 * Indicates, that notifications are sent using a shared representation.
+	 * 
+	 * @see #setSharedRepresentation(boolean)
+	 * @since 4.0
+	 */
+	private volatile boolean sharedRepresentation;
+
+	/**
+	 * Dispatcher for notifications. {@code null} to send notifications
+	 * sequentially.
+	 * 
+	 * @see #setNotificationDispatcher(ObserveNotificationDispatcher)
+	 * @since 4.0
+	 */
+	private volatile ObserveNotificationDispatcher notificationDispatcher;
+
 	/**
 	 * Constructs a new resource with the specified name.
 	 * <p>
@@ -750,6 +782,69 @@ public class CoapResource implements Resource, ObservableResource {
 		this.observeType = type;
 	}
 
+	/**
+	 * Enables notifications using a shared representation.
+	 * <p>
+	 * If enabled, {@link #changed()} processes the request of an observe
+	 * relation only once for all relations with the same
+	 * {@link #getRepresentationKey(Request)} and sends a copy of the resulting
+	 * response to each of these relations. Token, MID and observe number are
+	 * still set individually for each relation by the stack.
+	 * <p>
+	 * Only intended for resources, which responses doesn't depend on the
+	 * requesting client, but only on the request parameters covered by the
+	 * representation key. The response must be sent synchronously, responses
+	 * sent asynchronously fall back to process the request for each relation.
+	 * {@link org.eclipse.californium.core.coap.MessageObserver}s of the
+	 * response are not copied.
+	 * 
+	 * @param enable {@code true}, to enable shared representations,
+	 *            {@code false}, to process the request for each relation.
+	 * @since 4.0
+	 */
+	public void setSharedRepresentation(boolean enable) {
+		this.sharedRepresentation = enable;
+	}
+
+	/**
+	 * Checks, if notifications are sent using a shared representation.
+	 * 
+	 * @return {@code true}, if shared representations are used,
+	 *         {@code false}, otherwise.
+	 * @see #setSharedRepresentation(boolean)
+	 * @since 4.0
+	 */
+	public boolean isSharedRepresentation() {
+		return sharedRepresentation;
+	}
+
+	/**
+	 * Sets dispatcher for notifications.
+	 * <p>
+	 * If set, {@link #changed()} dispatches the notifications of the observe
+	 * relations to the shards of the dispatcher instead of sending them
+	 * sequentially from the calling thread.
+	 * 
+	 * @param dispatcher dispatcher for notifications. {@code null} to send
+	 *            notifications sequentially.
+	 * @since 4.0
+	 */
+	public void setNotificationDispatcher(ObserveNotificationDispatcher dispatcher) {
+		this.notificationDispatcher = dispatcher;
+	}
+
+	/**
+	 * Gets dispatcher for notifications.
+	 * 
+	 * @return dispatcher for notifications, or {@code null}, if
+	 *         notifications are sent sequentially.
+	 * @see #setNotificationDispatcher(ObserveNotificationDispatcher)
+	 * @since 4.0
+	 */
+	public ObserveNotificationDispatcher getNotificationDispatcher() {
+		return notificationDispatcher;
+	}
+
 	@Override
 	public void addObserveRelation(ObserveRelation relation) {
 		observeRelations.add(relation);
@@ -859,13 +954,99 @@ public class CoapResource implements Resource, ObservableResource {
 	 */
 	protected void notifyObserverRelations(final ObserveRelationFilter filter) {
 		notificationOrderer.getNextObserveNumber();
+		ObserveNotificationDispatcher dispatcher = notificationDispatcher;
+		if (sharedRepresentation) {
+			notifyObserverRelationsShared(filter, dispatcher);
+			return;
+		}
+		for (ObserveRelation relation : observeRelations) {
+			if (null == filter || filter.accept(relation)) {
+				final Exchange exchange = relation.getExchange();
+				if (dispatcher == null) {
+					handleRequest(exchange);
+				} else {
+					dispatcher.dispatch(relation, () -> handleRequest(exchange));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Notifies the CoAP clients using shared representations.
+	 * <p>
+	 * Processes the request only once per representation key and sends a copy
+	 * of the response to all relations with the same key.
+	 * 
+	 * @param filter filter to select set of relations. {@code null}, if all
+	 *            clients should be notified.
+	 * @param dispatcher dispatcher for notifications. {@code null} to send
+	 *            notifications sequentially.
+	 * @see #setSharedRepresentation(boolean)
+	 * @since 4.0
+	 */
+	private void notifyObserverRelationsShared(final ObserveRelationFilter filter,
+			final ObserveNotificationDispatcher dispatcher) {
+		Map<Object, Response> representations = new HashMap<>();
 		for (ObserveRelation relation : observeRelations) {
 			if (null == filter || filter.accept(relation)) {
-				handleRequest(relation.getExchange());
+				final Exchange exchange = relation.getExchange();
+				Object key = getRepresentationKey(exchange.getRequest());
+				Response representation = null;
+				if (key != null) {
+					representation = representations.get(key);
+					if (representation == null && !representations.containsKey(key)) {
+						RepresentationExchange render = new RepresentationExchange(exchange);
+						handleRequest(render);
+						representation = render.getRepresentation();
+						representations.put(key, representation);
+					}
+				}
+				final Response shared = representation;
+				Runnable notification;
+				if (shared != null) {
+					notification = () -> {
+						Response response = new Response(shared.getCode());
+						response.setType(shared.getType());
+						response.setOptions(shared.getOptions());
+						response.setPayload(shared.getPayload());
+						exchange.sendResponse(response);
+					};
+				} else {
+					notification = () -> handleRequest(exchange);
+				}
+				if (dispatcher == null) {
+					notification.run();
+				} else {
+					dispatcher.dispatch(relation, notification);
+				}
 			}
 		}
 	}
 
+	/**
+	 * Gets the key of the representation variant for the request of an
+	 * observe relation.
+	 * <p>
+	 * Requests with the same key share the same representation, if
+	 * {@link #setSharedRepresentation(boolean)} is enabled. The default key
+	 * covers the request code, the accept option and the URI query. Requests
+	 * with ETags are not shared, because the response depends on the ETags of
+	 * the client.
+	 * 
+	 * @param request request of the observe relation
+	 * @return key of the representation variant, or {@code null}, if the
+	 *         representation is not shared.
+	 * @since 4.0
+	 */
+	protected Object getRepresentationKey(Request request) {
+		OptionSet options = request.getOptions();
+		if (options.getETagCount() > 0) {
+			return null;
+		}
+		String query = options.getURIQueryCount() > 0 ? options.getUriQueryString() : null;
+		return new RepresentationKey(request.getCode(), options.getAccept(), query);
+	}
+
 	@Override
 	public Collection<Resource> getChildren() {
 		return children.values();
@@ -920,4 +1101,85 @@ public class CoapResource implements Resource, ObservableResource {
 		semaphore.acquire();
 	}
 
+
+	/**
+	 * Key of representation variant.
+	 * 
+	 * @since 4.0
+	 */
+	private static final class RepresentationKey {
+
+		private final Code code;
+		private final int accept;
+		private final String query;
+		private final int hash;
+
+		private RepresentationKey(Code code, int accept, String query) {
+			this.code = code;
+			this.accept = accept;
+			this.query = query;
+			this.hash = Objects.hash(code, accept, query);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof RepresentationKey)) {
+				return false;
+			}
+			RepresentationKey other = (RepresentationKey) obj;
+			return code == other.code && accept == other.accept && Objects.equals(query, other.query);
+		}
+	}
+
+	/**
+	 * Exchange to render a shared representation.
+	 * <p>
+	 * Captures the response instead of sending it. Accepts and rejects are
+	 * ignored.
+	 * 
+	 * @since 4.0
+	 */
+	private static final class RepresentationExchange extends Exchange {
+
+		private Response representation;
+
+		private RepresentationExchange(Exchange exchange) {
+			super(exchange.getRequest(), exchange.getPeersIdentity(), Origin.REMOTE, null);
+		}
+
+		@Override
+		public void sendAccept(EndpointContext context) {
+			// ignore
+		}
+
+		@Override
+		public void sendReject(EndpointContext context) {
+			// ignore
+		}
+
+		@Override
+		public void sendResponse(Response response) {
+			if (representation == null) {
+				representation = response;
+			}
+		}
+
+		/**
+		 * Gets the captured representation.
+		 * 
+		 * @return captured representation, or {@code null}, if not available
+		 *         or not successful.
+		 */
+		private Response getRepresentation() {
+			Response response = representation;
+			return response != null && response.isSuccess() ? response : null;
+		}
+	}
 }
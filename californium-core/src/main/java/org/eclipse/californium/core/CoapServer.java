@@ -284,7 +284,7 @@ public class CoapServer implements ServerInterface, PersistentComponentProvider
 			// endpoints
 			setExecutor(ExecutorsUtil.newProtocolScheduledThreadPool(//
 					this.config.get(CoapConfig.PROTOCOL_STAGE_THREAD_COUNT),
-					new NamedThreadFactory("CoapServer(main)#")), false); //$NON-NLS-1$
+					new NamedThreadFactory("CoapServer(main)#"), "CoapServer(main)"), false); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 		if (endpoints.isEmpty()) {
@@ -117,6 +117,24 @@ public class IntegerOption extends Option {
 
 		private static final int[] LENGTHS = { 0, 8 };
 
+		/**
+		 * Number of cached options. Covers all single byte values.
+		 * 
+		 * @since 4.0
+		 */
+		private static final int CACHE_SIZE = 256;
+
+		/**
+		 * Cache of options with single byte values.
+		 * <p>
+		 * Filled on demand. Options are immutable, therefore concurrent
+		 * threads may only create redundant options, which are then replaced
+		 * in the cache.
+		 * 
+		 * @since 4.0
+		 */
+		private final IntegerOption[] cache = new IntegerOption[CACHE_SIZE];
+
 		/**
 		 * Creates option definition for an single value integer option.
 		 * 
@@ -165,18 +183,30 @@ public class IntegerOption extends Option {
 			if (reader == null) {
 				throw new NullPointerException("Option " + getName() + " reader must not be null.");
 			}
-			return new IntegerOption(this, getLongValue(reader, length));
+			return create(getLongValue(reader, length));
 		}
 
 		/**
 		 * Creates integer option from integer value.
+		 * <p>
+		 * Options with single byte values are cached and shared.
 		 * 
 		 * @param value the integer value
 		 * @return created integer option
 		 * @throws IllegalArgumentException if value doesn't match the
 		 *             definition.
+		 * @since 4.0 (options with single byte values are cached)
 		 */
 		public IntegerOption create(long value) {
+			if (0 <= value && value < CACHE_SIZE) {
+				int index = (int) value;
+				IntegerOption option = cache[index];
+				if (option == null) {
+					option = new IntegerOption(this, value);
+					cache[index] = option;
+				}
+				return option;
+			}
 			return new IntegerOption(this, value);
 		}
 
@@ -29,6 +29,7 @@ import org.eclipse.californium.core.network.TokenGenerator;
 import org.eclipse.californium.core.network.deduplication.NoDeduplicator;
 import org.eclipse.californium.core.network.deduplication.SweepDeduplicator;
 import org.eclipse.californium.core.network.deduplication.SweepPerPeerDeduplicator;
+import org.eclipse.californium.core.network.deduplication.TimingWheelDeduplicator;
 import org.eclipse.californium.core.network.stack.KeyUri;
 import org.eclipse.californium.core.observe.ObserveRelation;
 import org.eclipse.californium.elements.EndpointIdentityResolver;
@@ -204,6 +205,14 @@ public final class CoapConfig {
 	 */
 	public static final boolean DEFAULT_BLOCKWISE_ENTITY_TOO_LARGE_AUTO_FAILOVER = true;
 
+	/**
+	 * The default number of pooled free buffers per size class for blockwise
+	 * transfers.
+	 * 
+	 * @since 4.0
+	 */
+	public static final int DEFAULT_BLOCKWISE_BUFFER_POOL_CAPACITY = 64;
+
 	/**
 	 * The default value for {@link #PREFERRED_BLOCK_SIZE}.
 	 */
@@ -255,6 +264,16 @@ public final class CoapConfig {
 	 * @see SweepPerPeerDeduplicator
 	 */
 	public static final String DEDUPLICATOR_PEERS_MARK_AND_SWEEP = "PEERS_MARK_AND_SWEEP";
+	/**
+	 * Timing-wheel deduplicator.
+	 * <p>
+	 * Keeps messages in {@link #TIMING_WHEEL_GENERATIONS} time-bucketed
+	 * generations and drops the oldest generation as a whole.
+	 * 
+	 * @see TimingWheelDeduplicator
+	 * @since 4.0
+	 */
+	public static final String DEDUPLICATOR_TIMING_WHEEL = "TIMING_WHEEL";
 
 	/**
 	 * No deduplicator.
@@ -274,6 +293,14 @@ public final class CoapConfig {
 	 */
 	public static final int DEFAULT_PEERS_MARK_AND_SWEEP_MESSAGES = 64;
 
+	/**
+	 * Default number of generations for the timing-wheel deduplicator.
+	 * 
+	 * @see TimingWheelDeduplicator
+	 * @since 4.0
+	 */
+	public static final int DEFAULT_TIMING_WHEEL_GENERATIONS = 4;
+
 	/**
 	 * Default interval for (peers) mark and sweep.
 	 * 
@@ -642,6 +669,33 @@ public final class CoapConfig {
 	public static final BooleanDefinition BLOCKWISE_REUSE_TOKEN = new BooleanDefinition(
 			MODULE + "BLOCKWISE_REUSE_TOKEN",
 			"Reuse token for blockwise requests. Ease traceability but may introduce vulnerability.", false);
+	/**
+	 * Number of pooled free buffers per size class for blockwise transfers.
+	 * <p>
+	 * The body of a blockwise transfer is buffered in chunks, which are taken
+	 * from that pool on demand and returned, when the transfer is completed or
+	 * evicted. {@code 0} to disable pooling.
+	 * <p>
+	 * The default value is :
+	 * {@link #DEFAULT_BLOCKWISE_BUFFER_POOL_CAPACITY}.
+	 * 
+	 * @since 4.0
+	 */
+	public static final IntegerDefinition BLOCKWISE_BUFFER_POOL_CAPACITY = new IntegerDefinition(
+			MODULE + "BLOCKWISE_BUFFER_POOL_CAPACITY",
+			"Number of pooled free buffers per size class for blockwise transfers. 0 to disable pooling.",
+			DEFAULT_BLOCKWISE_BUFFER_POOL_CAPACITY, 0);
+	/**
+	 * Use direct buffers for blockwise transfers.
+	 * <p>
+	 * Direct buffers are kept outside of the java heap. Though these buffers
+	 * are expensive to allocate, use them only with a sufficient
+	 * {@link #BLOCKWISE_BUFFER_POOL_CAPACITY}.
+	 * 
+	 * @since 4.0
+	 */
+	public static final BooleanDefinition BLOCKWISE_BUFFER_POOL_DIRECT = new BooleanDefinition(
+			MODULE + "BLOCKWISE_BUFFER_POOL_DIRECT", "Use direct buffers for blockwise transfers.", false);
 
 	/**
 	 * Time interval for a coap-server to check the client's interest in further
@@ -720,9 +774,19 @@ public final class CoapConfig {
 
 	/**
 	 * Number of threads to process coap-exchanges.
+	 * <p>
+	 * The value {@code -1} will use virtual threads, if supported by the JVM.
+	 * Each job of the protocol stage, including the resource handlers, which
+	 * don't define their own executor, is then executed by its own virtual
+	 * thread. Timers are still executed by platform threads. If virtual threads
+	 * are not supported, the number of available processors is used. Values
+	 * less than {@code -1} are not supported.
+	 * 
+	 * @since 4.0 (supports {@code -1} for virtual threads)
 	 */
 	public static final IntegerDefinition PROTOCOL_STAGE_THREAD_COUNT = new IntegerDefinition(
-			MODULE + "PROTOCOL_STAGE_THREAD_COUNT", "Protocol stage thread count.", 1, 0);
+			MODULE + "PROTOCOL_STAGE_THREAD_COUNT",
+			"Protocol stage thread count. -1 for virtual threads, if supported by the JVM.", 1, -1);
 
 	/**
 	 * Deduplicator algorithm.
@@ -730,10 +794,11 @@ public final class CoapConfig {
 	 * @see NoDeduplicator
 	 * @see SweepDeduplicator
 	 * @see SweepPerPeerDeduplicator
+	 * @see TimingWheelDeduplicator
 	 */
 	public static final StringSetDefinition DEDUPLICATOR = new StringSetDefinition(MODULE + "DEDUPLICATOR",
 			"Deduplicator algorithm.", DEDUPLICATOR_MARK_AND_SWEEP, DEDUPLICATOR_MARK_AND_SWEEP,
-			DEDUPLICATOR_PEERS_MARK_AND_SWEEP, NO_DEDUPLICATOR);
+			DEDUPLICATOR_PEERS_MARK_AND_SWEEP, DEDUPLICATOR_TIMING_WHEEL, NO_DEDUPLICATOR);
 	/**
 	 * The interval after which the next sweep run should occur.
 	 */
@@ -748,6 +813,19 @@ public final class CoapConfig {
 			MODULE + "PEERS_MARK_AND_SWEEP_MESSAGES",
 			"Maximum messages kept per peer for " + DEDUPLICATOR_PEERS_MARK_AND_SWEEP + ".",
 			DEFAULT_PEERS_MARK_AND_SWEEP_MESSAGES, 4);
+	/**
+	 * The number of generations of the timing-wheel deduplicator.
+	 * <p>
+	 * A new generation is added every EXCHANGE_LIFETIME / (generations - 1).
+	 * More generations drop messages closer to the EXCHANGE_LIFETIME, but
+	 * require more lookups per message.
+	 * 
+	 * @see TimingWheelDeduplicator
+	 * @since 4.0
+	 */
+	public static final IntegerDefinition TIMING_WHEEL_GENERATIONS = new IntegerDefinition(
+			MODULE + "TIMING_WHEEL_GENERATIONS",
+			"Number of generations for " + DEDUPLICATOR_TIMING_WHEEL + ".", DEFAULT_TIMING_WHEEL_GENERATIONS, 2);
 	/**
 	 * Enable auto replace of not matching exchanges.
 	 * <p>
@@ -836,6 +914,8 @@ public final class CoapConfig {
 			config.set(BLOCKWISE_STRICT_BLOCK2_OPTION, DEFAULT_BLOCKWISE_STRICT_BLOCK2_OPTION);
 			config.set(BLOCKWISE_ENTITY_TOO_LARGE_AUTO_FAILOVER, DEFAULT_BLOCKWISE_ENTITY_TOO_LARGE_AUTO_FAILOVER);
 			config.set(BLOCKWISE_REUSE_TOKEN, false);
+			config.set(BLOCKWISE_BUFFER_POOL_CAPACITY, DEFAULT_BLOCKWISE_BUFFER_POOL_CAPACITY);
+			config.set(BLOCKWISE_BUFFER_POOL_DIRECT, false);
 			// BERT enabled, when > 1
 			config.set(TCP_NUMBER_OF_BULK_BLOCKS, 4);
 
@@ -850,6 +930,7 @@ public final class CoapConfig {
 			config.set(DEDUPLICATOR, DEFAULT_DEDUPLICATOR);
 			config.set(MARK_AND_SWEEP_INTERVAL, DEFAULT_MARK_AND_SWEEP_INTERVAL_IN_SECONDS, TimeUnit.SECONDS);
 			config.set(PEERS_MARK_AND_SWEEP_MESSAGES, DEFAULT_PEERS_MARK_AND_SWEEP_MESSAGES);
+			config.set(TIMING_WHEEL_GENERATIONS, DEFAULT_TIMING_WHEEL_GENERATIONS);
 			config.set(DEDUPLICATOR_AUTO_REPLACE, DEFAULT_DEDUPLICATOR_AUTO_REPLACE);
 			config.set(RESPONSE_MATCHING, DEFAULT_RESPONSE_MATCHING);
 
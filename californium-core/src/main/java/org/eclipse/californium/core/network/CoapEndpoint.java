@@ -85,6 +85,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.californium.core.coap.CoAP;
@@ -138,6 +139,7 @@ import org.eclipse.californium.elements.util.DaemonThreadFactory;
 import org.eclipse.californium.elements.util.ExecutorsUtil;
 import org.eclipse.californium.elements.util.ProtocolScheduledExecutorService;
 import org.eclipse.californium.elements.util.StringUtil;
+import org.eclipse.californium.elements.util.VirtualThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -455,13 +457,22 @@ public class CoapEndpoint implements Endpoint, Executor {
 		}
 
 		if (this.executor == null) {
-			LOGGER.info("{}Endpoint [{}] requires an executor to start, using default single-threaded daemon executor",
-					tag, getUri());
-
-			// in production environments the executor should be set to a multi
-			// threaded version in order to utilize all cores of the processor
-			final ProtocolScheduledExecutorService executorService = ExecutorsUtil
-					.newSingleThreadedProtocolExecutor(new DaemonThreadFactory(":CoapEndpoint-" + connector + '#')); //$NON-NLS-1$
+			final ProtocolScheduledExecutorService executorService;
+			ThreadFactory threadFactory = new DaemonThreadFactory(":CoapEndpoint-" + connector + '#'); //$NON-NLS-1$
+			if (config.get(CoapConfig.PROTOCOL_STAGE_THREAD_COUNT) < 0 && VirtualThreadFactory.isAvailable()) {
+				LOGGER.info("{}Endpoint [{}] requires an executor to start, using virtual thread executor", tag,
+						getUri());
+				executorService = ExecutorsUtil.newProtocolVirtualThreadExecutor(":CoapEndpoint-" + connector, //$NON-NLS-1$
+						threadFactory);
+			} else {
+				LOGGER.info(
+						"{}Endpoint [{}] requires an executor to start, using default single-threaded daemon executor",
+						tag, getUri());
+				// in production environments the executor should be set to a
+				// multi threaded version in order to utilize all cores of the
+				// processor
+				executorService = ExecutorsUtil.newSingleThreadedProtocolExecutor(threadFactory);
+			}
 			setExecutor(executorService);
 			addObserver(new EndpointObserver() {
 
@@ -1035,9 +1046,16 @@ public class CoapEndpoint implements Endpoint, Executor {
 
 					@Override
 					public void run() {
-						receiveMessage(raw);
+						try {
+							receiveMessage(raw);
+						} finally {
+							// parsed messages don't refer to leased buffers
+							raw.release();
+						}
 					}
 				});
+			} else {
+				raw.release();
 			}
 		}
 
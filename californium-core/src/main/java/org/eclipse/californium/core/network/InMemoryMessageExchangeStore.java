@@ -78,7 +78,7 @@ public class InMemoryMessageExchangeStore implements MessageExchangeStore {
 	private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryMessageExchangeStore.class);
 	private static final Logger HEALTH_LOGGER = LoggerFactory.getLogger(LOGGER.getName() + ".health");
 	// for all
-	private final ConcurrentMap<KeyMID, Exchange> exchangesByMID = new ConcurrentHashMap<>();
+	private final ConcurrentMap<KeyMID, Exchange> exchangesByMID = new KeyMIDMap<>();
 	// for outgoing
 	private final ConcurrentMap<KeyToken, Exchange> exchangesByToken = new ConcurrentHashMap<>();
 	private volatile boolean enableStatus;
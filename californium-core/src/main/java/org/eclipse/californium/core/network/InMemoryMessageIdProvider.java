@@ -26,13 +26,14 @@ package org.eclipse.californium.core.network;
 import java.net.InetSocketAddress;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 
 import org.eclipse.californium.core.config.CoapConfig;
 import org.eclipse.californium.core.config.CoapConfig.TrackerMode;
 import org.eclipse.californium.elements.config.Configuration;
 import org.eclipse.californium.elements.util.ClockUtil;
-import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache;
 import org.eclipse.californium.elements.util.NetworkInterfacesUtil;
+import org.eclipse.californium.elements.util.StripedLeastRecentlyUpdatedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +47,7 @@ public class InMemoryMessageIdProvider implements MessageIdProvider {
 
 	private static final Logger LOG = LoggerFactory.getLogger(InMemoryMessageIdProvider.class);
 
-	private final LeastRecentlyUpdatedCache<InetSocketAddress, MessageIdTracker> trackers;
+	private final StripedLeastRecentlyUpdatedCache<InetSocketAddress, MessageIdTracker> trackers;
 	private final MessageIdTracker multicastTracker;
 	private final TrackerMode mode;
 	private final Random random;
@@ -93,7 +94,7 @@ public class InMemoryMessageIdProvider implements MessageIdProvider {
 			random = null;
 		}
 		// 10 minutes
-		trackers = new LeastRecentlyUpdatedCache<>(config.get(CoapConfig.MAX_ACTIVE_PEERS),
+		trackers = new StripedLeastRecentlyUpdatedCache<>(config.get(CoapConfig.MAX_ACTIVE_PEERS),
 				config.get(CoapConfig.MAX_PEER_INACTIVITY_PERIOD, TimeUnit.SECONDS), TimeUnit.SECONDS);
 		int multicastBaseMid = config.get(CoapConfig.MULTICAST_BASE_MID);
 		if (0 < multicastBaseMid) {
@@ -140,7 +141,8 @@ public class InMemoryMessageIdProvider implements MessageIdProvider {
 			// create new tracker for destination lazily
 			int mid = null == random ? 0 : random.nextInt(multicastBaseMid);
 			MessageIdTracker newTracker = createTracker(mid, 0, multicastBaseMid, config);
-			trackers.writeLock().lock();
+			WriteLock lock = trackers.writeLock(destination);
+			lock.lock();
 			try {
 				tracker = trackers.get(destination);
 				if (tracker == null) {
@@ -151,7 +153,7 @@ public class InMemoryMessageIdProvider implements MessageIdProvider {
 					}
 				}
 			} finally {
-				trackers.writeLock().unlock();
+				lock.unlock();
 			}
 		}
 		if (tracker != null) {
@@ -15,7 +15,10 @@
  *******************************************************************************/
 package org.eclipse.californium.core.network;
 
+import java.net.Inet4Address;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
 
 import org.eclipse.californium.core.coap.Message;
 import org.eclipse.californium.elements.util.StringUtil;
@@ -28,9 +31,19 @@ import org.eclipse.californium.elements.util.StringUtil;
  */
 public final class KeyMID {
 
-	private final int mid;
+	/**
+	 * Compact encoding of MID and peer.
+	 * <p>
+	 * The lower 16 bits contains the MID. For peers with an IPv4
+	 * {@link InetSocketAddress}, the next 16 bits contains the port and the
+	 * upper 32 bits the IPv4 address. For other peers, the upper 32 bits
+	 * contains the peer's hash code. Used for {@link #hashCode()} and to
+	 * compare the keys fast.
+	 * 
+	 * @since 4.0
+	 */
+	private final long bits;
 	private final Object peer;
-	private final int hash;
 
 	/**
 	 * Creates a key based on a message ID and a remote endpoint address.
@@ -48,14 +61,67 @@ public final class KeyMID {
 		} else if (peer == null) {
 			throw new NullPointerException("peer must not be null");
 		} else {
-			this.mid = mid;
+			InetAddress ip = null;
+			if (peer instanceof InetSocketAddress) {
+				ip = ((InetSocketAddress) peer).getAddress();
+			}
+			if (ip instanceof Inet4Address) {
+				// the hash code of an Inet4Address is its address
+				int port = ((InetSocketAddress) peer).getPort();
+				this.bits = ((ip.hashCode() & 0xffffffffL) << 32) | ((port & 0xffffL) << 16) | mid;
+			} else {
+				this.bits = ((peer.hashCode() & 0xffffffffL) << 32) | mid;
+			}
 			this.peer = peer;
-			this.hash = 31 * mid + peer.hashCode();
 		}
 	}
 
+	/**
+	 * Creates a key from the compact encoding of a IPv4 peer.
+	 * 
+	 * @param bits compact encoding
+	 * @return key with a IPv4 {@link InetSocketAddress} as peer
+	 * @see #isCompact()
+	 * @since 4.0
+	 */
+	static KeyMID fromCompactBits(long bits) {
+		int address = (int) (bits >>> 32);
+		byte[] ip = { (byte) (address >>> 24), (byte) (address >>> 16), (byte) (address >>> 8), (byte) address };
+		try {
+			InetSocketAddress peer = new InetSocketAddress(InetAddress.getByAddress(ip), (int) ((bits >>> 16) & 0xffff));
+			return new KeyMID((int) (bits & 0xffff), peer);
+		} catch (UnknownHostException e) {
+			// not possible for 4 bytes
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Checks, if the compact encoding identifies this key on its own.
+	 * <p>
+	 * That's the case for peers with a IPv4 {@link InetSocketAddress}.
+	 * 
+	 * @return {@code true}, if the compact encoding identifies this key,
+	 *         {@code false}, otherwise.
+	 * @since 4.0
+	 */
+	boolean isCompact() {
+		return peer instanceof InetSocketAddress && ((InetSocketAddress) peer).getAddress() instanceof Inet4Address;
+	}
+
+	/**
+	 * Gets the compact encoding of MID and peer.
+	 * 
+	 * @return compact encoding
+	 * @see #isCompact()
+	 * @since 4.0
+	 */
+	long getCompactBits() {
+		return bits;
+	}
+
 	public int getMID() {
-		return mid;
+		return (int) (bits & 0xffff);
 	}
 
 	public Object getPeer() {
@@ -64,7 +130,7 @@ public final class KeyMID {
 
 	@Override
 	public int hashCode() {
-		return hash;
+		return (int) (bits ^ (bits >>> 32));
 	}
 
 	@Override
@@ -76,7 +142,7 @@ public final class KeyMID {
 		if (getClass() != obj.getClass())
 			return false;
 		KeyMID other = (KeyMID) obj;
-		if (mid != other.mid)
+		if (bits != other.bits)
 			return false;
 		return peer.equals(other.peer);
 	}
@@ -87,6 +153,6 @@ public final class KeyMID {
 		if (peer instanceof InetSocketAddress) {
 			peer = StringUtil.toDisplayString((InetSocketAddress) peer);
 		}
-		return new StringBuilder("KeyMID[").append(peer).append('-').append(mid).append(']').toString();
+		return new StringBuilder("KeyMID[").append(peer).append('-').append(getMID()).append(']').toString();
 	}
 }
\ No newline at end of file
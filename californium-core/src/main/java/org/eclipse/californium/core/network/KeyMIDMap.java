@@ -0,0 +1,610 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core.network;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Concurrent map with {@link KeyMID} as key.
+ * <p>
+ * Keys of peers with a IPv4 {@link java.net.InetSocketAddress} are stored by
+ * their compact encoding as primitive {@code long} in open addressing hash
+ * tables. Such entries neither keep the {@link KeyMID} nor a map node. Keys
+ * of other peers are stored in a {@link ConcurrentHashMap}.
+ * <p>
+ * The compact entries are distributed over {@link #SEGMENTS} segments.
+ * Lookups are lock-free, modifications are synchronized per segment. Removed
+ * entries are marked and are only dropped, when the segment's table is
+ * rebuilt. A slot is therefore never reused for an other key as long as the
+ * table is in use and a lookup always reads a consistent pair of key and
+ * value.
+ * <p>
+ * The {@link KeyMID}s of compact entries returned by the iterators are
+ * recreated from their compact encoding, when the key is requested.
+ *
+ * @param <V> type of values
+ * @since 4.0
+ */
+public final class KeyMIDMap<V> extends AbstractMap<KeyMID, V> implements ConcurrentMap<KeyMID, V> {
+
+	/**
+	 * Number of bits to select the segment.
+	 */
+	private static final int SEGMENT_BITS = 4;
+
+	/**
+	 * Number of segments.
+	 */
+	private static final int SEGMENTS = 1 << SEGMENT_BITS;
+
+	/**
+	 * Initial number of slots per segment.
+	 */
+	private static final int INITIAL_SLOTS = 16;
+
+	/**
+	 * Marker for removed entries.
+	 */
+	private static final Object REMOVED = new Object();
+
+	/**
+	 * Segments for compact keys.
+	 */
+	private final Segment[] segments = new Segment[SEGMENTS];
+
+	/**
+	 * Map for other keys.
+	 */
+	private final ConcurrentMap<KeyMID, V> others = new ConcurrentHashMap<>();
+
+	/**
+	 * Entry set.
+	 */
+	private final Set<Map.Entry<KeyMID, V>> entrySet = new EntrySet();
+
+	/**
+	 * Create map.
+	 */
+	public KeyMIDMap() {
+		for (int index = 0; index < SEGMENTS; ++index) {
+			segments[index] = new Segment();
+		}
+	}
+
+	/**
+	 * Mix compact key for segment and slot selection (Fibonacci hashing).
+	 *
+	 * @param bits compact key
+	 * @return mixed compact key
+	 */
+	private static long mix(long bits) {
+		return bits * 0x9E3779B97F4A7C15L;
+	}
+
+	private Segment segment(long hash) {
+		return segments[(int) (hash >>> (Long.SIZE - SEGMENT_BITS))];
+	}
+
+	@Override
+	public V get(Object key) {
+		if (key instanceof KeyMID) {
+			KeyMID keyMid = (KeyMID) key;
+			if (keyMid.isCompact()) {
+				long bits = keyMid.getCompactBits();
+				long hash = mix(bits);
+				return segment(hash).table.get(bits, hash);
+			}
+			return others.get(key);
+		}
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public V put(KeyMID key, V value) {
+		if (value == null) {
+			throw new NullPointerException("value must not be null!");
+		}
+		if (key.isCompact()) {
+			long bits = key.getCompactBits();
+			long hash = mix(bits);
+			return segment(hash).put(bits, hash, value, false);
+		}
+		return others.put(key, value);
+	}
+
+	@Override
+	public V putIfAbsent(KeyMID key, V value) {
+		if (value == null) {
+			throw new NullPointerException("value must not be null!");
+		}
+		if (key.isCompact()) {
+			long bits = key.getCompactBits();
+			long hash = mix(bits);
+			return segment(hash).put(bits, hash, value, true);
+		}
+		return others.putIfAbsent(key, value);
+	}
+
+	@Override
+	public V remove(Object key) {
+		if (key instanceof KeyMID) {
+			KeyMID keyMid = (KeyMID) key;
+			if (keyMid.isCompact()) {
+				long bits = keyMid.getCompactBits();
+				long hash = mix(bits);
+				return segment(hash).remove(bits, hash, null);
+			}
+			return others.remove(key);
+		}
+		return null;
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		if (value != null && key instanceof KeyMID) {
+			KeyMID keyMid = (KeyMID) key;
+			if (keyMid.isCompact()) {
+				long bits = keyMid.getCompactBits();
+				long hash = mix(bits);
+				return segment(hash).remove(bits, hash, value) != null;
+			}
+			return others.remove(key, value);
+		}
+		return false;
+	}
+
+	@Override
+	public boolean replace(KeyMID key, V oldValue, V newValue) {
+		if (oldValue == null || newValue == null) {
+			throw new NullPointerException("values must not be null!");
+		}
+		if (key.isCompact()) {
+			long bits = key.getCompactBits();
+			long hash = mix(bits);
+			return segment(hash).replace(bits, hash, oldValue, newValue) != null;
+		}
+		return others.replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public V replace(KeyMID key, V value) {
+		if (value == null) {
+			throw new NullPointerException("value must not be null!");
+		}
+		if (key.isCompact()) {
+			long bits = key.getCompactBits();
+			long hash = mix(bits);
+			return segment(hash).replace(bits, hash, null, value);
+		}
+		return others.replace(key, value);
+	}
+
+	@Override
+	public int size() {
+		int size = others.size();
+		for (Segment segment : segments) {
+			size += segment.table.size;
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (Segment segment : segments) {
+			if (segment.table.size > 0) {
+				return false;
+			}
+		}
+		return others.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		for (Segment segment : segments) {
+			segment.clear();
+		}
+		others.clear();
+	}
+
+	@Override
+	public Set<Map.Entry<KeyMID, V>> entrySet() {
+		return entrySet;
+	}
+
+	/**
+	 * Entry set of this map.
+	 *
+	 * Supports only iterating and removing entries.
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<KeyMID, V>> {
+
+		@Override
+		public Iterator<Map.Entry<KeyMID, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return KeyMIDMap.this.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return KeyMIDMap.this.isEmpty();
+		}
+
+		@Override
+		public void clear() {
+			KeyMIDMap.this.clear();
+		}
+	}
+
+	/**
+	 * Iterator over the compact entries of the segments' current tables
+	 * followed by the other entries.
+	 *
+	 * Weakly consistent, same as the iterators of {@link ConcurrentHashMap}.
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<KeyMID, V>> {
+
+		private final Iterator<Map.Entry<KeyMID, V>> othersIterator = others.entrySet().iterator();
+		private int segmentIndex;
+		private Table table = segments[0].table;
+		private int slotIndex;
+		private Map.Entry<KeyMID, V> next;
+		private Map.Entry<KeyMID, V> last;
+
+		@SuppressWarnings("unchecked")
+		private Map.Entry<KeyMID, V> nextCompact() {
+			while (table != null) {
+				while (slotIndex < table.keys.length) {
+					int index = slotIndex++;
+					Object value = table.values.get(index);
+					if (value != null && value != REMOVED) {
+						return new CompactEntry<>(table.keys[index], (V) value);
+					}
+				}
+				slotIndex = 0;
+				++segmentIndex;
+				table = segmentIndex < SEGMENTS ? segments[segmentIndex].table : null;
+			}
+			return null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next == null) {
+				next = nextCompact();
+				if (next == null && othersIterator.hasNext()) {
+					next = othersIterator.next();
+				}
+			}
+			return next != null;
+		}
+
+		@Override
+		public Map.Entry<KeyMID, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			last = next;
+			next = null;
+			return last;
+		}
+
+		@Override
+		public void remove() {
+			if (last == null) {
+				throw new IllegalStateException();
+			}
+			if (last instanceof CompactEntry) {
+				long bits = ((CompactEntry<V>) last).bits;
+				long hash = mix(bits);
+				segment(hash).remove(bits, hash, last.getValue());
+			} else {
+				others.remove(last.getKey(), last.getValue());
+			}
+			last = null;
+		}
+	}
+
+	/**
+	 * Compact entry.
+	 *
+	 * Creates the {@link KeyMID} on demand.
+	 *
+	 * @param <V> type of value
+	 */
+	private static final class CompactEntry<V> implements Map.Entry<KeyMID, V> {
+
+		private final long bits;
+		private final V value;
+		private KeyMID key;
+
+		private CompactEntry(long bits, V value) {
+			this.bits = bits;
+			this.value = value;
+		}
+
+		@Override
+		public KeyMID getKey() {
+			if (key == null) {
+				key = KeyMID.fromCompactBits(bits);
+			}
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ value.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+			return getKey().equals(other.getKey()) && value.equals(other.getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + value;
+		}
+	}
+
+	/**
+	 * Segment of compact entries.
+	 *
+	 * Modifications are synchronized on the segment.
+	 */
+	private static final class Segment {
+
+		/**
+		 * Current table.
+		 */
+		private volatile Table table = new Table(INITIAL_SLOTS);
+
+		/**
+		 * Put value.
+		 *
+		 * @param bits compact key
+		 * @param hash mixed compact key
+		 * @param value value
+		 * @param onlyIfAbsent {@code true}, to keep an available value.
+		 * @return previous value, or {@code null}, if not available.
+		 */
+		@SuppressWarnings("unchecked")
+		private synchronized <V> V put(long bits, long hash, V value, boolean onlyIfAbsent) {
+			Table current = table;
+			int index = current.find(bits, hash);
+			if (index >= 0) {
+				Object previous = current.values.get(index);
+				if (!onlyIfAbsent) {
+					current.values.set(index, value);
+				}
+				return (V) previous;
+			}
+			if (current.isFull()) {
+				current = current.rebuild();
+				table = current;
+			}
+			current.add(bits, hash, value);
+			return null;
+		}
+
+		/**
+		 * Replace value.
+		 *
+		 * @param bits compact key
+		 * @param hash mixed compact key
+		 * @param oldValue expected value. {@code null}, to replace any value.
+		 * @param value new value
+		 * @return replaced value, or {@code null}, if not replaced.
+		 */
+		@SuppressWarnings("unchecked")
+		private synchronized <V> V replace(long bits, long hash, Object oldValue, V value) {
+			Table current = table;
+			int index = current.find(bits, hash);
+			if (index >= 0) {
+				Object previous = current.values.get(index);
+				if (oldValue == null || oldValue.equals(previous)) {
+					current.values.set(index, value);
+					return (V) previous;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Remove value.
+		 *
+		 * @param bits compact key
+		 * @param hash mixed compact key
+		 * @param value expected value. {@code null}, to remove any value.
+		 * @return removed value, or {@code null}, if not removed.
+		 */
+		@SuppressWarnings("unchecked")
+		private synchronized <V> V remove(long bits, long hash, Object value) {
+			Table current = table;
+			int index = current.find(bits, hash);
+			if (index >= 0) {
+				Object previous = current.values.get(index);
+				if (value == null || value.equals(previous)) {
+					current.values.set(index, REMOVED);
+					--current.size;
+					return (V) previous;
+				}
+			}
+			return null;
+		}
+
+		private synchronized void clear() {
+			table = new Table(INITIAL_SLOTS);
+		}
+	}
+
+	/**
+	 * Table with slots.
+	 *
+	 * The keys are written before the values. The values are accessed with
+	 * volatile semantic, which makes the key visible for lock-free lookups.
+	 */
+	private static final class Table {
+
+		/**
+		 * Compact keys.
+		 */
+		private final long[] keys;
+		/**
+		 * Values or {@link KeyMIDMap#REMOVED}. {@code null} for unused slots.
+		 */
+		private final AtomicReferenceArray<Object> values;
+		/**
+		 * Bit mask for slot index.
+		 */
+		private final int mask;
+		/**
+		 * Shift for slot index.
+		 */
+		private final int shift;
+		/**
+		 * Number of entries. Written within the segment's lock.
+		 */
+		private volatile int size;
+		/**
+		 * Number of used slots, including removed entries.
+		 */
+		private int used;
+
+		private Table(int slots) {
+			this.keys = new long[slots];
+			this.values = new AtomicReferenceArray<>(slots);
+			this.mask = slots - 1;
+			this.shift = Long.SIZE - Integer.numberOfTrailingZeros(slots);
+		}
+
+		/**
+		 * Get slot from mixed compact key.
+		 *
+		 * The upper {@link KeyMIDMap#SEGMENT_BITS} are skipped, these are
+		 * used to select the segment.
+		 *
+		 * @param hash mixed compact key
+		 * @return slot index
+		 */
+		private int slot(long hash) {
+			return (int) ((hash << SEGMENT_BITS) >>> shift);
+		}
+
+		@SuppressWarnings("unchecked")
+		private <V> V get(long bits, long hash) {
+			int index = slot(hash);
+			Object value;
+			while ((value = values.get(index)) != null) {
+				if (value != REMOVED && keys[index] == bits) {
+					return (V) value;
+				}
+				index = (index + 1) & mask;
+			}
+			return null;
+		}
+
+		private int find(long bits, long hash) {
+			int index = slot(hash);
+			Object value;
+			while ((value = values.get(index)) != null) {
+				if (value != REMOVED && keys[index] == bits) {
+					return index;
+				}
+				index = (index + 1) & mask;
+			}
+			return -1;
+		}
+
+		private void add(long bits, long hash, Object value) {
+			int index = slot(hash);
+			while (values.get(index) != null) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = bits;
+			values.set(index, value);
+			++size;
+			++used;
+		}
+
+		/**
+		 * Check, if the table requires to be rebuilt before adding a new
+		 * entry.
+		 *
+		 * @return {@code true}, if more than half of the slots are used.
+		 */
+		private boolean isFull() {
+			return (used + 1) * 2 > keys.length;
+		}
+
+		/**
+		 * Rebuild table without the removed entries.
+		 *
+		 * Uses the smallest number of slots, which keeps at most a quarter of
+		 * the slots used by entries, but not less than
+		 * {@link KeyMIDMap#INITIAL_SLOTS}. Shrinks therefore the table again
+		 * after a peak.
+		 *
+		 * @return new table
+		 */
+		private Table rebuild() {
+			int slots = INITIAL_SLOTS;
+			while ((size + 1) * 4 > slots) {
+				slots <<= 1;
+			}
+			Table table = new Table(slots);
+			for (int index = 0; index < keys.length; ++index) {
+				Object value = values.get(index);
+				if (value != null && value != REMOVED) {
+					long bits = keys[index];
+					table.add(bits, mix(bits), value);
+				}
+			}
+			return table;
+		}
+	}
+}
@@ -32,8 +32,8 @@
  ******************************************************************************/
 package org.eclipse.californium.core.network.deduplication;
 
+import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -42,6 +42,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.californium.core.config.CoapConfig;
 import org.eclipse.californium.core.network.Exchange;
 import org.eclipse.californium.core.network.KeyMID;
+import org.eclipse.californium.core.network.KeyMIDMap;
 import org.eclipse.californium.elements.config.Configuration;
 import org.eclipse.californium.elements.util.ClockUtil;
 import org.slf4j.Logger;
@@ -106,7 +107,7 @@ public class SweepDeduplicator implements Deduplicator {
 	}
 
 	/** The hash map with all incoming messages. */
-	final ConcurrentMap<KeyMID, DedupExchange> incomingMessages = new ConcurrentHashMap<>();
+	final ConcurrentMap<KeyMID, DedupExchange> incomingMessages = new KeyMIDMap<>();
 	final long exchangeLifetime;
 	final boolean replace;
 	Runnable algorithm;
@@ -279,13 +280,15 @@ public class SweepDeduplicator implements Deduplicator {
 				final long start = ClockUtil.nanoRealtime();
 				final long oldestAllowed = start - TimeUnit.MILLISECONDS.toNanos(exchangeLifetime);
 
-				// Notice that ConcurrentHashMap guarantees the correctness for this iteration.
-				for (Map.Entry<?, DedupExchange> entry : incomingMessages.entrySet()) {
+				// Notice that KeyMIDMap guarantees the correctness for this iteration.
+				Iterator<Map.Entry<KeyMID, DedupExchange>> iterator = incomingMessages.entrySet().iterator();
+				while (iterator.hasNext()) {
+					Map.Entry<KeyMID, DedupExchange> entry = iterator.next();
 					DedupExchange exchange = entry.getValue();
 					if ((exchange.nanoTimestamp - oldestAllowed) < 0) {
 						//TODO check if exchange of observe relationship is periodically created and sweeped
 						LOGGER.trace("Mark-And-Sweep removes {}", entry.getKey());
-						incomingMessages.remove(entry.getKey());
+						iterator.remove();
 					}
 				}
 				LOGGER.debug("Sweep run took {}ms", TimeUnit.NANOSECONDS.toMillis(ClockUtil.nanoRealtime() - start));
@@ -0,0 +1,262 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core.network.deduplication;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.core.config.CoapConfig;
+import org.eclipse.californium.core.network.Exchange;
+import org.eclipse.californium.core.network.KeyMID;
+import org.eclipse.californium.core.network.KeyMIDMap;
+import org.eclipse.californium.core.network.deduplication.SweepDeduplicator.DedupExchange;
+import org.eclipse.californium.elements.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This deduplicator keeps incoming messages in time-bucketed generations.
+ * <p>
+ * The generations are organized as timing wheel. New messages are added to
+ * the newest generation. Periodically a new generation is added and the oldest
+ * generation is dropped as a whole, without iterating over its entries. The
+ * period is EXCHANGE_LIFETIME divided by the number of generations minus one,
+ * therefore a message is kept at least for EXCHANGE_LIFETIME and at most for
+ * EXCHANGE_LIFETIME plus one period.
+ * </p>
+ * <p>
+ * Messages are kept by their {@link KeyMID}.
+ * </p>
+ * 
+ * @since 4.0
+ */
+public class TimingWheelDeduplicator implements Deduplicator {
+
+	private final static Logger LOGGER = LoggerFactory.getLogger(TimingWheelDeduplicator.class);
+
+	/**
+	 * Period to add a new generation in milliseconds.
+	 */
+	private final long period;
+	/**
+	 * Number of generations.
+	 */
+	private final int numberOfGenerations;
+	/**
+	 * Enable automatic replacement of not matching exchanges.
+	 */
+	private final boolean replace;
+	/**
+	 * Generations of incoming messages. Index {@code 0} is the newest
+	 * generation. The array is replaced on each {@link #rotate()}.
+	 */
+	private volatile ConcurrentMap<KeyMID, DedupExchange>[] generations;
+
+	private volatile ScheduledFuture<?> jobStatus;
+	private ScheduledExecutorService executor;
+
+	/**
+	 * Creates a new deduplicator from configuration values.
+	 * <p>
+	 * The following configuration values are used to initialize this
+	 * deduplicator:
+	 * <ul>
+	 * <li>{@link CoapConfig#EXCHANGE_LIFETIME} - an exchange is kept at least
+	 * for this time</li>
+	 * <li>{@link CoapConfig#TIMING_WHEEL_GENERATIONS} - the number of
+	 * generations</li>
+	 * <li>{@link CoapConfig#DEDUPLICATOR_AUTO_REPLACE} - the flag to enable
+	 * exchange replacing, if the new exchange differs from the already stored
+	 * one.</li>
+	 * </ul>
+	 * 
+	 * @param config the configuration to use.
+	 */
+	public TimingWheelDeduplicator(Configuration config) {
+		long exchangeLifetime = config.get(CoapConfig.EXCHANGE_LIFETIME, TimeUnit.MILLISECONDS);
+		numberOfGenerations = config.get(CoapConfig.TIMING_WHEEL_GENERATIONS);
+		period = Math.max(1, exchangeLifetime / (numberOfGenerations - 1));
+		replace = config.get(CoapConfig.DEDUPLICATOR_AUTO_REPLACE);
+		generations = newGenerations();
+		for (int index = 0; index < numberOfGenerations; ++index) {
+			generations[index] = new KeyMIDMap<>();
+		}
+	}
+
+	@Override
+	public synchronized void start() {
+		if (jobStatus == null) {
+			jobStatus = executor.scheduleAtFixedRate(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						rotate();
+					} catch (Throwable t) {
+						LOGGER.warn("Exception in timing-wheel rotation", t);
+					}
+				}
+			}, period, period, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (jobStatus != null) {
+			jobStatus.cancel(false);
+			jobStatus = null;
+			clear();
+		}
+	}
+
+	@Override
+	public synchronized void setExecutor(ScheduledExecutorService executor) {
+		if (jobStatus != null)
+			throw new IllegalStateException("executor service can not be set on running Deduplicator");
+		this.executor = executor;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The older generations are searched first, then the exchange is added to
+	 * the newest generation. If the wheel is rotated concurrently and an other
+	 * thread has added the same key to the new generation, the exchange of that
+	 * thread wins and is returned.
+	 */
+	@Override
+	public Exchange findPrevious(final KeyMID key, final Exchange exchange) {
+		ConcurrentMap<KeyMID, DedupExchange>[] generations = this.generations;
+		DedupExchange current = new DedupExchange(exchange);
+		DedupExchange previous = null;
+		int index = 1;
+		for (; index < generations.length; ++index) {
+			previous = generations[index].get(key);
+			if (previous != null) {
+				break;
+			}
+		}
+		boolean replaced = false;
+		if (previous == null) {
+			previous = generations[0].putIfAbsent(key, current);
+			if (previous == null && generations != this.generations) {
+				// rotated, check the new newest generation
+				previous = this.generations[0].get(key);
+				if (previous != null) {
+					generations[0].remove(key, current);
+				}
+			}
+			if (replace && previous != null && previous.exchange.getOrigin() != exchange.getOrigin()) {
+				if (generations[0].replace(key, previous, current)) {
+					previous = null;
+					replaced = true;
+				}
+			}
+		} else if (replace && previous.exchange.getOrigin() != exchange.getOrigin()) {
+			if (generations[0].putIfAbsent(key, current) == null) {
+				generations[index].remove(key, previous);
+				previous = null;
+				replaced = true;
+			}
+		}
+
+		if (previous == null) {
+			LOGGER.debug("{} exchange for {}", replaced ? "replace" : "add", key);
+			return null;
+		} else {
+			LOGGER.debug("found exchange for {}", key);
+			return previous.exchange;
+		}
+	}
+
+	@Override
+	public boolean replacePrevious(KeyMID key, Exchange previous, Exchange exchange) {
+		ConcurrentMap<KeyMID, DedupExchange>[] generations = this.generations;
+		DedupExchange prev = new DedupExchange(previous);
+		DedupExchange current = new DedupExchange(exchange);
+		if (generations[0].replace(key, prev, current)) {
+			return true;
+		}
+		for (int index = 1; index < generations.length; ++index) {
+			if (generations[index].remove(key, prev)) {
+				break;
+			}
+		}
+		return generations[0].putIfAbsent(key, current) == null;
+	}
+
+	@Override
+	public Exchange find(KeyMID key) {
+		for (ConcurrentMap<KeyMID, DedupExchange> generation : generations) {
+			DedupExchange previous = generation.get(key);
+			if (previous != null) {
+				return previous.exchange;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		for (ConcurrentMap<KeyMID, DedupExchange> generation : generations) {
+			generation.clear();
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (ConcurrentMap<KeyMID, DedupExchange> generation : generations) {
+			if (!generation.isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (ConcurrentMap<KeyMID, DedupExchange> generation : generations) {
+			size += generation.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Rotate the timing wheel.
+	 * <p>
+	 * Adds a new empty generation and drops the oldest generation.
+	 */
+	void rotate() {
+		ConcurrentMap<KeyMID, DedupExchange>[] generations = this.generations;
+		ConcurrentMap<KeyMID, DedupExchange>[] next = newGenerations();
+		next[0] = new KeyMIDMap<>();
+		System.arraycopy(generations, 0, next, 1, numberOfGenerations - 1);
+		this.generations = next;
+		LOGGER.debug("Timing-wheel dropped {} entries", generations[numberOfGenerations - 1].size());
+	}
+
+	/**
+	 * Create empty array for generations.
+	 * 
+	 * @return array for generations
+	 */
+	@SuppressWarnings("unchecked")
+	private ConcurrentMap<KeyMID, DedupExchange>[] newGenerations() {
+		return (ConcurrentMap<KeyMID, DedupExchange>[]) new ConcurrentMap<?, ?>[numberOfGenerations];
+	}
+}
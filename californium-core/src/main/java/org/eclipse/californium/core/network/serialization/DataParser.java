@@ -80,6 +80,11 @@ public abstract class DataParser {
 
 	/**
 	 * Parses and converts a incoming raw message into CoAP Message.
+	 * <p>
+	 * If the raw message is {@link RawData#isLeased()}, the message is parsed
+	 * directly from the leased buffer and the message doesn't keep a reference
+	 * to it. The caller is then free to {@link RawData#release()} the raw
+	 * message after parsing.
 	 * 
 	 * @param raw raw message containing the byte array to parse and additional
 	 *            incoming information.
@@ -95,7 +100,12 @@ public abstract class DataParser {
 		if (raw.getConnectorAddress() == null) {
 			throw new NullPointerException("raw-data connector's address must not be null!");
 		}
-		Message message = parseMessage(raw.getBytes());
+		Message message;
+		if (raw.isLeased()) {
+			message = parseMessage(raw.bytes, raw.getSize(), false);
+		} else {
+			message = parseMessage(raw.getBytes());
+		}
 		message.setSourceContext(raw.getEndpointContext());
 		if (message instanceof Request) {
 			((Request) message).setLocalAddress(raw.getConnectorAddress(), raw.isMulticast());
@@ -115,9 +125,27 @@ public abstract class DataParser {
 	 *             message.
 	 */
 	public final Message parseMessage(final byte[] msg) {
+		return parseMessage(msg, msg.length, true);
+	}
+
+	/**
+	 * Parses a byte array into a CoAP Message.
+	 * 
+	 * @param msg the byte array to parse.
+	 * @param length length of the message in the byte array.
+	 * @param keep {@code true}, to keep the byte array as
+	 *            {@link Message#getBytes()}, {@code false}, to only set the
+	 *            message size.
+	 * @return the message.
+	 * @throws MessageFormatException if the array cannot be parsed into a
+	 *             message.
+	 * @since 4.0
+	 */
+	private Message parseMessage(final byte[] msg, int length, boolean keep) {
 
 		String errorMsg = "illegal message code";
-		DatagramReader reader = new DatagramReader(msg);
+		// the reader doesn't modify the array, no copy required
+		DatagramReader reader = new DatagramReader(msg, 0, length);
 		MessageHeader header = parseHeader(reader);
 		try {
 			Message message = null;
@@ -131,7 +159,11 @@ public abstract class DataParser {
 
 			// Set the message's bytes and return the message
 			if (message != null) {
-				message.setBytes(msg);
+				if (keep) {
+					message.setBytes(msg);
+				} else {
+					message.addMessageSize(length);
+				}
 				return message;
 			}
 		} catch (CoAPMessageFormatException e) {
@@ -22,6 +22,7 @@ import org.eclipse.californium.core.coap.option.BlockOption;
 import org.eclipse.californium.core.coap.Request;
 import org.eclipse.californium.core.coap.Response;
 import org.eclipse.californium.core.network.Exchange;
+import org.eclipse.californium.elements.util.ByteBufferPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,11 +50,12 @@ public final class Block1BlockwiseStatus extends BlockwiseStatus {
 	 * @param maxSize The maximum size of the body to be buffered.
 	 * @param maxTcpBertBulkBlocks The maximum number of bulk blocks for
 	 *            TCP/BERT. {@code 1} or less, disable BERT.
-	 * @since 3.0
+	 * @param bufferPool pool to take the buffer chunks from
+	 * @since 4.0 (added bufferPool)
 	 */
 	private Block1BlockwiseStatus(KeyUri keyUri, RemoveHandler removeHandler, Exchange exchange, Request request,
-			int maxSize, int maxTcpBertBulkBlocks) {
-		super(keyUri, removeHandler, exchange, request, maxSize, maxTcpBertBulkBlocks);
+			int maxSize, int maxTcpBertBulkBlocks, ByteBufferPool bufferPool) {
+		super(keyUri, removeHandler, exchange, request, maxSize, maxTcpBertBulkBlocks, bufferPool);
 		current = request;
 	}
 
@@ -66,13 +68,14 @@ public final class Block1BlockwiseStatus extends BlockwiseStatus {
 	 * @param request initial request of the blockwise transfer
 	 * @param maxTcpBertBulkBlocks The maximum number of bulk blocks for
 	 *            TCP/BERT. {@code 1} or less, disable BERT.
+	 * @param bufferPool pool to take the buffer chunks from
 	 * @return The created tracker
-	 * @since 3.0
+	 * @since 4.0 (added bufferPool)
 	 */
 	public static Block1BlockwiseStatus forOutboundRequest(KeyUri keyUri, RemoveHandler removeHandler,
-			Exchange exchange, Request request, int maxTcpBertBulkBlocks) {
+			Exchange exchange, Request request, int maxTcpBertBulkBlocks, ByteBufferPool bufferPool) {
 		Block1BlockwiseStatus status = new Block1BlockwiseStatus(keyUri, removeHandler, exchange, request,
-				request.getPayloadSize(), maxTcpBertBulkBlocks);
+				request.getPayloadSize(), maxTcpBertBulkBlocks, bufferPool);
 		try {
 			status.addBlock(request.getPayload(), request.getMessageSize());
 			status.flipBlocksBuffer();
@@ -92,17 +95,18 @@ public final class Block1BlockwiseStatus extends BlockwiseStatus {
 	 * @param maxBodySize maximum body size
 	 * @param maxTcpBertBulkBlocks The maximum number of bulk blocks for
 	 *            TCP/BERT. {@code 1} or less, disable BERT.
+	 * @param bufferPool pool to take the buffer chunks from
 	 * @return The created tracker
-	 * @since 3.0
+	 * @since 4.0 (added bufferPool)
 	 */
 	public static Block1BlockwiseStatus forInboundRequest(KeyUri keyUri, RemoveHandler removeHandler, Exchange exchange,
-			Request block, int maxBodySize, int maxTcpBertBulkBlocks) {
+			Request block, int maxBodySize, int maxTcpBertBulkBlocks, ByteBufferPool bufferPool) {
 		int bufferSize = maxBodySize;
 		if (block.getOptions().hasSize1()) {
 			bufferSize = block.getOptions().getSize1();
 		}
 		Block1BlockwiseStatus status = new Block1BlockwiseStatus(keyUri, removeHandler, exchange, block, bufferSize,
-				maxTcpBertBulkBlocks);
+				maxTcpBertBulkBlocks, bufferPool);
 		return status;
 	}
 
@@ -33,6 +33,7 @@ import org.eclipse.californium.core.coap.Response;
 import org.eclipse.californium.core.coap.option.BlockOption;
 import org.eclipse.californium.core.network.Exchange;
 import org.eclipse.californium.core.observe.NotificationOrder;
+import org.eclipse.californium.elements.util.ByteBufferPool;
 import org.eclipse.californium.elements.util.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,11 +70,12 @@ public final class Block2BlockwiseStatus extends BlockwiseStatus {
 	 * @param maxSize The maximum size of the body to be buffered.
 	 * @param maxTcpBertBulkBlocks The maximum number of bulk blocks for
 	 *            TCP/BERT. {@code 1} or less, disable BERT.
-	 * @since 3.0
+	 * @param bufferPool pool to take the buffer chunks from
+	 * @since 4.0 (added bufferPool)
 	 */
 	private Block2BlockwiseStatus(KeyUri keyUri, RemoveHandler removeHandler, Exchange exchange, Response response,
-			int maxSize, int maxTcpBertBulkBlocks) {
-		super(keyUri, removeHandler, exchange, response, maxSize, maxTcpBertBulkBlocks);
+			int maxSize, int maxTcpBertBulkBlocks, ByteBufferPool bufferPool) {
+		super(keyUri, removeHandler, exchange, response, maxSize, maxTcpBertBulkBlocks, bufferPool);
 		Integer observeCount = response.getOptions().getObserve();
 		if (observeCount != null) {
 			// mark this tracker with the observe no of the block it has been
@@ -95,13 +97,15 @@ public final class Block2BlockwiseStatus extends BlockwiseStatus {
 	 * @param response initial response of the blockwise transfer
 	 * @param maxTcpBertBulkBlocks The maximum number of bulk blocks for
 	 *            TCP/BERT. {@code 1} or less, disable BERT.
+	 * @param bufferPool pool to take the buffer chunks from
 	 * @return created tracker
-	 * @since 3.0
+	 * @since 4.0 (added bufferPool)
 	 */
 	public static Block2BlockwiseStatus forOutboundResponse(KeyUri keyUri, RemoveHandler removeHandler,
-			Exchange exchange, Response response, int maxTcpBertBulkBlocks) {
+			Exchange exchange, Response response, int maxTcpBertBulkBlocks, ByteBufferPool bufferPool) {
 		int size = response.getPayloadSize();
-		Block2BlockwiseStatus status = new Block2BlockwiseStatus(keyUri, removeHandler, exchange, response, size, maxTcpBertBulkBlocks);
+		Block2BlockwiseStatus status = new Block2BlockwiseStatus(keyUri, removeHandler, exchange, response, size,
+				maxTcpBertBulkBlocks, bufferPool);
 		if (size > 0) {
 			try {
 				status.addBlock(response.getPayload(), response.getMessageSize());
@@ -123,16 +127,18 @@ public final class Block2BlockwiseStatus extends BlockwiseStatus {
 	 * @param maxBodySize The maximum size of the body to be buffered.
 	 * @param maxTcpBertBulkBlocks The maximum number of bulk blocks for
 	 *            TCP/BERT. {@code 1} or less, disable BERT.
+	 * @param bufferPool pool to take the buffer chunks from
 	 * @return created tracker
-	 * @since 3.0
+	 * @since 4.0 (added bufferPool)
 	 */
 	public static Block2BlockwiseStatus forInboundResponse(KeyUri keyUri, RemoveHandler removeHandler,
-			Exchange exchange, Response block, int maxBodySize, int maxTcpBertBulkBlocks) {
+			Exchange exchange, Response block, int maxBodySize, int maxTcpBertBulkBlocks, ByteBufferPool bufferPool) {
 		int bufferSize = maxBodySize;
 		if (block.getOptions().hasSize2()) {
 			bufferSize = block.getOptions().getSize2();
 		}
-		Block2BlockwiseStatus status = new Block2BlockwiseStatus(keyUri, removeHandler, exchange, block, bufferSize, maxTcpBertBulkBlocks);
+		Block2BlockwiseStatus status = new Block2BlockwiseStatus(keyUri, removeHandler, exchange, block, bufferSize,
+				maxTcpBertBulkBlocks, bufferPool);
 		return status;
 	}
 
@@ -266,8 +272,10 @@ public final class Block2BlockwiseStatus extends BlockwiseStatus {
 	 *            before determining the response block.
 	 * @return The response block.
 	 * @throws NullPointerException if block2 is {@code null}
+	 * @throws BlockwiseTransferException if the transfer is already released.
+	 * @since 4.0 (throws BlockwiseTransferException)
 	 */
-	public synchronized Response getNextResponseBlock(final BlockOption block2) {
+	public synchronized Response getNextResponseBlock(final BlockOption block2) throws BlockwiseTransferException {
 
 		if (block2 == null) {
 			throw new NullPointerException("block option must not be null.");
@@ -303,8 +311,10 @@ public final class Block2BlockwiseStatus extends BlockwiseStatus {
 
 		if (0 < bodySize && from < bodySize) {
 			byte[] blockPayload = getBlock(from, getCurrentPayloadSize());
-			m = from + blockPayload.length < bodySize;
-			block.setPayload(blockPayload);
+			if (blockPayload != null) {
+				m = from + blockPayload.length < bodySize;
+				block.setPayload(blockPayload);
+			}
 		}
 		block.getOptions().setBlock2(szx, m, num);
 		if (!m) {
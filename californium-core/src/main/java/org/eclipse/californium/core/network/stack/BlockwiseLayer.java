@@ -83,7 +83,9 @@ import org.eclipse.californium.elements.EndpointContext;
 import org.eclipse.californium.elements.EndpointContextMatcher;
 import org.eclipse.californium.elements.config.Configuration;
 import org.eclipse.californium.elements.config.SystemConfig;
+import org.eclipse.californium.elements.util.ByteBufferPool;
 import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache;
+import org.eclipse.californium.elements.util.StripedLeastRecentlyUpdatedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -135,7 +137,9 @@ import org.slf4j.LoggerFactory;
  * race-conditions. All blockwise-status are kept in {@link #block1Transfers} or
  * {@link #block2Transfers}. {@code Add}, {@code update} and {@code remove} a
  * blockwise-status is executed acquiring the read/write lock on these
- * collections.
+ * collections. Since 4.0 these collections are
+ * {@link StripedLeastRecentlyUpdatedCache}s and the lock of the segment of the
+ * {@link KeyUri} is acquired.
  * <ul>
  * <li>{@link #getOutboundBlock1Status(KeyUri, Exchange, Request, boolean)}</li>
  * <li>{@link #getInboundBlock1Status(KeyUri, Exchange, Request, boolean)}</li>
@@ -203,6 +207,9 @@ public class BlockwiseLayer extends AbstractLayer {
 	// Minimal block size : 2^4 bytes
 	// (see https://tools.ietf.org/html/rfc7959#section-2.2)
 	private static final int MINIMAL_BLOCK_SIZE = 16;
+	// Size classes of the pooled buffer chunks for blockwise transfers
+	private static final int MIN_BUFFER_CHUNK_SIZE = 1024;
+	private static final int MAX_BUFFER_CHUNK_SIZE = 64 * 1024;
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(BlockwiseLayer.class);
 	private static final Logger HEALTH_LOGGER = LoggerFactory.getLogger(LOGGER.getName() + ".health");
@@ -222,9 +229,10 @@ public class BlockwiseLayer extends AbstractLayer {
 		}
 
 	};
-	private final LeastRecentlyUpdatedCache<KeyUri, Block1BlockwiseStatus> block1Transfers;
-	private final LeastRecentlyUpdatedCache<KeyUri, Block2BlockwiseStatus> block2Transfers;
+	private final StripedLeastRecentlyUpdatedCache<KeyUri, Block1BlockwiseStatus> block1Transfers;
+	private final StripedLeastRecentlyUpdatedCache<KeyUri, Block2BlockwiseStatus> block2Transfers;
 	private final AtomicInteger ignoredBlock2 = new AtomicInteger();
+	private final ByteBufferPool bufferPool;
 	private final String tag;
 	private volatile boolean enableStatus;
 	private ScheduledFuture<?> statusLogger;
@@ -319,8 +327,11 @@ public class BlockwiseLayer extends AbstractLayer {
 		blockTimeout = config.getTimeAsInt(CoapConfig.BLOCKWISE_STATUS_LIFETIME, TimeUnit.MILLISECONDS);
 		blockInterval = config.getTimeAsInt(CoapConfig.BLOCKWISE_STATUS_INTERVAL, TimeUnit.MILLISECONDS);
 		maxResourceBodySize = config.get(CoapConfig.MAX_RESOURCE_BODY_SIZE);
+		bufferPool = new ByteBufferPool(MIN_BUFFER_CHUNK_SIZE, MAX_BUFFER_CHUNK_SIZE,
+				config.get(CoapConfig.BLOCKWISE_BUFFER_POOL_CAPACITY),
+				config.get(CoapConfig.BLOCKWISE_BUFFER_POOL_DIRECT));
 		int maxActivePeers = config.get(CoapConfig.MAX_ACTIVE_PEERS);
-		block1Transfers = new LeastRecentlyUpdatedCache<>(maxActivePeers / 10, maxActivePeers, blockTimeout,
+		block1Transfers = new StripedLeastRecentlyUpdatedCache<>(maxActivePeers / 10, maxActivePeers, blockTimeout,
 				TimeUnit.MILLISECONDS);
 		block1Transfers.addEvictionListener(new LeastRecentlyUpdatedCache.EvictionListener<Block1BlockwiseStatus>() {
 
@@ -330,9 +341,10 @@ public class BlockwiseLayer extends AbstractLayer {
 					LOGGER.debug("{}block1 transfer timed out!", BlockwiseLayer.this.tag);
 					status.timeoutCurrentTranfer();
 				}
+				status.releaseBuffer();
 			}
 		});
-		block2Transfers = new LeastRecentlyUpdatedCache<>(maxActivePeers / 10, maxActivePeers, blockTimeout,
+		block2Transfers = new StripedLeastRecentlyUpdatedCache<>(maxActivePeers / 10, maxActivePeers, blockTimeout,
 				TimeUnit.MILLISECONDS);
 		block2Transfers.addEvictionListener(new LeastRecentlyUpdatedCache.EvictionListener<Block2BlockwiseStatus>() {
 
@@ -342,6 +354,7 @@ public class BlockwiseLayer extends AbstractLayer {
 					LOGGER.debug("{}block2 transfer timed out!", BlockwiseLayer.this.tag);
 					status.timeoutCurrentTranfer();
 				}
+				status.releaseBuffer();
 			}
 		});
 		strictBlock1Option = config.get(CoapConfig.BLOCKWISE_STRICT_BLOCK1_OPTION);
@@ -508,8 +521,12 @@ public class BlockwiseLayer extends AbstractLayer {
 					}
 					if (matching) {
 						// matching endpoint context, use available response
-						handleInboundRequestForNextBlock(exchange, request, status);
-						return;
+						if (handleInboundRequestForNextBlock(exchange, request, status)) {
+							return;
+						}
+						LOGGER.debug(
+								"{}peer wants to retrieve block2 {} of released {}, delivering request to application layer",
+								tag, block2, key);
 					} else {
 						// not matching endpoint context, forward request to
 						// application layer
@@ -618,11 +635,28 @@ public class BlockwiseLayer extends AbstractLayer {
 		lower().sendResponse(exchange, error);
 	}
 
-	private void handleInboundRequestForNextBlock(Exchange exchange, Request request, Block2BlockwiseStatus status) {
+	/**
+	 * Respond the requested block from the blockwise transfer.
+	 * 
+	 * @param exchange exchange of the request
+	 * @param request request for the next block
+	 * @param status blockwise transfer to respond from
+	 * @return {@code true}, if the block is responded, {@code false}, if the
+	 *         transfer is already released.
+	 */
+	private boolean handleInboundRequestForNextBlock(Exchange exchange, Request request,
+			Block2BlockwiseStatus status) {
 
 		BlockOption block2 = request.getOptions().getBlock2();
 		block2 = getLimitedBlockOption(block2);
-		Response nextBlockResponse = status.getNextResponseBlock(block2);
+		Response nextBlockResponse;
+		try {
+			nextBlockResponse = status.getNextResponseBlock(block2);
+		} catch (BlockwiseTransferException ex) {
+			// transfer released concurrently
+			clearBlock2Status(status);
+			return false;
+		}
 		nextBlockResponse.setDestinationContext(request.getSourceContext());
 
 		if (nextBlockResponse.getOptions().getBlock2().isM()) {
@@ -635,6 +669,7 @@ public class BlockwiseLayer extends AbstractLayer {
 		}
 
 		lower().sendResponse(exchange, nextBlockResponse);
+		return true;
 	}
 
 	/**
@@ -708,7 +743,13 @@ public class BlockwiseLayer extends AbstractLayer {
 				} else {
 					block2 = StandardOptionRegistry.BLOCK2.create(preferredBlockSzx, false, 0);
 				}
-				responseToSend = status.getNextResponseBlock(block2);
+				try {
+					responseToSend = status.getNextResponseBlock(block2);
+				} catch (BlockwiseTransferException ex) {
+					LOGGER.debug("{}{} {}", tag, key, ex.getMessage());
+					response.setSendError(ex);
+					return;
+				}
 				responseToSend.setDestinationContext(destinationContext);
 				if (!responseToSend.getOptions().getBlock2().isM()) {
 					clearBlock2Status(status);
@@ -871,7 +912,7 @@ public class BlockwiseLayer extends AbstractLayer {
 							&& block1.getSize() < initialRequest.getPayloadSize();
 
 					Block1BlockwiseStatus status;
-					WriteLock lock = block1Transfers.writeLock();
+					WriteLock lock = block1Transfers.writeLock(key);
 					lock.lock();
 					try {
 						status = block1Transfers.update(key);
@@ -927,7 +968,7 @@ public class BlockwiseLayer extends AbstractLayer {
 						maxSize = initialRequest.getPayloadSize() - 1;
 					}
 					if (maxSize != null) {
-						WriteLock lock = block1Transfers.writeLock();
+						WriteLock lock = block1Transfers.writeLock(key);
 						lock.lock();
 						try {
 							if (block1Transfers.update(key) == null) {
@@ -1155,7 +1196,7 @@ public class BlockwiseLayer extends AbstractLayer {
 			upper().receiveResponse(exchange, response);
 		} else {
 			Block2BlockwiseStatus status;
-			WriteLock lock = block2Transfers.writeLock();
+			WriteLock lock = block2Transfers.writeLock(key);
 			lock.lock();
 			try {
 				status = block2Transfers.get(key);
@@ -1290,7 +1331,7 @@ public class BlockwiseLayer extends AbstractLayer {
 		Integer size = null;
 		Block1BlockwiseStatus previousStatus = null;
 		Block1BlockwiseStatus status = null;
-		WriteLock lock = block1Transfers.writeLock();
+		WriteLock lock = block1Transfers.writeLock(key);
 		lock.lock();
 		try {
 			if (reset) {
@@ -1300,7 +1341,7 @@ public class BlockwiseLayer extends AbstractLayer {
 			}
 			if (status == null) {
 				status = Block1BlockwiseStatus.forOutboundRequest(key, removeBlock1Handler, exchange, request,
-						maxTcpBertBulkBlocks);
+						maxTcpBertBulkBlocks, bufferPool);
 				block1Transfers.put(key, status);
 				enableStatus = true;
 				size = block1Transfers.size();
@@ -1308,8 +1349,11 @@ public class BlockwiseLayer extends AbstractLayer {
 		} finally {
 			lock.unlock();
 		}
-		if (previousStatus != null && previousStatus.cancelRequest()) {
-			LOGGER.debug("{}stop previous block1 transfer {} {} for new {}", tag, key, previousStatus, request);
+		if (previousStatus != null) {
+			if (previousStatus.cancelRequest()) {
+				LOGGER.debug("{}stop previous block1 transfer {} {} for new {}", tag, key, previousStatus, request);
+			}
+			previousStatus.releaseBuffer();
 		}
 		if (size != null) {
 			LOGGER.debug("{}created tracker for outbound block1 transfer {}, transfers in progress: {}", tag, status,
@@ -1345,7 +1389,7 @@ public class BlockwiseLayer extends AbstractLayer {
 		Block1BlockwiseStatus previousStatus = null;
 		Block1BlockwiseStatus status = null;
 		int maxPayloadSize = getMaxResourceBodySize(request);
-		WriteLock lock = block1Transfers.writeLock();
+		WriteLock lock = block1Transfers.writeLock(key);
 		lock.lock();
 		try {
 			if (reset) {
@@ -1356,7 +1400,7 @@ public class BlockwiseLayer extends AbstractLayer {
 			if (status == null) {
 				check = false;
 				status = Block1BlockwiseStatus.forInboundRequest(key, removeBlock1Handler, exchange, request,
-						maxPayloadSize, maxTcpBertBulkBlocks);
+						maxPayloadSize, maxTcpBertBulkBlocks, bufferPool);
 				block1Transfers.put(key, status);
 				enableStatus = true;
 				size = block1Transfers.size();
@@ -1364,8 +1408,11 @@ public class BlockwiseLayer extends AbstractLayer {
 		} finally {
 			lock.unlock();
 		}
-		if (previousStatus != null && previousStatus.complete()) {
-			LOGGER.debug("{}stop previous block1 transfer {} {} for new {}", tag, key, previousStatus, request);
+		if (previousStatus != null) {
+			if (previousStatus.complete()) {
+				LOGGER.debug("{}stop previous block1 transfer {} {} for new {}", tag, key, previousStatus, request);
+			}
+			previousStatus.releaseBuffer();
 		}
 		if (check && matchingStrategy != null) {
 			EndpointContext sourceContext1 = status.firstMessage.getSourceContext();
@@ -1410,7 +1457,7 @@ public class BlockwiseLayer extends AbstractLayer {
 		Integer size = null;
 		Block2BlockwiseStatus previousStatus = null;
 		Block2BlockwiseStatus status = null;
-		WriteLock lock = block2Transfers.writeLock();
+		WriteLock lock = block2Transfers.writeLock(key);
 		lock.lock();
 		try {
 			if (reset) {
@@ -1420,7 +1467,7 @@ public class BlockwiseLayer extends AbstractLayer {
 			}
 			if (status == null) {
 				status = Block2BlockwiseStatus.forOutboundResponse(key, removeBlock2Handler, exchange, response,
-						maxTcpBertBulkBlocks);
+						maxTcpBertBulkBlocks, bufferPool);
 				block2Transfers.put(key, status);
 				enableStatus = true;
 				size = block2Transfers.size();
@@ -1428,8 +1475,11 @@ public class BlockwiseLayer extends AbstractLayer {
 		} finally {
 			lock.unlock();
 		}
-		if (previousStatus != null && previousStatus.completeResponse()) {
-			LOGGER.debug("{}stop previous block2 transfer {} {} for new {}", tag, key, previousStatus, response);
+		if (previousStatus != null) {
+			if (previousStatus.completeResponse()) {
+				LOGGER.debug("{}stop previous block2 transfer {} {} for new {}", tag, key, previousStatus, response);
+			}
+			previousStatus.releaseBuffer();
 		}
 		if (size != null) {
 			LOGGER.debug("{}created tracker for outbound block2 transfer {}, transfers in progress: {}", tag, status,
@@ -1457,13 +1507,13 @@ public class BlockwiseLayer extends AbstractLayer {
 		Integer size = null;
 		int maxPayloadSize = getMaxResourceBodySize(response);
 		Block2BlockwiseStatus status;
-		WriteLock lock = block2Transfers.writeLock();
+		WriteLock lock = block2Transfers.writeLock(key);
 		lock.lock();
 		try {
 			status = block2Transfers.update(key);
 			if (status == null) {
 				status = Block2BlockwiseStatus.forInboundResponse(key, removeBlock2Handler, exchange, response,
-						maxPayloadSize, maxTcpBertBulkBlocks);
+						maxPayloadSize, maxTcpBertBulkBlocks, bufferPool);
 				block2Transfers.put(key, status);
 				enableStatus = true;
 				size = block2Transfers.size();
@@ -1512,15 +1562,18 @@ public class BlockwiseLayer extends AbstractLayer {
 	}
 
 	/**
-	 * Log removed block1status.
+	 * Log removed block1status and release its buffer.
 	 * 
 	 * @param removedTracker removed block1 transfer tracker
 	 * @since 3.9
 	 */
 	private void logRemovedBlock1Transfer(Block1BlockwiseStatus removedTracker) {
-		if (removedTracker != null && removedTracker.complete()) {
-			LOGGER.debug("{}removing block1 tracker [{}], block1 transfers still in progress: {}", tag,
-					removedTracker.getKeyUri(), block1Transfers.size());
+		if (removedTracker != null) {
+			if (removedTracker.complete()) {
+				LOGGER.debug("{}removing block1 tracker [{}], block1 transfers still in progress: {}", tag,
+						removedTracker.getKeyUri(), block1Transfers.size());
+			}
+			removedTracker.releaseBuffer();
 		}
 	}
 
@@ -1537,15 +1590,18 @@ public class BlockwiseLayer extends AbstractLayer {
 	}
 
 	/**
-	 * Log removed block2status.
+	 * Log removed block2status and release its buffer.
 	 * 
 	 * @param removedTracker removed block2 transfer tracker
 	 * @since 3.9
 	 */
 	private void logRemovedBlock2Transfer(Block2BlockwiseStatus removedTracker) {
-		if (removedTracker != null && removedTracker.complete()) {
-			LOGGER.debug("{}removing block2 tracker [{}], block2 transfers still in progress: {}", tag,
-					removedTracker.getKeyUri(), block2Transfers.size());
+		if (removedTracker != null) {
+			if (removedTracker.complete()) {
+				LOGGER.debug("{}removing block2 tracker [{}], block2 transfers still in progress: {}", tag,
+						removedTracker.getKeyUri(), block2Transfers.size());
+			}
+			removedTracker.releaseBuffer();
 		}
 	}
 
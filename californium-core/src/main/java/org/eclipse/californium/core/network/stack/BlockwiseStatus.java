@@ -25,9 +25,6 @@
  ******************************************************************************/
 package org.eclipse.californium.core.network.stack;
 
-import java.nio.Buffer;
-import java.nio.ByteBuffer;
-
 import org.eclipse.californium.core.coap.CoAP.ResponseCode;
 import org.eclipse.californium.core.coap.option.BlockOption;
 import org.eclipse.californium.core.coap.Message;
@@ -38,6 +35,8 @@ import org.eclipse.californium.core.network.Exchange;
 import org.eclipse.californium.elements.DtlsEndpointContext;
 import org.eclipse.californium.elements.EndpointContext;
 import org.eclipse.californium.elements.EndpointContextUtil;
+import org.eclipse.californium.elements.util.ByteBufferPool;
+import org.eclipse.californium.elements.util.ChunkedByteBuffer;
 
 /**
  * A tracker for the status of a blockwise transfer of a request or response
@@ -52,7 +51,7 @@ public abstract class BlockwiseStatus {
 
 	private final MessageObserver removeObserver;
 	private final KeyUri keyUri;
-	private final ByteBuffer buf;
+	private final ChunkedByteBuffer buf;
 	private final int contentFormat;
 	private final int maxTcpBertBulkBlocks;
 	private Exchange exchange;
@@ -63,6 +62,12 @@ public abstract class BlockwiseStatus {
 	private int currentNum;
 	private int currentSzx;
 	private boolean complete;
+	/**
+	 * Indicates, that the buffer is released.
+	 * 
+	 * @since 4.0
+	 */
+	private boolean released;
 
 	/**
 	 * Creates a new blockwise status.
@@ -74,9 +79,11 @@ public abstract class BlockwiseStatus {
 	 * @param maxSize The maximum size of the body to be buffered.
 	 * @param maxTcpBertBulkBlocks The maximum number of bulk blocks for
 	 *            TCP/BERT. {@code 1} or less, disable BERT.
-	 * @since 3.0
+	 * @param bufferPool pool to take the buffer chunks from
+	 * @since 4.0 (added bufferPool)
 	 */
-	protected BlockwiseStatus(KeyUri keyUri, final RemoveHandler removeHandler, Exchange exchange, Message first, int maxSize, int maxTcpBertBulkBlocks) {
+	protected BlockwiseStatus(KeyUri keyUri, final RemoveHandler removeHandler, Exchange exchange, Message first,
+			int maxSize, int maxTcpBertBulkBlocks, ByteBufferPool bufferPool) {
 		if (keyUri == null) {
 			throw new NullPointerException("Key URI must not be null!");
 		}
@@ -86,6 +93,9 @@ public abstract class BlockwiseStatus {
 		if (first == null) {
 			throw new NullPointerException("First message must not be null!");
 		}
+		if (bufferPool == null) {
+			throw new NullPointerException("Buffer pool must not be null!");
+		}
 		if (maxSize == 0) {
 			throw new IllegalArgumentException("max. size must not be 0!");
 		}
@@ -106,7 +116,7 @@ public abstract class BlockwiseStatus {
 		this.firstMessage.setProtectFromOffload();
 		this.exchange = exchange;
 		this.contentFormat = first.getOptions().getContentFormat();
-		this.buf = ByteBuffer.allocate(maxSize);
+		this.buf = new ChunkedByteBuffer(bufferPool, maxSize);
 		this.maxTcpBertBulkBlocks = maxTcpBertBulkBlocks;
 		if (maxTcpBertBulkBlocks > 1) {
 			currentSzx = BlockOption.BERT_SZX;
@@ -269,7 +279,7 @@ public abstract class BlockwiseStatus {
 	 */
 	public synchronized void restart() {
 		messageSize = 0;
-		((Buffer) buf).position(0);
+		buf.position(0);
 	}
 
 	/**
@@ -288,7 +298,7 @@ public abstract class BlockwiseStatus {
 	 * @since 3.0
 	 */
 	protected final void flipBlocksBuffer() {
-		((Buffer) buf).flip();
+		buf.flip();
 	}
 
 	/**
@@ -298,10 +308,14 @@ public abstract class BlockwiseStatus {
 	 * @param length length of block
 	 * @return byte array, or {@code null}, if no buffer is available. The
 	 *         length is truncated to the remaining bytes in buffer.
-	 * @since 3.0
+	 * @throws BlockwiseTransferException if the buffer is already released.
+	 * @since 3.0 (4.0 throws BlockwiseTransferException)
 	 */
-	protected final byte[] getBlock(int position, int length) {
-		((Buffer) buf).position(position);
+	protected final byte[] getBlock(int position, int length) throws BlockwiseTransferException {
+		if (released) {
+			throw new BlockwiseTransferException("transfer already released!");
+		}
+		buf.position(position);
 		int len = Math.min(length, buf.remaining());
 		byte[] payload = new byte[len];
 		buf.get(payload, 0, len);
@@ -313,9 +327,14 @@ public abstract class BlockwiseStatus {
 	 *
 	 * @param block The block to add.
 	 * @param messageSize additional message size of this blockwise message.
-	 * @throws BlockwiseTransferException if buffer overflows.
+	 * @throws BlockwiseTransferException if buffer overflows or is already
+	 *             released.
 	 */
 	protected final void addBlock(final byte[] block, int messageSize) throws BlockwiseTransferException {
+		if (released) {
+			throw new BlockwiseTransferException("transfer already released!",
+					ResponseCode.REQUEST_ENTITY_INCOMPLETE);
+		}
 		if (block != null && block.length > 0) {
 			if (buf.remaining() < block.length) {
 				String msg = String.format("response %d exceeds the left buffer %d", block.length, buf.remaining());
@@ -335,6 +354,22 @@ public abstract class BlockwiseStatus {
 		return buf.capacity();
 	}
 
+	/**
+	 * Releases the buffer chunks to the pool.
+	 * <p>
+	 * Called, when the transfer is removed from the {@code BlockwiseLayer}.
+	 * The buffer's content is discarded and this status must not be used
+	 * afterwards. Adding or getting blocks afterwards fails with a
+	 * {@link BlockwiseTransferException}.
+	 * 
+	 * @since 4.0
+	 */
+	public final synchronized void releaseBuffer() {
+		released = true;
+		buf.release();
+		messageSize = 0;
+	}
+
 	/**
 	 * Gets the buffer's content.
 	 * <p>
@@ -344,9 +379,9 @@ public abstract class BlockwiseStatus {
 	 * @return The bytes contained in the buffer.
 	 */
 	private final byte[] getBody() {
-		((Buffer) buf).flip();
+		buf.flip();
 		byte[] body = new byte[buf.remaining()];
-		((Buffer) buf.get(body)).clear();
+		buf.get(body, 0, body.length).clear();
 		messageSize = 0;
 		return body;
 	}
@@ -48,7 +48,7 @@ import org.eclipse.californium.core.observe.ObserveRelation;
 import org.eclipse.californium.elements.EndpointIdentityResolver;
 import org.eclipse.californium.elements.config.Configuration;
 import org.eclipse.californium.elements.util.CounterStatisticManager;
-import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache;
+import org.eclipse.californium.elements.util.StripedLeastRecentlyUpdatedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -136,7 +136,7 @@ public abstract class CongestionControlLayer extends ReliabilityLayer {
 	private final static int MAX_RTO = 60000;
 
 	/** The map of remote endpoints */
-	private LeastRecentlyUpdatedCache<Object, RemoteEndpoint> remoteEndpoints;
+	private StripedLeastRecentlyUpdatedCache<Object, RemoteEndpoint> remoteEndpoints;
 
 	/** The configuration */
 	protected final Configuration config;
@@ -173,7 +173,7 @@ public abstract class CongestionControlLayer extends ReliabilityLayer {
 		super(config);
 		this.tag = tag;
 		this.config = config;
-		this.remoteEndpoints = new LeastRecentlyUpdatedCache<>(config.get(CoapConfig.MAX_ACTIVE_PEERS),
+		this.remoteEndpoints = new StripedLeastRecentlyUpdatedCache<>(config.get(CoapConfig.MAX_ACTIVE_PEERS),
 				config.get(CoapConfig.MAX_PEER_INACTIVITY_PERIOD, TimeUnit.SECONDS), TimeUnit.SECONDS);
 		this.remoteEndpoints.setHideStaleValues(true);
 		this.useInetSocketAddress = config.get(CoapConfig.CONGESTION_CONTROL_USE_INET_ADDRESS);
@@ -236,7 +236,7 @@ public abstract class CongestionControlLayer extends ReliabilityLayer {
 			peersIdentity = exchange.getPeersIdentity();
 		}
 		remoteEndpoints.removeExpiredEntries(32);
-		WriteLock lock = remoteEndpoints.writeLock();
+		WriteLock lock = remoteEndpoints.writeLock(peersIdentity);
 		lock.lock();
 		try {
 			RemoteEndpoint remoteEndpoint = remoteEndpoints.update(peersIdentity);
@@ -52,4 +52,23 @@ public interface ObserveHealth {
 	 * Report a received reject for a notification.
 	 */
 	void receivingReject();
+
+	/**
+	 * Report change of the backlog of notifications of a shard.
+	 * <p>
+	 * The changes are reported concurrently by the threads, which dispatch
+	 * and execute the notifications. Therefore the changes must be
+	 * accumulated in order to get the current backlog.
+	 * <p>
+	 * The default implementation does nothing.
+	 * 
+	 * @param shard index of the shard
+	 * @param delta change of the number of pending notifications of the
+	 *            shard. {@code 1}, if a notification is dispatched,
+	 *            {@code -1}, if a notification is executed or rejected.
+	 * @see ObserveNotificationDispatcher
+	 * @since 4.0
+	 */
+	default void changeNotificationBacklog(int shard, int delta) {
+	}
 }
@@ -0,0 +1,177 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core.observe;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.californium.elements.util.SerialExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sharded dispatcher for notifications.
+ * <p>
+ * Partitions the observe relations by their {@link ObservingEndpoint} into a
+ * fixed number of shards. Each shard executes its notifications in order
+ * using a {@link SerialExecutor} on the provided executor. Therefore the
+ * notifications of a relation are sent in the order of the changes, while the
+ * notifications of different shards are sent in parallel. The executor may be
+ * a worker pool or a executor for virtual threads.
+ * <p>
+ * The backlog of the shards is reported to the {@link ObserveHealth}.
+ * 
+ * @see org.eclipse.californium.core.CoapResource#setNotificationDispatcher(ObserveNotificationDispatcher)
+ * @since 4.0
+ */
+public class ObserveNotificationDispatcher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ObserveNotificationDispatcher.class);
+
+	/**
+	 * Shards.
+	 */
+	private final Shard[] shards;
+
+	/**
+	 * Observe health to report the backlog of the shards.
+	 */
+	private volatile ObserveHealth observeHealth;
+
+	/**
+	 * Create sharded notification dispatcher.
+	 * 
+	 * @param executor executor to execute the notifications
+	 * @param shards number of shards
+	 * @throws NullPointerException if executor is {@code null}
+	 * @throws IllegalArgumentException if the number of shards is less than
+	 *             {@code 1}, or the executor is a {@link SerialExecutor}
+	 */
+	public ObserveNotificationDispatcher(Executor executor, int shards) {
+		if (executor == null) {
+			throw new NullPointerException("executor must not be null!");
+		}
+		if (shards < 1) {
+			throw new IllegalArgumentException("shards " + shards + " must be at least 1!");
+		}
+		if (executor instanceof SerialExecutor) {
+			throw new IllegalArgumentException("executor must not be a serial executor!");
+		}
+		this.shards = new Shard[shards];
+		for (int index = 0; index < shards; ++index) {
+			this.shards[index] = new Shard(index, executor);
+		}
+	}
+
+	/**
+	 * Set observe health to report the backlog of the shards.
+	 * 
+	 * @param observeHealth observe health. May be {@code null}.
+	 */
+	public void setObserveHealth(ObserveHealth observeHealth) {
+		this.observeHealth = observeHealth;
+	}
+
+	/**
+	 * Dispatch notification of relation.
+	 * 
+	 * @param relation observe relation to select the shard
+	 * @param notification job to send the notification
+	 */
+	public void dispatch(ObserveRelation relation, Runnable notification) {
+		getShard(relation).execute(notification);
+	}
+
+	/**
+	 * Get number of shards.
+	 * 
+	 * @return number of shards
+	 */
+	public int getShards() {
+		return shards.length;
+	}
+
+	/**
+	 * Get backlog of shard.
+	 * 
+	 * @param shard index of shard
+	 * @return number of pending notifications of that shard
+	 * @throws ArrayIndexOutOfBoundsException if shard index is out of range
+	 */
+	public int getBacklog(int shard) {
+		return shards[shard].backlog.get();
+	}
+
+	/**
+	 * Get shard for relation.
+	 * 
+	 * @param relation observe relation
+	 * @return shard for relation
+	 */
+	private Shard getShard(ObserveRelation relation) {
+		ObservingEndpoint endpoint = relation.getEndpoint();
+		int hash = endpoint == null ? relation.hashCode() : endpoint.getAddress().hashCode();
+		hash ^= (hash >>> 16);
+		return shards[(hash & Integer.MAX_VALUE) % shards.length];
+	}
+
+	/**
+	 * Shard of dispatcher.
+	 */
+	private class Shard {
+
+		private final int index;
+		private final SerialExecutor executor;
+		private final AtomicInteger backlog = new AtomicInteger();
+
+		private Shard(int index, Executor executor) {
+			this.index = index;
+			this.executor = new SerialExecutor(executor);
+		}
+
+		private void execute(final Runnable notification) {
+			backlog.incrementAndGet();
+			report(1);
+			try {
+				executor.execute(new Runnable() {
+
+					@Override
+					public void run() {
+						try {
+							notification.run();
+						} catch (Throwable t) {
+							LOGGER.error("notification failed in shard {}!", index, t);
+						} finally {
+							backlog.decrementAndGet();
+							report(-1);
+						}
+					}
+				});
+			} catch (RejectedExecutionException ex) {
+				backlog.decrementAndGet();
+				report(-1);
+				LOGGER.debug("notification rejected in shard {}!", index, ex);
+			}
+		}
+
+		private void report(int delta) {
+			ObserveHealth health = observeHealth;
+			if (health != null) {
+				health.changeNotificationBacklog(index, delta);
+			}
+		}
+	}
+}
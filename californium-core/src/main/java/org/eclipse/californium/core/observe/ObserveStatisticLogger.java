@@ -15,6 +15,10 @@
  ******************************************************************************/
 package org.eclipse.californium.core.observe;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.californium.elements.util.CounterStatisticManager;
 import org.eclipse.californium.elements.util.SimpleCounterStatistic;
 import org.eclipse.californium.elements.util.StringUtil;
@@ -36,6 +40,16 @@ public class ObserveStatisticLogger extends CounterStatisticManager implements O
 	private final SimpleCounterStatistic observeRequests = new SimpleCounterStatistic("observe-request", align);
 	private final SimpleCounterStatistic cancelRequests = new SimpleCounterStatistic("cancel-request", align);
 	private final SimpleCounterStatistic rejectedNotifies = new SimpleCounterStatistic("rejected-notifies", align);
+	private final SimpleCounterStatistic notificationBacklog = new SimpleCounterStatistic("notification-backlog",
+			align);
+	private final SimpleCounterStatistic maxShardBacklog = new SimpleCounterStatistic("max-shard-backlog", align);
+
+	/**
+	 * Current backlog of notifications per shard.
+	 * 
+	 * @since 4.0
+	 */
+	private final ConcurrentMap<Integer, AtomicInteger> shardBacklogs = new ConcurrentHashMap<>();
 
 	/**
 	 * Create health logger.
@@ -53,6 +67,8 @@ public class ObserveStatisticLogger extends CounterStatisticManager implements O
 		add(observeRequests);
 		add(cancelRequests);
 		add(rejectedNotifies);
+		add(notificationBacklog);
+		add(maxShardBacklog);
 	}
 
 	@Override
@@ -75,6 +91,12 @@ public class ObserveStatisticLogger extends CounterStatisticManager implements O
 						log.append(head).append(observeRequests).append(eol);
 						log.append(head).append(cancelRequests).append(eol);
 						log.append(head).append(rejectedNotifies);
+						if (!shardBacklogs.isEmpty()) {
+							updateBacklog();
+							log.append(eol);
+							log.append(head).append(notificationBacklog).append(eol);
+							log.append(head).append(maxShardBacklog);
+						}
 						LOGGER.debug("{}", log);
 					}
 				}
@@ -109,4 +131,36 @@ public class ObserveStatisticLogger extends CounterStatisticManager implements O
 	public void receivingReject() {
 		rejectedNotifies.increment();
 	}
+
+	@Override
+	public void changeNotificationBacklog(int shard, int delta) {
+		AtomicInteger current = shardBacklogs.get(shard);
+		if (current == null) {
+			current = new AtomicInteger();
+			AtomicInteger previous = shardBacklogs.putIfAbsent(shard, current);
+			if (previous != null) {
+				current = previous;
+			}
+		}
+		current.addAndGet(delta);
+	}
+
+	/**
+	 * Update backlog statistic from the current backlog of the shards.
+	 * 
+	 * @since 4.0
+	 */
+	private void updateBacklog() {
+		int total = 0;
+		int max = 0;
+		for (AtomicInteger backlog : shardBacklogs.values()) {
+			int pending = backlog.get();
+			total += pending;
+			if (max < pending) {
+				max = pending;
+			}
+		}
+		notificationBacklog.set(total);
+		maxShardBacklog.set(max);
+	}
 }
@@ -89,6 +89,17 @@ public class ConcurrentCoapResource extends CoapResource {
 	/** The constant 1 for single threaded executors */
 	public static int SINGLE_THREADED = 1;
 
+	/**
+	 * The constant -1 for virtual thread executors.
+	 * <p>
+	 * Each request is then processed by its own virtual thread, if supported
+	 * by the JVM. Intended for blocking resource handlers, e.g. accessing a
+	 * database.
+	 * 
+	 * @since 4.0
+	 */
+	public static final int VIRTUAL_THREADS = -1;
+
 	/**
 	 * The number of threads provided when creating the instance.
 	 * 
@@ -124,11 +135,14 @@ public class ConcurrentCoapResource extends CoapResource {
 	 * 
 	 * @param name the name
 	 * @param threads the number of threads for
-	 *            {@link ExecutorsUtil#newFixedThreadPool(int, java.util.concurrent.ThreadFactory)}.
+	 *            {@link ExecutorsUtil#newFixedThreadPool(int, java.util.concurrent.ThreadFactory, String)}.
+	 *            {@link #VIRTUAL_THREADS} to use virtual threads, if supported
+	 *            by the JVM.
 	 */
 	public ConcurrentCoapResource(String name, int threads) {
 		this(name, threads, ExecutorsUtil.newFixedThreadPool(threads,
-				new NamedThreadFactory("ConcurrentCoapResource-" + name + '#'))); //$NON-NLS-1$
+				new NamedThreadFactory("ConcurrentCoapResource-" + name + '#'), //$NON-NLS-1$
+				"ConcurrentCoapResource-" + name)); //$NON-NLS-1$
 		shutdown = true;
 	}
 
@@ -15,7 +15,9 @@
 package org.eclipse.californium.core.coap.option;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import org.eclipse.californium.elements.category.Small;
@@ -55,6 +57,16 @@ public class IntegerOptionTest {
 		assertThat(test.getIntegerValue(), is(0x104));
 	}
 
+	@Test
+	public void testSingleByteValuesAreShared() {
+		DatagramReader reader = new DatagramReader(StringUtil.hex2ByteArray("0c"));
+		IntegerOption test = CUSTOM.create(12);
+		assertThat(CUSTOM.create(reader, 1), is(sameInstance(test)));
+
+		test = CUSTOM.create(0x104);
+		assertThat(CUSTOM.create(0x104), is(not(sameInstance(test))));
+	}
+
 	@Test(expected = NullPointerException.class)
 	public void testCreateWithoutReader() {
 		CUSTOM.create(null, 0);
@@ -0,0 +1,113 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core.network;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.californium.elements.category.Small;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(Small.class)
+public class KeyMIDMapTest {
+
+	private static final InetSocketAddress PEER = new InetSocketAddress(InetAddress.getLoopbackAddress(), 5683);
+
+	@Test
+	public void testCompactKeys() {
+		KeyMIDMap<String> map = new KeyMIDMap<>();
+		KeyMID key = new KeyMID(10, PEER);
+		assertThat(map.putIfAbsent(key, "first"), is(nullValue()));
+		assertThat(map.putIfAbsent(new KeyMID(10, PEER), "second"), is("first"));
+		assertThat(map.get(new KeyMID(10, new InetSocketAddress(PEER.getAddress(), PEER.getPort()))), is("first"));
+		assertThat(map.get(new KeyMID(11, PEER)), is(nullValue()));
+		assertThat(map.replace(key, "other", "second"), is(false));
+		assertThat(map.replace(key, "first", "second"), is(true));
+		assertThat(map.remove(key, "first"), is(false));
+		assertThat(map.size(), is(1));
+		assertThat(map.remove(key), is("second"));
+		assertThat(map.isEmpty(), is(true));
+		assertThat(map.get(key), is(nullValue()));
+	}
+
+	@Test
+	public void testOtherKeys() {
+		KeyMIDMap<String> map = new KeyMIDMap<>();
+		KeyMID ipv6 = new KeyMID(10, new InetSocketAddress("::1", 5683));
+		KeyMID identity = new KeyMID(10, "identity");
+		map.put(ipv6, "ipv6");
+		map.put(identity, "identity");
+		map.put(new KeyMID(10, PEER), "ipv4");
+		assertThat(map.size(), is(3));
+		assertThat(map.get(new KeyMID(10, new InetSocketAddress("::1", 5683))), is("ipv6"));
+		assertThat(map.get(new KeyMID(10, "identity")), is("identity"));
+		assertThat(map.remove(ipv6, "ipv6"), is(true));
+		assertThat(map.size(), is(2));
+		map.clear();
+		assertThat(map.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testManyKeys() {
+		KeyMIDMap<Integer> map = new KeyMIDMap<>();
+		for (int mid = 0; mid < 10000; ++mid) {
+			assertThat(map.putIfAbsent(new KeyMID(mid, PEER), mid), is(nullValue()));
+		}
+		assertThat(map.size(), is(10000));
+		for (int mid = 0; mid < 10000; mid += 2) {
+			assertThat(map.remove(new KeyMID(mid, PEER)), is(mid));
+		}
+		assertThat(map.size(), is(5000));
+		for (int mid = 0; mid < 10000; ++mid) {
+			Integer expected = (mid & 1) == 0 ? null : mid;
+			assertThat(map.get(new KeyMID(mid, PEER)), is(expected));
+		}
+	}
+
+	@Test
+	public void testIterator() {
+		KeyMIDMap<Integer> map = new KeyMIDMap<>();
+		Map<KeyMID, Integer> expected = new HashMap<>();
+		for (int mid = 0; mid < 100; ++mid) {
+			KeyMID key = new KeyMID(mid, PEER);
+			map.put(key, mid);
+			expected.put(key, mid);
+		}
+		KeyMID identity = new KeyMID(1000, "identity");
+		map.put(identity, 1000);
+		expected.put(identity, 1000);
+		assertThat(map, is(expected));
+
+		Iterator<Map.Entry<KeyMID, Integer>> iterator = map.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<KeyMID, Integer> entry = iterator.next();
+			if ((entry.getValue() & 1) == 0) {
+				iterator.remove();
+			}
+		}
+		assertThat(map.size(), is(50));
+		assertThat(map.get(new KeyMID(2, PEER)), is(nullValue()));
+		assertThat(map.get(new KeyMID(3, PEER)), is(3));
+		assertThat(map.get(identity), is(nullValue()));
+	}
+}
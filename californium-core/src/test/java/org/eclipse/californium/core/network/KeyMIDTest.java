@@ -0,0 +1,64 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core.network;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import org.eclipse.californium.elements.category.Small;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(Small.class)
+public class KeyMIDTest {
+
+	private static final InetSocketAddress PEER = new InetSocketAddress(InetAddress.getLoopbackAddress(), 5683);
+
+	@Test
+	public void testIpv4Key() {
+		KeyMID key = new KeyMID(10, PEER);
+		long bits = (0x7f000001L << 32) | (5683L << 16) | 10L;
+		assertThat(key.hashCode(), is((int) (bits ^ (bits >>> 32))));
+		assertThat(key, is(new KeyMID(10, new InetSocketAddress(PEER.getAddress(), PEER.getPort()))));
+		assertThat(key, is(not(new KeyMID(11, PEER))));
+		assertThat(key, is(not(new KeyMID(10, new InetSocketAddress(PEER.getAddress(), 5684)))));
+	}
+
+	@Test
+	public void testOtherKey() {
+		KeyMID ipv6 = new KeyMID(10, new InetSocketAddress("::1", 5683));
+		assertThat(ipv6, is(new KeyMID(10, new InetSocketAddress("::1", 5683))));
+		assertThat(ipv6, is(not(new KeyMID(10, new InetSocketAddress("::1", 5684)))));
+
+		KeyMID identity = new KeyMID(10, "identity");
+		assertThat(identity.getMID(), is(10));
+		assertThat(identity.getPeer(), is((Object) "identity"));
+	}
+
+	@Test
+	public void testEquals() {
+		KeyMID key = new KeyMID(65535, PEER);
+		assertThat(key.getMID(), is(65535));
+		assertThat(key, is(new KeyMID(65535, new InetSocketAddress(PEER.getAddress(), PEER.getPort()))));
+		assertThat(key.hashCode(), is(new KeyMID(65535, PEER).hashCode()));
+		assertThat(key, is(not(new KeyMID(65534, PEER))));
+		assertThat(new KeyMID(10, "identity"), is(new KeyMID(10, "identity")));
+		assertThat(new KeyMID(10, "identity"), is(not(new KeyMID(10, "other"))));
+	}
+}
@@ -0,0 +1,94 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core.network.deduplication;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import org.eclipse.californium.core.coap.Request;
+import org.eclipse.californium.core.config.CoapConfig;
+import org.eclipse.californium.core.network.Exchange;
+import org.eclipse.californium.core.network.KeyMID;
+import org.eclipse.californium.elements.AddressEndpointContext;
+import org.eclipse.californium.elements.category.Small;
+import org.eclipse.californium.elements.config.Configuration;
+import org.eclipse.californium.elements.util.TestSynchroneExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(Small.class)
+public class TimingWheelDeduplicatorTest {
+
+	private static final InetSocketAddress PEER = new InetSocketAddress(InetAddress.getLoopbackAddress(), 5683);
+	private static final int GENERATIONS = 3;
+
+	KeyMID key;
+	Exchange exchange1;
+	Exchange exchange2;
+	TimingWheelDeduplicator deduplicator;
+
+	@Before
+	public void init() {
+		Configuration config = new Configuration();
+		config.set(CoapConfig.DEDUPLICATOR, CoapConfig.DEDUPLICATOR_TIMING_WHEEL);
+		config.set(CoapConfig.TIMING_WHEEL_GENERATIONS, GENERATIONS);
+		deduplicator = (TimingWheelDeduplicator) DeduplicatorFactory.getDeduplicatorFactory()
+				.createDeduplicator(config);
+		Request incoming = Request.newGet();
+		incoming.setMID(10);
+		incoming.setSourceContext(new AddressEndpointContext(PEER));
+		key = new KeyMID(incoming.getMID(), PEER);
+		exchange1 = new Exchange(incoming, PEER, Exchange.Origin.REMOTE, TestSynchroneExecutor.TEST_EXECUTOR);
+		exchange2 = new Exchange(incoming, PEER, Exchange.Origin.REMOTE, TestSynchroneExecutor.TEST_EXECUTOR);
+	}
+
+	@Test
+	public void testFindPreviousInOlderGeneration() {
+		assertThat(deduplicator.findPrevious(key, exchange1), is(nullValue()));
+		deduplicator.rotate();
+		assertThat(deduplicator.findPrevious(key, exchange2), is(exchange1));
+		assertThat(deduplicator.size(), is(1));
+	}
+
+	@Test
+	public void testOldestGenerationIsDropped() {
+		assertThat(deduplicator.findPrevious(key, exchange1), is(nullValue()));
+		for (int index = 1; index < GENERATIONS; ++index) {
+			deduplicator.rotate();
+			assertThat(deduplicator.find(key), is(exchange1));
+		}
+		deduplicator.rotate();
+		assertThat(deduplicator.find(key), is(nullValue()));
+		assertThat(deduplicator.isEmpty(), is(true));
+		assertThat(deduplicator.findPrevious(key, exchange2), is(nullValue()));
+	}
+
+	@Test
+	public void testReplacePreviousMovesToNewestGeneration() {
+		assertThat(deduplicator.findPrevious(key, exchange1), is(nullValue()));
+		deduplicator.rotate();
+		assertThat(deduplicator.replacePrevious(key, exchange1, exchange2), is(true));
+		assertThat(deduplicator.size(), is(1));
+		for (int index = 1; index < GENERATIONS; ++index) {
+			deduplicator.rotate();
+		}
+		assertThat(deduplicator.find(key), is(exchange2));
+	}
+}
@@ -32,6 +32,7 @@ import static org.junit.Assume.assumeFalse;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.californium.core.coap.CoAP;
@@ -54,6 +55,7 @@ import org.eclipse.californium.elements.AddressEndpointContext;
 import org.eclipse.californium.elements.EndpointContext;
 import org.eclipse.californium.elements.RawData;
 import org.eclipse.californium.elements.category.Small;
+import org.eclipse.californium.elements.util.ByteArrayPool;
 import org.eclipse.californium.elements.util.DatagramReader;
 import org.eclipse.californium.rule.CoapThreadsRule;
 import org.junit.After;
@@ -390,6 +392,42 @@ public class DataParserTest {
 		assertEquals(response.getOptions().asSortedList(), result.getOptions().asSortedList());
 	}
 
+	@Test
+	public void testLeasedResponseParsing() {
+		Response response = new Response(ResponseCode.CONTENT);
+		response.setDestinationContext(ENDPOINT_CONTEXT);
+		response.setType(Type.NON);
+		response.setMID(expectedMid);
+		response.setToken(new byte[] { 22, -1, 0, 78, 100, 22 });
+		response.getOptions().addETag(new byte[] { 1, 0, 0, 0, 0, 1 }).addLocationPath("/one/two/three")
+				.addOption(CUSTOM_2.create("Arbitrary1"));
+		response.setPayload("leased payload");
+
+		RawData rawData = serializer.serializeResponse(response);
+		byte[] data = rawData.getBytes();
+		ByteArrayPool pool = new ByteArrayPool(512, 1);
+		byte[] buffer = pool.take();
+		System.arraycopy(data, 0, buffer, 0, data.length);
+		rawData = RawData.inbound(buffer, data.length, pool, rawData.getEndpointContext(), false,
+				rawData.getReceiveNanoTimestamp(), CONNECTOR);
+		assertTrue(rawData.isLeased());
+		assertEquals(data.length, rawData.getSize());
+
+		Response result = (Response) parser.parseMessage(rawData);
+		rawData.release();
+		assertFalse(rawData.isLeased());
+		assertEquals(1, pool.available());
+		// overwrite released buffer, the message must not refer to it
+		Arrays.fill(buffer, (byte) 0);
+
+		assertEquals(null, result.getBytes());
+		assertEquals(data.length, result.getMessageSize());
+		assertEquals(response.getMID(), result.getMID());
+		assertEquals(response.getToken(), result.getToken());
+		assertEquals(response.getOptions().asSortedList(), result.getOptions().asSortedList());
+		assertEquals("leased payload", result.getPayloadString());
+	}
+
 	@Test
 	public void testUTF8Encoding() {
 		Response response = new Response(ResponseCode.CONTENT);
@@ -0,0 +1,156 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core.observe;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.eclipse.californium.elements.category.Small;
+import org.eclipse.californium.elements.util.SerialExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Verifies behavior of {@code ObserveNotificationDispatcher}.
+ */
+@Category(Small.class)
+public class ObserveNotificationDispatcherTest {
+
+	private static final int PEER_PORT = 13000;
+
+	private LinkedList<Runnable> jobs;
+	private Executor executor;
+	private ObserveRelation relation;
+	private int[] backlogs;
+
+	@Before
+	public void setup() {
+		jobs = new LinkedList<>();
+		executor = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				jobs.add(command);
+			}
+		};
+		relation = createRelation(PEER_PORT);
+		backlogs = new int[2];
+	}
+
+	private ObserveRelation createRelation(int port) {
+		InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+		ObserveRelation relation = mock(ObserveRelation.class);
+		when(relation.getEndpoint()).thenReturn(new ObservingEndpoint(address));
+		return relation;
+	}
+
+	private void runJobs() {
+		Runnable job;
+		while ((job = jobs.poll()) != null) {
+			job.run();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorRejectsNoShards() {
+		new ObserveNotificationDispatcher(executor, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorRejectsSerialExecutor() {
+		new ObserveNotificationDispatcher(new SerialExecutor(executor), 2);
+	}
+
+	@Test
+	public void testNotificationsOfRelationAreOrdered() {
+		ObserveNotificationDispatcher dispatcher = new ObserveNotificationDispatcher(executor, 2);
+		final List<Integer> order = new ArrayList<>();
+		for (int index = 0; index < 5; ++index) {
+			final int number = index;
+			dispatcher.dispatch(relation, new Runnable() {
+
+				@Override
+				public void run() {
+					order.add(number);
+				}
+			});
+		}
+		runJobs();
+		assertThat(order.size(), is(5));
+		for (int index = 0; index < 5; ++index) {
+			assertThat(order.get(index), is(index));
+		}
+	}
+
+	@Test
+	public void testBacklogIsReported() {
+		ObserveNotificationDispatcher dispatcher = new ObserveNotificationDispatcher(executor, 2);
+		dispatcher.setObserveHealth(new ObserveStatisticLogger("test") {
+
+			@Override
+			public void changeNotificationBacklog(int shard, int delta) {
+				backlogs[shard] += delta;
+			}
+		});
+		Runnable notification = new Runnable() {
+
+			@Override
+			public void run() {
+			}
+		};
+		dispatcher.dispatch(relation, notification);
+		dispatcher.dispatch(relation, notification);
+		dispatcher.dispatch(relation, notification);
+		assertThat(dispatcher.getBacklog(0) + dispatcher.getBacklog(1), is(3));
+		assertThat(backlogs[0] + backlogs[1], is(3));
+		runJobs();
+		assertThat(dispatcher.getBacklog(0), is(0));
+		assertThat(dispatcher.getBacklog(1), is(0));
+		assertThat(backlogs[0] + backlogs[1], is(0));
+	}
+
+	@Test
+	public void testFailingNotificationDoesNotBlockShard() {
+		ObserveNotificationDispatcher dispatcher = new ObserveNotificationDispatcher(executor, 1);
+		final List<Integer> order = new ArrayList<>();
+		dispatcher.dispatch(relation, new Runnable() {
+
+			@Override
+			public void run() {
+				throw new IllegalStateException("test failure");
+			}
+		});
+		dispatcher.dispatch(createRelation(PEER_PORT + 1), new Runnable() {
+
+			@Override
+			public void run() {
+				order.add(1);
+			}
+		});
+		runJobs();
+		assertThat(order.size(), is(1));
+		assertThat(dispatcher.getBacklog(0), is(0));
+	}
+}
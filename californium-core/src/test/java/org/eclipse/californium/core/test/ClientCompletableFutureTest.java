@@ -0,0 +1,326 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core.test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.TestTools;
+import org.eclipse.californium.core.CoapClient;
+import org.eclipse.californium.core.CoapObservePublisher;
+import org.eclipse.californium.core.CoapResource;
+import org.eclipse.californium.core.CoapResponse;
+import org.eclipse.californium.core.CoapServer;
+import org.eclipse.californium.core.coap.CoAP.ResponseCode;
+import org.eclipse.californium.core.coap.MediaTypeRegistry;
+import org.eclipse.californium.core.network.CoapEndpoint;
+import org.eclipse.californium.core.network.Endpoint;
+import org.eclipse.californium.core.server.resources.CoapExchange;
+import org.eclipse.californium.elements.category.Medium;
+import org.eclipse.californium.elements.config.Configuration;
+import org.eclipse.californium.elements.rule.TestNameLoggerRule;
+import org.eclipse.californium.rule.CoapNetworkRule;
+import org.eclipse.californium.rule.CoapThreadsRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Tests the {@link CompletableFuture} based functions of {@link CoapClient}
+ * and the {@link CoapObservePublisher}.
+ */
+@Category(Medium.class)
+public class ClientCompletableFutureTest {
+
+	@ClassRule
+	public static CoapNetworkRule network = new CoapNetworkRule(CoapNetworkRule.Mode.DIRECT, CoapNetworkRule.Mode.NATIVE);
+
+	@ClassRule
+	public static CoapThreadsRule cleanup = new CoapThreadsRule();
+
+	@Rule
+	public TestNameLoggerRule name = new TestNameLoggerRule();
+
+	public static final String TARGET = "storage";
+	public static final String HOLD = "hold";
+	public static final String CONTENT_1 = "one";
+	public static final String CONTENT_2 = "two";
+
+	private static Endpoint serverEndpoint;
+	private static String uri;
+
+	private static StorageResource resource;
+	private static HoldResource holdResource;
+
+	private CoapClient client;
+
+	@BeforeClass
+	public static void init() {
+		cleanup.add(createServer());
+	}
+
+	@Before
+	public void startupClient() {
+		resource.setContent(CONTENT_1);
+		holdResource.exchanges.clear();
+		client = new CoapClient(uri).useExecutor();
+	}
+
+	@After
+	public void shutdownClient() {
+		client.shutdown();
+	}
+
+	@Test
+	public void testGetAsync() throws Exception {
+		CompletableFuture<CoapResponse> future = client.getAsync();
+		CoapResponse response = future.get(1, TimeUnit.SECONDS);
+		assertThat(response.getCode(), is(ResponseCode.CONTENT));
+		assertThat(response.getResponseText(), is(CONTENT_1));
+	}
+
+	@Test
+	public void testPostAsync() throws Exception {
+		CompletableFuture<CoapResponse> future = client.postAsync(CONTENT_2.getBytes(),
+				MediaTypeRegistry.TEXT_PLAIN);
+		CoapResponse response = future.get(1, TimeUnit.SECONDS);
+		assertThat(response.getCode(), is(ResponseCode.CHANGED));
+		assertThat(resource.getContent(), is(CONTENT_2));
+	}
+
+	@Test
+	public void testMaxInFlight() throws Exception {
+		client.setURI(TestTools.getUri(serverEndpoint, HOLD));
+		client.setMaxInFlight(2);
+		List<CompletableFuture<CoapResponse>> futures = new ArrayList<>();
+		for (int index = 0; index < 5; ++index) {
+			futures.add(client.getAsync());
+		}
+		CoapExchange first = holdResource.exchanges.poll(1, TimeUnit.SECONDS);
+		assertThat("missing first request", first, is(notNullValue()));
+		CoapExchange second = holdResource.exchanges.poll(1, TimeUnit.SECONDS);
+		assertThat("missing second request", second, is(notNullValue()));
+		assertThat("unexpected third request", holdResource.exchanges.poll(200, TimeUnit.MILLISECONDS),
+				is(nullValue()));
+
+		first.respond(CONTENT_1);
+		CoapExchange exchange = holdResource.exchanges.poll(1, TimeUnit.SECONDS);
+		assertThat("missing third request", exchange, is(notNullValue()));
+		second.respond(CONTENT_1);
+		exchange.respond(CONTENT_1);
+		for (int index = 3; index < 5; ++index) {
+			exchange = holdResource.exchanges.poll(1, TimeUnit.SECONDS);
+			assertThat("missing request " + index, exchange, is(notNullValue()));
+			exchange.respond(CONTENT_1);
+		}
+		for (CompletableFuture<CoapResponse> future : futures) {
+			assertThat(future.get(1, TimeUnit.SECONDS).getResponseText(), is(CONTENT_1));
+		}
+	}
+
+	@Test
+	public void testCancelQueuedRequest() throws Exception {
+		client.setURI(TestTools.getUri(serverEndpoint, HOLD));
+		client.setMaxInFlight(1);
+		CompletableFuture<CoapResponse> first = client.getAsync();
+		CompletableFuture<CoapResponse> second = client.getAsync();
+		CoapExchange exchange = holdResource.exchanges.poll(1, TimeUnit.SECONDS);
+		assertThat("missing first request", exchange, is(notNullValue()));
+		second.cancel(false);
+		exchange.respond(CONTENT_1);
+		assertThat(first.get(1, TimeUnit.SECONDS).getResponseText(), is(CONTENT_1));
+		assertThat("unexpected second request", holdResource.exchanges.poll(200, TimeUnit.MILLISECONDS),
+				is(nullValue()));
+	}
+
+	@Test
+	public void testCancelQueuedRequestKeepsInFlightLimit() throws Exception {
+		client.setURI(TestTools.getUri(serverEndpoint, HOLD));
+		client.setMaxInFlight(1);
+		CompletableFuture<CoapResponse> first = client.getAsync();
+		CompletableFuture<CoapResponse> second = client.getAsync();
+		CompletableFuture<CoapResponse> third = client.getAsync();
+		CoapExchange exchange = holdResource.exchanges.poll(1, TimeUnit.SECONDS);
+		assertThat("missing first request", exchange, is(notNullValue()));
+		second.cancel(false);
+		CompletableFuture<CoapResponse> fourth = client.getAsync();
+		assertThat("unexpected request", holdResource.exchanges.poll(200, TimeUnit.MILLISECONDS), is(nullValue()));
+
+		exchange.respond(CONTENT_1);
+		assertThat(first.get(1, TimeUnit.SECONDS).getResponseText(), is(CONTENT_1));
+		exchange = holdResource.exchanges.poll(1, TimeUnit.SECONDS);
+		assertThat("missing third request", exchange, is(notNullValue()));
+		assertThat("unexpected fourth request", holdResource.exchanges.poll(200, TimeUnit.MILLISECONDS),
+				is(nullValue()));
+		exchange.respond(CONTENT_2);
+		assertThat(third.get(1, TimeUnit.SECONDS).getResponseText(), is(CONTENT_2));
+		exchange = holdResource.exchanges.poll(1, TimeUnit.SECONDS);
+		assertThat("missing fourth request", exchange, is(notNullValue()));
+		exchange.respond(CONTENT_1);
+		assertThat(fourth.get(1, TimeUnit.SECONDS).getResponseText(), is(CONTENT_1));
+	}
+
+	@Test
+	public void testObserveAsync() throws Exception {
+		CoapObservePublisher publisher = client.observeAsync(4);
+		TestSubscriber subscriber = new TestSubscriber();
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		CoapResponse response = subscriber.notifications.poll(1, TimeUnit.SECONDS);
+		assertThat("missing first notification", response, is(notNullValue()));
+		assertThat(response.getResponseText(), is(CONTENT_1));
+
+		resource.setContent(CONTENT_2);
+		resource.changed();
+		response = subscriber.notifications.poll(1, TimeUnit.SECONDS);
+		assertThat("missing second notification", response, is(notNullValue()));
+		assertThat(response.getResponseText(), is(CONTENT_2));
+
+		subscriber.subscription.cancel();
+		resource.changed();
+		assertThat("unexpected notification", subscriber.notifications.poll(200, TimeUnit.MILLISECONDS),
+				is(nullValue()));
+	}
+
+	@Test
+	public void testObserveAsyncWithoutDemand() throws Exception {
+		CoapObservePublisher publisher = client.observeAsync(4);
+		TestSubscriber subscriber = new TestSubscriber();
+		publisher.subscribe(subscriber);
+
+		assertThat("unexpected notification", subscriber.notifications.poll(200, TimeUnit.MILLISECONDS),
+				is(nullValue()));
+		subscriber.subscription.request(1);
+		assertThat("missing notification", subscriber.notifications.poll(1, TimeUnit.SECONDS), is(notNullValue()));
+		subscriber.subscription.cancel();
+	}
+
+	@Test
+	public void testObserveAsyncSecondSubscriber() throws Exception {
+		CoapObservePublisher publisher = client.observeAsync(4);
+		TestSubscriber subscriber = new TestSubscriber();
+		publisher.subscribe(subscriber);
+		TestSubscriber second = new TestSubscriber();
+		publisher.subscribe(second);
+		assertThat(second.error, is(instanceOf(IllegalStateException.class)));
+		subscriber.subscription.cancel();
+	}
+
+	private static CoapServer createServer() {
+		Configuration config = network.getStandardTestConfig();
+		CoapEndpoint.Builder builder = new CoapEndpoint.Builder();
+		builder.setConfiguration(config);
+		builder.setInetSocketAddress(TestTools.LOCALHOST_EPHEMERAL);
+		serverEndpoint = builder.build();
+
+		resource = new StorageResource(TARGET, CONTENT_1);
+		holdResource = new HoldResource(HOLD);
+		CoapServer server = new CoapServer(config);
+		server.add(resource);
+		server.add(holdResource);
+
+		server.addEndpoint(serverEndpoint);
+		server.start();
+		uri = TestTools.getUri(serverEndpoint, TARGET);
+		return server;
+	}
+
+	private static class TestSubscriber implements CoapObservePublisher.Subscriber<CoapResponse> {
+
+		private final BlockingQueue<CoapResponse> notifications = new LinkedBlockingQueue<>();
+		private volatile CoapObservePublisher.Subscription subscription;
+		private volatile Throwable error;
+
+		@Override
+		public void onSubscribe(CoapObservePublisher.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(CoapResponse item) {
+			notifications.add(item);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+		}
+	}
+
+	private static class HoldResource extends CoapResource {
+
+		private final BlockingQueue<CoapExchange> exchanges = new LinkedBlockingQueue<>();
+
+		public HoldResource(String name) {
+			super(name);
+		}
+
+		@Override
+		public void handleGET(CoapExchange exchange) {
+			exchanges.add(exchange);
+		}
+	}
+
+	private static class StorageResource extends CoapResource {
+
+		private volatile String content;
+
+		public StorageResource(String name, String content) {
+			super(name);
+			this.content = content;
+			setObservable(true);
+		}
+
+		public String getContent() {
+			return content;
+		}
+
+		public void setContent(String content) {
+			this.content = content;
+		}
+
+		@Override
+		public void handleGET(CoapExchange exchange) {
+			exchange.respond(ResponseCode.CONTENT, content);
+		}
+
+		@Override
+		public void handlePOST(CoapExchange exchange) {
+			String old = this.content;
+			this.content = exchange.getRequestText();
+			exchange.respond(ResponseCode.CHANGED, old);
+			changed();
+		}
+	}
+}
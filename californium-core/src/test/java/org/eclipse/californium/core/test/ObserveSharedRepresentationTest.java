@@ -0,0 +1,165 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.core.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.californium.TestTools;
+import org.eclipse.californium.core.CoapClient;
+import org.eclipse.californium.core.CoapObserveRelation;
+import org.eclipse.californium.core.CoapResource;
+import org.eclipse.californium.core.CoapServer;
+import org.eclipse.californium.core.network.CoapEndpoint;
+import org.eclipse.californium.core.server.resources.CoapExchange;
+import org.eclipse.californium.elements.category.Medium;
+import org.eclipse.californium.elements.config.Configuration;
+import org.eclipse.californium.elements.rule.TestNameLoggerRule;
+import org.eclipse.californium.rule.CoapNetworkRule;
+import org.eclipse.californium.rule.CoapThreadsRule;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Test notifications using {@link CoapResource#setSharedRepresentation(boolean)}.
+ */
+@Category(Medium.class)
+public class ObserveSharedRepresentationTest {
+
+	@ClassRule
+	public static CoapNetworkRule network = new CoapNetworkRule(CoapNetworkRule.Mode.DIRECT,
+			CoapNetworkRule.Mode.NATIVE);
+
+	private static final String TARGET = "shared";
+	private static final int OBSERVERS = 3;
+	private static final long TIMEOUT_MILLIS = 2000;
+
+	@Rule
+	public CoapThreadsRule cleanup = new CoapThreadsRule();
+
+	@Rule
+	public TestNameLoggerRule name = new TestNameLoggerRule();
+
+	private Configuration config;
+	private SharedResource resource;
+	private String uri;
+
+	@Before
+	public void startupServer() {
+		config = network.createTestConfig();
+		CoapEndpoint.Builder builder = new CoapEndpoint.Builder();
+		builder.setInetSocketAddress(TestTools.LOCALHOST_EPHEMERAL);
+		builder.setConfiguration(config);
+		CoapEndpoint endpoint = builder.build();
+
+		CoapServer server = new CoapServer(config);
+		cleanup.add(server);
+		server.addEndpoint(endpoint);
+		resource = new SharedResource(TARGET);
+		server.add(resource);
+		server.start();
+		uri = TestTools.getUri(endpoint, TARGET);
+	}
+
+	@Test
+	public void testSharedRepresentation() throws Exception {
+		CountingCoapHandler[] handlers = new CountingCoapHandler[OBSERVERS];
+		for (int index = 0; index < OBSERVERS; ++index) {
+			handlers[index] = observe(uri);
+		}
+		int gets = resource.getCounter.get();
+		assertEquals(OBSERVERS, gets);
+
+		resource.change("2");
+		for (CountingCoapHandler handler : handlers) {
+			assertTrue(handler.waitOnLoadCalls(2, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+			assertEquals("2", getNotification(handler));
+		}
+		// only one GET for all relations
+		assertEquals(gets + 1, resource.getCounter.get());
+	}
+
+	@Test
+	public void testSharedRepresentationVariants() throws Exception {
+		CountingCoapHandler handler1 = observe(uri);
+		CountingCoapHandler handler2 = observe(uri + "?variant=a");
+		CountingCoapHandler handler3 = observe(uri + "?variant=a");
+		int gets = resource.getCounter.get();
+
+		resource.change("3");
+		assertTrue(handler1.waitOnLoadCalls(2, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		assertTrue(handler2.waitOnLoadCalls(2, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		assertTrue(handler3.waitOnLoadCalls(2, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		assertEquals("3", getNotification(handler1));
+		assertEquals("3?variant=a", getNotification(handler2));
+		assertEquals("3?variant=a", getNotification(handler3));
+		// one GET per variant
+		assertEquals(gets + 2, resource.getCounter.get());
+	}
+
+	private CountingCoapHandler observe(String uri) throws Exception {
+		CoapEndpoint.Builder builder = new CoapEndpoint.Builder();
+		builder.setInetSocketAddress(TestTools.LOCALHOST_EPHEMERAL);
+		builder.setConfiguration(config);
+		CoapEndpoint endpoint = builder.build();
+		cleanup.add(endpoint);
+		CoapClient client = new CoapClient(uri);
+		client.setEndpoint(endpoint);
+		cleanup.add(client);
+		CountingCoapHandler handler = new CountingCoapHandler();
+		CoapObserveRelation relation = client.observeAndWait(handler);
+		assertFalse("Response not received", relation.isCanceled());
+		assertTrue(handler.waitOnLoadCalls(1, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		return handler;
+	}
+
+	private static String getNotification(CountingCoapHandler handler) {
+		// skip initial response
+		handler.waitOnLoad(0);
+		return handler.waitOnLoad(0).getResponseText();
+	}
+
+	private static class SharedResource extends CoapResource {
+
+		private final AtomicInteger getCounter = new AtomicInteger();
+		private volatile String state = "1";
+
+		private SharedResource(String name) {
+			super(name);
+			setObservable(true);
+			setSharedRepresentation(true);
+		}
+
+		private void change(String state) {
+			this.state = state;
+			changed();
+		}
+
+		@Override
+		public void handleGET(CoapExchange exchange) {
+			getCounter.incrementAndGet();
+			String query = exchange.getRequestOptions().getUriQueryString();
+			String payload = query.isEmpty() ? state : state + "?" + query;
+			exchange.respond(payload);
+		}
+	}
+}
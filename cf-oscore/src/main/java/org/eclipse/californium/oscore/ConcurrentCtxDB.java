@@ -0,0 +1,509 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.oscore;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.core.coap.CoAP.ResponseCode;
+import org.eclipse.californium.core.coap.Request;
+import org.eclipse.californium.core.coap.Token;
+import org.eclipse.californium.elements.util.Bytes;
+import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache;
+import org.eclipse.californium.oscore.group.InstructionIDRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.upokecenter.cbor.CBORObject;
+
+/**
+ * Implements the OSCoreCtxDB interface with concurrent maps.
+ * <p>
+ * In contrast to {@link HashMapCtxDB}, this implementation doesn't use a
+ * global monitor. The contexts are kept in {@link ConcurrentHashMap}s,
+ * therefore the lookup of a context for a received OSCORE message doesn't
+ * block other lookups. The token related tables (contexts by token,
+ * instructions, forwarded and all tokens) are kept in
+ * {@link LeastRecentlyUpdatedCache}s. These are bounded by the token
+ * capacity. If a table is full, the least recently updated entry is evicted,
+ * if it has not been updated for the token expiration threshold. If no entry
+ * could be evicted, the new token association is dropped. The associations of
+ * tokens of ongoing observe relations are refreshed with each notification,
+ * see {@link #refreshToken(Token)}.
+ * 
+ * @since 4.0
+ */
+public class ConcurrentCtxDB implements OSCoreCtxDB {
+
+	/**
+	 * The logger
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCtxDB.class);
+
+	/**
+	 * Default capacity of token tables.
+	 */
+	public static final int DEFAULT_TOKEN_CAPACITY = 100000;
+
+	/**
+	 * Default expiration threshold of token tables in seconds.
+	 */
+	public static final long DEFAULT_TOKEN_THRESHOLD_SECS = LeastRecentlyUpdatedCache.DEFAULT_THRESHOLD_SECS;
+
+	/**
+	 * The outer map has RID as key and the inner ID Context.
+	 */
+	private final ConcurrentMap<ByteId, ConcurrentMap<ByteId, OSCoreCtx>> contextMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Key in {@link #uriMap} for URIs without host.
+	 * 
+	 * {@link ConcurrentHashMap} doesn't support {@code null} keys.
+	 */
+	private static final String NO_HOST = "";
+
+	private final ConcurrentMap<String, OSCoreCtx> uriMap = new ConcurrentHashMap<>();
+	private final LeastRecentlyUpdatedCache<Token, OSCoreCtx> tokenMap;
+	private final LeastRecentlyUpdatedCache<Token, CBORObject[]> instructionMap;
+	private final LeastRecentlyUpdatedCache<Token, Boolean> unprotectedProxyMessages;
+	private final LeastRecentlyUpdatedCache<Token, Boolean> allTokens;
+	private final boolean proxyable;
+	private final int layerLimit;
+	/**
+	 * Store for sequence numbers and replay windows. {@code null}, if not
+	 * used.
+	 */
+	private volatile SequenceNumberStore sequenceNumberStore;
+
+	/**
+	 * Create the database, with no proxying allowed nor layered encryption
+	 */
+	public ConcurrentCtxDB() {
+		this(false, 1);
+	}
+
+	/**
+	 * Create the database with default token capacity and expiration.
+	 * 
+	 * @param proxyable This controls whether the server can act as a proxy
+	 * @param layerLimit defines a maximum amount of times OSCORE protection
+	 *            can be applied or stripped on a single message
+	 */
+	public ConcurrentCtxDB(boolean proxyable, int layerLimit) {
+		this(proxyable, layerLimit, DEFAULT_TOKEN_CAPACITY, DEFAULT_TOKEN_THRESHOLD_SECS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Create the database.
+	 * 
+	 * @param proxyable This controls whether the server can act as a proxy
+	 * @param layerLimit defines a maximum amount of times OSCORE protection
+	 *            can be applied or stripped on a single message
+	 * @param tokenCapacity maximum number of tokens in the token tables
+	 * @param tokenThreshold expiration threshold of tokens. Tokens not
+	 *            updated for that threshold may be evicted, if a token table
+	 *            is full.
+	 * @param unit time unit of threshold
+	 */
+	public ConcurrentCtxDB(boolean proxyable, int layerLimit, int tokenCapacity, long tokenThreshold,
+			TimeUnit unit) {
+		if (layerLimit < 0) {
+			throw new IllegalArgumentException("layerLimit must be a positive integer");
+		}
+		this.tokenMap = new LeastRecentlyUpdatedCache<>(tokenCapacity, tokenThreshold, unit);
+		this.instructionMap = new LeastRecentlyUpdatedCache<>(tokenCapacity, tokenThreshold, unit);
+		this.unprotectedProxyMessages = new LeastRecentlyUpdatedCache<>(tokenCapacity, tokenThreshold, unit);
+		this.allTokens = new LeastRecentlyUpdatedCache<>(tokenCapacity, tokenThreshold, unit);
+		this.proxyable = proxyable;
+		this.layerLimit = layerLimit;
+	}
+
+	/**
+	 * Set store for sequence numbers and replay windows.
+	 * 
+	 * Contexts added afterwards are attached to the store. Set the store
+	 * before adding the contexts.
+	 * 
+	 * @param store store for sequence numbers and replay windows. May be
+	 *            {@code null}.
+	 */
+	public void setSequenceNumberStore(SequenceNumberStore store) {
+		this.sequenceNumberStore = store;
+	}
+
+	@Override
+	public void removeInstructions(Token token) {
+		checkToken(token);
+		instructionMap.remove(token);
+	}
+
+	@Override
+	public boolean getIfProxyable() {
+		return proxyable;
+	}
+
+	@Override
+	public int getLayerLimit() {
+		return layerLimit;
+	}
+
+	@Override
+	public void addForwarded(Token token) {
+		if (token != null) {
+			addToken(token);
+			put(unprotectedProxyMessages, token, Boolean.TRUE);
+		}
+	}
+
+	@Override
+	public boolean hasBeenForwarded(Token token) {
+		checkToken(token);
+		return unprotectedProxyMessages.get(token) != null;
+	}
+
+	@Override
+	public void addInstructions(Token token, CBORObject[] instructions) {
+		checkToken(token);
+		if (instructions == null) {
+			LOGGER.error("Instruction is null");
+			throw new NullPointerException("Instruction is null");
+		}
+		addToken(token);
+		put(instructionMap, token, instructions);
+	}
+
+	@Override
+	public CBORObject[] getInstructions(Token token) {
+		checkToken(token);
+		return instructionMap.get(token);
+	}
+
+	/**
+	 * Retrieve context using a request. If the provided request has
+	 * instructions in the OSCORE option, the context will be returned from
+	 * the current instruction, otherwise it will return the context using the
+	 * URI or ProxyUri
+	 */
+	@Override
+	public OSCoreCtx getContext(Request request, CBORObject[] instructions) throws OSException {
+		if (!(Objects.nonNull(instructions))) {
+			String uri;
+			if (request.getOptions().hasProxyUri()) {
+				uri = request.getOptions().getProxyUri();
+			} else {
+				uri = request.getURI();
+			}
+
+			if (uri == null) {
+				LOGGER.error(ErrorDescriptions.URI_NULL);
+				throw new OSException(ErrorDescriptions.URI_NULL);
+			}
+			return getContext(uri);
+		}
+
+		// get index for current instruction
+		int index = instructions[InstructionIDRegistry.Header.Index].ToObject(int.class);
+
+		// get instruction
+		CBORObject instruction = instructions[index];
+
+		byte[] RID = instruction.get(InstructionIDRegistry.KID).ToObject(byte[].class);
+		byte[] IDCONTEXT = instruction.get(InstructionIDRegistry.IDContext).ToObject(byte[].class);
+
+		return getContext(RID, IDCONTEXT);
+	}
+
+	/**
+	 * Retrieve context using RID and ID Context. If the provided ID Context is
+	 * null a result will be returned if there is only one unique context for
+	 * that RID.
+	 */
+	@Override
+	public OSCoreCtx getContext(byte[] rid, byte[] IDContext) throws CoapOSException {
+		// Do not allow a null RID
+		if (rid == null) {
+			LOGGER.error(ErrorDescriptions.MISSING_KID);
+			throw new CoapOSException(ErrorDescriptions.MISSING_KID, ResponseCode.UNAUTHORIZED);
+		}
+
+		ConcurrentMap<ByteId, OSCoreCtx> matchingRidMap = contextMap.get(new ByteId(rid));
+
+		// No matching RID found at all
+		if (matchingRidMap == null) {
+			return null;
+		}
+
+		if (IDContext == null) {
+			// If retrieving using only RID, there must be only 1 match maximum
+			if (matchingRidMap.size() > 1) {
+				throw new CoapOSException(ErrorDescriptions.CONTEXT_NOT_FOUND_IDCONTEXT, ResponseCode.UNAUTHORIZED);
+			}
+			return first(matchingRidMap);
+		} else {
+			// If retrieving using both RID and ID Context
+			return matchingRidMap.get(new ByteId(IDContext));
+		}
+	}
+
+	/**
+	 * Retrieve context using only RID when it is certain it is unique.
+	 */
+	@Override
+	public OSCoreCtx getContext(byte[] rid) {
+		ConcurrentMap<ByteId, OSCoreCtx> matchingRidMap = contextMap.get(new ByteId(rid));
+
+		if (matchingRidMap == null) {
+			return null;
+		}
+
+		if (matchingRidMap.size() > 1) {
+			throw new RuntimeException("Attempting to retrieve context with only non-unique RID.");
+		}
+
+		return first(matchingRidMap);
+	}
+
+	@Override
+	public OSCoreCtx getContextByToken(Token token) {
+		checkToken(token);
+		return tokenMap.get(token);
+	}
+
+	@Override
+	public OSCoreCtx getContext(String uri) throws OSException {
+		if (uri != null) {
+			return uriMap.get(uriKey(HashMapCtxDB.normalizeServerUri(uri)));
+		} else {
+			LOGGER.error(ErrorDescriptions.STRING_NULL);
+			throw new NullPointerException(ErrorDescriptions.STRING_NULL);
+		}
+	}
+
+	@Override
+	public void addContext(Token token, OSCoreCtx ctx) {
+		if (token != null) {
+			addToken(token);
+			put(tokenMap, token, ctx);
+		}
+		if (ctx != null) {
+			addContext(ctx);
+		}
+	}
+
+	@Override
+	public void addContext(String uri, OSCoreCtx ctx) throws OSException {
+		if (uri != null) {
+			String normalizedUri = HashMapCtxDB.normalizeServerUri(uri);
+			uriMap.put(uriKey(normalizedUri), ctx);
+			ctx.setUri(normalizedUri);
+		}
+		addContext(ctx);
+	}
+
+	@Override
+	public void addContext(final OSCoreCtx ctx) {
+		if (ctx != null) {
+			final ByteId idContext = getIdContext(ctx);
+			contextMap.compute(new ByteId(ctx.getRecipientId()),
+					(rid, ridMap) -> {
+						// If there is no existing map for this RID, create it
+						if (ridMap == null) {
+							ridMap = new ConcurrentHashMap<>();
+						}
+						// Add the context to the RID map with ID context as key
+						ridMap.put(idContext, ctx);
+						return ridMap;
+					});
+			SequenceNumberStore store = sequenceNumberStore;
+			if (store != null) {
+				store.attach(ctx);
+			}
+		} else {
+			LOGGER.error(ErrorDescriptions.CONTEXT_NULL);
+			throw new NullPointerException(ErrorDescriptions.CONTEXT_NULL);
+		}
+	}
+
+	@Override
+	public void removeContext(OSCoreCtx ctx) {
+		if (ctx != null) {
+			final ByteId idContext = getIdContext(ctx);
+			contextMap.computeIfPresent(new ByteId(ctx.getRecipientId()),
+					(rid, ridMap) -> {
+						// Remove the context from the RID map with ID context as key
+						ridMap.remove(idContext);
+						// If the RID map is now empty, remove it
+						return ridMap.isEmpty() ? null : ridMap;
+					});
+			SequenceNumberStore store = sequenceNumberStore;
+			if (store != null) {
+				store.detach(ctx);
+			}
+		} else {
+			LOGGER.error(ErrorDescriptions.CONTEXT_NULL);
+			throw new NullPointerException(ErrorDescriptions.CONTEXT_NULL);
+		}
+	}
+
+	@Override
+	public boolean tokenExist(Token token) {
+		checkToken(token);
+		return allTokens.get(token) != null;
+	}
+
+	@Override
+	public boolean instructionsExistForToken(Token token) {
+		checkToken(token);
+		return instructionMap.get(token) != null;
+	}
+
+	/**
+	 * Removes associations for this token, except for the generator
+	 * 
+	 * @param token the token to remove
+	 */
+	@Override
+	public void removeToken(Token token) {
+		tokenMap.remove(token);
+		instructionMap.remove(token);
+		unprotectedProxyMessages.remove(token);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Updates the token in all token tables, which prevents the eviction of
+	 * the token while the observe relation is active.
+	 */
+	@Override
+	public void refreshToken(Token token) {
+		tokenMap.update(token);
+		instructionMap.update(token);
+		unprotectedProxyMessages.update(token);
+		allTokens.update(token);
+	}
+
+	/**
+	 * Used mainly for test purpose, to purge the db of all contexts
+	 */
+	@Override
+	public void purge() {
+		contextMap.clear();
+		tokenMap.clear();
+		instructionMap.clear();
+		unprotectedProxyMessages.clear();
+		uriMap.clear();
+		allTokens.clear();
+	}
+
+	/**
+	 * Remove expired tokens.
+	 * 
+	 * Removes tokens, which are not updated for the expiration threshold,
+	 * from all token tables.
+	 * 
+	 * @param maxTokens maximum number of tokens to remove from each table.
+	 *            {@code 0} to remove all expired tokens.
+	 * @return number of removed table entries
+	 */
+	public int removeExpiredTokens(int maxTokens) {
+		int count = tokenMap.removeExpiredEntries(maxTokens);
+		count += instructionMap.removeExpiredEntries(maxTokens);
+		count += unprotectedProxyMessages.removeExpiredEntries(maxTokens);
+		count += allTokens.removeExpiredEntries(maxTokens);
+		return count;
+	}
+
+	/**
+	 * Add token to all tokens, if not already contained.
+	 * 
+	 * @param token token to add
+	 */
+	private void addToken(Token token) {
+		if (allTokens.get(token) == null) {
+			put(allTokens, token, Boolean.TRUE);
+		}
+	}
+
+	/**
+	 * Get key for {@link #uriMap}.
+	 * 
+	 * @param normalizedUri normalized URI. May be {@code null}, if the URI has
+	 *            no host.
+	 * @return key for {@link #uriMap}
+	 */
+	private static String uriKey(String normalizedUri) {
+		return normalizedUri == null ? NO_HOST : normalizedUri;
+	}
+
+	/**
+	 * Put value into token table.
+	 * 
+	 * @param <V> type of value
+	 * @param table token table
+	 * @param token token as key
+	 * @param value value
+	 */
+	private static <V> void put(LeastRecentlyUpdatedCache<Token, V> table, Token token, V value) {
+		if (value == null) {
+			table.remove(token);
+		} else if (!table.put(token, value)) {
+			LOGGER.warn("token table full, {} dropped!", token);
+		}
+	}
+
+	/**
+	 * Check, if token is not {@code null}.
+	 * 
+	 * @param token token to check
+	 * @throws NullPointerException if token is {@code null}
+	 */
+	private static void checkToken(Token token) {
+		if (token == null) {
+			LOGGER.error(ErrorDescriptions.TOKEN_NULL);
+			throw new NullPointerException(ErrorDescriptions.TOKEN_NULL);
+		}
+	}
+
+	/**
+	 * Get ID context of OSCORE context as key.
+	 * 
+	 * @param ctx OSCORE context
+	 * @return ID context as key. Uses an empty ID context, if the context has
+	 *         no ID context.
+	 */
+	private static ByteId getIdContext(OSCoreCtx ctx) {
+		byte[] IDContext = ctx.getIdContext();
+		if (IDContext == null) {
+			IDContext = Bytes.EMPTY;
+		}
+		return new ByteId(IDContext);
+	}
+
+	/**
+	 * Get first context of RID map.
+	 * 
+	 * @param ridMap RID map
+	 * @return first context, or {@code null}, if the RID map has been emptied
+	 *         concurrently.
+	 */
+	private static OSCoreCtx first(ConcurrentMap<ByteId, OSCoreCtx> ridMap) {
+		Iterator<OSCoreCtx> iterator = ridMap.values().iterator();
+		return iterator.hasNext() ? iterator.next() : null;
+	}
+}
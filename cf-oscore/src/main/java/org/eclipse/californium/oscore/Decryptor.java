@@ -92,7 +92,7 @@ public abstract class Decryptor {
 				seq = ByteBuffer.wrap(partialIV).getInt();
 				
 				//Note that the code below can throw an OSException when replays are detected
-				ctx.checkIncomingSeq(seq);
+				ctx.verifyIncomingSeq(seq);
 
 				nonce = OSSerializer.nonceGeneration(partialIV, ctx.getRecipientId(), ctx.getCommonIV(),
 						ctx.getIVLength());
@@ -152,6 +152,11 @@ public abstract class Decryptor {
 			throw new OSException(details);
 		}
 
+		if (isRequest) {
+			// the request is authenticated, update replay window and leases
+			ctx.acceptIncomingSeq(seq);
+		}
+
 		return plaintext;
 	}
 
@@ -57,13 +57,17 @@ public abstract class Encryptor {
 	 * @param newPartialIV if response contains partialIV
 	 * @param requestSequenceNr the sequence number (Partial IV) from the
 	 *            request (when encrypting a response or null otherwise)
+	 * @param senderSeq the sender sequence number reserved for this message
+	 *            by {@link OSCoreCtx#reserveSenderSeq()}. Only used for
+	 *            requests and responses with a new partial IV.
 	 *
 	 * @return the COSE message
 	 * 
 	 * @throws OSException if encryption or encoding fails
+	 * @since 4.0 (added senderSeq)
 	 */
 	protected static byte[] encryptAndEncode(Encrypt0Message enc, OSCoreCtx ctx, Message message, boolean newPartialIV,
-			Integer requestSequenceNr)
+			Integer requestSequenceNr, int senderSeq)
 			throws OSException {
 		boolean isRequest = message instanceof Request;
 
@@ -74,10 +78,10 @@ public abstract class Encryptor {
 			byte[] aad = null;
 
 			if (isRequest) {
-				partialIV = OSSerializer.processPartialIV(ctx.getSenderSeq());
+				partialIV = OSSerializer.processPartialIV(senderSeq);
 				nonce = OSSerializer.nonceGeneration(partialIV, ctx.getSenderId(), ctx.getCommonIV(),
 						ctx.getIVLength());
-				aad = OSSerializer.serializeAAD(CoAP.VERSION, ctx.getAlg(), ctx.getSenderSeq(), ctx.getSenderId(), message.getOptions());
+				aad = OSSerializer.serializeAAD(CoAP.VERSION, ctx.getAlg(), senderSeq, ctx.getSenderId(), message.getOptions());
 				enc.addAttribute(HeaderKeys.PARTIAL_IV, CBORObject.FromObject(partialIV), Attribute.UNPROTECTED);
 				enc.addAttribute(HeaderKeys.KID, CBORObject.FromObject(ctx.getSenderId()), Attribute.UNPROTECTED);
 			} else {
@@ -89,7 +93,7 @@ public abstract class Encryptor {
 							ctx.getIVLength());
 				} else {
 					// response creates its own partialIV
-					partialIV = OSSerializer.processPartialIV(ctx.getSenderSeq());
+					partialIV = OSSerializer.processPartialIV(senderSeq);
 					nonce = OSSerializer.nonceGeneration(partialIV, ctx.getSenderId(), ctx.getCommonIV(),
 							ctx.getIVLength());
 				}
@@ -139,18 +143,22 @@ public abstract class Encryptor {
 	 * @param cipherText the cipher text to be appended to this compression
 	 * @param message the message
 	 * @param newPartialIV if response contains partialIV
+	 * @param senderSeq the sender sequence number reserved for this message.
+	 *            Only used for requests and responses with a new partial IV.
 	 * @return the entire message's byte array
+	 * @since 4.0 (added senderSeq)
 	 */
-	protected static byte[] compression(OSCoreCtx ctx, byte[] cipherText, Message message, final boolean newPartialIV) {
+	protected static byte[] compression(OSCoreCtx ctx, byte[] cipherText, Message message, final boolean newPartialIV,
+			int senderSeq) {
 		boolean request = message instanceof Request;
 		ByteArrayOutputStream bRes = new ByteArrayOutputStream();
 		OptionSet options = message.getOptions();
 		options.removeOscore();
 
 		if (request) {
-			message.getOptions().setOscore(encodeOSCoreRequest(ctx));
+			message.getOptions().setOscore(encodeOSCoreRequest(ctx, senderSeq));
 		} else {
-			message.getOptions().setOscore(encodeOSCoreResponse(ctx, newPartialIV));
+			message.getOptions().setOscore(encodeOSCoreResponse(ctx, newPartialIV, senderSeq));
 		}
 
 		if (cipherText != null) {
@@ -167,12 +175,24 @@ public abstract class Encryptor {
 	 * @return the Object-Security value as byte array
 	 */
 	public static byte[] encodeOSCoreRequest(OSCoreCtx ctx) {
+		return encodeOSCoreRequest(ctx, ctx.getSenderSeq());
+	}
+
+	/**
+	 * Encodes the Object-Security value for a Request.
+	 * 
+	 * @param ctx the context
+	 * @param senderSeq the sender sequence number reserved for the request
+	 * @return the Object-Security value as byte array
+	 * @since 4.0
+	 */
+	public static byte[] encodeOSCoreRequest(OSCoreCtx ctx, int senderSeq) {
 
 		OscoreOptionEncoder optionEncoder = new OscoreOptionEncoder();
 		if (ctx.getIncludeContextId()) {
 			optionEncoder.setIdContext(ctx.getMessageIdContext());
 		}
-		optionEncoder.setPartialIV(ctx.getSenderSeq());
+		optionEncoder.setPartialIV(senderSeq);
 		optionEncoder.setKid(ctx.getSenderId());
 
 		return optionEncoder.getBytes();
@@ -187,13 +207,28 @@ public abstract class Encryptor {
 	 * @return the Object-Security value as byte array
 	 */
 	public static byte[] encodeOSCoreResponse(OSCoreCtx ctx, final boolean newPartialIV) {
+		return encodeOSCoreResponse(ctx, newPartialIV, ctx.getSenderSeq());
+	}
+
+	/**
+	 * Encodes the Object-Security value for a Response.
+	 * 
+	 * @param ctx the context
+	 * @param newPartialIV if true encodes the partialIV, otherwise partialIV is
+	 *            not encoded
+	 * @param senderSeq the sender sequence number reserved for the response.
+	 *            Only used, if newPartialIV is {@code true}.
+	 * @return the Object-Security value as byte array
+	 * @since 4.0
+	 */
+	public static byte[] encodeOSCoreResponse(OSCoreCtx ctx, final boolean newPartialIV, int senderSeq) {
 
 		OscoreOptionEncoder optionEncoder = new OscoreOptionEncoder();
 		if (ctx.getIncludeContextId()) {
 			optionEncoder.setIdContext(ctx.getMessageIdContext());
 		}
 		if (newPartialIV) {
-			optionEncoder.setPartialIV(ctx.getSenderSeq());
+			optionEncoder.setPartialIV(senderSeq);
 		}
 
 		return optionEncoder.getBytes();
@@ -66,6 +66,13 @@ public class HashMapCtxDB implements OSCoreCtxDB {
 	private ArrayList<Token> allTokens;
 	private boolean proxyable;
 	private int layerLimit;
+	/**
+	 * Store for sequence numbers and replay windows. {@code null}, if not
+	 * used.
+	 * 
+	 * @since 4.0
+	 */
+	private SequenceNumberStore sequenceNumberStore;
 
 	/**
 	 * Create the database, with no proxying allowed nor layered encryption
@@ -112,6 +119,20 @@ public class HashMapCtxDB implements OSCoreCtxDB {
 		this.layerLimit = layerLimit;
 	}
 
+	/**
+	 * Set store for sequence numbers and replay windows.
+	 * 
+	 * Contexts added afterwards are attached to the store. Set the store
+	 * before adding the contexts.
+	 * 
+	 * @param store store for sequence numbers and replay windows. May be
+	 *            {@code null}.
+	 * @since 4.0
+	 */
+	public synchronized void setSequenceNumberStore(SequenceNumberStore store) {
+		this.sequenceNumberStore = store;
+	}
+
 	@Override
 	public synchronized void removeInstructions(Token token) {
 		if (token != null) {
@@ -339,6 +360,9 @@ public class HashMapCtxDB implements OSCoreCtxDB {
 			// Put the updated map for this RID in the context map
 			contextMap.put(rid, ridMap);
 
+			if (sequenceNumberStore != null) {
+				sequenceNumberStore.attach(ctx);
+			}
 		} else {
 			LOGGER.error(ErrorDescriptions.CONTEXT_NULL);
 			throw new NullPointerException(ErrorDescriptions.CONTEXT_NULL);
@@ -373,6 +397,9 @@ public class HashMapCtxDB implements OSCoreCtxDB {
 				contextMap.put(rid, ridMap);
 			}
 
+			if (sequenceNumberStore != null) {
+				sequenceNumberStore.detach(ctx);
+			}
 		} else {
 			LOGGER.error(ErrorDescriptions.CONTEXT_NULL);
 			throw new NullPointerException(ErrorDescriptions.CONTEXT_NULL);
@@ -407,7 +434,7 @@ public class HashMapCtxDB implements OSCoreCtxDB {
 	 *
 	 * @throws OSException on failure to parse the URI
 	 */
-	private static String normalizeServerUri(String uri) throws OSException {
+	static String normalizeServerUri(String uri) throws OSException {
 		String normalized = null;
 		int port = -1;
 
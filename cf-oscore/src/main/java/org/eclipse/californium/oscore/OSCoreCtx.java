@@ -21,6 +21,9 @@ package org.eclipse.californium.oscore;
 
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
@@ -62,6 +65,20 @@ public class OSCoreCtx {
 	private static final byte ZERO = 0;
 	private static final byte ONE = 1;
 
+	/**
+	 * Default size of recipient replay window.
+	 * 
+	 * @since 4.0
+	 */
+	public static final int DEFAULT_REPLAY_WINDOW_SIZE = 32;
+
+	/**
+	 * Maximum size of recipient replay window.
+	 * 
+	 * @since 4.0
+	 */
+	public static final int MAX_REPLAY_WINDOW_SIZE = 128;
+
 	private AlgorithmID common_alg;
 	private byte[] common_master_secret;
 	private byte[] common_master_salt;
@@ -70,17 +87,70 @@ public class OSCoreCtx {
 
 	private byte[] sender_id;
 	private byte[] sender_key;
-	private int sender_seq;
+	private final AtomicInteger sender_seq = new AtomicInteger();
 
 	private byte[] recipient_id;
 	private byte[] recipient_key;
-	private int lowest_recipient_seq;
 	private int recipient_replay_window_size;
-	private int recipient_replay_window;
+	/**
+	 * Recipient replay window.
+	 * 
+	 * Replaced on update using compare-and-set.
+	 * 
+	 * @since 4.0
+	 */
+	private final AtomicReference<ReplayWindow> recipient_replay_window = new AtomicReference<>(ReplayWindow.EMPTY);
 
 	private AlgorithmID kdf;
 
-	private int seqMax = Integer.MAX_VALUE;
+	private volatile int seqMax = Integer.MAX_VALUE;
+
+	/**
+	 * Store for sequence numbers and replay window.
+	 * 
+	 * @since 4.0
+	 */
+	private volatile SequenceNumberStore sequenceNumberStore;
+
+	/**
+	 * Leased sender sequence number. Sender sequence numbers below that lease
+	 * are persisted by the {@link #sequenceNumberStore}.
+	 * 
+	 * @since 4.0
+	 */
+	private volatile int senderSeqLease = Integer.MAX_VALUE;
+
+	/**
+	 * Leased recipient sequence number. Recipient sequence numbers below
+	 * that lease are persisted by the {@link #sequenceNumberStore}.
+	 * 
+	 * @since 4.0
+	 */
+	private volatile int recipientSeqLease = Integer.MAX_VALUE;
+
+	/**
+	 * Sender sequence number to renew the lease ahead. Half way between the
+	 * sender sequence number and the lease, when the lease was set.
+	 * 
+	 * @since 4.0
+	 */
+	private volatile int senderSeqRenew = Integer.MAX_VALUE;
+
+	/**
+	 * Recipient sequence number to renew the lease ahead. Half way between
+	 * the next recipient sequence number and the lease, when the lease was
+	 * set.
+	 * 
+	 * @since 4.0
+	 */
+	private volatile int recipientSeqRenew = Integer.MAX_VALUE;
+
+	/**
+	 * Highest requested recipient sequence number, which exceeded the lease.
+	 * 
+	 * @since 4.0
+	 */
+	private final AtomicInteger recipientSeqRequest = new AtomicInteger(-1);
 
 	private int id_length;
 	private int iv_length;
@@ -222,9 +292,6 @@ public class OSCoreCtx {
 
 		setLengths();
 
-		this.sender_seq = 0;
-		this.lowest_recipient_seq = 0;
-
 		if (master_secret != null) {
 			this.common_master_secret = master_secret.clone();
 		} else {
@@ -250,14 +317,14 @@ public class OSCoreCtx {
 		}
 
 		if (replay_size == null) {
-			this.recipient_replay_window_size = 32;
-		} else if (replay_size > 32) {
-			LOGGER.warn("Maximum size of replay window is 32. Setting to 32.");
-			this.recipient_replay_window_size = 32;
+			this.recipient_replay_window_size = DEFAULT_REPLAY_WINDOW_SIZE;
+		} else if (replay_size > MAX_REPLAY_WINDOW_SIZE) {
+			LOGGER.warn("Maximum size of replay window is {}. Setting to {}.", MAX_REPLAY_WINDOW_SIZE,
+					MAX_REPLAY_WINDOW_SIZE);
+			this.recipient_replay_window_size = MAX_REPLAY_WINDOW_SIZE;
 		} else {
 			this.recipient_replay_window_size = replay_size.intValue();
 		}
-		this.recipient_replay_window = 0;
 
 		if (master_salt == null) {
 			// Default value. Automatically initialized with 0-es.
@@ -410,15 +477,28 @@ public class OSCoreCtx {
 	/**
 	 * @return the sender sequence number
 	 */
-	public synchronized int getSenderSeq() {
-		return sender_seq;
+	public int getSenderSeq() {
+		return sender_seq.get();
 	}
 
 	/**
 	 * @return the lowest recipient sequence number in current replay window
 	 */
-	public synchronized int getLowestRecipientSeq() {
-		return lowest_recipient_seq;
+	public int getLowestRecipientSeq() {
+		return recipient_replay_window.get().lowest;
+	}
+
+	/**
+	 * Get highest received recipient sequence number.
+	 * 
+	 * @return the highest received recipient sequence number in current
+	 *         replay window. The lowest recipient sequence number minus
+	 *         {@code 1}, if no sequence number is received in the current
+	 *         replay window.
+	 * @since 4.0
+	 */
+	public int getHighestRecipientSeq() {
+		return recipient_replay_window.get().getHighest();
 	}
 
 	/**
@@ -457,10 +537,17 @@ public class OSCoreCtx {
 	}
 
 	/**
+	 * Get recipient replay window.
+	 * 
+	 * For replay windows larger than {@code 32}, only the first {@code 32}
+	 * bits of the window starting with the lowest recipient sequence number
+	 * are returned.
+	 * 
 	 * @return recipient replay window
+	 * @see #getHighestRecipientSeq()
 	 */
 	public int getRecipientReplayWindow() {
-		return recipient_replay_window;
+		return (int) recipient_replay_window.get().low;
 	}
 
 	public byte[] getMasterSecret() {
@@ -640,24 +727,37 @@ public class OSCoreCtx {
 	/**
 	 * @param seq the sender sequence number to set
 	 */
-	public synchronized void setSenderSeq(int seq) {
-		sender_seq = seq;
+	public void setSenderSeq(int seq) {
+		sender_seq.set(seq);
 	}
 
 	/**
 	 * @param seq the recipient sequence number to set
 	 * @since 3.11 (adjust visibility to public)
 	 */
-	public synchronized void setRecipientSeq(int seq) {
-		lowest_recipient_seq = seq;
+	public void setRecipientSeq(int seq) {
+		ReplayWindow window;
+		do {
+			window = recipient_replay_window.get();
+		} while (!recipient_replay_window.compareAndSet(window, new ReplayWindow(seq, window.low, window.high)));
 	}
 
 	/**
+	 * Set the recipient replay window.
+	 * 
+	 * Sets the first {@code 32} bits of the window starting with the lowest
+	 * recipient sequence number. Clears the others bits of larger replay
+	 * windows.
+	 * 
 	 * @param window the recipient replay window to set
 	 * @since 3.11
 	 */
-	public synchronized void setRecipientReplayWindow(int window) {
-		recipient_replay_window = window;
+	public void setRecipientReplayWindow(int window) {
+		ReplayWindow current;
+		do {
+			current = recipient_replay_window.get();
+		} while (!recipient_replay_window.compareAndSet(current,
+				new ReplayWindow(current.lowest, window & 0xffffffffL, 0)));
 	}
 
 	/**
@@ -687,6 +787,118 @@ public class OSCoreCtx {
 		this.seqMax = seqMax;
 	}
 
+	/**
+	 * Get the maximum sequence number.
+	 * 
+	 * @return the maximum sequence number.
+	 * @since 4.0
+	 */
+	public int getSeqMax() {
+		return seqMax;
+	}
+
+	/**
+	 * Get store for sequence numbers and replay window.
+	 * 
+	 * @return store for sequence numbers, or {@code null}, if not persisted.
+	 * @since 4.0
+	 */
+	public SequenceNumberStore getSequenceNumberStore() {
+		return sequenceNumberStore;
+	}
+
+	/**
+	 * Set store for sequence numbers and replay window.
+	 * 
+	 * Called by the {@link SequenceNumberStore} when the context is attached.
+	 * 
+	 * @param store store for sequence numbers. {@code null} to detach the
+	 *            store.
+	 * @param senderLease leased sender sequence number
+	 * @param recipientLease leased recipient sequence number
+	 * @since 4.0
+	 */
+	public void setSequenceNumberStore(SequenceNumberStore store, int senderLease, int recipientLease) {
+		if (store == null) {
+			senderLease = Integer.MAX_VALUE;
+			recipientLease = Integer.MAX_VALUE;
+		}
+		setSequenceNumberLeases(senderLease, recipientLease);
+		this.sequenceNumberStore = store;
+	}
+
+	/**
+	 * Set leased sequence numbers.
+	 * 
+	 * Called by the {@link SequenceNumberStore}, after the leases are
+	 * persisted.
+	 * 
+	 * @param senderLease leased sender sequence number
+	 * @param recipientLease leased recipient sequence number
+	 * @since 4.0
+	 */
+	public void setSequenceNumberLeases(int senderLease, int recipientLease) {
+		this.senderSeqLease = senderLease;
+		this.recipientSeqLease = recipientLease;
+		this.senderSeqRenew = renew(getSenderSeq(), senderLease);
+		this.recipientSeqRenew = renew(getHighestRecipientSeq() + 1, recipientLease);
+	}
+
+	/**
+	 * Get the recipient sequence number, which is required to be covered by
+	 * the next lease.
+	 * 
+	 * @return the highest received recipient sequence number plus one, or
+	 *         the highest requested recipient sequence number plus one, which
+	 *         exceeded the lease.
+	 * @since 4.0
+	 */
+	public int getRequiredRecipientSeqLease() {
+		return Math.max(getHighestRecipientSeq(), recipientSeqRequest.get()) + 1;
+	}
+
+	/**
+	 * Get leased sender sequence number.
+	 * 
+	 * @return leased sender sequence number. {@link Integer#MAX_VALUE}, if
+	 *         no {@link SequenceNumberStore} is used.
+	 * @since 4.0
+	 */
+	public int getSenderSeqLease() {
+		return senderSeqLease;
+	}
+
+	/**
+	 * Get leased recipient sequence number.
+	 * 
+	 * @return leased recipient sequence number. {@link Integer#MAX_VALUE}, if
+	 *         no {@link SequenceNumberStore} is used.
+	 * @since 4.0
+	 */
+	public int getRecipientSeqLease() {
+		return recipientSeqLease;
+	}
+
+	/**
+	 * Get recipient replay window.
+	 * 
+	 * @return recipient replay window
+	 * @since 4.0
+	 */
+	ReplayWindow getReplayWindow() {
+		return recipient_replay_window.get();
+	}
+
+	/**
+	 * Set recipient replay window.
+	 * 
+	 * @param window recipient replay window
+	 * @since 4.0
+	 */
+	void setReplayWindow(ReplayWindow window) {
+		recipient_replay_window.set(window);
+	}
+
 	/**
 	 * Sets the valid lengths, in bytes, of constrained variables(ids, IVs and
 	 * keys).
@@ -772,52 +984,174 @@ public class OSCoreCtx {
 	 *
 	 * @throws OSException if the sequence number wraps
 	 */
-	public synchronized void increaseSenderSeq() throws OSException {
-		if (sender_seq >= seqMax) {
-			LOGGER.error("Sequence number wrapped, get a new OSCore context");
-			throw new OSException("Sequence number wrapped");
+	public void increaseSenderSeq() throws OSException {
+		reserveSenderSeq();
+	}
+
+	/**
+	 * Reserve a sender sequence number for an outgoing message.
+	 * <p>
+	 * Returns the current sender sequence number and increases it atomically
+	 * by one. Each message must use the reserved sequence number for the
+	 * partial IV, the AAD, the nonce and the OSCORE option, so concurrent
+	 * encryptions never share a sequence number.
+	 *
+	 * @return the reserved sender sequence number
+	 * @throws OSException if the sequence number wraps
+	 * @since 4.0
+	 */
+	public int reserveSenderSeq() throws OSException {
+		int seq;
+		do {
+			seq = sender_seq.get();
+			if (seq >= seqMax) {
+				LOGGER.error("Sequence number wrapped, get a new OSCore context");
+				throw new OSException("Sequence number wrapped");
+			}
+			if (seq >= senderSeqLease) {
+				// fail closed, never use a not persisted sequence number
+				lease(true);
+				if (seq >= senderSeqLease) {
+					LOGGER.error("Sequence number {} not persisted", seq);
+					throw new OSException("Sequence number not persisted");
+				}
+			}
+		} while (!sender_seq.compareAndSet(seq, seq + 1));
+		if (seq + 1 >= senderSeqRenew) {
+			lease(false);
 		}
-		sender_seq++;
+		return seq;
 	}
 
 	/**
 	 * Checks and validates the sequence number for incoming messages.
+	 * <p>
+	 * Combines {@link #verifyIncomingSeq(int)} and
+	 * {@link #acceptIncomingSeq(int)}. Must only be used for already
+	 * authenticated messages.
 	 * 
 	 * @param seq the incoming sequence number
 	 * 
-	 * @throws OSException if the sequence number wraps or if it is a replay
+	 * @throws OSException if the sequence number wraps, if it is a replay, or
+	 *             if it is not covered by the persisted lease
 	 */
-	public synchronized void checkIncomingSeq(int seq) throws OSException {
+	public void checkIncomingSeq(int seq) throws OSException {
+		verifyIncomingSeq(seq);
+		acceptIncomingSeq(seq);
+	}
 
+	/**
+	 * Verifies the sequence number of an incoming message before the message
+	 * is decrypted.
+	 * <p>
+	 * Doesn't change the replay window nor the leases, the message is not
+	 * authenticated yet.
+	 * 
+	 * @param seq the incoming sequence number
+	 * 
+	 * @throws OSException if the sequence number wraps or if it is a replay
+	 * @since 4.0
+	 */
+	public void verifyIncomingSeq(int seq) throws OSException {
 		if (seq >= seqMax) {
 			LOGGER.error("Sequence number wrapped, get new OSCore context");
 			throw new OSException(ErrorDescriptions.REPLAY_DETECT);
 		}
+		checkReplay(recipient_replay_window.get(), seq);
+	}
 
-		if (seq < lowest_recipient_seq) {
-			LOGGER.error("Message too old");
+	/**
+	 * Accepts the sequence number of an incoming message after the message
+	 * is successfully decrypted.
+	 * <p>
+	 * Marks the sequence number in the replay window. If the sequence number
+	 * is not covered by the persisted lease, the message is rejected and the
+	 * lease is renewed asynchronously. A retransmission is then accepted,
+	 * when the lease is persisted.
+	 * 
+	 * @param seq the incoming sequence number
+	 * 
+	 * @throws OSException if the sequence number is a replay or if it is not
+	 *             covered by the persisted lease
+	 * @since 4.0
+	 */
+	public void acceptIncomingSeq(int seq) throws OSException {
+		if (seq >= recipientSeqLease) {
+			// fail closed, never accept a not persisted sequence number
+			int request;
+			do {
+				request = recipientSeqRequest.get();
+			} while (request < seq && !recipientSeqRequest.compareAndSet(request, seq));
+			lease(false);
+			LOGGER.warn("Recipient sequence number {} not persisted", seq);
 			throw new OSException(ErrorDescriptions.REPLAY_DETECT);
 		}
 
-		// Check validity
-		boolean valid = false;
-		if (seq >= lowest_recipient_seq + recipient_replay_window_size) {
-			valid = true;
-		} else {
-			valid = ((recipient_replay_window >> (seq - lowest_recipient_seq)) & 1) == 0;
+		ReplayWindow window;
+		ReplayWindow update;
+		do {
+			window = recipient_replay_window.get();
+			checkReplay(window, seq);
+			// Update window
+			update = window.mark(seq, recipient_replay_window_size);
+		} while (!recipient_replay_window.compareAndSet(window, update));
+		if (seq >= recipientSeqRenew) {
+			lease(false);
+		}
+	}
+
+	/**
+	 * Checks the sequence number against the replay window.
+	 * 
+	 * @param window replay window
+	 * @param seq the incoming sequence number
+	 * @throws OSException if it is a replay
+	 * @since 4.0
+	 */
+	private void checkReplay(ReplayWindow window, int seq) throws OSException {
+		if (seq < window.lowest) {
+			LOGGER.error("Message too old");
+			throw new OSException(ErrorDescriptions.REPLAY_DETECT);
 		}
-		if (!valid) {
+		if (seq - window.lowest < recipient_replay_window_size && window.isSet(seq - window.lowest)) {
 			LOGGER.error("Replayed message detected");
 			throw new OSException(ErrorDescriptions.REPLAY_DETECT);
 		}
+	}
+
+	/**
+	 * Lease sequence numbers from the {@link SequenceNumberStore}.
+	 * 
+	 * @param await {@code true}, to wait until the leases are persisted,
+	 *            {@code false}, to renew the leases ahead without waiting for
+	 *            a pending write.
+	 * @since 4.0
+	 */
+	private void lease(boolean await) {
+		SequenceNumberStore store = sequenceNumberStore;
+		if (store != null) {
+			if (await) {
+				store.lease(this);
+			} else {
+				store.renewLease(this);
+			}
+		}
+	}
 
-		// Update window
-		int shift = seq - (lowest_recipient_seq + recipient_replay_window_size - 1);
-		if (shift > 0) {
-			recipient_replay_window >>= shift;
-			lowest_recipient_seq += shift;
+	/**
+	 * Calculate the sequence number to renew a lease.
+	 * 
+	 * @param seq current sequence number
+	 * @param lease leased sequence number
+	 * @return sequence number half way between the current sequence number
+	 *         and the lease.
+	 * @since 4.0
+	 */
+	private static int renew(int seq, int lease) {
+		if (lease == Integer.MAX_VALUE || lease <= seq) {
+			return lease;
 		}
-		recipient_replay_window |= 1 << (seq - lowest_recipient_seq);
+		return seq + (lease - seq) / 2;
 	}
 
 	protected static byte[] deriveKey(byte[] secret, byte[] salt, int cbitKey, String digest, byte[] rgbContext)
@@ -952,4 +1286,102 @@ public class OSCoreCtx {
 		return nonceHandover;
 	}
 
+
+	/**
+	 * Immutable recipient replay window.
+	 * 
+	 * Supports up to {@link OSCoreCtx#MAX_REPLAY_WINDOW_SIZE} sequence
+	 * numbers using two {@code long} words. Bit {@code n} of the window
+	 * represents the sequence number {@code lowest + n}.
+	 * 
+	 * @since 4.0
+	 */
+	static final class ReplayWindow {
+
+		static final ReplayWindow EMPTY = new ReplayWindow(0, 0, 0);
+
+		/**
+		 * Lowest recipient sequence number of window.
+		 */
+		final int lowest;
+		/**
+		 * Bits 0 to 63 of window.
+		 */
+		final long low;
+		/**
+		 * Bits 64 to 127 of window.
+		 */
+		final long high;
+
+		ReplayWindow(int lowest, long low, long high) {
+			this.lowest = lowest;
+			this.low = low;
+			this.high = high;
+		}
+
+		/**
+		 * Check, if bit of window is set.
+		 * 
+		 * @param offset offset of sequence number in window
+		 * @return {@code true}, if bit is set, {@code false}, if not.
+		 */
+		private boolean isSet(int offset) {
+			if (offset < Long.SIZE) {
+				return (low & (1L << offset)) != 0;
+			} else {
+				return (high & (1L << (offset - Long.SIZE))) != 0;
+			}
+		}
+
+		/**
+		 * Get highest received sequence number.
+		 * 
+		 * @return highest received sequence number, or {@link #lowest}
+		 *         {@code - 1}, if no sequence number is received.
+		 */
+		int getHighest() {
+			if (high != 0) {
+				return lowest + Long.SIZE * 2 - 1 - Long.numberOfLeadingZeros(high);
+			} else {
+				return lowest + Long.SIZE - 1 - Long.numberOfLeadingZeros(low);
+			}
+		}
+
+		/**
+		 * Mark sequence number as received.
+		 * 
+		 * Slides the window, if the sequence number is above the window.
+		 * 
+		 * @param seq received sequence number. Must not be below
+		 *            {@link #lowest}.
+		 * @param size size of window
+		 * @return updated window
+		 */
+		private ReplayWindow mark(int seq, int size) {
+			int newLowest = lowest;
+			long newLow = low;
+			long newHigh = high;
+			int shift = seq - (lowest + size - 1);
+			if (shift > 0) {
+				newLowest += shift;
+				if (shift >= Long.SIZE * 2) {
+					newLow = 0;
+					newHigh = 0;
+				} else if (shift >= Long.SIZE) {
+					newLow = high >>> (shift - Long.SIZE);
+					newHigh = 0;
+				} else {
+					newLow = (low >>> shift) | (high << (Long.SIZE - shift));
+					newHigh = high >>> shift;
+				}
+			}
+			int offset = seq - newLowest;
+			if (offset < Long.SIZE) {
+				newLow |= 1L << offset;
+			} else {
+				newHigh |= 1L << (offset - Long.SIZE);
+			}
+			return new ReplayWindow(newLowest, newLow, newHigh);
+		}
+	}
 }
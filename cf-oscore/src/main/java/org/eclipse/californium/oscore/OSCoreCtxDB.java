@@ -157,4 +157,17 @@ public interface OSCoreCtxDB {
 	 * @param token token to be removed
 	 */
 	public void removeToken(Token token);
+
+	/**
+	 * Refresh associations for this token.
+	 * 
+	 * Called for each notification of an ongoing observe relation, to keep
+	 * the associations of the token as long as the relation is active.
+	 * 
+	 * @param token token to be refreshed
+	 * @since 4.0
+	 */
+	public default void refreshToken(Token token) {
+		// empty default implementation
+	}
 }
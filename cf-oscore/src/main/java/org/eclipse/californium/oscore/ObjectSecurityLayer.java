@@ -553,6 +553,8 @@ public class ObjectSecurityLayer extends AbstractLayer {
 		// Remove token after response is transmitted, unless ongoing Observe.
 		if (response.getOptions().hasObserve() == false || exchange.getRequest().isObserveCancel()) {
 			ctxDb.removeToken(exchange.getCurrentRequest().getToken());
+		} else {
+			ctxDb.refreshToken(exchange.getCurrentRequest().getToken());
 		}
 
 		super.sendResponse(exchange, response);
@@ -0,0 +1,599 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.oscore;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.crypto.SecretKey;
+
+import org.eclipse.californium.elements.PersistentComponent;
+import org.eclipse.californium.elements.util.Bytes;
+import org.eclipse.californium.elements.util.DaemonThreadFactory;
+import org.eclipse.californium.elements.util.DataStreamReader;
+import org.eclipse.californium.elements.util.DatagramReader;
+import org.eclipse.californium.elements.util.DatagramWriter;
+import org.eclipse.californium.elements.util.EncryptedPersistentComponentUtil;
+import org.eclipse.californium.elements.util.ExecutorsUtil;
+import org.eclipse.californium.elements.util.SerializationUtil;
+import org.eclipse.californium.oscore.OSCoreCtx.ReplayWindow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File based store for OSCORE sequence numbers and replay windows.
+ * <p>
+ * Leases write a checkpoint with the leased sequence numbers of all contexts
+ * into the file. Leases requested while a checkpoint is written are collected
+ * and written together with the next checkpoint. The checkpoint is written
+ * using {@link EncryptedPersistentComponentUtil} into a temporary file, which
+ * then atomically replaces the file. Therefore a crash leaves either the
+ * previous or the new checkpoint. Leases renewed ahead and the leases of
+ * attached contexts are written asynchronously by a dedicated thread, so the
+ * receive path never waits for a checkpoint.
+ * <p>
+ * {@link #close()} writes the exact sequence numbers and replay windows into
+ * the file. A graceful restart continues exactly with these values, while a
+ * restart after a crash continues with the leased values. In that case,
+ * messages from peers with recipient sequence numbers below the lease are
+ * rejected as replay.
+ * <p>
+ * Usage:
+ * 
+ * <pre>
+ * PersistentSequenceNumberStore store = new PersistentSequenceNumberStore("oscore", file, password, 1000);
+ * store.loadCheckpoint();
+ * db.setSequenceNumberStore(store);
+ * db.addContext(uri, ctx);
+ * ...
+ * store.close();
+ * </pre>
+ * 
+ * The store is also a {@link PersistentComponent}. Adding it to a
+ * {@link org.eclipse.californium.elements.util.PersistentComponentUtil}
+ * saves the exact sequence numbers and replay windows with the other
+ * components.
+ * 
+ * @since 4.0
+ */
+public class PersistentSequenceNumberStore implements SequenceNumberStore, PersistentComponent {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PersistentSequenceNumberStore.class);
+
+	/**
+	 * Version number for serialization.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Default lease window.
+	 */
+	public static final int DEFAULT_LEASE_WINDOW = 1000;
+
+	/**
+	 * Label of persistent component.
+	 */
+	private final String label;
+	/**
+	 * File for checkpoints.
+	 */
+	private final File file;
+	/**
+	 * Password to encrypt the checkpoints. {@code null}, if not encrypted.
+	 */
+	private final SecretKey password;
+	/**
+	 * Number of sequence numbers to lease ahead.
+	 */
+	private final int leaseWindow;
+	/**
+	 * Utility to write and read checkpoints.
+	 */
+	private final EncryptedPersistentComponentUtil checkpoints = new EncryptedPersistentComponentUtil();
+	/**
+	 * Entries by key of context.
+	 * 
+	 * Guarded by {@code this}.
+	 */
+	private final Map<ByteId, Entry> entries = new HashMap<>();
+
+	/**
+	 * Contexts with leases to be written with the next checkpoint.
+	 * 
+	 * Guarded by {@code this}.
+	 */
+	private final Set<OSCoreCtx> dirty = Collections.newSetFromMap(new IdentityHashMap<OSCoreCtx, Boolean>());
+	/**
+	 * Leases of the checkpoint currently written.
+	 * 
+	 * Guarded by {@code this}.
+	 */
+	private Map<OSCoreCtx, int[]> writingLeases = Collections.emptyMap();
+	/**
+	 * Thread writing the checkpoint with the leases. {@code null}, if no
+	 * checkpoint with leases is written.
+	 * 
+	 * Guarded by {@code this}.
+	 */
+	private Thread checkpointWriter;
+	/**
+	 * Indicates, that a checkpoint is written.
+	 * 
+	 * Guarded by {@code this}.
+	 */
+	private boolean writing;
+	/**
+	 * Executor to renew the leases asynchronously. Created on demand.
+	 * 
+	 * Guarded by {@code this}.
+	 */
+	private ExecutorService executor;
+
+	/**
+	 * Create file based sequence number store.
+	 * 
+	 * @param label label of persistent component
+	 * @param file file for checkpoints
+	 * @param password password to encrypt checkpoints. {@code null}, if
+	 *            checkpoints are not encrypted.
+	 * @param leaseWindow number of sequence numbers to lease ahead
+	 * @throws NullPointerException if label or file is {@code null}
+	 * @throws IllegalArgumentException if lease window is less than {@code 1}
+	 */
+	public PersistentSequenceNumberStore(String label, File file, SecretKey password, int leaseWindow) {
+		if (label == null) {
+			throw new NullPointerException("label must not be null!");
+		}
+		if (file == null) {
+			throw new NullPointerException("file must not be null!");
+		}
+		if (leaseWindow < 1) {
+			throw new IllegalArgumentException("lease window " + leaseWindow + " must be at least 1!");
+		}
+		this.label = label;
+		this.file = file;
+		this.password = password;
+		this.leaseWindow = leaseWindow;
+		this.checkpoints.add(this);
+	}
+
+	/**
+	 * Load checkpoint from file.
+	 * 
+	 * Must be called before the contexts are attached.
+	 * 
+	 * @return number of loaded entries, {@code -1}, if the file doesn't
+	 *         contain a checkpoint.
+	 * @throws IOException if an i/o-error occurred
+	 */
+	public int loadCheckpoint() throws IOException {
+		if (!file.exists()) {
+			return 0;
+		}
+		InputStream in = new FileInputStream(file);
+		try {
+			return checkpoints.loadComponents(in, password);
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Write exact sequence numbers and replay windows into the file.
+	 * 
+	 * Detaches all contexts.
+	 * 
+	 * @throws IOException if an i/o-error occurred
+	 */
+	public synchronized void close() throws IOException {
+		try {
+			while (writing) {
+				wait();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for checkpoint!");
+		}
+		writing = true;
+		try {
+			writeCheckpoint();
+			for (Entry entry : entries.values()) {
+				if (entry.ctx != null) {
+					entry.ctx.setSequenceNumberStore(null, 0, 0);
+					entry.ctx = null;
+				}
+			}
+			dirty.clear();
+		} finally {
+			writing = false;
+			notifyAll();
+			if (executor != null) {
+				executor.shutdown();
+				executor = null;
+			}
+		}
+	}
+
+	@Override
+	public void attach(OSCoreCtx ctx) {
+		if (ctx.getSequenceNumberStore() == this) {
+			return;
+		}
+		synchronized (this) {
+			if (ctx.getSequenceNumberStore() == this) {
+				return;
+			}
+			ByteId key = getKey(ctx);
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				entry = new Entry(ctx.getSenderSeq(), ctx.getReplayWindow(), false);
+				entries.put(key, entry);
+			} else if (entry.ctx == null) {
+				LOGGER.debug("restore {}, seqn {}, recipient {}", key, entry.senderSeq, entry.window.lowest);
+				if (ctx.getSenderSeq() < entry.senderSeq) {
+					ctx.setSenderSeq(entry.senderSeq);
+				}
+				ctx.setReplayWindow(entry.window);
+			} else if (entry.ctx != ctx) {
+				LOGGER.warn("replace {}", key);
+				entry.ctx.setSequenceNumberStore(null, 0, 0);
+			}
+			entry.ctx = ctx;
+			// nothing leased until the first lease is persisted
+			ctx.setSequenceNumberStore(this, ctx.getSenderSeq(), ctx.getHighestRecipientSeq() + 1);
+			dirty.add(ctx);
+			startWriteLeases();
+		}
+	}
+
+	@Override
+	public synchronized void detach(OSCoreCtx ctx) {
+		if (ctx.getSequenceNumberStore() == this) {
+			ctx.setSequenceNumberStore(null, 0, 0);
+			Entry entry = entries.get(getKey(ctx));
+			if (entry != null && entry.ctx == ctx) {
+				entries.remove(getKey(ctx));
+			}
+			dirty.remove(ctx);
+		}
+	}
+
+	@Override
+	public void lease(OSCoreCtx ctx) {
+		lease(ctx, true);
+	}
+
+	@Override
+	public void renewLease(OSCoreCtx ctx) {
+		lease(ctx, false);
+	}
+
+	/**
+	 * Lease sequence numbers for context.
+	 * 
+	 * If no checkpoint is currently written, either the calling thread writes
+	 * the checkpoint, if it waits for the leases, or the checkpoint is written
+	 * asynchronously. Otherwise the context is included in the next
+	 * checkpoint of the writing thread.
+	 * 
+	 * @param ctx context to lease the sequence numbers
+	 * @param await {@code true}, to wait until the leases of the context are
+	 *            written, {@code false}, to return without waiting.
+	 */
+	private void lease(OSCoreCtx ctx, boolean await) {
+		synchronized (this) {
+			if (ctx.getSequenceNumberStore() != this) {
+				return;
+			}
+			dirty.add(ctx);
+			if (!await) {
+				startWriteLeases();
+				return;
+			}
+			if (writing) {
+				try {
+					while (writing && (dirty.contains(ctx) || writingLeases.containsKey(ctx))) {
+						wait();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return;
+			}
+			writing = true;
+		}
+		writeLeases();
+	}
+
+	/**
+	 * Start to write the leases asynchronously, if no checkpoint is currently
+	 * written.
+	 * 
+	 * Must be called holding {@code this}.
+	 */
+	private void startWriteLeases() {
+		if (writing) {
+			return;
+		}
+		if (executor == null) {
+			executor = ExecutorsUtil.newFixedThreadPool(1, new DaemonThreadFactory("OSCORE-Leases#"));
+		}
+		writing = true;
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					writeLeases();
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			writing = false;
+			LOGGER.warn("renew leases rejected!", ex);
+		}
+	}
+
+	/**
+	 * Write checkpoints with the leases of the dirty contexts.
+	 * 
+	 * Writes checkpoints until no contexts are left dirty. The leases are
+	 * applied to the contexts after the checkpoint is written successfully.
+	 * Must be called without holding {@code this}, but with {@link #writing}
+	 * set.
+	 */
+	private void writeLeases() {
+		try {
+			while (true) {
+				synchronized (this) {
+					if (dirty.isEmpty()) {
+						return;
+					}
+					writingLeases = new IdentityHashMap<>();
+					for (OSCoreCtx ctx : dirty) {
+						if (ctx.getSequenceNumberStore() == this) {
+							int senderLease = add(ctx.getSenderSeq(), leaseWindow);
+							int recipientLease = add(ctx.getRequiredRecipientSeqLease(), leaseWindow);
+							writingLeases.put(ctx, new int[] { senderLease, recipientLease });
+						}
+					}
+					dirty.clear();
+					checkpointWriter = Thread.currentThread();
+				}
+				boolean success = false;
+				try {
+					writeCheckpoint();
+					success = true;
+				} catch (IOException ex) {
+					LOGGER.error("writing checkpoint failed!", ex);
+				}
+				synchronized (this) {
+					checkpointWriter = null;
+					if (success) {
+						for (Map.Entry<OSCoreCtx, int[]> lease : writingLeases.entrySet()) {
+							OSCoreCtx ctx = lease.getKey();
+							if (ctx.getSequenceNumberStore() == this) {
+								ctx.setSequenceNumberLeases(lease.getValue()[0], lease.getValue()[1]);
+							}
+						}
+					}
+					writingLeases = Collections.emptyMap();
+					notifyAll();
+				}
+			}
+		} finally {
+			synchronized (this) {
+				checkpointWriter = null;
+				writingLeases = Collections.emptyMap();
+				writing = false;
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Write checkpoint into temporary file and replace the file.
+	 * 
+	 * Must be called with {@link #writing} set.
+	 * 
+	 * @throws IOException if an i/o-error occurred
+	 */
+	private void writeCheckpoint() throws IOException {
+		File temp = new File(file.getPath() + ".tmp");
+		FileOutputStream out = new FileOutputStream(temp);
+		try {
+			checkpoints.saveComponents(out, password, Long.MAX_VALUE);
+			out.getFD().sync();
+		} finally {
+			out.close();
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	@Override
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Saves the exact sequence numbers and replay windows, if not called to
+	 * write a checkpoint of the leases. The stale threshold is not used.
+	 */
+	@Override
+	public synchronized int save(OutputStream out, long staleThresholdInSeconds) throws IOException {
+		boolean leased = Thread.currentThread() == checkpointWriter;
+		int count = 0;
+		DatagramWriter writer = new DatagramWriter(64);
+		for (Map.Entry<ByteId, Entry> item : entries.entrySet()) {
+			Entry entry = item.getValue();
+			int senderSeq = entry.senderSeq;
+			ReplayWindow window = entry.window;
+			boolean exactEntry = entry.exact;
+			OSCoreCtx ctx = entry.ctx;
+			if (ctx != null) {
+				if (leased) {
+					int[] lease = writingLeases.get(ctx);
+					if (lease != null) {
+						senderSeq = lease[0];
+						window = new ReplayWindow(lease[1], 0, 0);
+					} else {
+						senderSeq = ctx.getSenderSeqLease();
+						window = new ReplayWindow(ctx.getRecipientSeqLease(), 0, 0);
+					}
+				} else {
+					senderSeq = ctx.getSenderSeq();
+					window = ctx.getReplayWindow();
+				}
+				exactEntry = !leased;
+			}
+			int position = SerializationUtil.writeStartItem(writer, VERSION, Short.SIZE);
+			writer.writeVarBytes(item.getKey().getBytes(), Byte.SIZE);
+			writer.writeByte(exactEntry ? (byte) 1 : (byte) 0);
+			writer.write(senderSeq, Integer.SIZE);
+			writer.write(window.lowest, Integer.SIZE);
+			writer.writeLong(window.low, Long.SIZE);
+			writer.writeLong(window.high, Long.SIZE);
+			SerializationUtil.writeFinishedItem(writer, position, Short.SIZE);
+			writer.writeTo(out);
+			++count;
+		}
+		SerializationUtil.writeNoItem(out);
+		out.flush();
+		return count;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * If an entry is already available, the entry with the higher sender
+	 * sequence number is kept. Entries of attached contexts are not changed.
+	 */
+	@Override
+	public synchronized int load(InputStream in, long deltaNanos) throws IOException {
+		int count = 0;
+		DataStreamReader reader = new DataStreamReader(in);
+		int length;
+		while ((length = SerializationUtil.readStartItem(reader, VERSION, Short.SIZE)) > 0) {
+			DatagramReader rangeReader = reader.createRangeReader(length);
+			ByteId key = new ByteId(rangeReader.readVarBytes(Byte.SIZE));
+			boolean exactEntry = rangeReader.readNextByte() == 1;
+			int senderSeq = rangeReader.read(Integer.SIZE);
+			int lowest = rangeReader.read(Integer.SIZE);
+			long low = rangeReader.readLong(Long.SIZE);
+			long high = rangeReader.readLong(Long.SIZE);
+			rangeReader.assertFinished("oscore-sequence-number");
+			Entry entry = entries.get(key);
+			if (entry == null || (entry.ctx == null && (entry.senderSeq < senderSeq
+					|| (entry.senderSeq == senderSeq && exactEntry)))) {
+				entries.put(key, new Entry(senderSeq, new ReplayWindow(lowest, low, high), exactEntry));
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Remove all entries, which are not attached to a context.
+	 * 
+	 * @return number of removed entries.
+	 */
+	public synchronized int removeDetachedEntries() {
+		int count = 0;
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().ctx == null) {
+				iterator.remove();
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get key of context.
+	 * 
+	 * @param ctx context
+	 * @return key of context, composed of sender id, recipient id and id
+	 *         context.
+	 */
+	private static ByteId getKey(OSCoreCtx ctx) {
+		DatagramWriter writer = new DatagramWriter(32);
+		writer.writeVarBytes(ctx.getSenderId(), Byte.SIZE);
+		writer.writeVarBytes(ctx.getRecipientId(), Byte.SIZE);
+		byte[] idContext = ctx.getIdContext();
+		writer.writeVarBytes(idContext == null ? Bytes.EMPTY : idContext, Byte.SIZE);
+		return new ByteId(writer.toByteArray());
+	}
+
+	/**
+	 * Add lease window to sequence number.
+	 * 
+	 * @param seq sequence number
+	 * @param window lease window
+	 * @return sequence number plus lease window, limited to
+	 *         {@link Integer#MAX_VALUE}.
+	 */
+	private static int add(int seq, int window) {
+		return (int) Math.min((long) seq + window, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Entry of store.
+	 */
+	private static class Entry {
+
+		/**
+		 * Sender sequence number, or leased sender sequence number.
+		 */
+		private final int senderSeq;
+		/**
+		 * Replay window, or replay window starting at leased recipient
+		 * sequence number.
+		 */
+		private final ReplayWindow window;
+		/**
+		 * {@code true}, if the sequence numbers are exact, {@code false}, if
+		 * leased.
+		 */
+		private final boolean exact;
+		/**
+		 * Attached context.
+		 */
+		private OSCoreCtx ctx;
+
+		private Entry(int senderSeq, ReplayWindow window, boolean exact) {
+			this.senderSeq = senderSeq;
+			this.window = window;
+			this.exact = exact;
+		}
+	}
+}
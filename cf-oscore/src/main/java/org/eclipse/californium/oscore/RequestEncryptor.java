@@ -106,9 +106,12 @@ public class RequestEncryptor extends Encryptor {
 		// here the E options are set 
 		byte[] confidential = OSSerializer.serializeConfidentialData(optionsUAndE[1], request.getPayload(), realCode);
 		Encrypt0Message enc = prepareCOSEStructure(confidential);
-		byte[] cipherText = encryptAndEncode(enc, ctx, request, false, null);
+		// reserve the sequence number once for partial IV, AAD, nonce and
+		// option
+		int senderSeq = ctx.reserveSenderSeq();
+		byte[] cipherText = encryptAndEncode(enc, ctx, request, false, null, senderSeq);
 		// sets correct OSCORE option values here
-		compression(ctx, cipherText, request, false);
+		compression(ctx, cipherText, request, false, senderSeq);
 
 		byte[] oscoreOption = request.getOptions().getOscore();
 
@@ -116,8 +119,6 @@ public class RequestEncryptor extends Encryptor {
 		request.setOptions(OptionJuggle.postInstruction(optionsUAndE[0], instructions));
 		request.getOptions().setOscore(oscoreOption);
 
-		ctx.increaseSenderSeq();
-
 		return request;
 	}
 
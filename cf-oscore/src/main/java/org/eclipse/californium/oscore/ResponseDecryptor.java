@@ -185,6 +185,8 @@ public class ResponseDecryptor extends Decryptor {
 		// Remove token after response is received, unless it has Observe
 		if (response.getOptions().hasObserve() == false) {
 			db.removeToken(token);
+		} else {
+			db.refreshToken(token);
 		}
 		//Set information about the OSCORE context used in the endpoint context of this response
 		OSCoreEndpointContextInfo.receivingResponse(ctx, response);
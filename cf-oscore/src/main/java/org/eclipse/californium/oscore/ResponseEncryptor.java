@@ -122,9 +122,12 @@ public class ResponseEncryptor extends Encryptor {
 		byte[] confidential = OSSerializer.serializeConfidentialData(optionsUAndE[1], response.getPayload(), realCode);
 
 		Encrypt0Message enc = prepareCOSEStructure(confidential);
-		byte[] cipherText = encryptAndEncode(enc, ctx, response, newPartialIV, requestSequenceNr);
+		// If new partial IV is generated for response, reserve the sender seq
+		// nr. once for partial IV, nonce and option.
+		int senderSeq = newPartialIV ? ctx.reserveSenderSeq() : -1;
+		byte[] cipherText = encryptAndEncode(enc, ctx, response, newPartialIV, requestSequenceNr, senderSeq);
 
-		compression(ctx, cipherText, response, newPartialIV);
+		compression(ctx, cipherText, response, newPartialIV, senderSeq);
 
 		byte[] oscoreOption = response.getOptions().getOscore();
 
@@ -136,11 +139,6 @@ public class ResponseEncryptor extends Encryptor {
 			response.setOptions(response.getOptions().setBlock1(block1Option));
 		}
 
-		//If new partial IV was generated for response increment sender seq nr.
-		if (newPartialIV) {
-			ctx.increaseSenderSeq();
-		}
-
 		return response;
 	}
 }
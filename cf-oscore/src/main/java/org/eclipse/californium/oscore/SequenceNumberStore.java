@@ -0,0 +1,82 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.oscore;
+
+/**
+ * Store for OSCORE sequence numbers and replay windows.
+ * <p>
+ * Preserves the sender sequence numbers and the recipient replay windows of
+ * {@link OSCoreCtx}s across restarts. That enables to continue to use the
+ * contexts without {@link ContextRederivation}.
+ * <p>
+ * To reduce the number of writes, the sequence numbers are leased ahead. A
+ * context calls {@link #renewLease(OSCoreCtx)}, when its sender sequence
+ * number or the highest received recipient sequence number reaches half of
+ * the lease. If the sender sequence number reaches the lease, the context
+ * calls {@link #lease(OSCoreCtx)} and fails, if the lease could not be
+ * persisted. If an authenticated recipient sequence number reaches the
+ * lease, the message is rejected and the lease is renewed asynchronously.
+ * Sequence numbers beyond the persisted lease are never used. After a crash,
+ * the sender sequence number continues at the persisted lease and recipient
+ * sequence numbers below the persisted lease are rejected as replay.
+ * 
+ * @see OSCoreCtxDB
+ * @since 4.0
+ */
+public interface SequenceNumberStore {
+
+	/**
+	 * Attach context to store.
+	 * 
+	 * Restores the sequence numbers and the replay window of the context, if
+	 * available. The sequence numbers are leased asynchronously. Attaching an
+	 * already attached context has no effect.
+	 * 
+	 * @param ctx context to attach
+	 */
+	void attach(OSCoreCtx ctx);
+
+	/**
+	 * Detach context from store.
+	 * 
+	 * The persisted sequence numbers of the context are removed.
+	 * 
+	 * @param ctx context to detach
+	 */
+	void detach(OSCoreCtx ctx);
+
+	/**
+	 * Lease sequence numbers for context.
+	 * 
+	 * Persists the new leases and updates the leases of the context using
+	 * {@link OSCoreCtx#setSequenceNumberLeases(int, int)}. Returns, when the
+	 * leases are persisted or persisting failed. If persisting fails, the
+	 * leases of the context are not updated.
+	 * 
+	 * @param ctx context to lease the sequence numbers
+	 */
+	void lease(OSCoreCtx ctx);
+
+	/**
+	 * Renew lease of sequence numbers for context ahead.
+	 * 
+	 * Same as {@link #lease(OSCoreCtx)}, but doesn't wait. The leases are
+	 * persisted asynchronously, the context is included in the next write.
+	 * Intended to be used on the receive path.
+	 * 
+	 * @param ctx context to renew the lease of the sequence numbers
+	 */
+	void renewLease(OSCoreCtx ctx);
+}
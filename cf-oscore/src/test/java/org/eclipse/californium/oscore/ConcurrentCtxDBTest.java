@@ -0,0 +1,181 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.oscore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.core.coap.Token;
+import org.eclipse.californium.cose.AlgorithmID;
+import org.eclipse.californium.elements.util.ExpectedExceptionWrapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ConcurrentCtxDBTest {
+
+	private final Token token = new Token(new byte[] { 0x09, 0x08, 0x07, 0x06 });
+	private final Token modifiedToken = new Token(new byte[] { 0x08, 0x07, 0x06, 0x05 });
+	private final String uri = "coap/hello/1";
+	private final byte[] master_secret = { 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0A, 0x0B, 0x0C, 0x0D,
+			0x0E, 0x0F, 0x10, 0x11, 0x12, 0x13, 0x14, 0x15, 0x16, 0x17, 0x18, 0x19, 0x1A, 0x1B, 0x1C, 0x1D, 0x1E, 0x1F,
+			0x20, 0x21, 0x22, 0x23 };
+	private final AlgorithmID alg = AlgorithmID.AES_CCM_16_64_128;
+	private final byte[] rid = new byte[] { 0x73, 0x65, 0x72, 0x76, 0x65, 0x72 };
+	private final byte[] sid = new byte[] { 0x63, 0x6C, 0x69, 0x65, 0x6E, 0x74 };
+	private final byte[] modifiedRid = new byte[] { 0x01, 0x65, 0x72, 0x76, 0x65, 0x72 };
+	private final byte[] context_id = { 0x74, 0x65, 0x73, 0x74, 0x74, 0x65, 0x73, 0x74 };
+	private final byte[] context_id_2 = { 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x10, 0x11 };
+	private final static int MAX_UNFRAGMENTED_SIZE = 4096;
+
+	@Rule
+	public final ExpectedException exception = ExpectedExceptionWrapper.none();
+
+	private OSCoreCtx createContext(byte[] idContext) throws OSException {
+		return new OSCoreCtx(master_secret, true, alg, sid, rid, AlgorithmID.HKDF_HMAC_SHA_256, 32, null, idContext,
+				MAX_UNFRAGMENTED_SIZE);
+	}
+
+	@Test
+	public void testGetContextNull() throws OSException {
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+
+		assertNull(db.getContext(rid));
+		assertNull(db.getContext(uri));
+		assertNull(db.getContextByToken(token));
+		assertFalse(db.tokenExist(token));
+	}
+
+	@Test
+	public void testAddGetContextRidIDContextMultiple() throws OSException {
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		OSCoreCtx ctx = createContext(context_id);
+		OSCoreCtx ctx2 = createContext(context_id_2);
+		db.addContext(ctx);
+		db.addContext(ctx2);
+
+		assertEquals(ctx, db.getContext(rid, ctx.getIdContext()));
+		assertEquals(ctx2, db.getContext(rid, ctx2.getIdContext()));
+		assertNull(db.getContext(modifiedRid, context_id));
+	}
+
+	@Test
+	public void testAddGetContextRidMultipleFail() throws OSException {
+		exception.expect(CoapOSException.class);
+		exception.expectMessage(ErrorDescriptions.CONTEXT_NOT_FOUND_IDCONTEXT);
+
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		db.addContext(createContext(context_id));
+		db.addContext(createContext(context_id_2));
+
+		db.getContext(rid, null);
+	}
+
+	@Test
+	public void testRemoveContext() throws OSException {
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		OSCoreCtx ctx = createContext(context_id);
+		OSCoreCtx ctx2 = createContext(context_id_2);
+		db.addContext(ctx);
+		db.addContext(ctx2);
+
+		db.removeContext(ctx);
+		assertNull(db.getContext(rid, context_id));
+		assertEquals(ctx2, db.getContext(rid, null));
+
+		db.removeContext(ctx2);
+		assertNull(db.getContext(rid, null));
+	}
+
+	@Test
+	public void testAddGetContextUri() throws OSException {
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		OSCoreCtx ctx = createContext(null);
+		db.addContext(uri, ctx);
+
+		assertEquals(ctx, db.getContext(rid));
+		assertEquals(ctx, db.getContext(uri));
+		assertNull(db.getContextByToken(token));
+	}
+
+	@Test
+	public void testAddRemoveToken() throws OSException {
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		OSCoreCtx ctx = createContext(null);
+		db.addContext(token, ctx);
+		db.addForwarded(token);
+
+		assertEquals(ctx, db.getContext(rid));
+		assertEquals(ctx, db.getContextByToken(token));
+		assertNull(db.getContextByToken(modifiedToken));
+		assertTrue(db.tokenExist(token));
+		assertTrue(db.hasBeenForwarded(token));
+
+		db.removeToken(token);
+		assertNull(db.getContextByToken(token));
+		assertFalse(db.hasBeenForwarded(token));
+		// the generator association is kept
+		assertTrue(db.tokenExist(token));
+	}
+
+	@Test
+	public void testRefreshToken() throws Exception {
+		ConcurrentCtxDB db = new ConcurrentCtxDB(false, 1, 10, 1000, TimeUnit.MILLISECONDS);
+		OSCoreCtx ctx = createContext(null);
+		db.addContext(token, ctx);
+		db.addContext(modifiedToken, ctx);
+
+		Thread.sleep(600);
+		db.refreshToken(token);
+		Thread.sleep(600);
+		db.removeExpiredTokens(0);
+
+		assertEquals(ctx, db.getContextByToken(token));
+		assertTrue(db.tokenExist(token));
+		assertNull(db.getContextByToken(modifiedToken));
+		assertFalse(db.tokenExist(modifiedToken));
+	}
+
+	@Test
+	public void testPurge() throws OSException {
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		OSCoreCtx ctx = createContext(null);
+		db.addContext(uri, ctx);
+		db.addContext(token, ctx);
+		db.addForwarded(token);
+
+		db.purge();
+		assertNull(db.getContext(uri));
+		assertNull(db.getContextByToken(token));
+		assertFalse(db.tokenExist(token));
+		assertFalse(db.hasBeenForwarded(token));
+	}
+
+	@Test
+	public void testTokenCapacity() throws OSException {
+		ConcurrentCtxDB db = new ConcurrentCtxDB(false, 1, 1, 1, TimeUnit.HOURS);
+		OSCoreCtx ctx = createContext(null);
+		db.addContext(token, ctx);
+		db.addContext(modifiedToken, ctx);
+
+		assertEquals(ctx, db.getContextByToken(token));
+		assertNull(db.getContextByToken(modifiedToken));
+		assertFalse(db.tokenExist(modifiedToken));
+	}
+}
@@ -20,8 +20,13 @@ package org.eclipse.californium.oscore;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.californium.cose.AlgorithmID;
 import org.eclipse.californium.elements.util.ExpectedExceptionWrapper;
@@ -185,4 +190,140 @@ public class OSCoreCtxTest {
 		
 		assertArrayEquals(predictedCommonIVContextID, ctx.getCommonIV());
 	}
+
+	/**
+	 * Test replay window with 128 entries accepts out-of-order sequence
+	 * numbers and detects replays.
+	 * 
+	 * @throws OSException if the context could not be created
+	 */
+	@Test
+	public void testWideReplayWindow() throws OSException {
+		OSCoreCtx ctx = new OSCoreCtx(master_secret, true, cipher, sid, rid, kdf, 128, null, null,
+				MAX_UNFRAGMENTED_SIZE);
+		assertEquals(128, ctx.getRecipientReplaySize());
+		assertEquals(-1, ctx.getHighestRecipientSeq());
+
+		ctx.checkIncomingSeq(100);
+		ctx.checkIncomingSeq(3);
+		ctx.checkIncomingSeq(70);
+		ctx.checkIncomingSeq(127);
+		assertEquals(0, ctx.getLowestRecipientSeq());
+		assertEquals(127, ctx.getHighestRecipientSeq());
+		assertReplay(ctx, 3);
+		assertReplay(ctx, 70);
+		assertReplay(ctx, 100);
+
+		// slide window
+		ctx.checkIncomingSeq(200);
+		assertEquals(73, ctx.getLowestRecipientSeq());
+		assertEquals(200, ctx.getHighestRecipientSeq());
+		ctx.checkIncomingSeq(74);
+		assertReplay(ctx, 70);
+		assertReplay(ctx, 100);
+		assertReplay(ctx, 127);
+		assertReplay(ctx, 200);
+
+		// slide window beyond size
+		ctx.checkIncomingSeq(1000);
+		assertEquals(873, ctx.getLowestRecipientSeq());
+		assertEquals(1000, ctx.getHighestRecipientSeq());
+		assertReplay(ctx, 200);
+		ctx.checkIncomingSeq(873);
+		assertEquals(1, ctx.getRecipientReplayWindow());
+	}
+
+	/**
+	 * Test replay window size is limited.
+	 * 
+	 * @throws OSException if the context could not be created
+	 */
+	@Test
+	public void testReplayWindowLimit() throws OSException {
+		OSCoreCtx ctx = new OSCoreCtx(master_secret, true, cipher, sid, rid, kdf, 256, null, null,
+				MAX_UNFRAGMENTED_SIZE);
+		assertEquals(OSCoreCtx.MAX_REPLAY_WINDOW_SIZE, ctx.getRecipientReplaySize());
+	}
+
+	/**
+	 * Test sender sequence number is limited.
+	 * 
+	 * @throws OSException if the context could not be created
+	 */
+	@Test
+	public void testSenderSeqMax() throws OSException {
+		OSCoreCtx ctx = new OSCoreCtx(master_secret, true, cipher, sid, rid, kdf, 32, null, null,
+				MAX_UNFRAGMENTED_SIZE);
+		ctx.setSeqMax(2);
+		ctx.increaseSenderSeq();
+		ctx.increaseSenderSeq();
+		assertEquals(2, ctx.getSenderSeq());
+		exception.expect(OSException.class);
+		ctx.increaseSenderSeq();
+	}
+
+	/**
+	 * Test concurrent reservations of sender sequence numbers are unique.
+	 * 
+	 * @throws Exception if the context could not be created or a thread
+	 *             failed
+	 */
+	@Test
+	public void testReserveSenderSeqIsUnique() throws Exception {
+		final OSCoreCtx ctx = new OSCoreCtx(master_secret, true, cipher, sid, rid, kdf, 32, null, null,
+				MAX_UNFRAGMENTED_SIZE);
+		final int threads = 4;
+		final int reservations = 1000;
+		final Set<Integer> reserved = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+		final AtomicInteger duplicates = new AtomicInteger();
+		Thread[] workers = new Thread[threads];
+		for (int index = 0; index < threads; ++index) {
+			workers[index] = new Thread() {
+
+				@Override
+				public void run() {
+					try {
+						for (int count = 0; count < reservations; ++count) {
+							if (!reserved.add(ctx.reserveSenderSeq())) {
+								duplicates.incrementAndGet();
+							}
+						}
+					} catch (OSException e) {
+						duplicates.incrementAndGet();
+					}
+				}
+			};
+			workers[index].start();
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		assertEquals(0, duplicates.get());
+		assertEquals(threads * reservations, reserved.size());
+		assertEquals(threads * reservations, ctx.getSenderSeq());
+	}
+
+	/**
+	 * Test reserving a sender sequence number is limited.
+	 * 
+	 * @throws OSException if the context could not be created
+	 */
+	@Test
+	public void testReserveSenderSeqMax() throws OSException {
+		OSCoreCtx ctx = new OSCoreCtx(master_secret, true, cipher, sid, rid, kdf, 32, null, null,
+				MAX_UNFRAGMENTED_SIZE);
+		ctx.setSeqMax(1);
+		assertEquals(0, ctx.reserveSenderSeq());
+		exception.expect(OSException.class);
+		ctx.reserveSenderSeq();
+	}
+
+	private static void assertReplay(OSCoreCtx ctx, int seq) {
+		try {
+			ctx.checkIncomingSeq(seq);
+			fail("replay of " + seq + " not detected!");
+		} catch (OSException ex) {
+			assertEquals(ErrorDescriptions.REPLAY_DETECT, ex.getMessage());
+		}
+	}
 }
@@ -0,0 +1,196 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.oscore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.californium.cose.AlgorithmID;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test persisting sequence numbers and replay windows.
+ */
+public class PersistentSequenceNumberStoreTest {
+
+	private static final int LEASE_WINDOW = 10;
+
+	private final byte[] master_secret = { 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0A, 0x0B, 0x0C, 0x0D,
+			0x0E, 0x0F, 0x10 };
+	private final byte[] rid = new byte[] { 0x01 };
+	private final byte[] sid = new byte[] { 0x02 };
+	private final static int MAX_UNFRAGMENTED_SIZE = 4096;
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("oscore", ".seqn");
+		file.delete();
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	private OSCoreCtx createContext() throws OSException {
+		return new OSCoreCtx(master_secret, true, AlgorithmID.AES_CCM_16_64_128, sid, rid,
+				AlgorithmID.HKDF_HMAC_SHA_256, 32, null, null, MAX_UNFRAGMENTED_SIZE);
+	}
+
+	private PersistentSequenceNumberStore createStore() throws IOException {
+		PersistentSequenceNumberStore store = new PersistentSequenceNumberStore("oscore", file, null, LEASE_WINDOW);
+		store.loadCheckpoint();
+		return store;
+	}
+
+	@Test
+	public void testRestoreAfterCrash() throws Exception {
+		PersistentSequenceNumberStore store = createStore();
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		db.setSequenceNumberStore(store);
+		OSCoreCtx ctx = createContext();
+		db.addContext(ctx);
+		// wait for the asynchronous initial lease
+		store.lease(ctx);
+		assertEquals(LEASE_WINDOW, ctx.getSenderSeqLease());
+		assertEquals(LEASE_WINDOW, ctx.getRecipientSeqLease());
+		for (int index = 0; index < 15; ++index) {
+			ctx.increaseSenderSeq();
+		}
+		ctx.checkIncomingSeq(3);
+		// not persisted, rejected and lease renewed asynchronously
+		assertReplay(ctx, 12);
+		store.lease(ctx);
+		ctx.checkIncomingSeq(12);
+		assertEquals(25, ctx.getSenderSeqLease());
+		assertEquals(23, ctx.getRecipientSeqLease());
+
+		// restart without close
+		store = createStore();
+		db = new ConcurrentCtxDB();
+		db.setSequenceNumberStore(store);
+		ctx = createContext();
+		db.addContext(ctx);
+		store.lease(ctx);
+		assertEquals(25, ctx.getSenderSeq());
+		assertEquals(23, ctx.getLowestRecipientSeq());
+		assertReplay(ctx, 22);
+		ctx.checkIncomingSeq(23);
+	}
+
+	@Test
+	public void testRestoreAfterClose() throws Exception {
+		PersistentSequenceNumberStore store = createStore();
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		db.setSequenceNumberStore(store);
+		OSCoreCtx ctx = createContext();
+		db.addContext(ctx);
+		store.lease(ctx);
+		for (int index = 0; index < 15; ++index) {
+			ctx.increaseSenderSeq();
+		}
+		ctx.checkIncomingSeq(3);
+		assertReplay(ctx, 12);
+		store.lease(ctx);
+		ctx.checkIncomingSeq(12);
+		store.close();
+
+		// restart
+		store = createStore();
+		db = new ConcurrentCtxDB();
+		db.setSequenceNumberStore(store);
+		ctx = createContext();
+		db.addContext(ctx);
+		store.lease(ctx);
+		assertEquals(15, ctx.getSenderSeq());
+		assertEquals(12, ctx.getHighestRecipientSeq());
+		assertReplay(ctx, 3);
+		assertReplay(ctx, 12);
+		ctx.checkIncomingSeq(4);
+		ctx.checkIncomingSeq(13);
+		assertTrue(ctx.getSenderSeqLease() > ctx.getSenderSeq());
+	}
+
+	@Test
+	public void testUnauthenticatedSeqDoesNotRenewLease() throws Exception {
+		PersistentSequenceNumberStore store = createStore();
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		db.setSequenceNumberStore(store);
+		OSCoreCtx ctx = createContext();
+		db.addContext(ctx);
+		store.lease(ctx);
+		// forged message, verified before decryption
+		ctx.verifyIncomingSeq(1000);
+		store.lease(ctx);
+		assertEquals(LEASE_WINDOW, ctx.getRecipientSeqLease());
+		assertEquals(-1, ctx.getHighestRecipientSeq());
+		store.close();
+	}
+
+	@Test
+	public void testDetach() throws Exception {
+		PersistentSequenceNumberStore store = createStore();
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		db.setSequenceNumberStore(store);
+		OSCoreCtx ctx = createContext();
+		db.addContext(ctx);
+		db.removeContext(ctx);
+		assertEquals(Integer.MAX_VALUE, ctx.getSenderSeqLease());
+		ctx.increaseSenderSeq();
+		store.close();
+
+		store = createStore();
+		db = new ConcurrentCtxDB();
+		db.setSequenceNumberStore(store);
+		ctx = createContext();
+		db.addContext(ctx);
+		assertEquals(0, ctx.getSenderSeq());
+	}
+
+	@Test
+	public void testFailClosed() throws Exception {
+		File missing = new File(file.getPath() + ".missing", "oscore.seqn");
+		PersistentSequenceNumberStore store = new PersistentSequenceNumberStore("oscore", missing, null,
+				LEASE_WINDOW);
+		ConcurrentCtxDB db = new ConcurrentCtxDB();
+		db.setSequenceNumberStore(store);
+		OSCoreCtx ctx = createContext();
+		db.addContext(ctx);
+		try {
+			ctx.reserveSenderSeq();
+			fail("sequence number not persisted, but used!");
+		} catch (OSException ex) {
+			assertEquals(0, ctx.getSenderSeq());
+		}
+		assertReplay(ctx, 0);
+	}
+
+	private static void assertReplay(OSCoreCtx ctx, int seq) {
+		try {
+			ctx.checkIncomingSeq(seq);
+			fail("replay of " + seq + " not detected!");
+		} catch (OSException ex) {
+			assertEquals(ErrorDescriptions.REPLAY_DETECT, ex.getMessage());
+		}
+	}
+}
@@ -554,7 +554,7 @@ public class BaseServer extends CoapServer {
 		// executors
 		ProtocolScheduledExecutorService executor = ExecutorsUtil.newProtocolScheduledThreadPool(//
 				config.get(CoapConfig.PROTOCOL_STAGE_THREAD_COUNT), //
-				new NamedThreadFactory("CoapServer#")); //$NON-NLS-1$
+				new NamedThreadFactory("CoapServer#"), "CoapServer"); //$NON-NLS-1$ //$NON-NLS-2$
 
 		monitors = new SystemResourceMonitors(executor.getBackgroundExecutor());
 
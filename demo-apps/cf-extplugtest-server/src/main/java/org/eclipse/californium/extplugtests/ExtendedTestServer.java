@@ -379,7 +379,7 @@ public class ExtendedTestServer extends AbstractTestServer {
 
 			ProtocolScheduledExecutorService executor = ExecutorsUtil.newProtocolScheduledThreadPool(//
 					configuration.get(CoapConfig.PROTOCOL_STAGE_THREAD_COUNT), //
-					new NamedThreadFactory("ExtCoapServer#")); //$NON-NLS-1$
+					new NamedThreadFactory("ExtCoapServer#"), "ExtCoapServer"); //$NON-NLS-1$ //$NON-NLS-2$
 
 			long notifyIntervalMillis = config.getNotifyIntervalMillis();
 
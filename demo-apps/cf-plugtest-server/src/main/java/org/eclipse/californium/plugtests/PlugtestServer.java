@@ -358,7 +358,7 @@ public class PlugtestServer extends AbstractTestServer {
 		setupPersistence(config);
 		ProtocolScheduledExecutorService executor = ExecutorsUtil.newProtocolScheduledThreadPool(//
 				configuration.get(CoapConfig.PROTOCOL_STAGE_THREAD_COUNT), //
-				new NamedThreadFactory("CoapServer#")); //$NON-NLS-1$
+				new NamedThreadFactory("CoapServer#"), "CoapServer"); //$NON-NLS-1$ //$NON-NLS-2$
 
 		EndpointNetSocketObserver socketObserver = null;
 		final NetSocketHealthLogger socketLogger = new NetSocketHealthLogger("udp");
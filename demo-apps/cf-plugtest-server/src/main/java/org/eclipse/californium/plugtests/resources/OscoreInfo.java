@@ -62,10 +62,8 @@ public class OscoreInfo extends CoapResource {
 		payload.append("\nID Context: ");
 		payload.append(Utils.toHexString(serverCtx.getIdContext()));
 
-		int replayWindow = serverCtx.getRecipientReplayWindow();
-		int offset = serverCtx.getRecipientReplaySize() - Integer.numberOfLeadingZeros(replayWindow);
 		payload.append("\nClient Sender Sequence Number: ");
-		payload.append(serverCtx.getLowestRecipientSeq() + offset);
+		payload.append(serverCtx.getHighestRecipientSeq() + 1);
 
 		// complete the request
 		exchange.setMaxAge(30);
@@ -35,7 +35,9 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
 import java.security.Principal;
+import java.util.Arrays;
 
+import org.eclipse.californium.elements.util.ByteArrayPool;
 import org.eclipse.californium.elements.util.ClockUtil;
 
 /**
@@ -55,9 +57,30 @@ import org.eclipse.californium.elements.util.ClockUtil;
  */
 public final class RawData {
 
-	/** The raw message. */
+	/**
+	 * The raw message.
+	 * <p>
+	 * For {@link #isLeased()} raw data, this is the leased buffer, which may
+	 * be larger than the message. Only the first {@link #getSize()} bytes
+	 * contain the message.
+	 */
 	public final byte[] bytes;
 
+	/**
+	 * Length of the raw message.
+	 * 
+	 * @since 4.0
+	 */
+	private final int length;
+
+	/**
+	 * Pool of leased {@link #bytes}. {@code null}, if not leased or already
+	 * released.
+	 * 
+	 * @since 4.0
+	 */
+	private ByteArrayPool pool;
+
 	/**
 	 * Nano timestamp of receive time.
 	 */
@@ -104,12 +127,37 @@ public final class RawData {
 	 */
 	private RawData(byte[] data, EndpointContext peerEndpointContext, MessageCallback callback, boolean multicast,
 			long nanoTimestamp, InetSocketAddress connector) {
+		this(data, data == null ? 0 : data.length, null, peerEndpointContext, callback, multicast, nanoTimestamp,
+				connector);
+	}
+
+	/**
+	 * Instantiates a new raw data.
+	 * 
+	 * @param data the data that is to be sent or has been received
+	 * @param length length of the data
+	 * @param pool pool of leased data. {@code null}, if data is not leased.
+	 * @param peerEndpointContext remote peers endpoint context.
+	 * @param callback the handler to call when this message has been sent (may
+	 *            be {@code null}).
+	 * @param multicast indicates whether the data represents a multicast
+	 *            message
+	 * @param nanoTimestamp nano-timestamp for received messages. {@code 0} for
+	 *            outgoing messages.
+	 * @param connector connector's address. {@code null} for outgoing data.
+	 * @throws NullPointerException if data or endpoint context is {@code null}
+	 * @since 4.0
+	 */
+	private RawData(byte[] data, int length, ByteArrayPool pool, EndpointContext peerEndpointContext,
+			MessageCallback callback, boolean multicast, long nanoTimestamp, InetSocketAddress connector) {
 		if (data == null) {
 			throw new NullPointerException("Data must not be null");
 		} else if (peerEndpointContext == null) {
 			throw new NullPointerException("Peer's EndpointContext must not be null");
 		} else {
 			this.bytes = data;
+			this.length = length;
+			this.pool = pool;
 			this.peerEndpointContext = peerEndpointContext;
 			this.callback = callback;
 			this.multicast = multicast;
@@ -146,6 +194,44 @@ public final class RawData {
 		return new RawData(data, peerEndpointContext, null, isMulticast, nanoTimestamp, connector);
 	}
 
+	/**
+	 * Instantiates a new raw data for a message received from a peer into a
+	 * leased buffer.
+	 * <p>
+	 * The receiver of the raw data must call {@link #release()}, when the data
+	 * is not longer required. Otherwise the buffer is not reused.
+	 *
+	 * @param buffer the leased buffer with the received data.
+	 * @param length length of the received data
+	 * @param pool pool to release the buffer to
+	 * @param peerEndpointContext information regarding the context the message
+	 *            has been received in.
+	 * @param isMulticast indicates whether the data has been received as a
+	 *            multicast message.
+	 * @param nanoTimestamp nano-timestamp for received messages.
+	 * @param connector connector's address
+	 * @return the raw data object containing the inbound message.
+	 * @throws NullPointerException if buffer, pool, endpoint context, or
+	 *             connector is {@code null}.
+	 * @throws IllegalArgumentException if length exceeds the buffer
+	 * @see #inbound(byte[], EndpointContext, boolean, long, InetSocketAddress)
+	 * @since 4.0
+	 */
+	public static RawData inbound(byte[] buffer, int length, ByteArrayPool pool,
+			EndpointContext peerEndpointContext, boolean isMulticast, long nanoTimestamp,
+			InetSocketAddress connector) {
+		if (connector == null) {
+			throw new NullPointerException("Connectors's address must not be null");
+		}
+		if (pool == null) {
+			throw new NullPointerException("Pool must not be null");
+		}
+		if (buffer != null && buffer.length < length) {
+			throw new IllegalArgumentException("Length " + length + " exceeds buffer " + buffer.length + "!");
+		}
+		return new RawData(buffer, length, pool, peerEndpointContext, null, isMulticast, nanoTimestamp, connector);
+	}
+
 	/**
 	 * Instantiates a new raw data for a message to be sent to a peer.
 	 * <p>
@@ -180,10 +266,17 @@ public final class RawData {
 
 	/**
 	 * Gets the raw message.
+	 * <p>
+	 * For {@link #isLeased()} raw data, a copy of the message is returned.
+	 * Use {@link #bytes} and {@link #getSize()} to access the message without
+	 * copy.
 	 *
 	 * @return raw message bytes
 	 */
 	public byte[] getBytes() {
+		if (length < bytes.length) {
+			return Arrays.copyOf(bytes, length);
+		}
 		return bytes;
 	}
 
@@ -193,7 +286,39 @@ public final class RawData {
 	 * @return the size
 	 */
 	public int getSize() {
-		return bytes.length;
+		return length;
+	}
+
+	/**
+	 * Checks, if the raw message is in a leased buffer.
+	 * 
+	 * @return {@code true}, if leased and not released, {@code false},
+	 *         otherwise.
+	 * @see #inbound(byte[], int, ByteArrayPool, EndpointContext, boolean,
+	 *      long, InetSocketAddress)
+	 * @since 4.0
+	 */
+	public boolean isLeased() {
+		return pool != null;
+	}
+
+	/**
+	 * Releases the leased buffer.
+	 * <p>
+	 * The raw message must not be accessed after release. Releasing raw data,
+	 * which is not leased, has no effect.
+	 * <p>
+	 * <b>Note:</b> intended to be called only by the receiver of the raw
+	 * data, which is the owner of the lease. Not thread-safe.
+	 * 
+	 * @since 4.0
+	 */
+	public void release() {
+		ByteArrayPool pool = this.pool;
+		if (pool != null) {
+			this.pool = null;
+			pool.release(bytes);
+		}
 	}
 
 	/**
@@ -41,8 +41,12 @@ import java.io.InterruptedIOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
@@ -56,6 +60,7 @@ import org.eclipse.californium.elements.UdpMulticastConnector.Builder;
 import org.eclipse.californium.elements.config.Configuration;
 import org.eclipse.californium.elements.config.UdpConfig;
 import org.eclipse.californium.elements.exception.EndpointMismatchException;
+import org.eclipse.californium.elements.util.ByteArrayPool;
 import org.eclipse.californium.elements.util.Bytes;
 import org.eclipse.californium.elements.util.ClockUtil;
 import org.eclipse.californium.elements.util.NamedThreadFactory;
@@ -90,6 +95,18 @@ import org.slf4j.LoggerFactory;
  * The number of threads can be set through
  * {@link UdpConfig#UDP_RECEIVER_THREAD_COUNT} and
  * {@link UdpConfig#UDP_SEND_BUFFER_SIZE} in the provided {@link Configuration}.
+ * <p>
+ * With {@link UdpConfig#UDP_CHANNEL_MODE} a non-blocking
+ * {@link DatagramChannel} is used instead of the blocking
+ * {@link DatagramSocket}. The receiver threads then read all datagrams
+ * available on a wakeup, up to {@link UdpConfig#UDP_BATCH_SIZE}, into a
+ * reusable ring of buffers, and the sender threads drain the outgoing queue in
+ * batches of the same size. That reduces the thread hand-offs per datagram
+ * under high load.
+ * <p>
+ * With {@link UdpConfig#UDP_RECEIVE_POOL_SIZE} the received datagrams are
+ * copied into buffers leased from a {@link ByteArrayPool}, see
+ * {@link RawData#release()}.
  */
 public class UDPConnector implements Connector {
 
@@ -98,6 +115,13 @@ public class UDPConnector implements Connector {
 	 */
 	private static final Logger LOGGER = LoggerFactory.getLogger(UDPConnector.class);
 
+	/**
+	 * Maximum time to wait for a channel to get writable again.
+	 * 
+	 * @since 4.0
+	 */
+	private static final long SEND_WAIT_MILLIS = 100;
+
 	/**
 	 * Provided local address.
 	 */
@@ -126,11 +150,37 @@ public class UDPConnector implements Connector {
 	private final int receiverPacketSize;
 	private final Integer configReceiveBufferSize;
 	private final Integer configSendBufferSize;
+	/**
+	 * Use {@link DatagramChannel} in batch mode.
+	 * 
+	 * @since 4.0
+	 */
+	private final boolean channelMode;
+	/**
+	 * Maximum number of datagrams per batch in channel mode.
+	 * 
+	 * @since 4.0
+	 */
+	private final int batchSize;
+	/**
+	 * Pool of receive buffers. {@code null}, if not used.
+	 * 
+	 * @since 4.0
+	 */
+	private final ByteArrayPool receivePool;
 
 	private final AtomicBoolean running = new AtomicBoolean();
 
 	private volatile DatagramSocket socket;
 
+	/**
+	 * Datagram channel of the {@link #socket} in channel mode.
+	 * {@code null}, if the blocking socket mode is used.
+	 * 
+	 * @since 4.0
+	 */
+	private volatile DatagramChannel channel;
+
 	protected volatile InetSocketAddress effectiveAddr;
 
 	/**
@@ -193,6 +243,10 @@ public class UDPConnector implements Connector {
 		this.receiverPacketSize = configuration.get(UdpConfig.UDP_DATAGRAM_SIZE);
 		this.configReceiveBufferSize = configuration.get(UdpConfig.UDP_RECEIVE_BUFFER_SIZE);
 		this.configSendBufferSize = configuration.get(UdpConfig.UDP_SEND_BUFFER_SIZE);
+		this.channelMode = configuration.get(UdpConfig.UDP_CHANNEL_MODE);
+		this.batchSize = configuration.get(UdpConfig.UDP_BATCH_SIZE);
+		int poolSize = configuration.get(UdpConfig.UDP_RECEIVE_POOL_SIZE);
+		this.receivePool = poolSize > 0 ? new ByteArrayPool(receiverPacketSize, poolSize) : null;
 		this.receiveBufferSize = configReceiveBufferSize;
 		this.sendBufferSize = configSendBufferSize;
 	}
@@ -213,10 +267,23 @@ public class UDPConnector implements Connector {
 			multicastReceiver.start();
 		}
 
-		DatagramSocket socket = new DatagramSocket(null);
-		socket.setReuseAddress(reuseAddress);
-		socket.bind(localAddr);
-		init(socket);
+		if (channelMode) {
+			DatagramChannel channel = DatagramChannel.open();
+			try {
+				channel.setOption(StandardSocketOptions.SO_REUSEADDR, reuseAddress);
+				channel.bind(localAddr);
+				channel.configureBlocking(false);
+			} catch (IOException ex) {
+				channel.close();
+				throw ex;
+			}
+			init(channel.socket());
+		} else {
+			DatagramSocket socket = new DatagramSocket(null);
+			socket.setReuseAddress(reuseAddress);
+			socket.bind(localAddr);
+			init(socket);
+		}
 	}
 
 	/**
@@ -227,6 +294,7 @@ public class UDPConnector implements Connector {
 	 */
 	protected void init(DatagramSocket socket) throws IOException {
 		this.socket = socket;
+		this.channel = channelMode ? socket.getChannel() : null;
 		effectiveAddr = (InetSocketAddress) socket.getLocalSocketAddress();
 
 		if (configReceiveBufferSize != null) {
@@ -249,14 +317,23 @@ public class UDPConnector implements Connector {
 		running.set(true);
 
 		// start receiver and sender threads
-		LOGGER.info("UDPConnector starts up {} sender threads and {} receiver threads", senderCount, receiverCount);
+		DatagramChannel channel = this.channel;
+		if (channel != null) {
+			LOGGER.info("UDPConnector starts up {} sender threads and {} receiver threads, batch size {}",
+					senderCount, receiverCount, batchSize);
+		} else {
+			LOGGER.info("UDPConnector starts up {} sender threads and {} receiver threads", senderCount,
+					receiverCount);
+		}
 		int max = receiverCount < 0 ? 1 : receiverCount;
 		String addr = SocketThreadFactory.toName(localAddr);
 		ThreadFactory factory = SocketThreadFactory.create("UDP-Receiver-" + addr, receiverCount,
 				NamedThreadFactory.TRANSPORT_THREAD_GROUP);
 		for (int i = 0; i < max; i++) {
-			Thread thread = new Receiver(() -> isRunning(), UDPConnector.class).attach(factory, false);
-			receiverThreads.add(thread);
+			NetworkStageRunnable stage = channel != null
+					? new BatchReceiver(channel, () -> isRunning(), UDPConnector.class)
+					: new Receiver(() -> isRunning(), UDPConnector.class);
+			receiverThreads.add(stage.attach(factory, false));
 		}
 
 		if (!multicast) {
@@ -264,8 +341,10 @@ public class UDPConnector implements Connector {
 			factory = SocketThreadFactory.create("UDP-Sender-" + addr, senderCount,
 					NamedThreadFactory.TRANSPORT_THREAD_GROUP);
 			for (int i = 0; i < max; i++) {
-				Thread thread = new Sender(() -> isRunning(), UDPConnector.class).attach(factory, false);
-				senderThreads.add(thread);
+				NetworkStageRunnable stage = channel != null
+						? new BatchSender(channel, () -> isRunning(), UDPConnector.class)
+						: new Sender(() -> isRunning(), UDPConnector.class);
+				senderThreads.add(stage.attach(factory, false));
 			}
 		}
 
@@ -313,6 +392,7 @@ public class UDPConnector implements Connector {
 				socket.close();
 				socket = null;
 			}
+			channel = null;
 			// stop all threads
 			for (Thread t : senderThreads) {
 				t.interrupt();
@@ -476,20 +556,11 @@ public class UDPConnector implements Connector {
 		@Override
 		protected void work() throws InterruptedException {
 			RawData raw = outgoing.take(); // Blocking
-			/*
-			 * check, if message should be sent with the "none endpoint context"
-			 * of UDP connector
-			 */
-			EndpointContext destination = raw.getEndpointContext();
-			InetSocketAddress destinationAddress = destination.getPeerAddress();
-			EndpointContext connectionContext = new UdpEndpointContext(destinationAddress);
-			EndpointContextMatcher endpointMatcher = UDPConnector.this.endpointContextMatcher;
-			if (endpointMatcher != null && !endpointMatcher.isToBeSent(destination, connectionContext)) {
-				LOGGER.warn("UDPConnector ({}) drops {} bytes to {}", effectiveAddr, raw.getSize(),
-						StringUtil.toLog(destinationAddress));
-				raw.onError(new EndpointMismatchException("UDP sending"));
+			EndpointContext connectionContext = getConnectionContext(raw);
+			if (connectionContext == null) {
 				return;
 			}
+			InetSocketAddress destinationAddress = connectionContext.getPeerAddress();
 			datagram.setData(raw.getBytes());
 			datagram.setSocketAddress(destinationAddress);
 
@@ -510,6 +581,194 @@ public class UDPConnector implements Connector {
 		}
 	}
 
+	/**
+	 * Receiver for channel mode.
+	 * <p>
+	 * Waits for the channel to get readable and then reads all available
+	 * datagrams, up to {@link #batchSize}, into a ring of reusable buffers,
+	 * before passing them to the {@link RawDataChannel}.
+	 * 
+	 * @since 4.0
+	 */
+	private class BatchReceiver extends NetworkStageRunnable {
+
+		private final DatagramChannel channel;
+		private final ByteBuffer[] buffers;
+		private final InetSocketAddress[] sources;
+		private Selector selector;
+
+		private BatchReceiver(DatagramChannel channel, BooleanSupplier running, Class<?> logger) {
+			super(running, logger);
+			this.channel = channel;
+			this.buffers = new ByteBuffer[batchSize];
+			this.sources = new InetSocketAddress[batchSize];
+			for (int index = 0; index < batchSize; ++index) {
+				// we add one byte to be able to detect potential truncation.
+				this.buffers[index] = ByteBuffer.allocateDirect(receiverPacketSize + 1);
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				super.run();
+			} finally {
+				closeSelector(selector);
+			}
+		}
+
+		@Override
+		protected void work() throws IOException {
+			if (selector == null) {
+				selector = Selector.open();
+				channel.register(selector, SelectionKey.OP_READ);
+			}
+			selector.select(); // Blocking
+			selector.selectedKeys().clear();
+			int count = 0;
+			while (count < batchSize) {
+				ByteBuffer buffer = buffers[count];
+				buffer.clear();
+				InetSocketAddress source = (InetSocketAddress) channel.receive(buffer);
+				if (source == null) {
+					break;
+				}
+				buffer.flip();
+				sources[count++] = source;
+			}
+			for (int index = 0; index < count; ++index) {
+				processDatagram(sources[index], buffers[index]);
+				sources[index] = null;
+			}
+		}
+	}
+
+	/**
+	 * Sender for channel mode.
+	 * <p>
+	 * Drains the outgoing queue in batches of up to {@link #batchSize}
+	 * messages. If the send buffer of the channel is exhausted, waits for the
+	 * channel to get writable again.
+	 * 
+	 * @since 4.0
+	 */
+	private class BatchSender extends NetworkStageRunnable {
+
+		private final DatagramChannel channel;
+		private final List<RawData> batch;
+		private final ByteBuffer buffer;
+		private Selector selector;
+
+		private BatchSender(DatagramChannel channel, BooleanSupplier running, Class<?> logger) {
+			super(running, logger);
+			this.channel = channel;
+			this.batch = new ArrayList<>(batchSize);
+			this.buffer = ByteBuffer.allocateDirect(receiverPacketSize);
+		}
+
+		@Override
+		public void run() {
+			try {
+				super.run();
+			} finally {
+				closeSelector(selector);
+			}
+		}
+
+		@Override
+		protected void work() throws InterruptedException, IOException {
+			if (selector == null) {
+				selector = Selector.open();
+				channel.register(selector, SelectionKey.OP_WRITE);
+			}
+			batch.add(outgoing.take()); // Blocking
+			outgoing.drainTo(batch, batchSize - 1);
+			try {
+				for (RawData raw : batch) {
+					send(raw);
+				}
+			} finally {
+				batch.clear();
+			}
+		}
+
+		private void send(RawData raw) {
+			EndpointContext connectionContext = getConnectionContext(raw);
+			if (connectionContext == null) {
+				return;
+			}
+			InetSocketAddress destinationAddress = connectionContext.getPeerAddress();
+			byte[] data = raw.getBytes();
+			ByteBuffer datagram;
+			if (data.length > buffer.capacity()) {
+				datagram = ByteBuffer.wrap(data);
+			} else {
+				datagram = buffer;
+				datagram.clear();
+				datagram.put(data);
+				datagram.flip();
+			}
+			try {
+				raw.onContextEstablished(connectionContext);
+				while (channel.send(datagram, destinationAddress) == 0) {
+					if (!isRunning()) {
+						throw new InterruptedIOException("Connector is not running.");
+					}
+					// send buffer exhausted, wait until writable
+					selector.select(SEND_WAIT_MILLIS);
+					selector.selectedKeys().clear();
+				}
+				raw.onSent();
+				LOGGER.debug("UDPConnector ({}) sent {} bytes to {}", this, data.length,
+						StringUtil.toLog(destinationAddress));
+			} catch (IOException ex) {
+				raw.onError(ex);
+			}
+		}
+	}
+
+	/**
+	 * Close selector of network stage.
+	 * 
+	 * @param selector selector to close. May be {@code null}.
+	 * @since 4.0
+	 */
+	private static void closeSelector(Selector selector) {
+		if (selector != null) {
+			try {
+				selector.close();
+			} catch (IOException e) {
+				LOGGER.debug("UDPConnector selector close failed!", e);
+			}
+		}
+	}
+
+	/**
+	 * Get connection context for outgoing message.
+	 * <p>
+	 * Checks, if the message should be sent with the "none endpoint context"
+	 * of UDP connector. If not, reports an {@link EndpointMismatchException}
+	 * to the message.
+	 * 
+	 * @param raw outgoing message
+	 * @return the connection context, or {@code null}, if the message must not
+	 *         be sent.
+	 * @since 4.0
+	 */
+	private EndpointContext getConnectionContext(RawData raw) {
+		EndpointContext destination = raw.getEndpointContext();
+		InetSocketAddress destinationAddress = destination.getPeerAddress();
+		EndpointContext connectionContext = new UdpEndpointContext(destinationAddress);
+		EndpointContextMatcher endpointMatcher = this.endpointContextMatcher;
+		if (endpointMatcher != null && !endpointMatcher.isToBeSent(destination, connectionContext)) {
+			LOGGER.warn("UDPConnector ({}) drops {} bytes to {}", effectiveAddr, raw.getSize(),
+					StringUtil.toLog(destinationAddress));
+			raw.onError(new EndpointMismatchException("UDP sending"));
+			return null;
+		}
+		return connectionContext;
+	}
+
 	/**
 	 * Process received datagram.
 	 * <p>
@@ -521,39 +780,62 @@ public class UDPConnector implements Connector {
 	 */
 	@Override
 	public void processDatagram(DatagramPacket datagram) {
+		processDatagram((InetSocketAddress) datagram.getSocketAddress(),
+				ByteBuffer.wrap(datagram.getData(), datagram.getOffset(), datagram.getLength()));
+	}
+
+	/**
+	 * Process received datagram.
+	 * <p>
+	 * Copy the remaining bytes of the buffer into {@link RawData} and pass it
+	 * to the {@link RawDataChannel}. If a {@link #receivePool} is used, the
+	 * bytes are copied into a leased buffer.
+	 * 
+	 * @param source source address of the datagram
+	 * @param data buffer with the received datagram
+	 * @since 4.0
+	 */
+	private void processDatagram(InetSocketAddress source, ByteBuffer data) {
 		InetSocketAddress connector = effectiveAddr;
 		RawDataChannel dataReceiver = receiver;
-		if (datagram.getPort() == 0) {
+		int length = data.remaining();
+		if (source.getPort() == 0) {
 			// RFC 768
 			// Source Port is an optional field, when meaningful, it indicates
 			// the port of the sending process, and may be assumed to be the
 			// port to which a reply should be addressed in the absence of any
 			// other information. If not used, a value of zero is inserted.
-			LOGGER.trace("Discarding message with {} bytes from [{}] without source-port", datagram.getLength(),
-					StringUtil.toLog(datagram.getSocketAddress()));
+			LOGGER.trace("Discarding message with {} bytes from [{}] without source-port", length,
+					StringUtil.toLog(source));
 			return;
 		}
-		if (datagram.getLength() > receiverPacketSize) {
+		if (length > receiverPacketSize) {
 			// too large datagram for our buffer! data could have been
 			// truncated, so we discard it.
 			LOGGER.debug(
 					"UDPConnector ({}) received truncated UDP datagram from {}. Maximum size allowed {}. Discarding ...",
-					connector, StringUtil.toLog(datagram.getSocketAddress()), receiverPacketSize);
+					connector, StringUtil.toLog(source), receiverPacketSize);
 		} else if (dataReceiver == null) {
 			LOGGER.debug("UDPConnector ({}) received UDP datagram from {} without receiver. Discarding ...", connector,
-					StringUtil.toLog(datagram.getSocketAddress()));
+					StringUtil.toLog(source));
 		} else {
 			long timestamp = ClockUtil.nanoRealtime();
 			String local = StringUtil.toString(connector);
 			if (multicast) {
 				local = "mc/" + local;
 			}
-			LOGGER.debug("UDPConnector ({}) received {} bytes from {}", local, datagram.getLength(),
-					StringUtil.toLog(datagram.getSocketAddress()));
-			byte[] bytes = Arrays.copyOfRange(datagram.getData(), datagram.getOffset(), datagram.getLength());
-			RawData msg = RawData.inbound(bytes,
-					new UdpEndpointContext(new InetSocketAddress(datagram.getAddress(), datagram.getPort())), multicast,
-					timestamp, connector);
+			LOGGER.debug("UDPConnector ({}) received {} bytes from {}", local, length, StringUtil.toLog(source));
+			RawData msg;
+			if (receivePool != null) {
+				byte[] buffer = receivePool.take();
+				data.get(buffer, 0, length);
+				msg = RawData.inbound(buffer, length, receivePool, new UdpEndpointContext(source), multicast,
+						timestamp, connector);
+			} else {
+				byte[] bytes = new byte[length];
+				data.get(bytes);
+				msg = RawData.inbound(bytes, new UdpEndpointContext(source), multicast, timestamp, connector);
+			}
 			dataReceiver.receiveData(msg);
 		}
 	}
@@ -603,6 +885,29 @@ public class UDPConnector implements Connector {
 		return receiverPacketSize;
 	}
 
+	/**
+	 * Checks, if the {@link DatagramChannel} batch mode is used.
+	 * 
+	 * @return {@code true}, if the channel mode is used, {@code false},
+	 *         otherwise.
+	 * @see UdpConfig#UDP_CHANNEL_MODE
+	 * @since 4.0
+	 */
+	public boolean isChannelMode() {
+		return channelMode;
+	}
+
+	/**
+	 * Gets the maximum number of datagrams per batch in channel mode.
+	 * 
+	 * @return maximum number of datagrams per batch
+	 * @see UdpConfig#UDP_BATCH_SIZE
+	 * @since 4.0
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
 	@Override
 	public String getProtocol() {
 		return "UDP";
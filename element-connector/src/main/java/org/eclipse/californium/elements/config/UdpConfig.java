@@ -17,6 +17,7 @@ package org.eclipse.californium.elements.config;
 
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
+import java.nio.channels.DatagramChannel;
 
 import org.eclipse.californium.elements.UDPConnector;
 import org.eclipse.californium.elements.config.Configuration.ModuleDefinitionsProvider;
@@ -69,6 +70,39 @@ public final class UdpConfig {
 	 */
 	public static final IntegerDefinition UDP_CONNECTOR_OUT_CAPACITY = new IntegerDefinition(
 			MODULE + "CONNECTOR_OUT_CAPACITY", "Maximum number of pending outgoing messages.", Integer.MAX_VALUE, 32);
+	/**
+	 * Use a non-blocking {@link DatagramChannel} for {@link UDPConnector}
+	 * instead of a blocking {@link DatagramSocket}.
+	 * <p>
+	 * The channel mode drains the outgoing queue and the socket in batches of
+	 * up to {@link #UDP_BATCH_SIZE} datagrams per wakeup.
+	 * 
+	 * @since 4.0
+	 */
+	public static final BooleanDefinition UDP_CHANNEL_MODE = new BooleanDefinition(MODULE + "CHANNEL_MODE",
+			"Use NIO datagram channel with batched receiving and sending.", false);
+	/**
+	 * Maximum number of datagrams received or sent in one batch, if
+	 * {@link #UDP_CHANNEL_MODE} is used.
+	 * 
+	 * @since 4.0
+	 */
+	public static final IntegerDefinition UDP_BATCH_SIZE = new IntegerDefinition(MODULE + "BATCH_SIZE",
+			"Maximum number of datagrams received or sent in one batch in channel mode.", 16, 1);
+
+	/**
+	 * Number of pooled receive buffers for {@link UDPConnector}.
+	 * <p>
+	 * If larger than {@code 0}, received datagrams are copied into leased
+	 * buffers instead of new allocated byte arrays. The receiver of the
+	 * {@link org.eclipse.californium.elements.RawData} is responsible to
+	 * release the buffer, otherwise the buffer is not reused.
+	 * 
+	 * @since 4.0
+	 */
+	public static final IntegerDefinition UDP_RECEIVE_POOL_SIZE = new IntegerDefinition(
+			MODULE + "RECEIVE_POOL_SIZE",
+			"Number of pooled receive buffers. 0 to allocate a new buffer for each received datagram.", 0, 0);
 
 	public static final ModuleDefinitionsProvider DEFINITIONS = new ModuleDefinitionsProvider() {
 
@@ -88,6 +122,9 @@ public final class UdpConfig {
 			config.set(UDP_RECEIVE_BUFFER_SIZE, null);
 			config.set(UDP_SEND_BUFFER_SIZE, null);
 			config.set(UDP_CONNECTOR_OUT_CAPACITY, Integer.MAX_VALUE);
+			config.set(UDP_CHANNEL_MODE, false);
+			config.set(UDP_BATCH_SIZE, 16);
+			config.set(UDP_RECEIVE_POOL_SIZE, 0);
 			DefinitionUtils.verify(UdpConfig.class, config);
 		}
 	};
@@ -0,0 +1,105 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Pool of byte arrays with fixed size.
+ * <p>
+ * Used to lease receive buffers for inbound messages without allocating a new
+ * byte array per message. If the pool is empty, {@link #take()} allocates a
+ * new array. If the pool is full, {@link #release(byte[])} drops the array.
+ * Therefore arrays, which are not released, are not leaked, they are only not
+ * reused.
+ * 
+ * @since 4.0
+ */
+public class ByteArrayPool {
+
+	/**
+	 * Size of the pooled arrays.
+	 */
+	private final int arraySize;
+	/**
+	 * Free arrays.
+	 */
+	private final BlockingQueue<byte[]> free;
+
+	/**
+	 * Create pool of byte arrays.
+	 * 
+	 * @param arraySize size of pooled arrays
+	 * @param capacity maximum number of pooled free arrays
+	 * @throws IllegalArgumentException if array size or capacity is less
+	 *             than {@code 1}.
+	 */
+	public ByteArrayPool(int arraySize, int capacity) {
+		if (arraySize < 1) {
+			throw new IllegalArgumentException("array size " + arraySize + " must be at least 1!");
+		}
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity " + capacity + " must be at least 1!");
+		}
+		this.arraySize = arraySize;
+		this.free = new ArrayBlockingQueue<>(capacity);
+	}
+
+	/**
+	 * Take array from pool.
+	 * 
+	 * @return free array from pool, or new allocated array, if the pool is
+	 *         empty.
+	 */
+	public byte[] take() {
+		byte[] array = free.poll();
+		if (array == null) {
+			array = new byte[arraySize];
+		}
+		return array;
+	}
+
+	/**
+	 * Release array to pool.
+	 * <p>
+	 * <b>Note:</b> the array must not be used after release!
+	 * 
+	 * @param array array to release. Arrays of other sizes are ignored.
+	 */
+	public void release(byte[] array) {
+		if (array != null && array.length == arraySize) {
+			free.offer(array);
+		}
+	}
+
+	/**
+	 * Get size of pooled arrays.
+	 * 
+	 * @return size of pooled arrays
+	 */
+	public int getArraySize() {
+		return arraySize;
+	}
+
+	/**
+	 * Get number of free arrays in pool.
+	 * 
+	 * @return number of free arrays
+	 */
+	public int available() {
+		return free.size();
+	}
+}
@@ -0,0 +1,223 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements.util;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Pool of byte buffers with size classes.
+ * <p>
+ * The size classes start with the minimum buffer size and doubles the size up
+ * to the maximum buffer size. Each size class keeps its own free buffers. If
+ * the pool of a size class is empty, {@link #take(int)} allocates a new
+ * buffer. If the pool is full, {@link #release(ByteBuffer)} drops the buffer.
+ * Therefore buffers, which are not released, are not leaked, they are only not
+ * reused.
+ * <p>
+ * The buffers are either heap or direct buffers. Direct buffers are expensive
+ * to allocate, therefore pool them with a capacity large enough for the
+ * expected load.
+ * 
+ * @see ChunkedByteBuffer
+ * @since 4.0
+ */
+public class ByteBufferPool {
+
+	/**
+	 * Size of the smallest size class.
+	 */
+	private final int minBufferSize;
+	/**
+	 * Size of the largest size class.
+	 */
+	private final int maxBufferSize;
+	/**
+	 * Use direct buffers.
+	 */
+	private final boolean direct;
+	/**
+	 * Free buffers per size class. Empty array, if pooling is disabled.
+	 */
+	private final BlockingQueue<ByteBuffer>[] free;
+
+	/**
+	 * Create pool of byte buffers.
+	 * 
+	 * @param minBufferSize size of the smallest size class
+	 * @param maxBufferSize size of the largest size class
+	 * @param capacity maximum number of pooled free buffers per size class.
+	 *            {@code 0} to disable pooling.
+	 * @param direct {@code true} to use direct buffers, {@code false} to use
+	 *            heap buffers.
+	 * @throws IllegalArgumentException if minimum buffer size is less than
+	 *             {@code 1}, the maximum buffer size is less than the minimum
+	 *             buffer size, or the capacity is negative.
+	 */
+	public ByteBufferPool(int minBufferSize, int maxBufferSize, int capacity, boolean direct) {
+		if (minBufferSize < 1) {
+			throw new IllegalArgumentException("min. buffer size " + minBufferSize + " must be at least 1!");
+		}
+		if (maxBufferSize < minBufferSize) {
+			throw new IllegalArgumentException("max. buffer size " + maxBufferSize
+					+ " must be at least the min. buffer size " + minBufferSize + "!");
+		}
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity " + capacity + " must not be negative!");
+		}
+		this.minBufferSize = minBufferSize;
+		this.maxBufferSize = maxBufferSize;
+		this.direct = direct;
+		if (capacity > 0) {
+			int classes = getSizeClass(maxBufferSize) + 1;
+			this.free = newQueues(classes);
+			for (int index = 0; index < classes; ++index) {
+				this.free[index] = new ArrayBlockingQueue<>(capacity);
+			}
+		} else {
+			this.free = newQueues(0);
+		}
+	}
+
+	/**
+	 * Take buffer from pool.
+	 * 
+	 * @param size minimum size of the buffer. Values larger than the maximum
+	 *            buffer size are limited to that.
+	 * @return cleared free buffer of the matching size class, or new allocated
+	 *         buffer, if the pool of that size class is empty.
+	 */
+	public ByteBuffer take(int size) {
+		int sizeClass = getSizeClass(size);
+		ByteBuffer buffer = null;
+		if (sizeClass < free.length) {
+			buffer = free[sizeClass].poll();
+		}
+		if (buffer == null) {
+			int bufferSize = getClassBufferSize(sizeClass);
+			buffer = direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+		}
+		return buffer;
+	}
+
+	/**
+	 * Release buffer to pool.
+	 * <p>
+	 * <b>Note:</b> the buffer must not be used after release!
+	 * 
+	 * @param buffer buffer to release. Buffers of other sizes or kinds are
+	 *            ignored.
+	 */
+	public void release(ByteBuffer buffer) {
+		if (buffer != null && buffer.isDirect() == direct) {
+			int sizeClass = getSizeClass(buffer.capacity());
+			if (sizeClass < free.length && getClassBufferSize(sizeClass) == buffer.capacity()) {
+				((Buffer) buffer).clear();
+				free[sizeClass].offer(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Get buffer size for requested size.
+	 * 
+	 * @param size requested size
+	 * @return size of the matching size class.
+	 */
+	public int getBufferSize(int size) {
+		return getClassBufferSize(getSizeClass(size));
+	}
+
+	/**
+	 * Get size of the smallest size class.
+	 * 
+	 * @return size of the smallest size class
+	 */
+	public int getMinBufferSize() {
+		return minBufferSize;
+	}
+
+	/**
+	 * Get size of the largest size class.
+	 * 
+	 * @return size of the largest size class
+	 */
+	public int getMaxBufferSize() {
+		return maxBufferSize;
+	}
+
+	/**
+	 * Check, if direct buffers are used.
+	 * 
+	 * @return {@code true}, for direct buffers, {@code false}, for heap
+	 *         buffers.
+	 */
+	public boolean isDirect() {
+		return direct;
+	}
+
+	/**
+	 * Get number of free buffers in pool.
+	 * 
+	 * @return number of free buffers of all size classes
+	 */
+	public int available() {
+		int available = 0;
+		for (BlockingQueue<ByteBuffer> queue : free) {
+			available += queue.size();
+		}
+		return available;
+	}
+
+	/**
+	 * Create array of queues.
+	 * 
+	 * @param size size of the array
+	 * @return array of queues
+	 */
+	@SuppressWarnings("unchecked")
+	private static BlockingQueue<ByteBuffer>[] newQueues(int size) {
+		return (BlockingQueue<ByteBuffer>[]) new BlockingQueue<?>[size];
+	}
+
+	/**
+	 * Get size class for requested size.
+	 * 
+	 * @param size requested size
+	 * @return size class. {@code 0} for the minimum buffer size.
+	 */
+	private int getSizeClass(int size) {
+		int sizeClass = 0;
+		long bufferSize = minBufferSize;
+		while (bufferSize < size && bufferSize < maxBufferSize) {
+			bufferSize <<= 1;
+			++sizeClass;
+		}
+		return sizeClass;
+	}
+
+	/**
+	 * Get buffer size of size class.
+	 * 
+	 * @param sizeClass size class
+	 * @return buffer size of size class.
+	 */
+	private int getClassBufferSize(int sizeClass) {
+		long bufferSize = ((long) minBufferSize) << sizeClass;
+		return (int) Math.min(bufferSize, maxBufferSize);
+	}
+}
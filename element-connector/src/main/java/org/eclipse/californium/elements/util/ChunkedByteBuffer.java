@@ -0,0 +1,272 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements.util;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable byte buffer with chunks from a {@link ByteBufferPool}.
+ * <p>
+ * The capacity is only the upper limit of the content. The chunks are taken
+ * from the pool on demand, when data is put into the buffer. The chunks grow
+ * with the size of the content, starting with the minimum buffer size of the
+ * pool up to the maximum buffer size of the pool. {@link #release()} returns
+ * the chunks to the pool.
+ * <p>
+ * Follows the position, limit and flip semantic of {@link ByteBuffer}, but
+ * with absolute positions over all chunks.
+ * <p>
+ * <b>Note:</b> not thread safe!
+ *
+ * @since 4.0
+ */
+public class ChunkedByteBuffer {
+
+	/**
+	 * Pool to take the chunks from.
+	 */
+	private final ByteBufferPool pool;
+	/**
+	 * Capacity of this buffer.
+	 */
+	private final int capacity;
+	/**
+	 * Chunks of this buffer.
+	 */
+	private final List<ByteBuffer> chunks = new ArrayList<>();
+	/**
+	 * Sum of the sizes of the chunks.
+	 */
+	private int allocated;
+	/**
+	 * Current position.
+	 */
+	private int position;
+	/**
+	 * Current limit.
+	 */
+	private int limit;
+
+	/**
+	 * Create chunked byte buffer.
+	 *
+	 * @param pool pool to take the chunks from
+	 * @param capacity capacity of the buffer
+	 * @throws NullPointerException if pool is {@code null}
+	 * @throws IllegalArgumentException if capacity is negative
+	 */
+	public ChunkedByteBuffer(ByteBufferPool pool, int capacity) {
+		if (pool == null) {
+			throw new NullPointerException("pool must not be null!");
+		}
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity " + capacity + " must not be negative!");
+		}
+		this.pool = pool;
+		this.capacity = capacity;
+		this.limit = capacity;
+	}
+
+	/**
+	 * Get capacity.
+	 *
+	 * @return capacity of this buffer
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Get position.
+	 *
+	 * @return current position
+	 */
+	public int position() {
+		return position;
+	}
+
+	/**
+	 * Set position.
+	 *
+	 * @param position new position
+	 * @return this buffer
+	 * @throws IllegalArgumentException if position is negative or larger than
+	 *             the limit
+	 */
+	public ChunkedByteBuffer position(int position) {
+		if (position < 0 || position > limit) {
+			throw new IllegalArgumentException("position " + position + " out of [0-" + limit + "]!");
+		}
+		this.position = position;
+		return this;
+	}
+
+	/**
+	 * Get limit.
+	 *
+	 * @return current limit
+	 */
+	public int limit() {
+		return limit;
+	}
+
+	/**
+	 * Get number of remaining bytes between position and limit.
+	 *
+	 * @return number of remaining bytes
+	 */
+	public int remaining() {
+		return limit - position;
+	}
+
+	/**
+	 * Get number of allocated bytes.
+	 *
+	 * @return sum of the sizes of the current chunks
+	 */
+	public int allocated() {
+		return allocated;
+	}
+
+	/**
+	 * Flip buffer.
+	 * <p>
+	 * Set limit to current position and position to {@code 0}.
+	 *
+	 * @return this buffer
+	 */
+	public ChunkedByteBuffer flip() {
+		limit = position;
+		position = 0;
+		return this;
+	}
+
+	/**
+	 * Clear buffer.
+	 * <p>
+	 * Set limit to capacity and position to {@code 0}. Keeps the chunks.
+	 *
+	 * @return this buffer
+	 */
+	public ChunkedByteBuffer clear() {
+		limit = capacity;
+		position = 0;
+		return this;
+	}
+
+	/**
+	 * Put data at the current position and advance the position.
+	 * <p>
+	 * Takes additional chunks from the pool, if required.
+	 *
+	 * @param data data to put
+	 * @return this buffer
+	 * @throws BufferOverflowException if the data exceeds the remaining bytes
+	 */
+	public ChunkedByteBuffer put(byte[] data) {
+		if (data.length > remaining()) {
+			throw new BufferOverflowException();
+		}
+		int end = position + data.length;
+		while (allocated < end) {
+			int size = Math.min(Math.max(allocated, pool.getMinBufferSize()), capacity - allocated);
+			ByteBuffer chunk = pool.take(size);
+			chunks.add(chunk);
+			allocated += chunk.capacity();
+		}
+		transfer(data, 0, data.length, true);
+		return this;
+	}
+
+	/**
+	 * Get data from the current position and advance the position.
+	 *
+	 * @param data array to copy the data into
+	 * @param offset offset in the array
+	 * @param length number of bytes
+	 * @return this buffer
+	 * @throws BufferUnderflowException if the length exceeds the remaining
+	 *             bytes
+	 */
+	public ChunkedByteBuffer get(byte[] data, int offset, int length) {
+		if (length > remaining()) {
+			throw new BufferUnderflowException();
+		}
+		transfer(data, offset, length, false);
+		return this;
+	}
+
+	/**
+	 * Release the chunks to the pool.
+	 * <p>
+	 * Limit and position are set to {@code 0}, use {@link #clear()} to use
+	 * the buffer again.
+	 */
+	public void release() {
+		for (ByteBuffer chunk : chunks) {
+			pool.release(chunk);
+		}
+		chunks.clear();
+		allocated = 0;
+		position = 0;
+		limit = 0;
+	}
+
+	/**
+	 * Transfer data from or to the chunks and advance the position.
+	 * <p>
+	 * Not allocated chunks are read as {@code 0}.
+	 *
+	 * @param data array to transfer the data from or to
+	 * @param offset offset in the array
+	 * @param length number of bytes
+	 * @param put {@code true} to put the data into the chunks, {@code false} to
+	 *            get the data from the chunks.
+	 */
+	private void transfer(byte[] data, int offset, int length, boolean put) {
+		int chunkStart = 0;
+		for (ByteBuffer chunk : chunks) {
+			if (length == 0) {
+				break;
+			}
+			int chunkSize = chunk.capacity();
+			int chunkOffset = position - chunkStart;
+			if (chunkOffset < chunkSize) {
+				int size = Math.min(length, chunkSize - chunkOffset);
+				((Buffer) chunk).position(chunkOffset);
+				if (put) {
+					chunk.put(data, offset, size);
+				} else {
+					chunk.get(data, offset, size);
+				}
+				position += size;
+				offset += size;
+				length -= size;
+			}
+			chunkStart += chunkSize;
+		}
+		if (length > 0) {
+			// not allocated
+			Arrays.fill(data, offset, offset + length, (byte) 0);
+			position += length;
+		}
+	}
+}
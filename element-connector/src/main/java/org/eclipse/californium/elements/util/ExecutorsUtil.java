@@ -16,6 +16,7 @@
 package org.eclipse.californium.elements.util;
 
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -23,6 +24,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -125,6 +127,59 @@ public class ExecutorsUtil {
 		return new ProtocolScheduledThreadPoolExecutor(poolSize, threadFactory);
 	}
 
+	/**
+	 * Creates a protocol scheduled executor service, which executes jobs using
+	 * virtual threads.
+	 * <p>
+	 * Jobs passed to {@code execute} or {@code submit} are executed each by
+	 * its own virtual thread. Therefore blocking jobs don't exhaust the thread
+	 * pool. Scheduled jobs and background jobs are executed by platform
+	 * threads of the provided thread factory, which are intended to only
+	 * execute short timer jobs.
+	 * 
+	 * @param virtualThreadPrefix prefix for the names of the virtual threads
+	 * @param timerThreadFactory thread factory for the timer threads
+	 * @return virtual thread based protocol scheduled executor service
+	 * @throws IllegalStateException if virtual threads are not supported by
+	 *             the JVM
+	 * @see VirtualThreadFactory#isAvailable()
+	 * @since 4.0
+	 */
+	public static ProtocolScheduledExecutorService newProtocolVirtualThreadExecutor(String virtualThreadPrefix,
+			ThreadFactory timerThreadFactory) {
+		ExecutorService directExecutor = newVirtualThreadPerTaskExecutor(virtualThreadPrefix);
+		return new ProtocolScheduledThreadPoolExecutor(timerThreadFactory, directExecutor);
+	}
+
+	/**
+	 * Creates a protocol scheduled executor service.
+	 * <p>
+	 * If the provided number of threads is negative and virtual threads are
+	 * supported by the JVM, a
+	 * {@link #newProtocolVirtualThreadExecutor(String, ThreadFactory)} is
+	 * returned. If virtual threads are not supported, a
+	 * {@link #newProtocolScheduledThreadPool(int, ThreadFactory)} with the
+	 * number of available processors is returned instead.
+	 * 
+	 * @param poolSize number of threads for thread pool. {@code < 0} for
+	 *            virtual threads, if supported by the JVM.
+	 * @param threadFactory thread factory for platform threads
+	 * @param virtualThreadPrefix prefix for the names of the virtual threads
+	 * @return protocol scheduled executor service
+	 * @since 4.0
+	 */
+	public static ProtocolScheduledExecutorService newProtocolScheduledThreadPool(int poolSize,
+			ThreadFactory threadFactory, String virtualThreadPrefix) {
+		if (poolSize < 0) {
+			if (VirtualThreadFactory.isAvailable()) {
+				return newProtocolVirtualThreadExecutor(virtualThreadPrefix, threadFactory);
+			}
+			poolSize = Runtime.getRuntime().availableProcessors();
+			LOGGER.info("virtual threads not available, use {} threads for {}", poolSize, virtualThreadPrefix);
+		}
+		return newProtocolScheduledThreadPool(poolSize, threadFactory);
+	}
+
 	public static ProtocolScheduledExecutorService newSingleThreadedProtocolExecutor(ThreadFactory threadFactory) {
 		return new SingleThreadedProtocolScheduledExecutor(threadFactory);
 	}
@@ -169,6 +224,96 @@ public class ExecutorsUtil {
 		return executor;
 	}
 
+	/**
+	 * Create a thread pool.
+	 * <p>
+	 * If the provided number of threads is negative and virtual threads are
+	 * supported by the JVM, a {@link #newVirtualThreadPerTaskExecutor(String)}
+	 * is returned. If virtual threads are not supported, a
+	 * {@link #newFixedThreadPool(int, ThreadFactory)} with the number of
+	 * available processors is returned instead.
+	 * 
+	 * @param poolSize number of threads for thread pool. {@code < 0} for
+	 *            virtual threads, if supported by the JVM.
+	 * @param threadFactory thread factory for platform threads
+	 * @param virtualThreadPrefix prefix for the names of the virtual threads
+	 * @return executor service
+	 * @since 4.0
+	 */
+	public static ExecutorService newFixedThreadPool(int poolSize, ThreadFactory threadFactory,
+			String virtualThreadPrefix) {
+		if (poolSize < 0) {
+			if (VirtualThreadFactory.isAvailable()) {
+				return newVirtualThreadPerTaskExecutor(virtualThreadPrefix);
+			}
+			poolSize = Runtime.getRuntime().availableProcessors();
+			LOGGER.info("virtual threads not available, use {} threads for {}", poolSize, virtualThreadPrefix);
+		}
+		return newFixedThreadPool(poolSize, threadFactory);
+	}
+
+	/**
+	 * Create a thread pool with limited number of pending jobs.
+	 * <p>
+	 * If the limit is reached, new jobs are rejected with a
+	 * {@link java.util.concurrent.RejectedExecutionException}. If the provided
+	 * number of threads is negative and virtual threads are supported by the
+	 * JVM, each job is executed by its own virtual thread and the limit
+	 * applies to the number of concurrently executed jobs. If virtual threads
+	 * are not supported, the number of available processors is used as
+	 * number of threads instead.
+	 * 
+	 * @param poolSize number of threads for thread pool. {@code < 0} for
+	 *            virtual threads, if supported by the JVM.
+	 * @param maxPendingJobs maximum number of pending jobs
+	 * @param threadFactory thread factory for platform threads
+	 * @param virtualThreadPrefix prefix for the names of the virtual threads
+	 * @return executor service
+	 * @since 4.0
+	 */
+	public static ExecutorService newBoundedThreadPool(int poolSize, int maxPendingJobs, ThreadFactory threadFactory,
+			String virtualThreadPrefix) {
+		if (poolSize < 0) {
+			if (VirtualThreadFactory.isAvailable()) {
+				LOGGER.trace("create bounded virtual thread executor {}", virtualThreadPrefix);
+				ThreadFactory factory = VirtualThreadFactory.create(virtualThreadPrefix + "-", 0L);
+				return new ThreadPoolExecutor(0, maxPendingJobs, 0, TimeUnit.MILLISECONDS,
+						new SynchronousQueue<Runnable>(), factory);
+			}
+			poolSize = Runtime.getRuntime().availableProcessors();
+			LOGGER.info("virtual threads not available, use {} threads for {}", poolSize, virtualThreadPrefix);
+		}
+		LOGGER.trace("create thread pool of {} threads and {} pending jobs", poolSize, maxPendingJobs);
+		ExecutorService executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(maxPendingJobs), threadFactory);
+		executor.execute(WARMUP);
+		return executor;
+	}
+
+	/**
+	 * Create an executor, which executes each job by its own virtual thread.
+	 * <p>
+	 * Intended for jobs, which may block, e.g. resource handlers accessing a
+	 * database. The number of concurrent jobs is not limited by a pool size.
+	 * 
+	 * @param prefix prefix for the names of the virtual threads
+	 * @return virtual thread executor service
+	 * @throws IllegalStateException if virtual threads are not supported by
+	 *             the JVM
+	 * @see VirtualThreadFactory#isAvailable()
+	 * @since 4.0
+	 */
+	public static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+		if (!VirtualThreadFactory.isAvailable()) {
+			throw new IllegalStateException("Virtual threads are not available!");
+		}
+		LOGGER.trace("create virtual thread executor {}", prefix);
+		ThreadFactory factory = VirtualThreadFactory.create(prefix + "-", 0L);
+		// virtual threads are cheap, therefore they are not kept alive
+		return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0, TimeUnit.MILLISECONDS,
+				new SynchronousQueue<Runnable>(), factory);
+	}
+
 	/**
 	 * Create a single threaded scheduled executor service.
 	 * 
@@ -314,6 +459,27 @@ public class ExecutorsUtil {
 
 		private final long scheduleLoggingQueueSizeDiff;
 
+		/**
+		 * Create new executor.
+		 * 
+		 * Uses a {@link ScheduledThreadPoolExecutor} with a single thread for
+		 * scheduling and the provided executor for direct execution.
+		 * 
+		 * @param threadFactory thread factory for the scheduling threads.
+		 * @param directExecutor executor for direct execution.
+		 * @since 4.0
+		 */
+		public SplitScheduledThreadPoolExecutor(ThreadFactory threadFactory, ExecutorService directExecutor) {
+			super(1, threadFactory);
+			setMaximumPoolSize(1);
+			Long diff = StringUtil.getConfigurationLong("EXECUTER_LOGGING_QUEUE_SIZE_DIFF");
+			scheduleLoggingQueueSizeDiff = diff == null ? SCHEDULE_EXECUTOR_LOGGING_QUEUE_SIZE_DIFF_DEFAULT : diff;
+			ExecutorsUtil.setRemoveOnCancelPolicy(this);
+			this.directExecutor = directExecutor;
+			LOGGER.debug("remove on cancel: {}, external direct executor, log-diff: {}", REMOVE_ON_CANCEL,
+					scheduleLoggingQueueSizeDiff);
+		}
+
 		/**
 		 * Create new executor.
 		 * 
@@ -422,10 +588,20 @@ public class ExecutorsUtil {
 
 		public ProtocolScheduledThreadPoolExecutor(int corePoolSize, ThreadFactory threadFactory) {
 			super(corePoolSize, threadFactory);
-			background = new ScheduledThreadPoolExecutor(2, threadFactory);
+			background = createBackground(threadFactory);
+		}
+
+		public ProtocolScheduledThreadPoolExecutor(ThreadFactory threadFactory, ExecutorService directExecutor) {
+			super(threadFactory, directExecutor);
+			background = createBackground(threadFactory);
+		}
+
+		private static ScheduledThreadPoolExecutor createBackground(ThreadFactory threadFactory) {
+			ScheduledThreadPoolExecutor background = new ScheduledThreadPoolExecutor(2, threadFactory);
 			ExecutorsUtil.setRemoveOnCancelPolicy(background);
 			background.execute(WARMUP);
 			background.prestartAllCoreThreads();
+			return background;
 		}
 
 		@Override
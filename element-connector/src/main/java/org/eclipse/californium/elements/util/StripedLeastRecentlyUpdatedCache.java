@@ -0,0 +1,1131 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements.util;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.function.Predicate;
+
+import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache.EvictionListener;
+import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache.Timestamped;
+
+/**
+ * A lock-striped variant of the {@link LeastRecentlyUpdatedCache}.
+ * <p>
+ * The keys are distributed by their hash code over a fixed number of segments.
+ * Each segment has its own {@link ReentrantReadWriteLock} and its own
+ * doubly-linked list of entries in last-update order. Updates of keys in
+ * different segments therefore don't contend on the same lock.
+ * </p>
+ * <p>
+ * The capacity is shared by all segments. If the cache is full, a
+ * {@link #put(Object, Object)} evicts the eldest stale entry of the key's
+ * segment. If that segment has no stale entry, the eldest stale entry of the
+ * other segments is evicted, skipping segments currently locked by other
+ * threads. The eviction is therefore only approximately the global
+ * least-recently updated one, same as {@link #removeExpiredEntries(int)} and
+ * {@link #ascendingIterator()}.
+ * </p>
+ * <p>
+ * The API matches the one of {@link LeastRecentlyUpdatedCache}, except the
+ * locks. {@link #readLock(Object)} and {@link #writeLock(Object)} return the
+ * lock of the segment of the provided key. Holding that write-lock makes a
+ * sequence of operations on that key atomic.
+ * </p>
+ * 
+ * @param <K> The type of the keys used in the cache.
+ * @param <V> The type of the values used in the cache.
+ * @since 4.0
+ */
+public class StripedLeastRecentlyUpdatedCache<K, V> {
+
+	/**
+	 * The default number of segments.
+	 * 
+	 * Twice the number of available processors, rounded up to the next power
+	 * of two, but at least {@code 4} and at most {@code 256}.
+	 */
+	public static final int DEFAULT_SEGMENTS;
+
+	static {
+		int cores = Runtime.getRuntime().availableProcessors() * 2;
+		int segments = 4;
+		while (segments < cores && segments < 256) {
+			segments <<= 1;
+		}
+		DEFAULT_SEGMENTS = segments;
+	}
+
+	private final ConcurrentMap<K, CacheEntry<K, V>> cache;
+	private final Segment<K, V>[] segments;
+	private final int mask;
+	/**
+	 * Number of entries, including reserved ones.
+	 */
+	private final AtomicInteger count = new AtomicInteger();
+	private final List<EvictionListener<V>> evictionListeners = new CopyOnWriteArrayList<>();
+	private Collection<V> values;
+	private volatile int capacity;
+
+	/**
+	 * Threshold for expiration in nanoseconds.
+	 */
+	private volatile long expirationThresholdNanos;
+
+	/**
+	 * Hide stale values.
+	 * 
+	 * @see LeastRecentlyUpdatedCache#isHidingStaleValues()
+	 */
+	private volatile boolean hideStaleValues;
+
+	/**
+	 * Creates a cache with an initial capacity of
+	 * {@link LeastRecentlyUpdatedCache#DEFAULT_INITIAL_CAPACITY}, a maximum
+	 * capacity of {@link LeastRecentlyUpdatedCache#DEFAULT_CAPACITY} entries, an
+	 * expiration threshold of
+	 * {@link LeastRecentlyUpdatedCache#DEFAULT_THRESHOLD_SECS} seconds and
+	 * {@link #DEFAULT_SEGMENTS} segments.
+	 */
+	public StripedLeastRecentlyUpdatedCache() {
+		this(LeastRecentlyUpdatedCache.DEFAULT_INITIAL_CAPACITY, LeastRecentlyUpdatedCache.DEFAULT_CAPACITY,
+				LeastRecentlyUpdatedCache.DEFAULT_THRESHOLD_SECS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Creates a cache based on given configuration parameters.
+	 * <p>
+	 * The cache's initial capacity is set to the lesser of
+	 * {@link LeastRecentlyUpdatedCache#DEFAULT_INITIAL_CAPACITY} and
+	 * <em>capacity</em>.
+	 * 
+	 * @param capacity the maximum number of entries the cache can manage
+	 * @param threshold the period of time of inactivity after which an entry is
+	 *            considered stale and can be evicted from the cache if a new
+	 *            entry is to be added to the cache
+	 * @param unit TimeUnit for threshold
+	 */
+	public StripedLeastRecentlyUpdatedCache(int capacity, long threshold, TimeUnit unit) {
+		this(Math.min(capacity, LeastRecentlyUpdatedCache.DEFAULT_INITIAL_CAPACITY), capacity, threshold, unit);
+	}
+
+	/**
+	 * Creates a cache based on given configuration parameters.
+	 * 
+	 * @param initialCapacity The initial number of entries the cache will be
+	 *            initialized to support.
+	 * @param maxCapacity The maximum number of entries the cache can manage
+	 * @param threshold The period of time of inactivity after which an entry is
+	 *            considered stale and can be evicted from the cache if a new
+	 *            entry is to be added to the cache
+	 * @param unit TimeUnit for threshold
+	 */
+	public StripedLeastRecentlyUpdatedCache(int initialCapacity, int maxCapacity, long threshold, TimeUnit unit) {
+		this(initialCapacity, maxCapacity, threshold, unit, DEFAULT_SEGMENTS);
+	}
+
+	/**
+	 * Creates a cache based on given configuration parameters.
+	 * 
+	 * @param initialCapacity The initial number of entries the cache will be
+	 *            initialized to support.
+	 * @param maxCapacity The maximum number of entries the cache can manage
+	 * @param threshold The period of time of inactivity after which an entry is
+	 *            considered stale and can be evicted from the cache if a new
+	 *            entry is to be added to the cache
+	 * @param unit TimeUnit for threshold
+	 * @param segments number of segments. Rounded up to the next power of two.
+	 * @throws IllegalArgumentException if initial capacity is larger than the
+	 *             max capacity, or the number of segments is less than
+	 *             {@code 1}
+	 */
+	public StripedLeastRecentlyUpdatedCache(int initialCapacity, int maxCapacity, long threshold, TimeUnit unit,
+			int segments) {
+		if (initialCapacity > maxCapacity) {
+			throw new IllegalArgumentException("initial capacity must be <= max capacity");
+		} else if (segments < 1) {
+			throw new IllegalArgumentException("segments must be at least 1");
+		}
+		int size = 1;
+		while (size < segments) {
+			size <<= 1;
+		}
+		this.capacity = maxCapacity;
+		this.cache = new ConcurrentHashMap<>(initialCapacity);
+		this.segments = newSegments(size);
+		for (int index = 0; index < size; ++index) {
+			this.segments[index] = new Segment<>();
+		}
+		this.mask = size - 1;
+		setExpirationThreshold(threshold, unit);
+	}
+
+	private Segment<K, V> segment(Object key) {
+		int hash = key.hashCode();
+		return segments[(hash ^ (hash >>> 16)) & mask];
+	}
+
+	/**
+	 * Gets the read-lock of the segment of the provided key.
+	 * 
+	 * @param key key
+	 * @return read-lock of the segment
+	 */
+	public final ReadLock readLock(K key) {
+		return segment(key).lock.readLock();
+	}
+
+	/**
+	 * Gets the write-lock of the segment of the provided key.
+	 * 
+	 * Holding that lock makes a sequence of operations on that key atomic.
+	 * 
+	 * @param key key
+	 * @return write-lock of the segment
+	 */
+	public final WriteLock writeLock(K key) {
+		return segment(key).lock.writeLock();
+	}
+
+	/**
+	 * Gets the number of segments.
+	 * 
+	 * @return number of segments
+	 */
+	public final int getSegments() {
+		return segments.length;
+	}
+
+	/**
+	 * Registers a listener to be notified about (stale) entries being evicted
+	 * from the cache.
+	 * 
+	 * @param listener the listener
+	 */
+	public void addEvictionListener(EvictionListener<V> listener) {
+		if (listener != null) {
+			this.evictionListeners.add(listener);
+		}
+	}
+
+	/**
+	 * Gets the period of time after which an entry is considered <em>stale</em>
+	 * if it hasn't be updated.
+	 * 
+	 * @param unit time unit of return value.
+	 * @return the threshold in provided units
+	 */
+	public final long getExpirationThreshold(TimeUnit unit) {
+		return unit.convert(expirationThresholdNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Sets the period of time after which an entry is to be considered stale if
+	 * it hasn't been updated.
+	 * 
+	 * @param newThreshold the threshold
+	 * @param unit TimeUnit for threshold
+	 */
+	public final void setExpirationThreshold(long newThreshold, TimeUnit unit) {
+		this.expirationThresholdNanos = unit.toNanos(newThreshold);
+	}
+
+	/**
+	 * Gets the maximum number of entries this cache can manage.
+	 * 
+	 * @return the number of entries
+	 */
+	public final int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Sets the maximum number of entries this cache can manage.
+	 * 
+	 * <em>NB</em>: invoking this method after creation of the cache does
+	 * <em>not</em> have an immediate effect, i.e. no entries are purged from
+	 * the cache. This happens only when a new entry is put to the cache.
+	 * 
+	 * @param capacity the maximum number of entries the cache can manage
+	 */
+	public final void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Gets the cache's current number of entries.
+	 * 
+	 * @return the size
+	 */
+	public final int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Gets the number of entries that can be added to this cache without the
+	 * need for removing stale entries.
+	 * 
+	 * @return The number of entries.
+	 */
+	public final int remainingCapacity() {
+		return Math.max(0, capacity - count.get());
+	}
+
+	/**
+	 * Check, if stale values are hidden.
+	 * 
+	 * @return {@code true}, if stale values are hidden, {@code false}
+	 *         otherwise.
+	 * @see LeastRecentlyUpdatedCache#isHidingStaleValues()
+	 */
+	public boolean isHidingStaleValues() {
+		return hideStaleValues;
+	}
+
+	/**
+	 * Set to hide stale values.
+	 * 
+	 * @param hideStaleValues {@code true}, to hide stale values, {@code false}
+	 *            otherwise.
+	 */
+	public void setHideStaleValues(boolean hideStaleValues) {
+		this.hideStaleValues = hideStaleValues;
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 * 
+	 * Acquires the write-locks of all segments.
+	 */
+	public final void clear() {
+		for (Segment<K, V> segment : segments) {
+			segment.lock.writeLock().lock();
+		}
+		try {
+			cache.clear();
+			count.set(0);
+			for (Segment<K, V> segment : segments) {
+				segment.clear();
+			}
+		} finally {
+			for (Segment<K, V> segment : segments) {
+				segment.lock.writeLock().unlock();
+			}
+		}
+	}
+
+	private final void notifyEvictionListeners(V value) {
+		if (value != null && !evictionListeners.isEmpty()) {
+			for (EvictionListener<V> listener : evictionListeners) {
+				listener.onEviction(value);
+			}
+		}
+	}
+
+	/**
+	 * Puts an entry to the cache.
+	 * 
+	 * An entry can be successfully added to the cache if any of the following
+	 * conditions are met:
+	 * <ul>
+	 * <li>The cache's remaining capacity is greater than zero.</li>
+	 * <li>The cache contains at least one <em>stale</em> entry in a not locked
+	 * segment. In such a case that entry gets evicted from the cache to make
+	 * place for the new entry to be added.</li>
+	 * </ul>
+	 * 
+	 * If an entry is evicted this method notifies all registered
+	 * {@code EvictionListeners}.
+	 * 
+	 * Acquires the write-lock of the key's segment.
+	 * 
+	 * @param key the key to store the value under
+	 * @param value the value to store
+	 * @return {@code true}, if the entry could be added to the cache,
+	 *         {@code false}, otherwise, e.g. because the cache's remaining
+	 *         capacity is zero and no stale entries can be evicted
+	 * @see #addEvictionListener(EvictionListener)
+	 */
+	public final boolean put(K key, V value) {
+		return put(key, value, ClockUtil.nanoRealtime(), false);
+	}
+
+	/**
+	 * Puts an entry with last-update-timestamp to the cache.
+	 * 
+	 * In difference to {@link #put(Object, Object)}, only stale entries before
+	 * the provided last-update-timestamp are evicted.
+	 * 
+	 * Add the entries in ascending last-update-timestamp order for best
+	 * performance.
+	 * 
+	 * Acquires the write-lock of the key's segment. <em>O(n)</em> of the
+	 * segment's size, if values passed in are not sorted ascending.
+	 * 
+	 * @param key the key to store the value under
+	 * @param value the value to store
+	 * @param lastUpdate the last-update timestamp to store
+	 * @return {@code true}, if the entry could be added to the cache,
+	 *         {@code false}, otherwise.
+	 * @see #addEvictionListener(EvictionListener)
+	 */
+	public final boolean put(K key, V value, long lastUpdate) {
+		return put(key, value, lastUpdate, true);
+	}
+
+	private final boolean put(K key, V value, long lastUpdate, boolean sorted) {
+		if (value != null) {
+			Segment<K, V> segment = segment(key);
+			V evict = null;
+			segment.lock.writeLock().lock();
+			try {
+				CacheEntry<K, V> existingEntry = cache.get(key);
+				if (existingEntry != null) {
+					existingEntry.remove();
+					add(segment, key, value, lastUpdate, sorted);
+					return true;
+				} else if (reserve()) {
+					add(segment, key, value, lastUpdate, sorted);
+					return true;
+				} else {
+					long threshold = expirationThresholdNanos;
+					CacheEntry<K, V> eldest = segment.evictEldest(cache, threshold, lastUpdate, sorted);
+					if (eldest == null) {
+						eldest = evictForeign(segment, threshold, lastUpdate, sorted);
+					}
+					if (eldest != null) {
+						// the slot of the evicted entry is reused
+						add(segment, key, value, lastUpdate, sorted);
+						evict = eldest.value;
+					}
+				}
+			} finally {
+				segment.lock.writeLock().unlock();
+			}
+			if (evict != null) {
+				notifyEvictionListeners(evict);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean reserve() {
+		int current;
+		do {
+			current = count.get();
+			if (current >= capacity) {
+				return false;
+			}
+		} while (!count.compareAndSet(current, current + 1));
+		return true;
+	}
+
+	private void add(Segment<K, V> segment, K key, V value, long lastUpdate, boolean sorted) {
+		CacheEntry<K, V> entry = new CacheEntry<>(key, value, lastUpdate);
+		cache.put(key, entry);
+		if (sorted) {
+			segment.addSorted(entry);
+		} else {
+			segment.addLast(entry);
+		}
+	}
+
+	/**
+	 * Evict the eldest stale entry of the other segments.
+	 * 
+	 * Skips segments locked by other threads in order to prevent deadlocks.
+	 * 
+	 * @param own segment of the caller. Already locked.
+	 * @param threshold threshold for stale entries in nanoseconds
+	 * @param lastUpdate last update of the entry to add
+	 * @param sorted {@code true}, to evict only entries before last update.
+	 * @return evicted entry, or {@code null}, if no entry is evicted.
+	 */
+	private CacheEntry<K, V> evictForeign(Segment<K, V> own, long threshold, long lastUpdate, boolean sorted) {
+		long now = ClockUtil.nanoRealtime();
+		Segment<K, V> best = null;
+		long bestUpdate = 0;
+		for (Segment<K, V> segment : segments) {
+			if (segment != own && !segment.isEmpty()) {
+				long eldest = segment.eldestUpdate;
+				if ((now - eldest) >= threshold && (best == null || (eldest - bestUpdate) < 0)) {
+					best = segment;
+					bestUpdate = eldest;
+				}
+			}
+		}
+		if (best != null && best.lock.writeLock().tryLock()) {
+			try {
+				return best.evictEldest(cache, threshold, lastUpdate, sorted);
+			} finally {
+				best.lock.writeLock().unlock();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check, if entry is stale.
+	 * 
+	 * @param key the key to look up in the cache
+	 * @return {@code true}, if the entry is stale, {@code false}, if there is
+	 *         either no entry, or the entry is not stale.
+	 */
+	public final boolean isStale(K key) {
+		CacheEntry<K, V> entry = getEntry(key);
+		if (entry == null) {
+			return false;
+		} else {
+			return entry.isStale(expirationThresholdNanos);
+		}
+	}
+
+	private final CacheEntry<K, V> getEntry(K key) {
+		if (key == null) {
+			return null;
+		}
+		return cache.get(key);
+	}
+
+	/**
+	 * Gets a value from the cache.
+	 * 
+	 * @param key the key to look up in the cache
+	 * @return the value, if the key has been found in the cache, {@code null},
+	 *         otherwise
+	 * @see #isHidingStaleValues()
+	 */
+	public final V get(K key) {
+		CacheEntry<K, V> entry = getEntry(key);
+		if (entry != null) {
+			if (!hideStaleValues || !entry.isStale(expirationThresholdNanos)) {
+				return entry.value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets a timestamped value from the cache.
+	 * 
+	 * @param key the key to look up in the cache
+	 * @return the timestamped value, if the key has been found in the cache,
+	 *         {@code null}, otherwise
+	 * @see #isHidingStaleValues()
+	 */
+	public final Timestamped<V> getTimestamped(K key) {
+		CacheEntry<K, V> entry = getEntry(key);
+		if (entry != null) {
+			if (!hideStaleValues || !entry.isStale(expirationThresholdNanos)) {
+				return entry.getEntry();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Update the last-access time.
+	 * 
+	 * Acquires the write-lock of the key's segment. <em>O(1)</em>
+	 * 
+	 * @param key the key to update the last-access time.
+	 * @return the value, if the key has been found in the cache, {@code null},
+	 *         otherwise
+	 * @see #isHidingStaleValues()
+	 */
+	public final V update(K key) {
+		if (key != null) {
+			Segment<K, V> segment = segment(key);
+			segment.lock.writeLock().lock();
+			try {
+				CacheEntry<K, V> entry = cache.get(key);
+				if (entry != null) {
+					if (!hideStaleValues || !entry.isStale(expirationThresholdNanos)) {
+						if (entry.remove()) {
+							entry.lastUpdate = ClockUtil.nanoRealtime();
+							segment.addLast(entry);
+						}
+						return entry.value;
+					}
+				}
+			} finally {
+				segment.lock.writeLock().unlock();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes an entry from the cache.
+	 * 
+	 * Doesn't call {@code EvictionListeners}.
+	 * 
+	 * Acquires the write-lock of the key's segment.
+	 * 
+	 * @param key the key of the entry to remove
+	 * @return the removed value or {@code null}, if the cache does not contain
+	 *         the key
+	 */
+	public final V remove(K key) {
+		if (key == null) {
+			return null;
+		}
+		Segment<K, V> segment = segment(key);
+		segment.lock.writeLock().lock();
+		try {
+			CacheEntry<K, V> entry = cache.remove(key);
+			if (entry != null) {
+				count.decrementAndGet();
+				entry.remove();
+				segment.updateEldest();
+				return entry.value;
+			}
+		} finally {
+			segment.lock.writeLock().unlock();
+		}
+		return null;
+	}
+
+	/**
+	 * Removes provided entry from the cache.
+	 * 
+	 * Doesn't call {@code EvictionListeners}.
+	 * 
+	 * Acquires the write-lock of the key's segment.
+	 * 
+	 * @param key the key of the entry to remove
+	 * @param value value of the entry to remove
+	 * @return the removed value or {@code null}, if the cache does not contain
+	 *         the key or entry
+	 */
+	public final V remove(K key, V value) {
+		if (key == null) {
+			return null;
+		}
+		Segment<K, V> segment = segment(key);
+		segment.lock.writeLock().lock();
+		try {
+			CacheEntry<K, V> entry = cache.get(key);
+			if (entry != null && entry.value == value) {
+				cache.remove(key);
+				count.decrementAndGet();
+				entry.remove();
+				segment.updateEldest();
+				return value;
+			}
+		} finally {
+			segment.lock.writeLock().unlock();
+		}
+		return null;
+	}
+
+	/**
+	 * Remove expired entries.
+	 * 
+	 * Removes the expired entries segment by segment. Segments without expired
+	 * entries are skipped without locking.
+	 * 
+	 * Acquires the write-locks of segments with expired entries.
+	 * 
+	 * @param maxEntries maximum expired entries to remove. {@code 0} to remove
+	 *            all expired entries.
+	 * @return number of removed expired entries.
+	 */
+	public final int removeExpiredEntries(int maxEntries) {
+		int counter = 0;
+		long threshold = expirationThresholdNanos;
+		for (Segment<K, V> segment : segments) {
+			while (maxEntries == 0 || counter < maxEntries) {
+				if (segment.isEmpty() || (ClockUtil.nanoRealtime() - segment.eldestUpdate) < threshold) {
+					break;
+				}
+				CacheEntry<K, V> eldest;
+				segment.lock.writeLock().lock();
+				try {
+					eldest = segment.evictEldest(cache, threshold, 0, false);
+				} finally {
+					segment.lock.writeLock().unlock();
+				}
+				if (eldest == null) {
+					break;
+				}
+				count.decrementAndGet();
+				++counter;
+				notifyEvictionListeners(eldest.value);
+			}
+		}
+		return counter;
+	}
+
+	/**
+	 * Finds a value based on a predicate.
+	 * 
+	 * The {@link #isHidingStaleValues()} is supported preventing stale values
+	 * from being found.
+	 * 
+	 * Returns the first matching value.
+	 * 
+	 * @param filter the condition to match. Assumed to match entries in a
+	 *            unique manner.
+	 * @return the first value from the cache that matches according to the
+	 *         given predicate, or {@code null}, if no value matches
+	 */
+	public V find(Predicate<V> filter) {
+		if (filter != null) {
+			final Iterator<CacheEntry<K, V>> iterator = cache.values().iterator();
+			while (iterator.hasNext()) {
+				CacheEntry<K, V> entry = iterator.next();
+				if (!hideStaleValues || !entry.isStale(expirationThresholdNanos)) {
+					V value = entry.value;
+					if (filter.test(value)) {
+						return value;
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets iterator over all values contained in this cache.
+	 * 
+	 * The iterator returned is backed by this cache's underlying
+	 * {@link ConcurrentHashMap#values()}.
+	 * 
+	 * @return an iterator over all values backed by the underlying map.
+	 * @see LeastRecentlyUpdatedCache#valuesIterator()
+	 */
+	public final Iterator<V> valuesIterator() {
+
+		return new Iterator<V>() {
+
+			private final Iterator<CacheEntry<K, V>> iterator = cache.values().iterator();
+			private boolean hasNextCalled;
+			private CacheEntry<K, V> nextEntry;
+
+			@Override
+			public boolean hasNext() {
+				if (!hasNextCalled) {
+					nextEntry = null;
+					while (iterator.hasNext()) {
+						CacheEntry<K, V> entry = iterator.next();
+						if (!hideStaleValues || !entry.isStale(expirationThresholdNanos)) {
+							nextEntry = entry;
+							break;
+						}
+					}
+					hasNextCalled = true;
+				}
+				return nextEntry != null;
+			}
+
+			@Override
+			public V next() {
+				hasNext();
+				hasNextCalled = false;
+				if (nextEntry == null) {
+					throw new NoSuchElementException();
+				}
+				return nextEntry.value;
+			}
+
+			@Override
+			public void remove() {
+				if (nextEntry == null || hasNextCalled) {
+					throw new IllegalStateException("next() must be called before remove()!");
+				}
+				StripedLeastRecentlyUpdatedCache.this.remove(nextEntry.key, nextEntry.value);
+				nextEntry = null;
+			}
+		};
+	}
+
+	/**
+	 * Gets all values contained in this cache.
+	 * 
+	 * The returned collection is intended to be used as read access, therefore
+	 * the modifying methods will throw a {@link UnsupportedOperationException}.
+	 * 
+	 * @return an collection of all values backed by the underlying map.
+	 */
+	public final Collection<V> values() {
+		Collection<V> vs = values;
+		if (vs == null) {
+			vs = new AbstractCollection<V>() {
+
+				@Override
+				public final int size() {
+					return cache.size();
+				}
+
+				@Override
+				public final boolean contains(final Object o) {
+					return null != find((value) -> value.equals(o));
+				}
+
+				@Override
+				public final Iterator<V> iterator() {
+					return valuesIterator();
+				}
+
+				@Override
+				public final boolean add(Object o) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public final boolean remove(Object o) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public final void clear() {
+					throw new UnsupportedOperationException();
+				}
+			};
+			values = vs;
+		}
+		return vs;
+	}
+
+	/**
+	 * Gets iterator over all values contained in this cache.
+	 * <p>
+	 * Merges the segments by the last-update timestamps. The iterator is a
+	 * "weakly consistent" iterator that will never throw
+	 * {@link java.util.ConcurrentModificationException}, see
+	 * {@link LeastRecentlyUpdatedCache#ascendingIterator()}. Concurrent
+	 * updates may cause the order to be only approximately ascending.
+	 * </p>
+	 * 
+	 * @return an iterator over all values.
+	 */
+	public final Iterator<V> ascendingIterator() {
+
+		return new Iterator<V>() {
+
+			final Iterator<CacheEntry<K, V>> iterator = new AscendingIterator();
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public V next() {
+				return iterator.next().value;
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+			}
+		};
+	}
+
+	/**
+	 * Gets iterator over all values with timestamp contained in this cache.
+	 * 
+	 * @return an iterator over all values with timestamp.
+	 * @see #ascendingIterator()
+	 */
+	public final Iterator<Timestamped<V>> timestampedIterator() {
+		return new Iterator<Timestamped<V>>() {
+
+			final Iterator<CacheEntry<K, V>> iterator = new AscendingIterator();
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Timestamped<V> next() {
+				return iterator.next().getEntry();
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+			}
+		};
+	}
+
+	/**
+	 * Create array of segments.
+	 * 
+	 * @param <K> type of the keys
+	 * @param <V> type of the values
+	 * @param size size of the array
+	 * @return array of segments
+	 */
+	@SuppressWarnings("unchecked")
+	private static <K, V> Segment<K, V>[] newSegments(int size) {
+		return (Segment<K, V>[]) new Segment<?, ?>[size];
+	}
+
+	/**
+	 * Create array of cache entries.
+	 * 
+	 * @param <K> type of the keys
+	 * @param <V> type of the values
+	 * @param size size of the array
+	 * @return array of cache entries
+	 */
+	@SuppressWarnings("unchecked")
+	private static <K, V> CacheEntry<K, V>[] newEntries(int size) {
+		return (CacheEntry<K, V>[]) new CacheEntry<?, ?>[size];
+	}
+
+	/**
+	 * A iterator merging the doubly-linked lists of all segments.
+	 */
+	private class AscendingIterator implements Iterator<CacheEntry<K, V>> {
+
+		private final CacheEntry<K, V>[] next;
+		private CacheEntry<K, V> current;
+
+		private AscendingIterator() {
+			next = newEntries(segments.length);
+			for (int index = 0; index < segments.length; ++index) {
+				next[index] = segments[index].next(segments[index].header);
+			}
+		}
+
+		private boolean skip(int index) {
+			Segment<K, V> segment = segments[index];
+			CacheEntry<K, V> entry = next[index];
+			while (entry != segment.header && entry != null
+					&& (entry.isRemoved() || (hideStaleValues && entry.isStale(expirationThresholdNanos)))) {
+				entry = segment.next(entry);
+			}
+			next[index] = entry;
+			return entry != segment.header && entry != null;
+		}
+
+		private int select() {
+			int selected = -1;
+			long eldest = 0;
+			for (int index = 0; index < next.length; ++index) {
+				if (skip(index)) {
+					long lastUpdate = next[index].lastUpdate;
+					if (selected < 0 || (lastUpdate - eldest) < 0) {
+						selected = index;
+						eldest = lastUpdate;
+					}
+				}
+			}
+			return selected;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return select() >= 0;
+		}
+
+		@Override
+		public CacheEntry<K, V> next() {
+			int selected = select();
+			if (selected < 0) {
+				throw new NoSuchElementException();
+			}
+			current = next[selected];
+			next[selected] = segments[selected].next(current);
+			return current;
+		}
+
+		@Override
+		public void remove() {
+			if (current == null) {
+				throw new IllegalStateException("next() must be called before remove()!");
+			}
+			StripedLeastRecentlyUpdatedCache.this.remove(current.key, current.value);
+			current = null;
+		}
+	}
+
+	/**
+	 * Segment with lock and doubly-linked list in last-update order.
+	 */
+	private static class Segment<K, V> {
+
+		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		private final CacheEntry<K, V> header = new CacheEntry<>();
+		/**
+		 * Last update of the eldest entry.
+		 * 
+		 * Enables to check for stale entries without locking.
+		 */
+		private volatile long eldestUpdate;
+		private volatile boolean empty = true;
+
+		private boolean isEmpty() {
+			return empty;
+		}
+
+		/**
+		 * Get next entry.
+		 * 
+		 * Acquires the read-lock.
+		 * 
+		 * @param entry current entry
+		 * @return next entry
+		 */
+		private CacheEntry<K, V> next(CacheEntry<K, V> entry) {
+			lock.readLock().lock();
+			try {
+				return entry.after;
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		private void updateEldest() {
+			CacheEntry<K, V> eldest = header.after;
+			if (eldest == header) {
+				empty = true;
+			} else {
+				eldestUpdate = eldest.lastUpdate;
+				empty = false;
+			}
+		}
+
+		private void addLast(CacheEntry<K, V> entry) {
+			entry.addBefore(header);
+			updateEldest();
+		}
+
+		private void addSorted(CacheEntry<K, V> entry) {
+			CacheEntry<K, V> position = header;
+			while (position.before != header && (entry.lastUpdate - position.before.lastUpdate) < 0) {
+				position = position.before;
+			}
+			entry.addBefore(position);
+			updateEldest();
+		}
+
+		/**
+		 * Evict eldest entry, if stale.
+		 * 
+		 * Must be called with write-lock.
+		 * 
+		 * @param cache map of all entries
+		 * @param threshold threshold for stale entries in nanoseconds
+		 * @param lastUpdate last update of the entry to add
+		 * @param sorted {@code true}, to evict only entries before last update.
+		 * @return evicted entry, or {@code null}, if not available.
+		 */
+		private CacheEntry<K, V> evictEldest(ConcurrentMap<K, CacheEntry<K, V>> cache, long threshold,
+				long lastUpdate, boolean sorted) {
+			CacheEntry<K, V> eldest = header.after;
+			if (eldest != header && eldest.isStale(threshold) && (!sorted || (lastUpdate - eldest.lastUpdate) >= 0)) {
+				eldest.remove();
+				cache.remove(eldest.key, eldest);
+				updateEldest();
+				return eldest;
+			}
+			return null;
+		}
+
+		private void clear() {
+			if (header != header.after && header.after != null) {
+				// orphan the current doubly-linked list
+				header.after.before = null;
+			}
+			if (header != header.before && header.before != null) {
+				// orphan the current doubly-linked list
+				header.before.after = null;
+			}
+			header.after = header.before = header;
+			empty = true;
+		}
+	}
+
+	private static class CacheEntry<K, V> {
+
+		private static long REMOVED = -1;
+
+		private final K key;
+		private final V value;
+		private volatile long lastUpdate;
+		private CacheEntry<K, V> after;
+		private CacheEntry<K, V> before;
+
+		private CacheEntry() {
+			this.key = null;
+			this.value = null;
+			this.lastUpdate = REMOVED;
+			this.after = this;
+			this.before = this;
+		}
+
+		private CacheEntry(K key, V value, long lastUpdate) {
+			this.key = key;
+			this.value = value;
+			this.lastUpdate = lastUpdate;
+		}
+
+		private final Timestamped<V> getEntry() {
+			return new Timestamped<V>(value, lastUpdate);
+		}
+
+		private final boolean isStale(long thresholdNanos) {
+			return (ClockUtil.nanoRealtime() - lastUpdate) >= thresholdNanos;
+		}
+
+		private final void addBefore(CacheEntry<K, V> existingEntry) {
+			after = existingEntry;
+			before = existingEntry.before;
+			before.after = this;
+			after.before = this;
+		}
+
+		private final boolean remove() {
+			if (before != null && after != null) {
+				lastUpdate = REMOVED;
+				before.after = after;
+				after.before = before;
+				before = null;
+				// keep after, in the case that a
+				// ascending iterator is using it
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		private final boolean isRemoved() {
+			return lastUpdate == REMOVED;
+		}
+
+		@Override
+		public String toString() {
+			return new StringBuilder("CacheEntry [key: ").append(key).append(", last access: ").append(lastUpdate)
+					.append("]").toString();
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.elements.category.NativeDatagramSocketImplRequired;
+import org.eclipse.californium.elements.config.Configuration;
+import org.eclipse.californium.elements.config.UdpConfig;
+import org.eclipse.californium.elements.rule.NetworkRule;
+import org.eclipse.californium.elements.rule.ThreadsRule;
+import org.eclipse.californium.elements.util.SimpleMessageCallback;
+import org.eclipse.californium.elements.util.SimpleRawDataChannel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Tests the {@link UDPConnector} using {@link UdpConfig#UDP_CHANNEL_MODE}.
+ *
+ * The datagram channel bypasses the DatagramSocketImpl of the DIRECT mode,
+ * therefore only NATIVE is supported.
+ */
+@Category(NativeDatagramSocketImplRequired.class)
+public class UDPConnectorChannelModeTest {
+
+	private static final long TIMEOUT_MILLIS = 1500;
+	private static final int BATCH_SIZE = 4;
+
+	@ClassRule
+	public static NetworkRule network = new NetworkRule(NetworkRule.Mode.NATIVE);
+
+	@Rule
+	public ThreadsRule cleanup = new ThreadsRule();
+
+	UDPConnector connector;
+	UDPConnector destination;
+	SimpleRawDataChannel channel;
+
+	@Before
+	public void setup() throws IOException {
+		Configuration config = network.createStandardTestConfig();
+		config.set(UdpConfig.UDP_CHANNEL_MODE, true);
+		config.set(UdpConfig.UDP_BATCH_SIZE, BATCH_SIZE);
+		connector = new UDPConnector(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), config);
+		connector.start();
+		channel = new SimpleRawDataChannel(BATCH_SIZE * 2);
+		destination = new UDPConnector(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), config);
+		destination.setRawDataReceiver(channel);
+		destination.start();
+	}
+
+	@After
+	public void stop() {
+		connector.destroy();
+		destination.destroy();
+	}
+
+	@Test
+	public void testChannelMode() {
+		assertThat(connector.isChannelMode(), is(true));
+		assertThat(connector.getBatchSize(), is(BATCH_SIZE));
+	}
+
+	@Test
+	public void testMessageCallbackOnSent() throws InterruptedException {
+		byte[] data = { 0, 1, 2 };
+		EndpointContext context = new UdpEndpointContext(destination.getAddress());
+
+		SimpleMessageCallback callback = new SimpleMessageCallback(1, false);
+		RawData message = RawData.outbound(data, context, callback, false);
+		connector.send(message);
+
+		assertThat(callback.await(TIMEOUT_MILLIS), is(true));
+		assertThat(callback.toString(), callback.isSent(), is(true));
+
+		RawData receivedData = channel.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		assertThat("received data:", receivedData, is(notNullValue()));
+		assertThat("bytes received:", receivedData.bytes, is(equalTo(data)));
+		assertThat("source:", receivedData.getInetSocketAddress(), is(connector.getAddress()));
+	}
+
+	@Test
+	public void testBatchIsReceived() throws InterruptedException {
+		EndpointContext context = new UdpEndpointContext(destination.getAddress());
+		int count = BATCH_SIZE * 2 - 1;
+		for (int index = 0; index < count; ++index) {
+			byte[] data = { (byte) index };
+			connector.send(RawData.outbound(data, context, null, false));
+		}
+		for (int index = 0; index < count; ++index) {
+			RawData receivedData = channel.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+			assertThat("received data " + index + ":", receivedData, is(notNullValue()));
+			assertThat("bytes received:", receivedData.bytes.length, is(1));
+		}
+	}
+
+	@Test
+	public void testTooLargeDatagramIsDropped() throws InterruptedException {
+		byte[] data = new byte[destination.getReceiverPacketSize() + 1];
+		Arrays.fill(data, (byte) 1);
+		EndpointContext context = new UdpEndpointContext(destination.getAddress());
+		connector.send(RawData.outbound(data, context, null, false));
+
+		RawData receivedData = channel.poll(100, TimeUnit.MILLISECONDS);
+		assertThat("first received data:", receivedData, is(nullValue()));
+
+		data = new byte[destination.getReceiverPacketSize()];
+		Arrays.fill(data, (byte) 2);
+		connector.send(RawData.outbound(data, context, null, false));
+
+		receivedData = channel.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		assertThat("second received data:", receivedData, is(notNullValue()));
+		assertThat("bytes received:", receivedData.bytes, is(equalTo(data)));
+	}
+}
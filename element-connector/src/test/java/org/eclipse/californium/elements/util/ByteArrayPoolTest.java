@@ -0,0 +1,65 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.californium.elements.category.Small;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(Small.class)
+public class ByteArrayPoolTest {
+
+	@Test
+	public void testTakeAllocatesIfEmpty() {
+		ByteArrayPool pool = new ByteArrayPool(16, 2);
+		assertThat(pool.available(), is(0));
+		byte[] array1 = pool.take();
+		byte[] array2 = pool.take();
+		assertThat(array1.length, is(16));
+		assertThat(array2, is(not(sameInstance(array1))));
+	}
+
+	@Test
+	public void testReleasedArrayIsReused() {
+		ByteArrayPool pool = new ByteArrayPool(16, 2);
+		byte[] array = pool.take();
+		pool.release(array);
+		assertThat(pool.available(), is(1));
+		assertThat(pool.take(), is(sameInstance(array)));
+		assertThat(pool.available(), is(0));
+	}
+
+	@Test
+	public void testReleaseIsBounded() {
+		ByteArrayPool pool = new ByteArrayPool(16, 2);
+		pool.release(new byte[16]);
+		pool.release(new byte[16]);
+		pool.release(new byte[16]);
+		assertThat(pool.available(), is(2));
+	}
+
+	@Test
+	public void testReleaseIgnoresOtherSizes() {
+		ByteArrayPool pool = new ByteArrayPool(16, 2);
+		pool.release(new byte[15]);
+		pool.release(null);
+		assertThat(pool.available(), is(0));
+	}
+}
@@ -0,0 +1,95 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.californium.elements.category.Small;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(Small.class)
+public class ByteBufferPoolTest {
+
+	@Test
+	public void testSizeClasses() {
+		ByteBufferPool pool = new ByteBufferPool(16, 100, 2, false);
+		assertThat(pool.getBufferSize(1), is(16));
+		assertThat(pool.getBufferSize(16), is(16));
+		assertThat(pool.getBufferSize(17), is(32));
+		assertThat(pool.getBufferSize(64), is(64));
+		assertThat(pool.getBufferSize(65), is(100));
+		assertThat(pool.getBufferSize(1000), is(100));
+	}
+
+	@Test
+	public void testTakeAllocatesIfEmpty() {
+		ByteBufferPool pool = new ByteBufferPool(16, 64, 2, false);
+		ByteBuffer buffer1 = pool.take(20);
+		ByteBuffer buffer2 = pool.take(20);
+		assertThat(buffer1.capacity(), is(32));
+		assertThat(buffer1.isDirect(), is(false));
+		assertThat(buffer2, is(not(sameInstance(buffer1))));
+	}
+
+	@Test
+	public void testReleasedBufferIsReusedForSizeClass() {
+		ByteBufferPool pool = new ByteBufferPool(16, 64, 2, true);
+		ByteBuffer buffer = pool.take(32);
+		assertThat(buffer.isDirect(), is(true));
+		buffer.put((byte) 1);
+		pool.release(buffer);
+		assertThat(pool.available(), is(1));
+		assertThat(pool.take(16), is(not(sameInstance(buffer))));
+		ByteBuffer reused = pool.take(17);
+		assertThat(reused, is(sameInstance(buffer)));
+		assertThat(reused.position(), is(0));
+		assertThat(pool.available(), is(0));
+	}
+
+	@Test
+	public void testReleaseIsBounded() {
+		ByteBufferPool pool = new ByteBufferPool(16, 64, 2, false);
+		pool.release(ByteBuffer.allocate(16));
+		pool.release(ByteBuffer.allocate(16));
+		pool.release(ByteBuffer.allocate(16));
+		pool.release(ByteBuffer.allocate(64));
+		assertThat(pool.available(), is(3));
+	}
+
+	@Test
+	public void testReleaseIgnoresOtherBuffers() {
+		ByteBufferPool pool = new ByteBufferPool(16, 64, 2, false);
+		pool.release(ByteBuffer.allocate(24));
+		pool.release(ByteBuffer.allocate(128));
+		pool.release(ByteBuffer.allocateDirect(16));
+		pool.release(null);
+		assertThat(pool.available(), is(0));
+	}
+
+	@Test
+	public void testDisabledPool() {
+		ByteBufferPool pool = new ByteBufferPool(16, 64, 0, false);
+		ByteBuffer buffer = pool.take(16);
+		pool.release(buffer);
+		assertThat(pool.available(), is(0));
+		assertThat(pool.take(16), is(not(sameInstance(buffer))));
+	}
+}
@@ -0,0 +1,116 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+
+import org.eclipse.californium.elements.category.Small;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(Small.class)
+public class ChunkedByteBufferTest {
+
+	private ByteBufferPool pool;
+
+	@Before
+	public void setup() {
+		pool = new ByteBufferPool(16, 64, 4, false);
+	}
+
+	@Test
+	public void testAllocatesOnDemand() {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool, 1000);
+		assertThat(buffer.capacity(), is(1000));
+		assertThat(buffer.allocated(), is(0));
+		buffer.put(data(10, 0));
+		assertThat(buffer.allocated(), is(16));
+		buffer.put(data(10, 10));
+		assertThat(buffer.allocated(), is(32));
+		buffer.put(data(20, 20));
+		assertThat(buffer.allocated(), is(64));
+		assertThat(buffer.position(), is(40));
+	}
+
+	@Test
+	public void testAllocationIsLimitedByCapacity() {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool, 20);
+		buffer.put(data(20, 0));
+		assertThat(buffer.allocated(), is(32));
+		assertThat(buffer.remaining(), is(0));
+	}
+
+	@Test
+	public void testGetAcrossChunks() {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool, 1000);
+		byte[] data = data(300, 0);
+		buffer.put(data);
+		buffer.flip();
+		assertThat(buffer.remaining(), is(300));
+		byte[] result = new byte[300];
+		buffer.get(result, 0, 100);
+		buffer.get(result, 100, 200);
+		assertThat(result, is(data));
+		assertThat(buffer.remaining(), is(0));
+
+		buffer.position(10);
+		result = new byte[50];
+		buffer.get(result, 0, 50);
+		assertThat(result, is(data(50, 10)));
+	}
+
+	@Test(expected = BufferOverflowException.class)
+	public void testPutExceedsCapacity() {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool, 20);
+		buffer.put(data(15, 0));
+		buffer.put(data(6, 15));
+	}
+
+	@Test(expected = BufferUnderflowException.class)
+	public void testGetExceedsLimit() {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool, 20);
+		buffer.put(data(15, 0));
+		buffer.flip();
+		buffer.get(new byte[16], 0, 16);
+	}
+
+	@Test
+	public void testReleaseReturnsChunks() {
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(pool, 1000);
+		buffer.put(data(100, 0));
+		buffer.release();
+		assertThat(pool.available(), is(4));
+		assertThat(buffer.allocated(), is(0));
+		assertThat(buffer.remaining(), is(0));
+
+		buffer.clear();
+		assertThat(buffer.remaining(), is(1000));
+		buffer.put(data(10, 0));
+		assertThat(pool.available(), is(3));
+	}
+
+	private static byte[] data(int length, int start) {
+		byte[] data = new byte[length];
+		for (int index = 0; index < length; ++index) {
+			data[index] = (byte) (start + index);
+		}
+		return data;
+	}
+}
@@ -0,0 +1,213 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.californium.elements.category.Small;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Test the virtual thread and bounded executors of {@link ExecutorsUtil}.
+ */
+@Category(Small.class)
+public class ExecutorsUtilTest {
+
+	private static final String VIRTUAL_PREFIX = "Test-Virtual";
+
+	private ExecutorService executor;
+
+	@After
+	public void shutdown() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	@Test
+	public void testVirtualThreadPoolFallback() throws Exception {
+		assumeFalse("virtual threads available", VirtualThreadFactory.isAvailable());
+		executor = ExecutorsUtil.newFixedThreadPool(-1, TestThreadFactory.TEST_THREAD_FACTORY, VIRTUAL_PREFIX);
+		assertThat(((ThreadPoolExecutor) executor).getCorePoolSize(),
+				is(Runtime.getRuntime().availableProcessors()));
+		assertThat(execute(executor), not(startsWith("V-")));
+	}
+
+	@Test
+	public void testProtocolVirtualThreadExecutorFallback() throws Exception {
+		assumeFalse("virtual threads available", VirtualThreadFactory.isAvailable());
+		ProtocolScheduledExecutorService protocolExecutor = ExecutorsUtil.newProtocolScheduledThreadPool(-1,
+				TestThreadFactory.TEST_THREAD_FACTORY, VIRTUAL_PREFIX);
+		executor = protocolExecutor;
+		assertThat(execute(protocolExecutor), not(startsWith("V-")));
+	}
+
+	@Test
+	public void testVirtualThreadPerTaskExecutor() throws Exception {
+		assumeTrue("virtual threads not available", VirtualThreadFactory.isAvailable());
+		executor = ExecutorsUtil.newFixedThreadPool(-1, TestThreadFactory.TEST_THREAD_FACTORY, VIRTUAL_PREFIX);
+		assertThat(execute(executor), startsWith("V-" + VIRTUAL_PREFIX));
+		assertBlockingJobs(executor, 1000);
+	}
+
+	@Test
+	public void testProtocolVirtualThreadExecutor() throws Exception {
+		assumeTrue("virtual threads not available", VirtualThreadFactory.isAvailable());
+		ProtocolScheduledExecutorService protocolExecutor = ExecutorsUtil.newProtocolScheduledThreadPool(-1,
+				TestThreadFactory.TEST_THREAD_FACTORY, VIRTUAL_PREFIX);
+		executor = protocolExecutor;
+		assertThat(execute(protocolExecutor), startsWith("V-" + VIRTUAL_PREFIX));
+		assertBlockingJobs(protocolExecutor, 1000);
+
+		// timers are executed by platform threads
+		final AtomicReference<String> name = new AtomicReference<>();
+		final CountDownLatch ready = new CountDownLatch(1);
+		protocolExecutor.schedule(new Runnable() {
+
+			@Override
+			public void run() {
+				name.set(Thread.currentThread().getName());
+				ready.countDown();
+			}
+		}, 10, TimeUnit.MILLISECONDS);
+		assertThat(ready.await(1000, TimeUnit.MILLISECONDS), is(true));
+		assertThat(name.get(), not(startsWith("V-")));
+	}
+
+	@Test
+	public void testBoundedThreadPoolRejectsJobs() throws Exception {
+		executor = ExecutorsUtil.newBoundedThreadPool(1, 2, TestThreadFactory.TEST_THREAD_FACTORY, VIRTUAL_PREFIX);
+		assertRejectsJobs(executor, 1, 2);
+	}
+
+	@Test
+	public void testBoundedVirtualThreadPoolRejectsJobs() throws Exception {
+		assumeTrue("virtual threads not available", VirtualThreadFactory.isAvailable());
+		executor = ExecutorsUtil.newBoundedThreadPool(-1, 2, TestThreadFactory.TEST_THREAD_FACTORY, VIRTUAL_PREFIX);
+		assertRejectsJobs(executor, 2, 0);
+	}
+
+	/**
+	 * Execute job and return the name of the executing thread.
+	 * 
+	 * @param executor executor to execute the job
+	 * @return name of executing thread
+	 * @throws InterruptedException if waiting for the job is interrupted
+	 */
+	private static String execute(ExecutorService executor) throws InterruptedException {
+		final AtomicReference<String> name = new AtomicReference<>();
+		final CountDownLatch ready = new CountDownLatch(1);
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {
+				name.set(Thread.currentThread().getName());
+				ready.countDown();
+			}
+		});
+		assertThat(ready.await(1000, TimeUnit.MILLISECONDS), is(true));
+		return name.get();
+	}
+
+	/**
+	 * Assert, that the executor executes the number of blocking jobs
+	 * concurrently.
+	 * 
+	 * @param executor executor to execute the jobs
+	 * @param jobs number of blocking jobs
+	 * @throws InterruptedException if waiting for the jobs is interrupted
+	 */
+	private static void assertBlockingJobs(ExecutorService executor, int jobs) throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(jobs);
+		final CountDownLatch release = new CountDownLatch(1);
+		for (int index = 0; index < jobs; ++index) {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+					}
+				}
+			});
+		}
+		try {
+			assertThat("blocking jobs not started", started.await(2000, TimeUnit.MILLISECONDS), is(true));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	/**
+	 * Assert, that the executor rejects jobs after the number of running and
+	 * queued blocking jobs.
+	 * 
+	 * @param executor executor to execute the jobs
+	 * @param running number of running blocking jobs
+	 * @param queued number of queued blocking jobs
+	 * @throws InterruptedException if waiting for the jobs is interrupted
+	 */
+	private static void assertRejectsJobs(ExecutorService executor, int running, int queued)
+			throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(running);
+		final CountDownLatch release = new CountDownLatch(1);
+		Runnable blocking = new Runnable() {
+
+			@Override
+			public void run() {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+				}
+			}
+		};
+		try {
+			for (int index = 0; index < running; ++index) {
+				executor.execute(blocking);
+			}
+			assertThat("blocking jobs not started", started.await(2000, TimeUnit.MILLISECONDS), is(true));
+			for (int index = 0; index < queued; ++index) {
+				executor.execute(blocking);
+			}
+			try {
+				executor.execute(blocking);
+				fail("RejectedExecutionException expected!");
+			} catch (RejectedExecutionException ex) {
+				// expected
+			}
+		} finally {
+			release.countDown();
+		}
+	}
+}
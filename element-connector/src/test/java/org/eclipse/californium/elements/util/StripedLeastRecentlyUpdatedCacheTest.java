@@ -0,0 +1,199 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.elements.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.californium.elements.category.Small;
+import org.eclipse.californium.elements.rule.TestTimeRule;
+import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache.EvictionListener;
+import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache.Timestamped;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Verifies behavior of {@code StripedLeastRecentlyUpdatedCache}.
+ */
+@Category(Small.class)
+public class StripedLeastRecentlyUpdatedCacheTest {
+
+	private static final long THRESHOLD_MILLIS = 300;
+
+	@Rule
+	public TestTimeRule time = new TestTimeRule();
+
+	StripedLeastRecentlyUpdatedCache<Integer, String> cache;
+
+	@Test
+	public void testPutFailsWhenFullAndNotStale() {
+		givenACacheWithEntries(10, 10);
+		assertThat(cache.remainingCapacity(), is(0));
+		assertThat(cache.put(100, "100"), is(false));
+		assertThat(cache.size(), is(10));
+	}
+
+	@Test
+	public void testPutEvictsStaleEntryOfOtherSegment() {
+		final List<String> evicted = new CopyOnWriteArrayList<>();
+		givenACacheWithEntries(10, 10);
+		cache.addEvictionListener(new EvictionListener<String>() {
+
+			@Override
+			public void onEviction(String evictedValue) {
+				evicted.add(evictedValue);
+			}
+		});
+		time.addTestTimeShift(THRESHOLD_MILLIS + 100, TimeUnit.MILLISECONDS);
+		for (int key = 1; key < 10; ++key) {
+			cache.update(key);
+		}
+		// only key 0 is stale
+		assertThat(cache.put(100, "100"), is(true));
+		assertThat(evicted.size(), is(1));
+		assertThat(evicted.get(0), is("0"));
+		assertThat(cache.get(0), is(nullValue()));
+		assertThat(cache.get(100), is("100"));
+		assertThat(cache.size(), is(10));
+	}
+
+	@Test
+	public void testGetFailsWhenExpired() {
+		givenACacheWithEntries(5, 1);
+		cache.setHideStaleValues(true);
+		assertThat(cache.get(0), is(notNullValue()));
+		time.setTestTimeShift(THRESHOLD_MILLIS + 100, TimeUnit.MILLISECONDS);
+		assertThat(cache.get(0), is(nullValue()));
+		assertThat(cache.update(0), is(nullValue()));
+	}
+
+	@Test
+	public void testRemoveExpiredEntries() {
+		final AtomicInteger evicted = new AtomicInteger();
+		givenACacheWithEntries(20, 10);
+		cache.addEvictionListener(new EvictionListener<String>() {
+
+			@Override
+			public void onEviction(String evictedValue) {
+				evicted.incrementAndGet();
+			}
+		});
+		time.addTestTimeShift(THRESHOLD_MILLIS + 100, TimeUnit.MILLISECONDS);
+		cache.update(3);
+		cache.update(7);
+		assertThat(cache.removeExpiredEntries(4), is(4));
+		assertThat(cache.removeExpiredEntries(0), is(4));
+		assertThat(cache.removeExpiredEntries(0), is(0));
+		assertThat(evicted.get(), is(8));
+		assertThat(cache.size(), is(2));
+		assertThat(cache.remainingCapacity(), is(18));
+		assertThat(cache.get(3), is("3"));
+		assertThat(cache.get(7), is("7"));
+	}
+
+	@Test
+	public void testRemoveAndClear() {
+		givenACacheWithEntries(10, 10);
+		assertThat(cache.remove(3), is("3"));
+		assertThat(cache.remove(4, "5"), is(nullValue()));
+		assertThat(cache.remove(4, cache.get(4)), is("4"));
+		assertThat(cache.remainingCapacity(), is(2));
+		cache.clear();
+		assertThat(cache.size(), is(0));
+		assertThat(cache.remainingCapacity(), is(10));
+		assertThat(cache.ascendingIterator().hasNext(), is(false));
+	}
+
+	@Test
+	public void testAscendingIteratorMergesSegments() {
+		givenACacheWithEntries(20, 20);
+		time.addTestTimeShift(10, TimeUnit.MILLISECONDS);
+		cache.update(5);
+		time.addTestTimeShift(10, TimeUnit.MILLISECONDS);
+		cache.update(2);
+		List<String> values = new ArrayList<>();
+		Iterator<String> iterator = cache.ascendingIterator();
+		while (iterator.hasNext()) {
+			values.add(iterator.next());
+		}
+		assertThat(values.size(), is(20));
+		assertThat(values.get(18), is("5"));
+		assertThat(values.get(19), is("2"));
+		long last = Long.MIN_VALUE;
+		Iterator<Timestamped<String>> timestamped = cache.timestampedIterator();
+		while (timestamped.hasNext()) {
+			long update = timestamped.next().getLastUpdate();
+			assertThat(update >= last, is(true));
+			last = update;
+		}
+	}
+
+	@Test
+	public void testConcurrentUpdates() throws InterruptedException {
+		final int threads = 8;
+		final int loops = 1000;
+		givenACacheWithEntries(threads * 10, threads * 10);
+		final AtomicInteger failures = new AtomicInteger();
+		List<Thread> workers = new ArrayList<>();
+		for (int index = 0; index < threads; ++index) {
+			final int offset = index * 10;
+			Thread worker = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					for (int loop = 0; loop < loops; ++loop) {
+						int key = offset + (loop % 10);
+						if (cache.update(key) == null) {
+							failures.incrementAndGet();
+						}
+					}
+				}
+			});
+			workers.add(worker);
+			worker.start();
+		}
+		for (Thread worker : workers) {
+			worker.join(5000);
+		}
+		assertThat(failures.get(), is(0));
+		assertThat(cache.size(), is(threads * 10));
+		int count = 0;
+		Iterator<String> iterator = cache.ascendingIterator();
+		while (iterator.hasNext()) {
+			iterator.next();
+			++count;
+		}
+		assertThat(count, is(threads * 10));
+	}
+
+	private void givenACacheWithEntries(int capacity, int numberOfEntries) {
+		cache = new StripedLeastRecentlyUpdatedCache<>(capacity, capacity, THRESHOLD_MILLIS, TimeUnit.MILLISECONDS,
+				4);
+		for (int i = 0; i < numberOfEntries; i++) {
+			assertThat(cache.put(i, String.valueOf(i)), is(true));
+			time.addTestTimeShift(1, TimeUnit.MILLISECONDS);
+		}
+	}
+}
@@ -33,8 +33,8 @@ import javax.crypto.SecretKey;
 
 import org.eclipse.californium.elements.util.ClockUtil;
 import org.eclipse.californium.scandium.dtls.ClientHello;
+import org.eclipse.californium.scandium.dtls.ClientHelloCookieFields;
 import org.eclipse.californium.scandium.dtls.cipher.CipherSuite;
-import org.eclipse.californium.scandium.dtls.cipher.ThreadLocalMac;
 import org.eclipse.californium.scandium.util.SecretUtil;
 
 /**
@@ -48,8 +48,9 @@ import org.eclipse.californium.scandium.util.SecretUtil;
  * as suggested
  * <a href="https://tools.ietf.org/html/rfc6347#section-4.2.1" target="_blank">here</a>.
  *
- * Note: redesigned in 2.3 to use {@link ThreadLocalMac} instead of
- * {@link Mac#clone()}.
+ * Note: redesigned in 2.3 to use a thread local {@link Mac} instead of
+ * {@link Mac#clone()}. Since 4.0 the thread local {@link Mac} keeps the
+ * initialization with the secret key.
  */
 public class CookieGenerator {
 
@@ -89,6 +90,17 @@ public class CookieGenerator {
 	private final SecureRandom randomGenerator = new SecureRandom();
 	private final byte[] randomBytes = new byte[32];
 
+	/**
+	 * Thread local hmac, initialized with the last used secret key.
+	 * <p>
+	 * Initializing a hmac with a key is not for free. The cookie's secret key
+	 * changes only every {@link #COOKIE_LIFETIME_NANOS}, therefore the
+	 * initialized hmac is kept per thread and only reset for the next cookie.
+	 * 
+	 * @since 4.0
+	 */
+	private final ThreadLocal<KeyedMac> keyedMac = new ThreadLocal<KeyedMac>();
+
 	/**
 	 * Return the secret key for cookie generation.
 	 * 
@@ -164,16 +176,64 @@ public class CookieGenerator {
 	 */
 	private byte[] generateCookie(InetSocketAddress peer, ClientHello clientHello, SecretKey secretKey) throws GeneralSecurityException {
 		// Cookie = HMAC(Secret, Client-IP, Client-Parameters)
-		final Mac hmac = CipherSuite.TLS_PSK_WITH_AES_128_CBC_SHA256.getThreadLocalMac();
-		hmac.init(secretKey);
+		final Mac hmac = getMac(peer, secretKey);
+		// Client-Parameters
+		clientHello.updateForCookie(hmac);
+		return hmac.doFinal();
+	}
+
+	/**
+	 * Generates a cookie from the cookie fields of a CLIENT_HELLO.
+	 * 
+	 * The cookie is the same as for the decoded {@link ClientHello}.
+	 * 
+	 * @param peer address of the peer
+	 * @param clientHello cookie fields of received client hello
+	 * @param secretKey to generate a cookie for
+	 * @return the cookie generated from the client's parameters
+	 * @throws GeneralSecurityException if the cookie cannot be computed
+	 * @since 4.0
+	 */
+	private byte[] generateCookie(InetSocketAddress peer, ClientHelloCookieFields clientHello, SecretKey secretKey)
+			throws GeneralSecurityException {
+		// Cookie = HMAC(Secret, Client-IP, Client-Parameters)
+		final Mac hmac = getMac(peer, secretKey);
+		// Client-Parameters
+		clientHello.updateForCookie(hmac);
+		return hmac.doFinal();
+	}
+
+	/**
+	 * Get thread local hmac, initialized with the secret key, and updated with
+	 * the peer's address.
+	 * 
+	 * @param peer address of the peer
+	 * @param secretKey secret key for the hmac
+	 * @return hmac
+	 * @throws GeneralSecurityException if the hmac cannot be initialized
+	 * @since 4.0
+	 */
+	private Mac getMac(InetSocketAddress peer, SecretKey secretKey) throws GeneralSecurityException {
+		KeyedMac mac = keyedMac.get();
+		if (mac == null) {
+			mac = new KeyedMac(Mac.getInstance(CipherSuite.TLS_PSK_WITH_AES_128_CBC_SHA256.getMacName()));
+			keyedMac.set(mac);
+		}
+		final Mac hmac = mac.hmac;
+		if (mac.secretKey != secretKey) {
+			mac.secretKey = null;
+			hmac.init(secretKey);
+			mac.secretKey = secretKey;
+		} else {
+			// cleanup, if a previous cookie generation failed
+			hmac.reset();
+		}
 		// Client-IP
 		hmac.update(peer.getAddress().getAddress());
 		int port = peer.getPort();
 		hmac.update((byte) (port >>> 8));
 		hmac.update((byte) port);
-		// Client-Parameters
-		clientHello.updateForCookie(hmac);
-		return hmac.doFinal();
+		return hmac;
 	}
 
 	/**
@@ -214,4 +274,56 @@ public class CookieGenerator {
 			return null;
 		}
 	}
+
+	/**
+	 * Generates a cookie from the cookie fields of a CLIENT_HELLO.
+	 * 
+	 * @param peer address of the peer
+	 * @param clientHello cookie fields of received client hello
+	 * @return the cookie generated from the client's parameters
+	 * @throws GeneralSecurityException if the cookie cannot be computed
+	 * @see #generateCookie(InetSocketAddress, ClientHello)
+	 * @since 4.0
+	 */
+	public byte[] generateCookie(InetSocketAddress peer, ClientHelloCookieFields clientHello)
+			throws GeneralSecurityException {
+		return generateCookie(peer, clientHello, getSecretKey());
+	}
+
+	/**
+	 * Generates the cookie from the cookie fields of a CLIENT_HELLO using the
+	 * secret key of the past period.
+	 * 
+	 * @param peer address of the peer
+	 * @param clientHello cookie fields of received client hello
+	 * @return the cookie generated from the client's parameters. {@code null},
+	 *         if no secret key of the past period is available.
+	 * @throws GeneralSecurityException if the cookie cannot be computed
+	 * @see #generatePastCookie(InetSocketAddress, ClientHello)
+	 * @since 4.0
+	 */
+	public byte[] generatePastCookie(InetSocketAddress peer, ClientHelloCookieFields clientHello)
+			throws GeneralSecurityException {
+		SecretKey secretKey = getPastSecretKey();
+		if (secretKey != null) {
+			return generateCookie(peer, clientHello, secretKey);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Hmac with the secret key it is initialized with.
+	 * 
+	 * @since 4.0
+	 */
+	private static class KeyedMac {
+
+		private final Mac hmac;
+		private SecretKey secretKey;
+
+		private KeyedMac(Mac hmac) {
+			this.hmac = hmac;
+		}
+	}
 }
@@ -199,6 +199,8 @@ import org.eclipse.californium.scandium.dtls.AlertMessage.AlertLevel;
 import org.eclipse.californium.scandium.dtls.ApplicationMessage;
 import org.eclipse.californium.scandium.dtls.ClientHandshaker;
 import org.eclipse.californium.scandium.dtls.ClientHello;
+import org.eclipse.californium.scandium.dtls.ClientHelloCookieFields;
+import org.eclipse.californium.scandium.dtls.CompactConnectionStore;
 import org.eclipse.californium.scandium.dtls.Connection;
 import org.eclipse.californium.scandium.dtls.ConnectionEvictedException;
 import org.eclipse.californium.scandium.dtls.ConnectionId;
@@ -214,6 +216,7 @@ import org.eclipse.californium.scandium.dtls.FragmentedHandshakeMessage;
 import org.eclipse.californium.scandium.dtls.HandshakeException;
 import org.eclipse.californium.scandium.dtls.HandshakeMessage;
 import org.eclipse.californium.scandium.dtls.HandshakeResult;
+import org.eclipse.californium.scandium.dtls.HandshakeCryptoExecutor;
 import org.eclipse.californium.scandium.dtls.HandshakeResultHandler;
 import org.eclipse.californium.scandium.dtls.Handshaker;
 import org.eclipse.californium.scandium.dtls.HelloVerifyRequest;
@@ -232,6 +235,7 @@ import org.eclipse.californium.scandium.dtls.SessionListener;
 import org.eclipse.californium.scandium.dtls.SessionStore;
 import org.eclipse.californium.scandium.dtls.cipher.CipherSuite;
 import org.eclipse.californium.scandium.dtls.cipher.InvalidMacException;
+import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptographyPool;
 import org.eclipse.californium.scandium.dtls.pskstore.PskStore;
 import org.eclipse.californium.scandium.dtls.resumption.ConnectionStoreResumptionVerifier;
 import org.eclipse.californium.scandium.dtls.resumption.ResumptionVerifier;
@@ -382,6 +386,47 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 
 	protected final DtlsHealth health;
 
+	/**
+	 * Pool of ephemeral key pairs.
+	 * 
+	 * {@code null}, if disabled.
+	 * 
+	 * @see DtlsConfig#DTLS_EPHEMERAL_KEY_PAIR_POOL_SIZE
+	 * @since 4.0
+	 */
+	private final XECDHECryptographyPool keyPairPool;
+	/**
+	 * Number of threads for the handshake crypto executor.
+	 * 
+	 * {@code 0}, if disabled, {@code < 0} for virtual threads.
+	 * 
+	 * @see DtlsConfig#DTLS_HANDSHAKE_CRYPTO_THREAD_COUNT
+	 * @since 4.0
+	 */
+	private final int handshakeCryptoThreadCount;
+	/**
+	 * Handler for asynchronous handshake results.
+	 * 
+	 * @since 4.0
+	 */
+	private final HandshakeResultHandler handshakeResultHandler;
+	/**
+	 * Executor service for the handshake crypto functions.
+	 * 
+	 * {@code null}, if disabled or not started.
+	 * 
+	 * @since 4.0
+	 */
+	private ExecutorService handshakeCryptoExecutorService;
+	/**
+	 * Handshake crypto executor.
+	 * 
+	 * {@code null}, if disabled or not started.
+	 * 
+	 * @since 4.0
+	 */
+	private volatile HandshakeCryptoExecutor handshakeCryptoExecutor;
+
 	private final DtlsRole dtlsRole;
 	private final String defaultHandshakeMode;
 	/**
@@ -443,6 +488,16 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 	 * @since 3.5
 	 */
 	private final AtomicInteger pendingInboundJobsCountdown = new AtomicInteger();
+	/**
+	 * Maximum pending jobs for inbound messages of a single peer.
+	 * 
+	 * If exceeded, received messages of that peer will be dropped. {@code 0},
+	 * if not limited per peer.
+	 * 
+	 * @see DtlsConfig#DTLS_MAX_PENDING_INBOUND_JOBS_PER_PEER
+	 * @since 4.0
+	 */
+	private final int maxPendingInboundJobsPerPeer;
 
 	/**
 	 * Maximum pending jobs for handshake results.
@@ -501,6 +556,18 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 
 	private final CookieGenerator cookieGenerator = new CookieGenerator();
 
+	/**
+	 * Per thread reusable buffer for outgoing records.
+	 * <p>
+	 * The {@link DatagramSocket#send(DatagramPacket)} copies the data,
+	 * therefore the buffer is reused for the next record sent by the same
+	 * thread.
+	 * 
+	 * @see #sendRecord(Record)
+	 * @since 4.0
+	 */
+	private final ThreadLocal<byte[]> outboundRecordBuffer = new ThreadLocal<byte[]>();
+
 	private volatile DatagramSocket socket;
 
 	/** Indicates whether the connector has started and not stopped yet */
@@ -541,14 +608,24 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 	 * @param configuration configuration for initialization
 	 * @return connection store
 	 * @since 3.0 (moved SessionCache from parameter to configuration)
+	 * @since 4.0 uses {@link CompactConnectionStore}, if
+	 *        {@link DtlsConfig#DTLS_COMPACT_CONNECTION_THRESHOLD} is
+	 *        configured.
 	 */
 	protected static ConnectionStore createConnectionStore(DtlsConnectorConfig configuration) {
-		return new InMemoryConnectionStore(
+		InMemoryConnectionStore store = new InMemoryConnectionStore(
 				configuration.get(DtlsConfig.DTLS_MAX_CONNECTIONS),
 				configuration.get(DtlsConfig.DTLS_STALE_CONNECTION_THRESHOLD, TimeUnit.SECONDS),
 				configuration.getSessionStore(),
 				configuration.get(DtlsConfig.DTLS_REMOVE_STALE_DOUBLE_PRINCIPALS))
 						.setTag(configuration.getLoggingTag());
+		Long compactThreshold = configuration.get(DtlsConfig.DTLS_COMPACT_CONNECTION_THRESHOLD, TimeUnit.SECONDS);
+		if (compactThreshold != null && compactThreshold > 0) {
+			return new CompactConnectionStore(store, compactThreshold,
+					configuration.get(DtlsConfig.DTLS_STALE_CONNECTION_THRESHOLD, TimeUnit.SECONDS), TimeUnit.SECONDS,
+					configuration.get(DtlsConfig.DTLS_MAX_COMPACT_CONNECTIONS));
+		}
+		return store;
 	}
 
 	/**
@@ -579,6 +656,7 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 			this.protocolVersionForHelloVerifyRequests = config.getProtocolVersionForHelloVerifyRequests();
 			this.maxPendingOutboundJobs = config.get(DtlsConfig.DTLS_MAX_PENDING_OUTBOUND_JOBS);
 			this.maxPendingInboundJobs = config.get(DtlsConfig.DTLS_MAX_PENDING_INBOUND_JOBS);
+			this.maxPendingInboundJobsPerPeer = config.get(DtlsConfig.DTLS_MAX_PENDING_INBOUND_JOBS_PER_PEER);
 			this.maxPendingHandshakeResultJobs = config.get(DtlsConfig.DTLS_MAX_PENDING_HANDSHAKE_RESULT_JOBS);
 			this.pendingOutboundJobsCountdown.set(maxPendingOutboundJobs);
 			this.pendingInboundJobsCountdown.set(maxPendingInboundJobs);
@@ -609,6 +687,7 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 					processAsynchronousHandshakeResult(connectionResult);
 				}
 			};
+			this.handshakeResultHandler = handler;
 			PskStore pskStore = config.getPskStore();
 			if (pskStore != null) {
 				pskStore.setResultHandler(handler);
@@ -660,6 +739,13 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 				}
 			}
 			this.health = healthHandler;
+			int keyPairPoolSize = config.get(DtlsConfig.DTLS_EPHEMERAL_KEY_PAIR_POOL_SIZE);
+			if (keyPairPoolSize > 0) {
+				this.keyPairPool = new XECDHECryptographyPool(keyPairPoolSize, config.getSupportedGroups());
+			} else {
+				this.keyPairPool = null;
+			}
+			this.handshakeCryptoThreadCount = config.get(DtlsConfig.DTLS_HANDSHAKE_CRYPTO_THREAD_COUNT);
 			this.sessionListeners.add(new SessionAdapter() {
 
 				@Override
@@ -743,8 +829,12 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 	 * 
 	 * Update {@link DtlsHealth#setConnections(int)},
 	 * {@link DtlsHealth#setPendingIncomingJobs(int)},
-	 * {@link DtlsHealth#setPendingOutgoingJobs(int)}, and
-	 * {@link DtlsHealth#setPendingHandshakeJobs(int)}.
+	 * {@link DtlsHealth#setPendingOutgoingJobs(int)},
+	 * {@link DtlsHealth#setPendingHandshakeJobs(int)}, and, if the
+	 * {@link XECDHECryptographyPool} is enabled,
+	 * {@link DtlsHealth#setPooledKeyPairs(int)},
+	 * {@link DtlsHealth#setGeneratedKeyPairs(long)}, and
+	 * {@link DtlsHealth#setMissedKeyPairs(long)}.
 	 * 
 	 * @return {@code true}, if some pending jobs left, {@code false}, if not.
 	 * @since 3.7
@@ -771,6 +861,11 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 				LOGGER.debug("Pending handshake jobs {}", jobs);
 			}
 			pending |= jobs > 0;
+			if (keyPairPool != null) {
+				health.setPooledKeyPairs(keyPairPool.getPooledKeyPairs());
+				health.setGeneratedKeyPairs(keyPairPool.getGeneratedKeyPairs());
+				health.setMissedKeyPairs(keyPairPool.getMissedKeyPairs());
+			}
 		}
 		return pending;
 	}
@@ -821,6 +916,8 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		for (SessionListener sessionListener : sessionListeners) {
 			handshaker.addSessionListener(sessionListener);
 		}
+		handshaker.setKeyPairPool(keyPairPool);
+		handshaker.setHandshakeCryptoExecutor(handshakeCryptoExecutor);
 		if (health != null) {
 			health.startHandshake();
 		}
@@ -1186,10 +1283,24 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		if (executorService == null) {
 			int threadCount = config.get(DtlsConfig.DTLS_CONNECTOR_THREAD_COUNT);
 			executorService = ExecutorsUtil.newProtocolScheduledThreadPool(threadCount, new DaemonThreadFactory(
-					"DTLS-Worker-" + addr + "#", NamedThreadFactory.SCANDIUM_THREAD_GROUP)); //$NON-NLS-1$
+					"DTLS-Worker-" + addr + "#", NamedThreadFactory.SCANDIUM_THREAD_GROUP), //$NON-NLS-1$
+					"DTLS-Worker-" + addr); //$NON-NLS-1$
 			connectionStore.setExecutor(executorService);
 			this.hasInternalExecutor = true;
 		}
+		if (keyPairPool != null) {
+			keyPairPool.start(new DaemonThreadFactory("DTLS-KeyPairPool-" + addr + "#", //$NON-NLS-1$
+					NamedThreadFactory.SCANDIUM_THREAD_GROUP));
+		}
+		if (handshakeCryptoThreadCount != 0) {
+			handshakeCryptoExecutorService = ExecutorsUtil.newBoundedThreadPool(handshakeCryptoThreadCount,
+					maxPendingHandshakeResultJobs,
+					new DaemonThreadFactory("DTLS-HandshakeCrypto-" + addr + "#", //$NON-NLS-1$
+							NamedThreadFactory.SCANDIUM_THREAD_GROUP),
+					"DTLS-HandshakeCrypto-" + addr); //$NON-NLS-1$
+			handshakeCryptoExecutor = new HandshakeCryptoExecutor(handshakeCryptoExecutorService,
+					handshakeResultHandler);
+		}
 		// prepare restored connections.
 		long expires = calculateRecentHandshakeExpires();
 		List<Connection> recent = new ArrayList<>();
@@ -1392,6 +1503,15 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 				ipv4Mtu = DEFAULT_IPV4_MTU;
 				ipv6Mtu = DEFAULT_IPV6_MTU;
 				connectionStore.stop(pending);
+				if (keyPairPool != null) {
+					keyPairPool.stop();
+				}
+				if (handshakeCryptoExecutorService != null) {
+					// pending handshakes are dropped and timeout
+					handshakeCryptoExecutorService.shutdownNow();
+					handshakeCryptoExecutorService = null;
+					handshakeCryptoExecutor = null;
+				}
 				if (hasInternalExecutor) {
 					pending.addAll(executorService.shutdownNow());
 					shutdown = executorService;
@@ -1419,6 +1539,7 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		}
 		ExecutorsUtil.runAll(pending);
 		if (stop) {
+			connectionStore.stopped();
 			LOGGER.debug("DTLS connector on [{}] stopped.", lastBindAddress);
 		}
 	}
@@ -1809,6 +1930,9 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 				}
 				return;
 			}
+			if (useHelloVerifyRequest && processNewClientHelloStateless(firstRecord)) {
+				return;
+			}
 			executeInbound(getExecutorService(), peerAddress, new LimitedRunnable(pendingInboundJobsCountdown) {
 
 				@Override
@@ -1856,11 +1980,12 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		}
 
 		SerialExecutor serialExecutor = connection.getExecutor();
+		boolean first = true;
 
 		for (final Record record : records) {
 			record.setAddress(peerAddress, router);
 			try {
-				if (!executeInbound(serialExecutor, peerAddress, new LimitedRunnable(pendingInboundJobsCountdown) {
+				if (!executeInbound(serialExecutor, peerAddress, new PeerLimitedRunnable(connection, first) {
 
 					@Override
 					public void run() {
@@ -1880,6 +2005,7 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 				})) {
 					break;
 				}
+				first = false;
 			} catch (RuntimeException e) {
 				LOGGER.warn("Unexpected error occurred while processing record [type: {}, peer: {}]", record.getType(),
 						StringUtil.toLog(peerAddress), e);
@@ -1905,7 +2031,10 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 			job.execute(executor);
 			return true;
 		} catch (RejectedExecutionException e) {
-			if (job.isOverflown()) {
+			if (job instanceof PeerLimitedRunnable && ((PeerLimitedRunnable) job).isPeerOverflown()) {
+				DROP_LOGGER_IN_FILTERED.info("Inbound jobs of peer overflow! Dropping inbound message from peer [{}]",
+						StringUtil.toLog(peer));
+			} else if (job.isOverflown()) {
 				DROP_LOGGER_IN_FILTERED.info("Inbound jobs overflow! Dropping inbound message from peer [{}]",
 						StringUtil.toLog(peer));
 			} else {
@@ -2445,7 +2574,7 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 			}
 			// sender's address not verified =>
 			// send hello verify request for verification
-			sendHelloVerify(clientHello, record, expectedCookie);
+			sendHelloVerify(clientHello.getProtocolVersion(), clientHello.getMessageSeq(), record, expectedCookie);
 		} catch (HandshakeException e) {
 			LOGGER.debug("Processing new CLIENT_HELLO from peer [{}] failed!",
 					StringUtil.toLog(record.getPeerAddress()), e);
@@ -2458,6 +2587,56 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		}
 	}
 
+	/**
+	 * Process new CLIENT_HELLO message stateless.
+	 * <p>
+	 * Executed on the receiving thread without using the connection store nor
+	 * an executor. Parses only the {@link ClientHelloCookieFields} of the
+	 * CLIENT_HELLO. If the CLIENT_HELLO contains no cookie, or a cookie, which
+	 * doesn't match, a HELLO_VERIFY_REQUEST is sent. Therefore a flood of
+	 * (spoofed) CLIENT_HELLOs doesn't consume pending inbound jobs.
+	 * 
+	 * @param record record of CLIENT_HELLO message
+	 * @return {@code true}, if the CLIENT_HELLO is processed,
+	 *         {@code false}, if the CLIENT_HELLO contains a valid cookie or
+	 *         couldn't be parsed stateless and must be processed by
+	 *         {@link #processNewClientHello(Record)}.
+	 * @since 4.0
+	 */
+	private boolean processNewClientHelloStateless(Record record) {
+		InetSocketAddress peerAddress = record.getPeerAddress();
+		try {
+			ClientHelloCookieFields clientHello = ClientHelloCookieFields.fromRecord(record);
+			if (clientHello == null) {
+				return false;
+			}
+			byte[] expectedCookie = cookieGenerator.generateCookie(peerAddress, clientHello);
+			if (clientHello.hasCookie()) {
+				byte[] providedCookie = clientHello.getCookie();
+				if (MessageDigest.isEqual(expectedCookie, providedCookie)) {
+					return false;
+				}
+				byte[] pastCookie = cookieGenerator.generatePastCookie(peerAddress, clientHello);
+				if (pastCookie != null && MessageDigest.isEqual(pastCookie, providedCookie)) {
+					return false;
+				}
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("provided cookie must {} match {}. Send verify request to {}",
+							StringUtil.byteArray2HexString(providedCookie, StringUtil.NO_SEPARATOR, 6),
+							StringUtil.byteArray2HexString(expectedCookie, StringUtil.NO_SEPARATOR, 6),
+							StringUtil.toLog(peerAddress));
+				}
+			}
+			sendHelloVerify(clientHello.getProtocolVersion(), clientHello.getMessageSeq(), record, expectedCookie);
+		} catch (GeneralSecurityException e) {
+			discardRecord(record, e);
+		} catch (RuntimeException e) {
+			LOGGER.warn("Processing new CLIENT_HELLO from peer [{}] failed!", StringUtil.toLog(peerAddress), e);
+			discardRecord(record, e);
+		}
+		return true;
+	}
+
 	/**
 	 * Get connection for new client hello.
 	 * 
@@ -2638,8 +2817,18 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		return false;
 	}
 
-	private void sendHelloVerify(ClientHello clientHello, Record record, byte[] expectedCookie)
-			throws GeneralSecurityException {
+	/**
+	 * Send HELLO_VERIFY_REQUEST.
+	 * 
+	 * @param clientVersion protocol version of the CLIENT_HELLO
+	 * @param messageSeq message sequence number of the CLIENT_HELLO
+	 * @param record record of the CLIENT_HELLO
+	 * @param expectedCookie cookie to be sent
+	 * @since 4.0 (changed parameter list to support
+	 *        {@link ClientHelloCookieFields})
+	 */
+	private void sendHelloVerify(ProtocolVersion clientVersion, int messageSeq, Record record,
+			byte[] expectedCookie) {
 		if (expectedCookie == null) {
 			throw new NullPointerException("Cookie must not be null!");
 		}
@@ -2650,7 +2839,7 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		ProtocolVersion version = protocolVersionForHelloVerifyRequests;
 		if (version == null) {
 			// no fixed version configured, reply the client's version.
-			version = clientHello.getProtocolVersion();
+			version = clientVersion;
 			if (version.compareTo(ProtocolVersion.VERSION_DTLS_1_0) < 0) {
 				version = ProtocolVersion.VERSION_DTLS_1_0;
 			} else if (version.compareTo(ProtocolVersion.VERSION_DTLS_1_2) > 0) {
@@ -2664,7 +2853,7 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		// manages message_seq numbers, we need to set it explicitly
 		// use message_seq from CLIENT_HELLO in order to allow for
 		// multiple consecutive cookie exchanges with a client
-		msg.setMessageSeq(clientHello.getMessageSeq());
+		msg.setMessageSeq(messageSeq);
 		// use epoch 0 and sequence no from CLIENT_HELLO record as
 		// mandated by section 4.2.1 of the DTLS 1.2 spec
 		// see http://tools.ietf.org/html/rfc6347#section-4.2.1
@@ -3313,8 +3502,14 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		if (health != null && record.getType() != ContentType.APPLICATION_DATA) {
 			health.sendingRecord(false);
 		}
-		byte[] recordBytes = record.toByteArray();
-		DatagramPacket datagram = new DatagramPacket(recordBytes, recordBytes.length, record.getPeerAddress());
+		int size = record.size();
+		byte[] recordBytes = outboundRecordBuffer.get();
+		if (recordBytes == null || recordBytes.length < size) {
+			recordBytes = new byte[Math.max(size, Math.max(ipv4Mtu, ipv6Mtu))];
+			outboundRecordBuffer.set(recordBytes);
+		}
+		record.writeTo(recordBytes, 0);
+		DatagramPacket datagram = new DatagramPacket(recordBytes, size, record.getPeerAddress());
 		sendNextDatagramOverNetwork(datagram);
 	}
 
@@ -3522,6 +3717,89 @@ public class DTLSConnector implements Connector, PersistentComponent, RecordLaye
 		return running.get();
 	}
 
+	/**
+	 * Inbound job limited by the overall and the connection's pending inbound
+	 * jobs.
+	 * <p>
+	 * The jobs are queued in the connection's {@link SerialExecutor}, which
+	 * passes only one job at a time to the shared executor. That results in a
+	 * round-robin execution of the pending jobs of the connections. Limiting
+	 * the pending jobs of a single connection with
+	 * {@link DtlsConfig#DTLS_MAX_PENDING_INBOUND_JOBS_PER_PEER} prevents a
+	 * single peer from exhausting the overall limit. The limit is checked for
+	 * the first record of a datagram. The other records of an accepted
+	 * datagram are accepted as well, otherwise a flight with more records
+	 * than the limit would never be processed completely.
+	 * 
+	 * @since 4.0
+	 */
+	private abstract class PeerLimitedRunnable extends LimitedRunnable {
+
+		/**
+		 * Connection of the job.
+		 */
+		private final Connection connection;
+		/**
+		 * {@code true}, to check the connection's limit, {@code false}, to
+		 * only count the job.
+		 */
+		private final boolean checkPeerLimit;
+		/**
+		 * Indicator for overflows of the connection's pending inbound jobs.
+		 */
+		private volatile boolean peerOverflow;
+
+		/**
+		 * Create inbound job for connection.
+		 * 
+		 * @param connection connection of the job
+		 * @param checkPeerLimit {@code true}, to check the connection's limit
+		 *            for the first record of a datagram, {@code false}, to
+		 *            only count the job.
+		 */
+		private PeerLimitedRunnable(Connection connection, boolean checkPeerLimit) {
+			super(pendingInboundJobsCountdown);
+			this.connection = connection;
+			this.checkPeerLimit = checkPeerLimit;
+		}
+
+		@Override
+		public void onQueueing() {
+			if (maxPendingInboundJobsPerPeer > 0 && !connection
+					.startInboundJob(checkPeerLimit ? maxPendingInboundJobsPerPeer : Integer.MAX_VALUE)) {
+				peerOverflow = true;
+				throw new RejectedExecutionException("peer queue overflow!");
+			}
+			super.onQueueing();
+		}
+
+		@Override
+		public void onDequeueing() {
+			if (!peerOverflow) {
+				super.onDequeueing();
+				if (maxPendingInboundJobsPerPeer > 0) {
+					connection.finishInboundJob();
+				}
+			}
+		}
+
+		/**
+		 * Checks, if queueing this job causes an overflow of the connection's
+		 * pending inbound jobs.
+		 * 
+		 * @return {@code true}, if the connection's pending inbound jobs
+		 *         overflows, {@code false}, otherwise.
+		 */
+		public boolean isPeerOverflown() {
+			return peerOverflow;
+		}
+
+		@Override
+		public boolean isOverflown() {
+			return peerOverflow || super.isOverflown();
+		}
+	}
+
 	/**
 	 * Future implementation for tasks passed in to the serial executors for
 	 * each connection.
@@ -105,4 +105,42 @@ public interface DtlsHealth {
 	 */
 	void setPendingHandshakeJobs(int count);
 
+	/**
+	 * Set number of pooled ephemeral key pairs.
+	 * <p>
+	 * The default implementation does nothing.
+	 * 
+	 * @param count number of pooled ephemeral key pairs
+	 * @see org.eclipse.californium.scandium.dtls.cipher.XECDHECryptographyPool
+	 * @since 4.0
+	 */
+	default void setPooledKeyPairs(int count) {
+	}
+
+	/**
+	 * Set number of ephemeral key pairs generated by the refill thread of the
+	 * pool.
+	 * <p>
+	 * The default implementation does nothing.
+	 * 
+	 * @param count overall number of generated ephemeral key pairs
+	 * @see org.eclipse.californium.scandium.dtls.cipher.XECDHECryptographyPool
+	 * @since 4.0
+	 */
+	default void setGeneratedKeyPairs(long count) {
+	}
+
+	/**
+	 * Set number of ephemeral key pairs generated inline, because the pool was
+	 * empty.
+	 * <p>
+	 * The default implementation does nothing.
+	 * 
+	 * @param count overall number of ephemeral key pairs generated inline
+	 * @see org.eclipse.californium.scandium.dtls.cipher.XECDHECryptographyPool
+	 * @since 4.0
+	 */
+	default void setMissedKeyPairs(long count) {
+	}
+
 }
@@ -60,6 +60,11 @@ public class DtlsHealthLogger extends CounterStatisticManager implements DtlsHea
 	private final SimpleCounterStatistic pendingOutgoing = new SimpleCounterStatistic("pending out jobs", align);
 	private final SimpleCounterStatistic pendingHandshakeJobs = new SimpleCounterStatistic("pending handshake jobs",
 			align);
+	private final SimpleCounterStatistic pooledKeyPairs = new SimpleCounterStatistic("pooled key pairs", align);
+	private final SimpleCounterStatistic generatedKeyPairs = new SimpleCounterStatistic("generated pooled key pairs",
+			align);
+	private final SimpleCounterStatistic missedKeyPairs = new SimpleCounterStatistic("missed pooled key pairs",
+			align);
 
 	/**
 	 * Create passive dtls health logger.
@@ -91,6 +96,9 @@ public class DtlsHealthLogger extends CounterStatisticManager implements DtlsHea
 		add(pendingIncoming);
 		add(pendingOutgoing);
 		add(pendingHandshakeJobs);
+		add(pooledKeyPairs);
+		add(generatedKeyPairs);
+		add(missedKeyPairs);
 	}
 
 	@Override
@@ -116,6 +124,11 @@ public class DtlsHealthLogger extends CounterStatisticManager implements DtlsHea
 					log.append(eol).append(head).append(pendingIncoming);
 					log.append(eol).append(head).append(pendingOutgoing);
 					log.append(eol).append(head).append(pendingHandshakeJobs);
+					if (generatedKeyPairs.isStarted()) {
+						log.append(eol).append(head).append(pooledKeyPairs);
+						log.append(eol).append(head).append(generatedKeyPairs);
+						log.append(eol).append(head).append(missedKeyPairs);
+					}
 					dump(head, log);
 					LOGGER.debug("{}", log);
 				}
@@ -159,6 +172,11 @@ public class DtlsHealthLogger extends CounterStatisticManager implements DtlsHea
 					log.append(eol).append(head).append(pendingIncoming);
 					log.append(eol).append(head).append(pendingOutgoing);
 					log.append(eol).append(head).append(pendingHandshakeJobs);
+					if (generatedKeyPairs.isStarted()) {
+						log.append(eol).append(head).append(pooledKeyPairs);
+						log.append(eol).append(head).append(generatedKeyPairs);
+						log.append(eol).append(head).append(missedKeyPairs);
+					}
 					dump(head, log);
 					LOGGER.debug("{}", log);
 				}
@@ -256,4 +274,19 @@ public class DtlsHealthLogger extends CounterStatisticManager implements DtlsHea
 		pendingHandshakeJobs.set(count);
 	}
 
+	@Override
+	public void setPooledKeyPairs(int count) {
+		pooledKeyPairs.set(count);
+	}
+
+	@Override
+	public void setGeneratedKeyPairs(long count) {
+		generatedKeyPairs.set(count);
+	}
+
+	@Override
+	public void setMissedKeyPairs(long count) {
+		missedKeyPairs.set(count);
+	}
+
 }
@@ -221,6 +221,13 @@ public final class DtlsConfig {
 	 * property in seconds.
 	 */
 	public static final long DEFAULT_STALE_CONNECTION_TRESHOLD_SECONDS = 30 * 60;
+	/**
+	 * The default value for the {@link #DTLS_MAX_COMPACT_CONNECTIONS}
+	 * property.
+	 * 
+	 * @since 4.0
+	 */
+	public static final int DEFAULT_MAX_COMPACT_CONNECTIONS = 1000000;
 	/**
 	 * The default value for the {@link #DTLS_MAX_PENDING_OUTBOUND_JOBS}
 	 * property.
@@ -394,6 +401,21 @@ public final class DtlsConfig {
 			MODULE + "SERVER_USE_SESSION_ID",
 			"Enable server to use a session ID in order to support session resumption.", true);
 
+	/**
+	 * Enable or disable the client to request session tickets and to use them
+	 * for session resumption.
+	 * <p>
+	 * See <a href="https://tools.ietf.org/html/rfc5077" target="_blank">RFC
+	 * 5077</a>. The server issues session tickets, if a
+	 * {@link DtlsConnectorConfig.Builder#setSessionTicketProtector(org.eclipse.californium.scandium.dtls.resumption.SessionTicketProtector)}
+	 * is configured.
+	 * 
+	 * @since 4.0
+	 */
+	public static final BooleanDefinition DTLS_CLIENT_USE_SESSION_TICKET = new BooleanDefinition(
+			MODULE + "CLIENT_USE_SESSION_TICKET",
+			"Enable client to request session tickets and use them for session resumption.", false);
+
 	/**
 	 * Enable early stop of retransmissions. Stop on receiving the first message
 	 * of next flight, not waiting for the last.
@@ -554,6 +576,77 @@ public final class DtlsConfig {
 			"if at least for that threshold no messages are exchanged using that connection.",
 			DEFAULT_STALE_CONNECTION_TRESHOLD_SECONDS, TimeUnit.SECONDS);
 
+	/**
+	 * Specify the threshold without any data being exchanged before an
+	 * established connection is compacted.
+	 * <p>
+	 * Compacted connections are kept serialized and are restored on the next
+	 * record. {@code null} or {@code 0} to disable compacting connections.
+	 * 
+	 * @see org.eclipse.californium.scandium.dtls.CompactConnectionStore
+	 * @since 4.0
+	 */
+	public static final TimeDefinition DTLS_COMPACT_CONNECTION_THRESHOLD = new TimeDefinition(
+			MODULE + "COMPACT_CONNECTION_THRESHOLD",
+			"DTLS threshold for compacting idle connections. Connections without exchanged messages for that\n" +
+			"threshold are kept serialized until the next record. Empty or 0 to disable.");
+
+	/**
+	 * Specify the maximum number of compacted connections.
+	 * 
+	 * If reached, the least recently used compacted connection is evicted, if
+	 * it's stale.
+	 * 
+	 * @see #DTLS_COMPACT_CONNECTION_THRESHOLD
+	 * @see #DTLS_STALE_CONNECTION_THRESHOLD
+	 * @since 4.0
+	 */
+	public static final IntegerDefinition DTLS_MAX_COMPACT_CONNECTIONS = new IntegerDefinition(
+			MODULE + "MAX_COMPACT_CONNECTIONS", "DTLS maximum compacted connections. If reached, stale compacted connections are evicted.",
+			DEFAULT_MAX_COMPACT_CONNECTIONS, 0);
+
+	/**
+	 * Specify the number of pre-generated ephemeral ECDHE key pairs per
+	 * supported group.
+	 * <p>
+	 * The key pairs are generated in the background and used by the
+	 * handshakes. If the pool is exhausted, the key pairs are generated
+	 * inline. {@code 0} to disable the pool.
+	 * 
+	 * @see org.eclipse.californium.scandium.dtls.cipher.XECDHECryptographyPool
+	 * @since 4.0
+	 */
+	public static final IntegerDefinition DTLS_EPHEMERAL_KEY_PAIR_POOL_SIZE = new IntegerDefinition(
+			MODULE + "EPHEMERAL_KEY_PAIR_POOL_SIZE",
+			"DTLS number of pre-generated ephemeral ECDHE key pairs per supported group. 0 to disable.", 0, 0);
+
+	/**
+	 * Specify the number of threads for the handshake crypto executor.
+	 * <p>
+	 * The certificate path validation of the
+	 * {@link org.eclipse.californium.scandium.dtls.x509.CertificateVerifier}
+	 * and the PSK master secret generation of the
+	 * {@link org.eclipse.californium.scandium.dtls.pskstore.PskStore} are executed
+	 * by this dedicated executor. That keeps the connector's threads
+	 * available for the records of established connections during handshake
+	 * bursts. {@code 0} to execute these functions by the connector's
+	 * threads. The value {@code -1} will use virtual threads, if supported by
+	 * the JVM. That is intended for blocking stores, e.g. a {@code PskStore}
+	 * accessing a database. If virtual threads are not supported, the number
+	 * of available processors is used. Values less than {@code -1} are not
+	 * supported. The pending functions are limited by
+	 * {@link #DTLS_MAX_PENDING_HANDSHAKE_RESULT_JOBS}, if that is exceeded,
+	 * the handshake fails.
+	 * 
+	 * @see org.eclipse.californium.scandium.dtls.HandshakeCryptoExecutor
+	 * @since 4.0
+	 */
+	public static final IntegerDefinition DTLS_HANDSHAKE_CRYPTO_THREAD_COUNT = new IntegerDefinition(
+			MODULE + "HANDSHAKE_CRYPTO_THREAD_COUNT",
+			"DTLS number of threads for handshake crypto functions. 0 to use the connector's threads,"
+					+ " -1 for virtual threads, if supported by the JVM.",
+			0, -1);
+
 	/**
 	 * Specify the number of pending outbound jobs that can be queued before
 	 * dropping new job.
@@ -575,6 +668,22 @@ public final class DtlsConfig {
 			MODULE + "MAX_PENDING_INBOUND_JOBS",
 			"Maximum number of jobs for inbound DTLS messages.",
 			DEFAULT_MAX_PENDING_INBOUND_JOBS, 64);
+	/**
+	 * Specify the number of pending inbound jobs of a single peer (connection)
+	 * that can be queued before dropping new job.
+	 * <p>
+	 * Limits the share of a single peer on the
+	 * {@link #DTLS_MAX_PENDING_INBOUND_JOBS}. A chatty or misbehaving peer
+	 * will then not starve the other peers. The pending jobs of the peers are
+	 * executed round-robin by the connection's serial executor. The limit is
+	 * checked, when a datagram is received. All records of an accepted
+	 * datagram are processed. {@code 0} to disable the limit per peer.
+	 * 
+	 * @since 4.0
+	 */
+	public static final IntegerDefinition DTLS_MAX_PENDING_INBOUND_JOBS_PER_PEER = new IntegerDefinition(
+			MODULE + "MAX_PENDING_INBOUND_JOBS_PER_PEER",
+			"Maximum number of jobs for inbound DTLS messages of a single peer. 0 to disable.", 0, 0);
 	/**
 	 * Specify the number of pending handshake result jobs that can be queued
 	 * before dropping new job.
@@ -630,9 +739,17 @@ public final class DtlsConfig {
 	 * Specify the number of connector threads used by a {@link DTLSConnector}.
 	 * The connector threads are responsible for the most cryptographic
 	 * functions for both incoming and outgoing messages.
+	 * <p>
+	 * The value {@code -1} will use virtual threads, if supported by the JVM.
+	 * Timers are still executed by platform threads. If virtual threads are
+	 * not supported, the number of available processors is used. Values less
+	 * than {@code -1} are not supported.
+	 * 
+	 * @since 4.0 (supports {@code -1} for virtual threads)
 	 */
 	public static final IntegerDefinition DTLS_CONNECTOR_THREAD_COUNT = new IntegerDefinition(
-			MODULE + "CONNECTOR_THREAD_COUNT", "Number of DTLS connector threads.", 1, 0);
+			MODULE + "CONNECTOR_THREAD_COUNT",
+			"Number of DTLS connector threads. -1 for virtual threads, if supported by the JVM.", 1, -1);
 	/**
 	 * Specify the DTLS receive buffer size used for
 	 * {@link DatagramSocket#setReceiveBufferSize(int)}. {@code null} or
@@ -965,6 +1082,7 @@ public final class DtlsConfig {
 			config.set(DTLS_CONNECTION_ID_LENGTH, null);
 			config.set(DTLS_CONNECTION_ID_NODE_ID, null);
 			config.set(DTLS_SERVER_USE_SESSION_ID, true);
+			config.set(DTLS_CLIENT_USE_SESSION_TICKET, false);
 			config.set(DTLS_USE_EARLY_STOP_RETRANSMISSION, true);
 			config.set(DTLS_RECORD_SIZE_LIMIT, null);
 			config.set(DTLS_MAX_FRAGMENT_LENGTH, null);
@@ -980,8 +1098,13 @@ public final class DtlsConfig {
 			config.set(DTLS_DEFAULT_HANDSHAKE_MODE, null);
 			config.set(DTLS_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS);
 			config.set(DTLS_STALE_CONNECTION_THRESHOLD, DEFAULT_STALE_CONNECTION_TRESHOLD_SECONDS, TimeUnit.SECONDS);
+			config.set(DTLS_COMPACT_CONNECTION_THRESHOLD, null, TimeUnit.SECONDS);
+			config.set(DTLS_MAX_COMPACT_CONNECTIONS, DEFAULT_MAX_COMPACT_CONNECTIONS);
+			config.set(DTLS_EPHEMERAL_KEY_PAIR_POOL_SIZE, 0);
+			config.set(DTLS_HANDSHAKE_CRYPTO_THREAD_COUNT, 0);
 			config.set(DTLS_MAX_PENDING_OUTBOUND_JOBS, DEFAULT_MAX_PENDING_OUTBOUND_JOBS);
 			config.set(DTLS_MAX_PENDING_INBOUND_JOBS, DEFAULT_MAX_PENDING_INBOUND_JOBS);
+			config.set(DTLS_MAX_PENDING_INBOUND_JOBS_PER_PEER, 0);
 			config.set(DTLS_MAX_PENDING_HANDSHAKE_RESULT_JOBS, DEFAULT_MAX_PENDING_HANDSHAKE_RESULT_JOBS);
 			config.set(DTLS_MAX_DEFERRED_OUTBOUND_APPLICATION_MESSAGES,
 					DEFAULT_MAX_DEFERRED_OUTBOUND_APPLICATION_MESSAGES);
@@ -81,6 +81,7 @@ import org.eclipse.californium.scandium.dtls.pskstore.PskStore;
 import org.eclipse.californium.scandium.dtls.pskstore.SinglePskStore;
 import org.eclipse.californium.scandium.dtls.resumption.ConnectionStoreResumptionVerifier;
 import org.eclipse.californium.scandium.dtls.resumption.ResumptionVerifier;
+import org.eclipse.californium.scandium.dtls.resumption.SessionTicketProtector;
 import org.eclipse.californium.scandium.dtls.x509.CertificateConfigurationHelper;
 import org.eclipse.californium.scandium.dtls.x509.CertificateProvider;
 import org.eclipse.californium.scandium.dtls.x509.ConfigurationHelperSetup;
@@ -281,6 +282,13 @@ public final class DtlsConnectorConfig {
 	 */
 	private ResumptionVerifier resumptionVerifier;
 
+	/**
+	 * Server side protector for stateless session tickets.
+	 * 
+	 * @since 4.0
+	 */
+	private SessionTicketProtector sessionTicketProtector;
+
 	private DtlsHealth healthHandler;
 
 	/**
@@ -765,6 +773,22 @@ public final class DtlsConnectorConfig {
 		return resumptionVerifier;
 	}
 
+	/**
+	 * Gets the session ticket protector.
+	 * 
+	 * If available, the server issues stateless session tickets to clients,
+	 * which indicate their support for session tickets. Presented tickets are
+	 * verified before the {@link #getResumptionVerifier()} is used.
+	 * 
+	 * @return session ticket protector, or {@code null}, if session tickets
+	 *         are not issued.
+	 * @see Builder#setSessionTicketProtector(SessionTicketProtector)
+	 * @since 4.0
+	 */
+	public SessionTicketProtector getSessionTicketProtector() {
+		return sessionTicketProtector;
+	}
+
 	/**
 	 * Get instance logging tag.
 	 * 
@@ -834,6 +858,7 @@ public final class DtlsConnectorConfig {
 		cloned.datagramFilter = datagramFilter;
 		cloned.sessionStore = sessionStore;
 		cloned.resumptionVerifier = resumptionVerifier;
+		cloned.sessionTicketProtector = sessionTicketProtector;
 		cloned.healthHandler = healthHandler;
 		return cloned;
 	}
@@ -1325,6 +1350,24 @@ public final class DtlsConnectorConfig {
 			return this;
 		}
 
+		/**
+		 * Sets the session ticket protector.
+		 * 
+		 * Enables the server to issue stateless session tickets. Resumption
+		 * with a valid ticket doesn't require the server to keep the session.
+		 * Requires {@link DtlsConfig#DTLS_SERVER_USE_SESSION_ID}.
+		 * 
+		 * @param sessionTicketProtector the session ticket protector.
+		 *            {@code null}, to not issue session tickets.
+		 * @return this builder for command chaining.
+		 * @see DtlsConnectorConfig#getSessionTicketProtector()
+		 * @since 4.0
+		 */
+		public Builder setSessionTicketProtector(SessionTicketProtector sessionTicketProtector) {
+			config.sessionTicketProtector = sessionTicketProtector;
+			return this;
+		}
+
 		/**
 		 * Set certificate configuration helper.
 		 * 
@@ -1432,6 +1475,14 @@ public final class DtlsConnectorConfig {
 					throw new IllegalStateException("DTLS_AUTO_HANDSHAKE_TIMEOUT must not be used with SERVER_ONLY!");
 				}
 			}
+			if (config.sessionTicketProtector != null) {
+				if (dtlsRole == DtlsRole.CLIENT_ONLY) {
+					throw new IllegalStateException("session ticket protector must not be used with CLIENT_ONLY!");
+				}
+				if (!config.get(DtlsConfig.DTLS_SERVER_USE_SESSION_ID)) {
+					throw new IllegalStateException("session ticket protector requires DTLS_SERVER_USE_SESSION_ID!");
+				}
+			}
 
 			long quietTime = config.get(DtlsConfig.DTLS_MAC_ERROR_FILTER_QUIET_TIME, TimeUnit.NANOSECONDS);
 			int threshold = config.get(DtlsConfig.DTLS_MAC_ERROR_FILTER_THRESHOLD);
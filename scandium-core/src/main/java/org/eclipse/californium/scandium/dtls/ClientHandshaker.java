@@ -152,12 +152,14 @@ public class ClientHandshaker extends Handshaker {
 			new HandshakeState(HandshakeType.SERVER_KEY_EXCHANGE),
 			new HandshakeState(HandshakeType.CERTIFICATE_REQUEST, true),
 			new HandshakeState(HandshakeType.SERVER_HELLO_DONE),
+			new HandshakeState(HandshakeType.NEW_SESSION_TICKET, true),
 			new HandshakeState(ContentType.CHANGE_CIPHER_SPEC),
 			new HandshakeState(HandshakeType.FINISHED) };
 
 	private static final HandshakeState[] NO_SEVER_CERTIFICATE = {
 			new HandshakeState(HandshakeType.SERVER_KEY_EXCHANGE, true),
 			new HandshakeState(HandshakeType.SERVER_HELLO_DONE),
+			new HandshakeState(HandshakeType.NEW_SESSION_TICKET, true),
 			new HandshakeState(ContentType.CHANGE_CIPHER_SPEC),
 			new HandshakeState(HandshakeType.FINISHED) };
 
@@ -268,6 +270,30 @@ public class ClientHandshaker extends Handshaker {
 	 */
 	protected byte[] handshakeHash;
 
+	/**
+	 * Request stateless session tickets.
+	 * 
+	 * @see DtlsConfig#DTLS_CLIENT_USE_SESSION_TICKET
+	 * @since 4.0
+	 */
+	protected final boolean useSessionTicket;
+
+	/**
+	 * Indicates, that the server announced to send a {@link NewSessionTicket}.
+	 * 
+	 * @since 4.0
+	 */
+	private boolean sessionTicketExpected;
+
+	/**
+	 * Message digest including the client's finished message. Used to update
+	 * the {@link #handshakeHash}, if the server sends a
+	 * {@link NewSessionTicket} in a full handshake.
+	 * 
+	 * @since 4.0
+	 */
+	private MessageDigest sessionTicketDigest;
+
 	/**
 	 * Creates a new handshaker for negotiating a DTLS session with a server.
 	 * 
@@ -304,6 +330,7 @@ public class ClientHandshaker extends Handshaker {
 		this.supportedClientCertificateTypes = config.getIdentityCertificateTypes();
 		this.supportedSignatureAlgorithms = config.getSupportedSignatureAlgorithms();
 		this.verifyServerCertificatesSubject = config.get(DtlsConfig.DTLS_VERIFY_SERVER_CERTIFICATES_SUBJECT);
+		this.useSessionTicket = config.get(DtlsConfig.DTLS_CLIENT_USE_SESSION_TICKET);
 		this.probe = probe;
 		getSession().setHostName(hostname);
 	}
@@ -360,6 +387,10 @@ public class ClientHandshaker extends Handshaker {
 			receivedServerHelloDone();
 			break;
 
+		case NEW_SESSION_TICKET:
+			receivedNewSessionTicket((NewSessionTicket) message);
+			break;
+
 		case FINISHED:
 			receivedServerFinished((Finished) message);
 			break;
@@ -385,6 +416,32 @@ public class ClientHandshaker extends Handshaker {
 		handshakeCompleted();
 	}
 
+	/**
+	 * Called when the client received the server's new session ticket message.
+	 * <p>
+	 * Keeps the ticket in the session for later resumption. An empty ticket
+	 * removes a previous ticket. In a full handshake the {@link #handshakeHash}
+	 * is updated, because the client's finished message is already sent.
+	 * 
+	 * @param message the {@link NewSessionTicket} message.
+	 * @throws HandshakeException if the server hasn't announced the session
+	 *             ticket in the server hello
+	 * @since 4.0
+	 */
+	protected void receivedNewSessionTicket(NewSessionTicket message) throws HandshakeException {
+		if (!sessionTicketExpected) {
+			throw new HandshakeException("Server sends not announced session ticket!",
+					new AlertMessage(AlertLevel.FATAL, AlertDescription.UNEXPECTED_MESSAGE));
+		}
+		getSession().setSessionTicket(message.getTicket());
+		if (sessionTicketDigest != null) {
+			sessionTicketDigest.update(message.toByteArray());
+			handshakeHash = sessionTicketDigest.digest();
+			sessionTicketDigest = null;
+		}
+		LOGGER.debug("Received session ticket ({} bytes) from server [{}]", message.getTicket().length, peerToLog);
+	}
+
 	/**
 	 * A {@link HelloVerifyRequest} is sent by the server upon the arrival of
 	 * the client's {@link ClientHello}. It is sent by the server to prevent
@@ -544,6 +601,7 @@ public class ClientHandshaker extends Handshaker {
 			}
 			session.setSendCertificateType(clientCertificateType);
 		}
+		sessionTicketExpected = message.getSessionTicketExtension() != null;
 		if (hasRenegotiationInfoExtension) {
 			session.setSecureRengotiation(true);
 		} else if (secureRenegotiation == DtlsSecureRenegotiation.NEEDED) {
@@ -678,7 +736,7 @@ public class ClientHandshaker extends Handshaker {
 			try {
 				SupportedGroup ecGroup = serverKeyExchange.getSupportedGroup();
 				if (supportedGroups.contains(ecGroup)) {
-					ecdhe = new XECDHECryptography(ecGroup);
+					ecdhe = createEphemeralKeyPair(ecGroup);
 					ecdheSecret = ecdhe.generateSecret(serverKeyExchange.getEncodedPoint());
 					encodedPoint = ecdhe.getEncodedPoint();
 					session.setEcGroup(ecGroup);
@@ -813,6 +871,10 @@ public class ClientHandshaker extends Handshaker {
 		// compute handshake hash with client's finished message also
 		// included, used for server's finished message
 		mdWithClientFinished.update(finished.toByteArray());
+		if (sessionTicketExpected) {
+			// the server's finished message includes the new session ticket
+			sessionTicketDigest = cloneMessageDigest(mdWithClientFinished);
+		}
 		handshakeHash = mdWithClientFinished.digest();
 		sendFlight(flight5);
 
@@ -919,6 +981,8 @@ public class ClientHandshaker extends Handshaker {
 
 		addServerNameIndication(startMessage);
 
+		addSessionTicket(startMessage, null);
+
 		// store for later calculations
 		flightNumber = 1;
 		clientHello = startMessage;
@@ -966,6 +1030,21 @@ public class ClientHandshaker extends Handshaker {
 		}
 	}
 
+	/**
+	 * Add session ticket extension, if configured with
+	 * {@link DtlsConfig#DTLS_CLIENT_USE_SESSION_TICKET}.
+	 * 
+	 * @param helloMessage client hello to add {@link SessionTicketExtension}.
+	 * @param ticket session ticket to resume the session. {@code null} or empty
+	 *            to request a new ticket.
+	 * @since 4.0
+	 */
+	protected void addSessionTicket(final ClientHello helloMessage, byte[] ticket) {
+		if (useSessionTicket) {
+			helloMessage.addExtension(new SessionTicketExtension(ticket));
+		}
+	}
+
 	protected void addServerNameIndication(final ClientHello helloMessage) {
 		ServerNames serverNames = getServerNames();
 		if (serverNames != null) {
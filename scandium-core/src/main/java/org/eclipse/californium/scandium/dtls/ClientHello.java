@@ -355,15 +355,19 @@ public final class ClientHello extends HelloHandshakeMessage {
 	 *        compression_method). Considering DTLS 1.3 clients, which may vary
 	 *        additional data, including more in the cookie will cause "endless
 	 *        retries" instead of abort the handshake with an alert.
+	 * @see ClientHelloCookieFields#updateForCookie(Mac)
 	 */
 	public void updateForCookie(Mac hmac) {
 		byte[] rawMessage = toByteArray();
 		int head = sessionId.length() + RANDOM_BYTES
 				+ (VERSION_BITS + VERSION_BITS + SESSION_ID_LENGTH_BITS) / Byte.SIZE;
 		int tail = head + cookie.length + COOKIE_LENGTH_BITS / Byte.SIZE + MESSAGE_HEADER_LENGTH_BYTES;
-		int tailLength = (CIPHER_SUITES_LENGTH_BITS + COMPRESSION_METHODS_LENGTH_BITS
-				+ supportedCipherSuites.size() * CipherSuite.CIPHER_SUITE_BITS
-				+ compressionMethods.size() * CompressionMethod.COMPRESSION_METHOD_BITS) / Byte.SIZE;
+		// use the encoded lengths, unknown cipher suites are not contained
+		// in the parsed list, but must be considered for the cookie as well.
+		int cipherSuitesLength = ((rawMessage[tail] & 0xff) << Byte.SIZE) | (rawMessage[tail + 1] & 0xff);
+		int compressionMethodsOffset = tail + CIPHER_SUITES_LENGTH_BITS / Byte.SIZE + cipherSuitesLength;
+		int tailLength = compressionMethodsOffset - tail + COMPRESSION_METHODS_LENGTH_BITS / Byte.SIZE
+				+ (rawMessage[compressionMethodsOffset] & 0xff);
 		hmac.update(rawMessage, MESSAGE_HEADER_LENGTH_BYTES, head);
 		hmac.update(rawMessage, tail, tailLength);
 	}
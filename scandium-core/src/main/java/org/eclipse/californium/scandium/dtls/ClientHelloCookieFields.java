@@ -0,0 +1,223 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import java.util.Arrays;
+
+import javax.crypto.Mac;
+
+import org.eclipse.californium.elements.util.Bytes;
+
+/**
+ * Fields of a received CLIENT_HELLO, which are relevant for the stateless
+ * cookie exchange.
+ * <p>
+ * Parses only the message header, version, random, session id, cookie, cipher
+ * suites and compression methods from the raw handshake message. The
+ * extensions are not parsed. That enables to verify the cookie or to respond
+ * with a {@link HelloVerifyRequest} without decoding the complete
+ * {@link ClientHello}.
+ * <p>
+ * Only a single, not fragmented CLIENT_HELLO is supported.
+ * 
+ * @see ClientHello#updateForCookie(Mac)
+ * @since 4.0
+ */
+public final class ClientHelloCookieFields {
+
+	private static final int VERSION_BYTES = 2;
+	private static final int RANDOM_BYTES = 32;
+
+	/**
+	 * Raw handshake message, including the handshake message header.
+	 */
+	private final byte[] message;
+	/**
+	 * Message sequence number of the handshake message.
+	 */
+	private final int messageSeq;
+	/**
+	 * Protocol version of the client hello.
+	 */
+	private final ProtocolVersion version;
+	/**
+	 * Length of version, random and session id, starting at
+	 * {@link HandshakeMessage#MESSAGE_HEADER_LENGTH_BYTES}.
+	 */
+	private final int headLength;
+	/**
+	 * Offset of the cookie.
+	 */
+	private final int cookieOffset;
+	/**
+	 * Length of the cookie.
+	 */
+	private final int cookieLength;
+	/**
+	 * Length of cipher suites and compression methods, starting after the
+	 * cookie.
+	 */
+	private final int tailLength;
+
+	private ClientHelloCookieFields(byte[] message, int messageSeq, ProtocolVersion version, int headLength,
+			int cookieOffset, int cookieLength, int tailLength) {
+		this.message = message;
+		this.messageSeq = messageSeq;
+		this.version = version;
+		this.headLength = headLength;
+		this.cookieOffset = cookieOffset;
+		this.cookieLength = cookieLength;
+		this.tailLength = tailLength;
+	}
+
+	/**
+	 * Get message sequence number of the CLIENT_HELLO.
+	 * 
+	 * @return message sequence number
+	 */
+	public int getMessageSeq() {
+		return messageSeq;
+	}
+
+	/**
+	 * Get protocol version of the CLIENT_HELLO.
+	 * 
+	 * @return protocol version
+	 */
+	public ProtocolVersion getProtocolVersion() {
+		return version;
+	}
+
+	/**
+	 * Checks, whether the CLIENT_HELLO contains a cookie.
+	 * 
+	 * @return {@code true}, if a cookie is contained, {@code false},
+	 *         otherwise.
+	 */
+	public boolean hasCookie() {
+		return cookieLength > 0;
+	}
+
+	/**
+	 * Get cookie.
+	 * 
+	 * @return cookie, or {@link Bytes#EMPTY}, if no cookie is available.
+	 */
+	public byte[] getCookie() {
+		if (cookieLength == 0) {
+			return Bytes.EMPTY;
+		}
+		return Arrays.copyOfRange(message, cookieOffset, cookieOffset + cookieLength);
+	}
+
+	/**
+	 * Update hmac for cookie generation.
+	 * 
+	 * Uses the same parameters as {@link ClientHello#updateForCookie(Mac)}
+	 * (version, random, session_id, cipher_suites, compression_method).
+	 * 
+	 * @param hmac initialized hmac
+	 */
+	public void updateForCookie(Mac hmac) {
+		hmac.update(message, HandshakeMessage.MESSAGE_HEADER_LENGTH_BYTES, headLength);
+		hmac.update(message, cookieOffset + cookieLength, tailLength);
+	}
+
+	/**
+	 * Create cookie fields from the fragment of a CLIENT_HELLO record.
+	 * 
+	 * @param record record with CLIENT_HELLO. See
+	 *            {@link Record#isNewClientHello()}.
+	 * @return cookie fields, or {@code null}, if the record doesn't contain a
+	 *         single, not fragmented and well formed CLIENT_HELLO.
+	 */
+	public static ClientHelloCookieFields fromRecord(Record record) {
+		if (!record.isNewClientHello()) {
+			return null;
+		}
+		return fromByteArray(record.getFragmentBytes());
+	}
+
+	/**
+	 * Create cookie fields from the raw CLIENT_HELLO handshake message.
+	 * 
+	 * @param message raw handshake message, including the handshake message
+	 *            header.
+	 * @return cookie fields, or {@code null}, if the message isn't a single,
+	 *         not fragmented and well formed CLIENT_HELLO.
+	 */
+	public static ClientHelloCookieFields fromByteArray(byte[] message) {
+		int headerLength = HandshakeMessage.MESSAGE_HEADER_LENGTH_BYTES;
+		if (message.length < headerLength || message[0] != (byte) HandshakeType.CLIENT_HELLO.getCode()) {
+			return null;
+		}
+		int length = readInt(message, 1, 3);
+		int messageSeq = readInt(message, 4, 2);
+		int fragmentOffset = readInt(message, 6, 3);
+		int fragmentLength = readInt(message, 9, 3);
+		if (fragmentOffset != 0 || fragmentLength != length || message.length != headerLength + length) {
+			// fragmented or with additional handshake messages
+			return null;
+		}
+		if (length < VERSION_BYTES + RANDOM_BYTES + 1) {
+			// truncated, no session id length
+			return null;
+		}
+		ProtocolVersion version = ProtocolVersion.valueOf(message[headerLength] & 0xff,
+				message[headerLength + 1] & 0xff);
+		int offset = headerLength + VERSION_BYTES + RANDOM_BYTES;
+		int sessionIdLength = message[offset] & 0xff;
+		offset += 1 + sessionIdLength;
+		if (offset >= message.length) {
+			return null;
+		}
+		int headLength = offset - headerLength;
+		int cookieLength = message[offset] & 0xff;
+		int cookieOffset = offset + 1;
+		offset = cookieOffset + cookieLength;
+		if (offset + 2 > message.length) {
+			return null;
+		}
+		int cipherSuitesLength = readInt(message, offset, 2);
+		offset += 2 + cipherSuitesLength;
+		if (offset >= message.length) {
+			return null;
+		}
+		int compressionMethodsLength = message[offset] & 0xff;
+		offset += 1 + compressionMethodsLength;
+		if (offset > message.length) {
+			return null;
+		}
+		int tailLength = offset - cookieOffset - cookieLength;
+		return new ClientHelloCookieFields(message, messageSeq, version, headLength, cookieOffset, cookieLength,
+				tailLength);
+	}
+
+	/**
+	 * Read big endian unsigned integer.
+	 * 
+	 * @param buffer buffer to read from
+	 * @param offset offset within buffer
+	 * @param bytes number of bytes
+	 * @return read integer
+	 */
+	private static int readInt(byte[] buffer, int offset, int bytes) {
+		int value = 0;
+		for (int index = 0; index < bytes; ++index) {
+			value = (value << Byte.SIZE) | (buffer[offset + index] & 0xff);
+		}
+		return value;
+	}
+}
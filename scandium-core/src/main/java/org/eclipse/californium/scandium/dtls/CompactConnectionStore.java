@@ -0,0 +1,718 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+
+import org.eclipse.californium.elements.util.ClockUtil;
+import org.eclipse.californium.elements.util.DatagramReader;
+import org.eclipse.californium.elements.util.DatagramWriter;
+import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache;
+import org.eclipse.californium.scandium.ConnectionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connection store, which keeps idle connections compacted.
+ * <p>
+ * Active connections are kept in a {@link InMemoryConnectionStore}. On
+ * {@link #shrink(int, AtomicBoolean)}, established connections without
+ * exchanged messages for the compact threshold are serialized using
+ * {@link Connection#writeTo(DatagramWriter)} and removed from that store. The
+ * serialized connection is kept as single byte array, which is cheap for the
+ * garbage collector. When a record for the connection id or the peer address
+ * of a compacted connection arrives, the connection is restored using
+ * {@link Connection#fromReader(org.eclipse.californium.elements.util.DataStreamReader, long)}
+ * and put back into the {@link InMemoryConnectionStore}.
+ * <p>
+ * The compacted connections are kept in a {@link LeastRecentlyUpdatedCache}
+ * ordered by their last exchanged message. If that cache is full, the least
+ * recently used compacted connection is evicted, if it's stale. The
+ * {@link ConnectionListener} is not notified about compacting and restoring
+ * connections, but about evicting compacted connections.
+ * {@link #iterator()} and {@link #find(SessionId)} restore compacted
+ * connections. {@link #saveConnections(OutputStream, long)} writes the
+ * compacted connections in the same format as the not compacted connections.
+ * 
+ * @since 4.0
+ */
+public class CompactConnectionStore implements ConnectionStore {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CompactConnectionStore.class);
+
+	/**
+	 * Store for not compacted connections.
+	 */
+	private final InMemoryConnectionStore store;
+	/**
+	 * Compacted connections by connection id.
+	 */
+	private final LeastRecentlyUpdatedCache<ConnectionId, CompactConnection> compacted;
+	/**
+	 * Connection ids of compacted connections by peer address.
+	 */
+	private final ConcurrentMap<InetSocketAddress, ConnectionId> compactedByAddress = new ConcurrentHashMap<>();
+	/**
+	 * Connection ids of compacted connections by established session id.
+	 */
+	private final ConcurrentMap<SessionId, ConnectionId> compactedBySession = new ConcurrentHashMap<>();
+	/**
+	 * Threshold in nanoseconds without exchanged messages to compact a
+	 * connection.
+	 */
+	private final long compactThresholdNanos;
+	/**
+	 * Maximum number of compacted connections.
+	 */
+	private final int maxCompactedConnections;
+	/**
+	 * Listener forwarding to the connection listener. Suppresses
+	 * notifications caused by compacting or restoring a connection.
+	 */
+	private final CompactingListener compactingListener = new CompactingListener();
+
+	private volatile ExecutorService executor;
+	private volatile ConnectionListener connectionListener;
+
+	/**
+	 * Create connection store with compacted connections.
+	 * 
+	 * @param store store for not compacted connections
+	 * @param compactThreshold threshold without exchanged messages to compact
+	 *            a connection
+	 * @param staleThreshold threshold without exchanged messages to consider
+	 *            a compacted connection as stale. Stale compacted connections
+	 *            are evicted, if the maximum number of compacted connections
+	 *            is reached.
+	 * @param unit time unit of thresholds
+	 * @param maxCompactedConnections maximum number of compacted connections
+	 * @throws NullPointerException if store or unit is {@code null}
+	 * @throws IllegalArgumentException if compact threshold is less than
+	 *             {@code 1}
+	 */
+	public CompactConnectionStore(InMemoryConnectionStore store, long compactThreshold, long staleThreshold,
+			TimeUnit unit, int maxCompactedConnections) {
+		if (store == null) {
+			throw new NullPointerException("store must not be null!");
+		}
+		if (unit == null) {
+			throw new NullPointerException("unit must not be null!");
+		}
+		if (compactThreshold < 1) {
+			throw new IllegalArgumentException("threshold " + compactThreshold + " must be at least 1!");
+		}
+		this.store = store;
+		this.compactThresholdNanos = unit.toNanos(compactThreshold);
+		this.maxCompactedConnections = maxCompactedConnections;
+		this.compacted = new LeastRecentlyUpdatedCache<>(maxCompactedConnections, staleThreshold, unit);
+		this.compacted.addEvictionListener(new LeastRecentlyUpdatedCache.EvictionListener<CompactConnection>() {
+
+			@Override
+			public void onEviction(CompactConnection staleConnection) {
+				removeFromIndex(staleConnection);
+				LOGGER.trace("evicted compacted {}", staleConnection.cid);
+				ConnectionListener listener = connectionListener;
+				if (listener != null) {
+					try {
+						listener.onConnectionRemoved(staleConnection.toConnection());
+					} catch (IllegalArgumentException ex) {
+						LOGGER.warn("expanding evicted {} failed!", staleConnection.cid, ex);
+					}
+				}
+			}
+		});
+		LOGGER.info(
+				"Created new CompactConnectionStore [compact threshold: {}s, stale threshold: {}s, max. compacted: {}]",
+				TimeUnit.NANOSECONDS.toSeconds(compactThresholdNanos), unit.toSeconds(staleThreshold),
+				maxCompactedConnections);
+	}
+
+	/**
+	 * Get number of compacted connections.
+	 * 
+	 * @return number of compacted connections
+	 */
+	public int getCompactedConnections() {
+		return compacted.size();
+	}
+
+	@Override
+	public void setConnectionListener(ConnectionListener listener) {
+		this.connectionListener = listener;
+		store.setConnectionListener(listener == null ? null : compactingListener);
+	}
+
+	@Override
+	public void attach(ConnectionIdGenerator connectionIdGenerator) {
+		store.attach(connectionIdGenerator);
+	}
+
+	@Override
+	public int saveConnections(OutputStream out, long maxQuietPeriodInSeconds) throws IOException {
+		int count = 0;
+		long startNanos = ClockUtil.nanoRealtime();
+		for (CompactConnection connection : compacted.values()) {
+			long quiet = TimeUnit.NANOSECONDS.toSeconds(startNanos - connection.lastMessageNanos);
+			if (quiet <= maxQuietPeriodInSeconds) {
+				try {
+					out.write(connection.getData());
+					++count;
+				} catch (IllegalArgumentException ex) {
+					LOGGER.warn("saving compacted {} failed!", connection.cid, ex);
+				}
+			}
+		}
+		clearCompacted();
+		return count + store.saveConnections(out, maxQuietPeriodInSeconds);
+	}
+
+	@Override
+	public int loadConnections(InputStream in, long delta) throws IOException {
+		return store.loadConnections(in, delta);
+	}
+
+	@Override
+	public boolean restore(Connection connection) {
+		return store.restore(connection);
+	}
+
+	@Override
+	public boolean put(Connection connection) {
+		if (store.put(connection)) {
+			if (compacted.size() > 0) {
+				// a new connection may reuse the connection id of a compacted one
+				CompactConnection compact = compacted.get(connection.getConnectionId());
+				if (compact != null) {
+					removeCompacted(compact);
+				}
+			}
+			removeCompactedAddress(connection.getPeerAddress());
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean update(Connection connection, InetSocketAddress newPeerAddress) {
+		if (store.update(connection, newPeerAddress)) {
+			removeCompactedAddress(newPeerAddress);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void putEstablishedSession(Connection connection) {
+		store.putEstablishedSession(connection);
+	}
+
+	@Override
+	public void removeFromEstablishedSessions(Connection connection) {
+		store.removeFromEstablishedSessions(connection);
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return store.remainingCapacity();
+	}
+
+	@Override
+	public Connection get(InetSocketAddress peerAddress) {
+		Connection connection = store.get(peerAddress);
+		if (connection == null && peerAddress != null) {
+			ConnectionId cid = compactedByAddress.get(peerAddress);
+			if (cid != null) {
+				connection = expand(cid);
+			}
+		}
+		return connection;
+	}
+
+	@Override
+	public Connection get(ConnectionId cid) {
+		Connection connection = store.get(cid);
+		if (connection == null && cid != null && compacted.get(cid) != null) {
+			// lock only, if there is something to expand
+			connection = expand(cid);
+		}
+		return connection;
+	}
+
+	@Override
+	public DTLSSession find(SessionId id) {
+		if (id != null && !compactedBySession.isEmpty()) {
+			ConnectionId cid = compactedBySession.get(id);
+			if (cid != null) {
+				expand(cid);
+			}
+		}
+		return store.find(id);
+	}
+
+	@Override
+	public boolean remove(Connection connection, boolean removeFromSessionStore) {
+		return store.remove(connection, removeFromSessionStore);
+	}
+
+	@Override
+	public void clear() {
+		clearCompacted();
+		store.clear();
+	}
+
+	@Override
+	public void stop(List<Runnable> pending) {
+		store.stop(pending);
+	}
+
+	@Override
+	public void stopped() {
+		store.stopped();
+	}
+
+	@Override
+	public void markAllAsResumptionRequired() {
+		store.markAllAsResumptionRequired();
+		for (CompactConnection connection : compacted.values()) {
+			connection.resumptionRequired = true;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Compacted connections are expanded, when the iterator reaches them.
+	 */
+	@Override
+	public Iterator<Connection> iterator() {
+		final Iterator<Connection> connections = store.iterator();
+		if (compacted.size() == 0) {
+			return connections;
+		}
+		return new Iterator<Connection>() {
+
+			private Iterator<CompactConnection> compactConnections;
+			private Connection next;
+
+			@Override
+			public boolean hasNext() {
+				if (next == null) {
+					if (compactConnections == null) {
+						if (connections.hasNext()) {
+							next = connections.next();
+							return true;
+						}
+						// connections expanded meanwhile are already contained
+						compactConnections = new ArrayList<>(compacted.values()).iterator();
+					}
+					while (next == null && compactConnections.hasNext()) {
+						CompactConnection compact = compactConnections.next();
+						if (compacted.get(compact.cid) == compact) {
+							next = expand(compact.cid);
+						}
+					}
+				}
+				return next != null;
+			}
+
+			@Override
+			public Connection next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				Connection connection = next;
+				next = null;
+				return connection;
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Compacts idle connections.
+	 */
+	@Override
+	public void shrink(int calls, AtomicBoolean running) {
+		store.shrink(calls, running);
+		if (executor != null) {
+			compact(running);
+		}
+	}
+
+	@Override
+	public void setExecutor(ExecutorService executor) {
+		this.executor = executor;
+		store.setExecutor(executor);
+	}
+
+	@Override
+	public ReadLock readLock() {
+		return store.readLock();
+	}
+
+	@Override
+	public WriteLock writeLock() {
+		return store.writeLock();
+	}
+
+	/**
+	 * Compact idle connections.
+	 * 
+	 * The connections are compacted using their serial executors.
+	 * 
+	 * @param running running flag. Stop compacting, if the connector stops.
+	 */
+	private void compact(AtomicBoolean running) {
+		long now = ClockUtil.nanoRealtime();
+		List<Connection> idle = new ArrayList<>();
+		int available = compacted.remainingCapacity();
+		Iterator<CompactConnection> eldest = compacted.ascendingIterator();
+		while (available < maxCompactedConnections && eldest.hasNext() && compacted.isStale(eldest.next().cid)) {
+			// stale compacted connections are evicted
+			++available;
+		}
+		Iterator<Connection> iterator = store.iterator();
+		while (running.get() && iterator.hasNext() && idle.size() < available) {
+			Connection connection = iterator.next();
+			if (isCompactable(connection, now)) {
+				idle.add(connection);
+			}
+		}
+		for (final Connection connection : idle) {
+			try {
+				connection.getExecutor().execute(new Runnable() {
+
+					@Override
+					public void run() {
+						compact(connection);
+					}
+				});
+			} catch (RuntimeException ex) {
+				LOGGER.debug("compacting {} failed!", connection.getConnectionId(), ex);
+			}
+		}
+		if (!idle.isEmpty()) {
+			LOGGER.debug("compacting {} connections, {} compacted.", idle.size(), compacted.size());
+		}
+	}
+
+	/**
+	 * Check, if connection could be compacted.
+	 * 
+	 * @param connection connection to check
+	 * @param now current nano realtime
+	 * @return {@code true}, if the connection could be compacted,
+	 *         {@code false}, if not.
+	 */
+	private boolean isCompactable(Connection connection, long now) {
+		return connection.isExecuting() && connection.hasEstablishedDtlsContext()
+				&& connection.getOngoingHandshake() == null && connection.getPeerAddress() != null
+				&& now - connection.getLastMessageNanos() > compactThresholdNanos;
+	}
+
+	/**
+	 * Compact connection.
+	 * 
+	 * Must be executed by the serial executor of the connection.
+	 * 
+	 * @param connection connection to compact
+	 */
+	private void compact(Connection connection) {
+		ConnectionId cid = connection.getConnectionId();
+		InetSocketAddress address = connection.getPeerAddress();
+		store.writeLock().lock();
+		try {
+			if (store.get(cid) != connection || !isCompactable(connection, ClockUtil.nanoRealtime())) {
+				return;
+			}
+			DatagramWriter writer = new DatagramWriter(256);
+			if (!connection.writeTo(writer)) {
+				return;
+			}
+			CompactConnection compact = new CompactConnection(cid, writer.toByteArray(), address,
+					connection.getEstablishedSessionIdentifier(), connection.expectCid(),
+					connection.getLastMessageNanos());
+			if (!compacted.put(cid, compact, compact.lastMessageNanos)) {
+				LOGGER.trace("compacting {} failed, no stale compacted connection!", cid);
+				return;
+			}
+			compactingListener.suppress = connection;
+			try {
+				store.remove(connection, false);
+			} finally {
+				compactingListener.suppress = null;
+			}
+			compactedByAddress.put(address, cid);
+			if (compact.sessionId != null) {
+				compactedBySession.put(compact.sessionId, cid);
+			}
+			LOGGER.trace("compacted {}, {} bytes", cid, compact.data.length);
+		} finally {
+			store.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Expand compacted connection.
+	 * 
+	 * @param cid connection id of compacted connection
+	 * @return expanded connection, or {@code null}, if not available.
+	 */
+	private Connection expand(ConnectionId cid) {
+		ExecutorService executor = this.executor;
+		if (executor == null) {
+			return null;
+		}
+		store.writeLock().lock();
+		try {
+			Connection connection = store.get(cid);
+			if (connection != null) {
+				return connection;
+			}
+			CompactConnection compact = compacted.get(cid);
+			if (compact == null) {
+				return null;
+			}
+			try {
+				connection = compact.toConnection();
+			} catch (IllegalArgumentException ex) {
+				LOGGER.warn("expanding {} failed!", cid, ex);
+				removeCompacted(compact);
+				return null;
+			}
+			connection.setConnectorContext(executor, connectionListener == null ? null : compactingListener);
+			if (store.put(connection)) {
+				// remove compacted connection only after successful put
+				removeCompacted(compact);
+				LOGGER.trace("expanded {}", cid);
+				return connection;
+			}
+			LOGGER.debug("expanding {} failed, store is full!", cid);
+			return null;
+		} finally {
+			store.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Remove compacted connection from peer address.
+	 * 
+	 * Compacted connections, which doesn't use a connection id, are removed
+	 * as well.
+	 * 
+	 * @param peerAddress peer address used by a not compacted connection.
+	 */
+	private void removeCompactedAddress(InetSocketAddress peerAddress) {
+		if (peerAddress != null && !compactedByAddress.isEmpty()) {
+			ConnectionId cid = compactedByAddress.remove(peerAddress);
+			if (cid != null) {
+				CompactConnection compact = compacted.get(cid);
+				if (compact != null && !compact.expectCid) {
+					removeCompacted(compact);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove compacted connection.
+	 * 
+	 * @param compact compacted connection to remove
+	 */
+	private void removeCompacted(CompactConnection compact) {
+		if (compacted.remove(compact.cid, compact) != null) {
+			removeFromIndex(compact);
+		}
+	}
+
+	/**
+	 * Remove compacted connection from peer address and session id index.
+	 * 
+	 * @param compact compacted connection to remove from index
+	 */
+	private void removeFromIndex(CompactConnection compact) {
+		compactedByAddress.remove(compact.address, compact.cid);
+		if (compact.sessionId != null) {
+			compactedBySession.remove(compact.sessionId, compact.cid);
+		}
+	}
+
+	/**
+	 * Remove all compacted connections.
+	 */
+	private void clearCompacted() {
+		compacted.clear();
+		compactedByAddress.clear();
+		compactedBySession.clear();
+	}
+
+	/**
+	 * Compacted connection.
+	 */
+	private static class CompactConnection {
+
+		/**
+		 * Connection id of connection.
+		 */
+		private final ConnectionId cid;
+		/**
+		 * Connection serialized by {@link Connection#writeTo(DatagramWriter)}.
+		 */
+		private final byte[] data;
+		/**
+		 * Peer address of connection.
+		 */
+		private final InetSocketAddress address;
+		/**
+		 * Established session id of connection. {@code null}, if not
+		 * available.
+		 */
+		private final SessionId sessionId;
+		/**
+		 * Connection expects connection id.
+		 */
+		private final boolean expectCid;
+		/**
+		 * Nano realtime of last exchanged message.
+		 */
+		private final long lastMessageNanos;
+		/**
+		 * Connection is marked as resumption required after compacting.
+		 */
+		private volatile boolean resumptionRequired;
+
+		private CompactConnection(ConnectionId cid, byte[] data, InetSocketAddress address, SessionId sessionId,
+				boolean expectCid, long lastMessageNanos) {
+			this.cid = cid;
+			this.data = data;
+			this.address = address;
+			this.sessionId = sessionId;
+			this.expectCid = expectCid;
+			this.lastMessageNanos = lastMessageNanos;
+		}
+
+		/**
+		 * Restore connection.
+		 * 
+		 * @return restored connection
+		 * @throws IllegalArgumentException if the data is erroneous
+		 */
+		private Connection toConnection() {
+			Connection connection = Connection.fromReader(new DatagramReader(data, false), 0);
+			if (connection == null) {
+				throw new IllegalArgumentException("Connection must not be empty!");
+			}
+			if (resumptionRequired) {
+				connection.setResumptionRequired(true);
+			}
+			return connection;
+		}
+
+		/**
+		 * Get serialized connection.
+		 * 
+		 * @return serialized connection, including the resumption required
+		 *         mark.
+		 * @throws IllegalArgumentException if the data is erroneous
+		 */
+		private byte[] getData() {
+			if (!resumptionRequired) {
+				return data;
+			}
+			DatagramWriter writer = new DatagramWriter(data.length);
+			toConnection().writeTo(writer);
+			return writer.toByteArray();
+		}
+	}
+
+	/**
+	 * Connection listener, which suppresses the notifications caused by
+	 * compacting or expanding a connection.
+	 */
+	private class CompactingListener implements ConnectionListener {
+
+		/**
+		 * Connection to suppress notifications for.
+		 */
+		private volatile Connection suppress;
+
+		@Override
+		public void onConnectionEstablished(Connection connection) {
+			ConnectionListener listener = connectionListener;
+			if (listener != null && connection != suppress) {
+				listener.onConnectionEstablished(connection);
+			}
+		}
+
+		@Override
+		public void onConnectionRemoved(Connection connection) {
+			ConnectionListener listener = connectionListener;
+			if (listener != null && connection != suppress) {
+				listener.onConnectionRemoved(connection);
+			}
+		}
+
+		@Override
+		public boolean onConnectionUpdatesSequenceNumbers(Connection connection, boolean writeSequenceNumber) {
+			ConnectionListener listener = connectionListener;
+			return listener != null && listener.onConnectionUpdatesSequenceNumbers(connection, writeSequenceNumber);
+		}
+
+		@Override
+		public boolean onConnectionMacError(Connection connection) {
+			ConnectionListener listener = connectionListener;
+			return listener != null && listener.onConnectionMacError(connection);
+		}
+
+		@Override
+		public void beforeExecution(Connection connection) {
+			ConnectionListener listener = connectionListener;
+			if (listener != null) {
+				listener.beforeExecution(connection);
+			}
+		}
+
+		@Override
+		public void updateExecution(Connection connection) {
+			ConnectionListener listener = connectionListener;
+			if (listener != null) {
+				listener.updateExecution(connection);
+			}
+		}
+
+		@Override
+		public void afterExecution(Connection connection) {
+			ConnectionListener listener = connectionListener;
+			if (listener != null) {
+				listener.afterExecution(connection);
+			}
+		}
+	}
+}
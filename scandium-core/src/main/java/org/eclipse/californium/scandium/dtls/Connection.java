@@ -46,6 +46,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.californium.elements.DtlsEndpointContext;
@@ -143,6 +145,21 @@ public final class Connection {
 	 */
 	private AlertMessage rootCause;
 
+	/**
+	 * Number of pending inbound jobs of this connection.
+	 * 
+	 * @see #startInboundJob(int)
+	 * @since 4.0
+	 */
+	private final AtomicInteger pendingInboundJobs = new AtomicInteger();
+	/**
+	 * Number of dropped inbound jobs of this connection, because
+	 * {@link #pendingInboundJobs} exceeds the limit.
+	 * 
+	 * @since 4.0
+	 */
+	private final AtomicLong droppedInboundJobs = new AtomicLong();
+
 	/**
 	 * Creates a new connection to a given peer.
 	 * 
@@ -249,6 +266,59 @@ public final class Connection {
 		return 0;
 	}
 
+	/**
+	 * Start inbound job of this connection.
+	 * <p>
+	 * Limits the number of pending inbound jobs of a single connection. If
+	 * the limit is exceeded, the dropped inbound jobs are counted.
+	 * 
+	 * @param maxPendingInboundJobs maximum number of pending inbound jobs of
+	 *            this connection
+	 * @return {@code true}, if the job is accepted, {@code false}, if the
+	 *         limit is exceeded and the job must be dropped.
+	 * @see #finishInboundJob()
+	 * @since 4.0
+	 */
+	public boolean startInboundJob(int maxPendingInboundJobs) {
+		if (pendingInboundJobs.incrementAndGet() > maxPendingInboundJobs) {
+			pendingInboundJobs.decrementAndGet();
+			droppedInboundJobs.incrementAndGet();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Finish inbound job of this connection.
+	 * 
+	 * @see #startInboundJob(int)
+	 * @since 4.0
+	 */
+	public void finishInboundJob() {
+		pendingInboundJobs.decrementAndGet();
+	}
+
+	/**
+	 * Get number of pending inbound jobs of this connection.
+	 * 
+	 * @return number of pending inbound jobs
+	 * @since 4.0
+	 */
+	public int getPendingInboundJobs() {
+		return pendingInboundJobs.get();
+	}
+
+	/**
+	 * Get number of dropped inbound jobs of this connection.
+	 * 
+	 * @return number of dropped inbound jobs, because the limit of pending
+	 *         inbound jobs of this connection was exceeded.
+	 * @since 4.0
+	 */
+	public long getDroppedInboundJobs() {
+		return droppedInboundJobs.get();
+	}
+
 	/**
 	 * Get session listener of connection.
 	 * 
@@ -965,6 +1035,10 @@ public final class Connection {
 		if (isExecuting()) {
 			builder.append(", is alive");
 		}
+		long drops = droppedInboundJobs.get();
+		if (drops > 0) {
+			builder.append(", ").append(drops).append(" inbound drops");
+		}
 		return builder.toString();
 	}
 
@@ -0,0 +1,293 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Index of connections by fixed length connection ids.
+ * <p>
+ * Open addressing hash table with the connection id bytes packed into a
+ * {@code long} as key. Only connection ids with the {@link #cidLength} of
+ * the index are supported, therefore the packed keys are unique.
+ * <p>
+ * Lookups are lock-free and don't allocate objects. Modifications must be
+ * synchronized externally. Removed entries are marked and are only dropped,
+ * when the table is rebuilt. A slot is therefore never reused for an other
+ * key as long as the table is in use and a lookup always reads a consistent
+ * pair of key and connection.
+ * 
+ * @since 4.0
+ */
+final class ConnectionIdIndex {
+
+	/**
+	 * Maximum supported length of connection ids.
+	 */
+	public static final int MAX_CID_LENGTH = Long.SIZE / Byte.SIZE;
+
+	/**
+	 * Initial number of slots.
+	 */
+	private static final int INITIAL_SLOTS = 64;
+
+	/**
+	 * Marker for removed entries.
+	 */
+	private static final Object REMOVED = new Object();
+
+	/**
+	 * Length of connection ids in bytes.
+	 */
+	private final int cidLength;
+
+	/**
+	 * Current table.
+	 */
+	private volatile Table table;
+
+	/**
+	 * Create index.
+	 * 
+	 * @param cidLength length of connection ids in bytes
+	 * @throws IllegalArgumentException if the length is not in range
+	 *             {@code [1...}{@link #MAX_CID_LENGTH}{@code ]}.
+	 */
+	ConnectionIdIndex(int cidLength) {
+		if (cidLength < 1 || cidLength > MAX_CID_LENGTH) {
+			throw new IllegalArgumentException("cid length " + cidLength + " not supported!");
+		}
+		this.cidLength = cidLength;
+		this.table = new Table(INITIAL_SLOTS);
+	}
+
+	/**
+	 * Check, if connection id is supported by this index.
+	 * 
+	 * @param cid connection id
+	 * @return {@code true}, if the connection id is supported, {@code false},
+	 *         otherwise.
+	 */
+	boolean supports(ConnectionId cid) {
+		return cid != null && cid.length() == cidLength;
+	}
+
+	/**
+	 * Get connection by connection id.
+	 * 
+	 * @param cid connection id. Must be {@link #supports(ConnectionId)}.
+	 * @return connection, or {@code null}, if not available.
+	 */
+	Connection get(ConnectionId cid) {
+		return table.get(key(cid));
+	}
+
+	/**
+	 * Put connection to index.
+	 * 
+	 * Replaces a connection with the same connection id. Must be synchronized
+	 * externally.
+	 * 
+	 * @param cid connection id. Must be {@link #supports(ConnectionId)}.
+	 * @param connection connection
+	 */
+	void put(ConnectionId cid, Connection connection) {
+		long key = key(cid);
+		Table current = table;
+		if (!current.replace(key, connection)) {
+			if (current.isFull()) {
+				current = current.rebuild();
+				table = current;
+			}
+			current.add(key, connection);
+		}
+	}
+
+	/**
+	 * Remove connection from index.
+	 * 
+	 * Must be synchronized externally.
+	 * 
+	 * @param cid connection id. Must be {@link #supports(ConnectionId)}.
+	 * @param connection connection to remove. If the connection id is
+	 *            assigned to an other connection, the index is not changed.
+	 */
+	void remove(ConnectionId cid, Connection connection) {
+		table.remove(key(cid), connection);
+	}
+
+	/**
+	 * Remove all connections.
+	 * 
+	 * Must be synchronized externally.
+	 */
+	void clear() {
+		table = new Table(INITIAL_SLOTS);
+	}
+
+	/**
+	 * Get number of connections.
+	 * 
+	 * @return number of connections
+	 */
+	int size() {
+		return table.size;
+	}
+
+	/**
+	 * Pack connection id into {@code long}.
+	 * 
+	 * @param cid connection id
+	 * @return packed connection id
+	 */
+	private static long key(ConnectionId cid) {
+		byte[] bytes = cid.getBytes();
+		long key = 0;
+		for (int index = 0; index < bytes.length; ++index) {
+			key = (key << Byte.SIZE) | (bytes[index] & 0xff);
+		}
+		return key;
+	}
+
+	/**
+	 * Table with slots.
+	 * 
+	 * The keys are written before the values. The values are accessed with
+	 * volatile semantic, which makes the key visible for lock-free lookups.
+	 */
+	private static final class Table {
+
+		/**
+		 * Packed connection ids.
+		 */
+		private final long[] keys;
+		/**
+		 * Connections or {@link ConnectionIdIndex#REMOVED}. {@code null} for
+		 * unused slots.
+		 */
+		private final AtomicReferenceArray<Object> values;
+		/**
+		 * Bit mask for slot index.
+		 */
+		private final int mask;
+		/**
+		 * Shift for Fibonacci hashing.
+		 */
+		private final int shift;
+		/**
+		 * Number of connections.
+		 */
+		private int size;
+		/**
+		 * Number of used slots, including removed entries.
+		 */
+		private int used;
+
+		private Table(int slots) {
+			this.keys = new long[slots];
+			this.values = new AtomicReferenceArray<>(slots);
+			this.mask = slots - 1;
+			this.shift = Long.SIZE - Integer.numberOfTrailingZeros(slots);
+		}
+
+		private int slot(long key) {
+			return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+		}
+
+		private Connection get(long key) {
+			int index = slot(key);
+			Object value;
+			while ((value = values.get(index)) != null) {
+				if (value != REMOVED && keys[index] == key) {
+					return (Connection) value;
+				}
+				index = (index + 1) & mask;
+			}
+			return null;
+		}
+
+		private boolean replace(long key, Connection connection) {
+			int index = slot(key);
+			Object value;
+			while ((value = values.get(index)) != null) {
+				if (value != REMOVED && keys[index] == key) {
+					values.set(index, connection);
+					return true;
+				}
+				index = (index + 1) & mask;
+			}
+			return false;
+		}
+
+		private void add(long key, Connection connection) {
+			int index = slot(key);
+			while (values.get(index) != null) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = key;
+			values.set(index, connection);
+			++size;
+			++used;
+		}
+
+		private void remove(long key, Connection connection) {
+			int index = slot(key);
+			Object value;
+			while ((value = values.get(index)) != null) {
+				if (value != REMOVED && keys[index] == key) {
+					if (value == connection) {
+						values.set(index, REMOVED);
+						--size;
+					}
+					return;
+				}
+				index = (index + 1) & mask;
+			}
+		}
+
+		/**
+		 * Check, if the table requires to be rebuilt before adding a new
+		 * entry.
+		 * 
+		 * @return {@code true}, if more than half of the slots are used.
+		 */
+		private boolean isFull() {
+			return (used + 1) * 2 > keys.length;
+		}
+
+		/**
+		 * Rebuild table without the removed entries.
+		 * 
+		 * Doubles the slots, if more than a quarter of the slots are used by
+		 * connections.
+		 * 
+		 * @return new table
+		 */
+		private Table rebuild() {
+			int slots = keys.length;
+			if ((size + 1) * 4 > slots) {
+				slots <<= 1;
+			}
+			Table table = new Table(slots);
+			for (int index = 0; index < keys.length; ++index) {
+				Object value = values.get(index);
+				if (value != null && value != REMOVED) {
+					table.add(keys[index], (Connection) value);
+				}
+			}
+			return table;
+		}
+	}
+}
@@ -0,0 +1,732 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.californium.elements.util.ClockUtil;
+import org.eclipse.californium.elements.util.DaemonThreadFactory;
+import org.eclipse.californium.elements.util.DataStreamReader;
+import org.eclipse.californium.elements.util.DatagramReader;
+import org.eclipse.californium.elements.util.DatagramWriter;
+import org.eclipse.californium.elements.util.ExecutorsUtil;
+import org.eclipse.californium.elements.util.NamedThreadFactory;
+import org.eclipse.californium.elements.util.SerialExecutor;
+import org.eclipse.californium.elements.util.SerializationUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Incremental journal of the connections of an {@link InMemoryConnectionStore}.
+ * <p>
+ * A {@link #checkpoint()} appends the connections, which are updated since the
+ * last checkpoint, and the connection ids of removed connections to the
+ * journal. The connections are written by snapshots, which are taken on the
+ * serial executors of the connections. The journal is split into segment
+ * files. The first checkpoint and
+ * the checkpoint after the maximum number of delta segments are full
+ * checkpoints, which write all connections into segments with a limited number
+ * of connections and delete the previous segments afterwards. Checkpoints are
+ * usually executed in the background, see
+ * {@link #start(ScheduledExecutorService, long, TimeUnit)}.
+ * <p>
+ * On shutdown, {@link #finish()} must be called, after the connector is
+ * stopped, but before the connection store is cleared. The
+ * {@link org.eclipse.californium.scandium.DTLSConnector} calls it on
+ * {@link ConnectionStore#stopped()}. That writes only the
+ * connections updated since the last checkpoint and marks the journal as
+ * complete. {@link #load(int)} reads the segments concurrently and restores the
+ * connections, but only, if the journal is complete. Restoring an incomplete
+ * journal, e.g. after a crash, would restore outdated record sequence numbers
+ * and result in reused nonces. After loading, the journal is deleted.
+ * <p>
+ * Usage:
+ * 
+ * <pre>
+ * ConnectionJournal journal = new ConnectionJournal(store, directory, 16, 65536);
+ * journal.load(4);
+ * connector.start();
+ * journal.start(executor, 30, TimeUnit.SECONDS);
+ * ...
+ * connector.stop();
+ * </pre>
+ * <p>
+ * <b>Note:</b> the segments contain not encrypted critical credentials. It is
+ * required to protect the directory.
+ * 
+ * @see ConnectionStore#saveConnections(java.io.OutputStream, long)
+ * @see ConnectionStore#loadConnections(InputStream, long)
+ * @since 4.0
+ */
+public class ConnectionJournal {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionJournal.class);
+
+	/**
+	 * Prefix of segment file names.
+	 */
+	private static final String SEGMENT_PREFIX = "segment-";
+	/**
+	 * Suffix of segment file names.
+	 */
+	private static final String SEGMENT_SUFFIX = ".bin";
+	/**
+	 * Suffix of segment file names during writing.
+	 */
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+	/**
+	 * Version of segment header.
+	 */
+	private static final int HEADER_VERSION = 1;
+	/**
+	 * Version of removed connection id items.
+	 */
+	private static final int REMOVED_CID_VERSION = 1;
+	/**
+	 * Timeout in milliseconds to take the snapshots of the connections of a
+	 * segment.
+	 */
+	private static final long SNAPSHOT_TIMEOUT_MILLIS = 30000;
+	/**
+	 * Header flag for the first segment of a full checkpoint.
+	 */
+	private static final int FLAG_FULL = 1;
+	/**
+	 * Header flag for the last segment of {@link #finish()}.
+	 */
+	private static final int FLAG_FINAL = 2;
+
+	/**
+	 * Connection store.
+	 */
+	private final InMemoryConnectionStore store;
+	/**
+	 * Directory for the segments.
+	 */
+	private final File directory;
+	/**
+	 * Maximum number of delta segments before the next checkpoint is a full
+	 * checkpoint.
+	 */
+	private final int maxDeltaSegments;
+	/**
+	 * Maximum number of connections per segment.
+	 */
+	private final int maxConnectionsPerSegment;
+	/**
+	 * Connection ids of removed connections since the last checkpoint.
+	 * 
+	 * Guarded by {@link #removedLock}.
+	 */
+	private Set<ConnectionId> removed = new HashSet<>();
+	/**
+	 * Lock for {@link #removed}.
+	 */
+	private final Object removedLock = new Object();
+	/**
+	 * Sequence number of the last written segment.
+	 */
+	private long segmentSequence;
+	/**
+	 * Number of delta segments since the last full checkpoint. {@code -1}, if
+	 * the next checkpoint must be a full checkpoint.
+	 */
+	private int deltaSegments = -1;
+	/**
+	 * Start of the last checkpoint in nanoseconds.
+	 * 
+	 * @see ClockUtil#nanoRealtime()
+	 */
+	private long lastCheckpointNanos;
+	/**
+	 * Scheduled checkpoints.
+	 */
+	private ScheduledFuture<?> scheduledCheckpoints;
+
+	/**
+	 * Create journal for connection store.
+	 * 
+	 * @param store connection store
+	 * @param directory directory for the segments. Created, if not existing.
+	 * @param maxDeltaSegments maximum number of delta segments before the next
+	 *            checkpoint is a full checkpoint
+	 * @param maxConnectionsPerSegment maximum number of connections per segment
+	 *            of a full checkpoint
+	 * @throws NullPointerException if store or directory is {@code null}
+	 * @throws IllegalArgumentException if maxDeltaSegments or
+	 *             maxConnectionsPerSegment is less than {@code 1}
+	 * @throws IllegalStateException if the store has already a journal
+	 */
+	public ConnectionJournal(InMemoryConnectionStore store, File directory, int maxDeltaSegments,
+			int maxConnectionsPerSegment) {
+		if (store == null) {
+			throw new NullPointerException("Store must not be null!");
+		}
+		if (directory == null) {
+			throw new NullPointerException("Directory must not be null!");
+		}
+		if (maxDeltaSegments < 1) {
+			throw new IllegalArgumentException("Delta segments " + maxDeltaSegments + " must be at least 1!");
+		}
+		if (maxConnectionsPerSegment < 1) {
+			throw new IllegalArgumentException(
+					"Connections per segment " + maxConnectionsPerSegment + " must be at least 1!");
+		}
+		this.store = store;
+		this.directory = directory;
+		this.maxDeltaSegments = maxDeltaSegments;
+		this.maxConnectionsPerSegment = maxConnectionsPerSegment;
+		List<Long> segments = listSegments();
+		if (!segments.isEmpty()) {
+			this.segmentSequence = segments.get(segments.size() - 1);
+		}
+		store.setJournal(this);
+	}
+
+	/**
+	 * Start to write checkpoints in the background.
+	 * 
+	 * A checkpoint waits for the snapshots of the connections, therefore the
+	 * executor must not be the executor of the connector.
+	 * 
+	 * @param executor executor to write the checkpoints
+	 * @param interval interval between checkpoints
+	 * @param unit time unit of interval
+	 */
+	public synchronized void start(ScheduledExecutorService executor, long interval, TimeUnit unit) {
+		if (scheduledCheckpoints == null) {
+			scheduledCheckpoints = executor.scheduleWithFixedDelay(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						checkpoint();
+					} catch (IOException ex) {
+						LOGGER.warn("connection journal checkpoint failed!", ex);
+					}
+				}
+			}, interval, interval, unit);
+		}
+	}
+
+	/**
+	 * Stop to write checkpoints in the background.
+	 */
+	public synchronized void stop() {
+		if (scheduledCheckpoints != null) {
+			scheduledCheckpoints.cancel(false);
+			scheduledCheckpoints = null;
+		}
+	}
+
+	/**
+	 * Report removed connection.
+	 * 
+	 * Called by the {@link InMemoryConnectionStore}.
+	 * 
+	 * @param connection removed connection
+	 */
+	void onRemove(Connection connection) {
+		ConnectionId cid = connection.getConnectionId();
+		if (cid != null) {
+			synchronized (removedLock) {
+				removed.add(cid);
+			}
+		}
+	}
+
+	/**
+	 * Write checkpoint.
+	 * 
+	 * Appends the connections updated since the last checkpoint and the
+	 * connection ids of the removed connections to the journal.
+	 * 
+	 * @return number of written connections
+	 * @throws IOException if an i/o error occurred
+	 */
+	public synchronized int checkpoint() throws IOException {
+		return checkpoint(false);
+	}
+
+	/**
+	 * Write final checkpoint.
+	 * 
+	 * The connector must be stopped before, including the serial executors of
+	 * the connections. Called by {@link ConnectionStore#stopped()}. Appends
+	 * the connections updated since the last checkpoint and the connection
+	 * ids of the removed connections to the journal and marks the journal as
+	 * complete.
+	 * 
+	 * @return number of written connections
+	 * @throws IOException if an i/o error occurred
+	 */
+	public synchronized int finish() throws IOException {
+		stop();
+		return checkpoint(true);
+	}
+
+	/**
+	 * Write checkpoint.
+	 * 
+	 * @param last {@code true}, for the final checkpoint, {@code false},
+	 *            otherwise.
+	 * @return number of written connections
+	 * @throws IOException if an i/o error occurred
+	 */
+	private int checkpoint(boolean last) throws IOException {
+		boolean full = deltaSegments < 0 || deltaSegments >= maxDeltaSegments;
+		long startNanos = ClockUtil.nanoRealtime();
+		long firstSegment = segmentSequence + 1;
+		int count = 0;
+		int segments = 0;
+		List<ConnectionId> closed = new ArrayList<>();
+		// removals before the snapshots. The removals afterwards are written
+		// by the next checkpoint and applied after the snapshots of this one.
+		synchronized (removedLock) {
+			closed.addAll(removed);
+			removed = new HashSet<>();
+		}
+		List<Connection> connections = new ArrayList<>();
+		DatagramWriter writer = new DatagramWriter(4096);
+		Iterator<Connection> iterator = store.iterator();
+		boolean more = true;
+		while (more) {
+			connections.clear();
+			while (connections.size() < maxConnectionsPerSegment && iterator.hasNext()) {
+				Connection connection = iterator.next();
+				if (full || connection.getLastMessageNanos() - lastCheckpointNanos >= 0) {
+					connections.add(connection);
+				}
+			}
+			more = iterator.hasNext();
+			byte[][] snapshots = snapshot(connections);
+			int segmentConnections = 0;
+			for (int index = 0; index < snapshots.length; ++index) {
+				if (snapshots[index] == null) {
+					closed.add(connections.get(index).getConnectionId());
+				} else {
+					++segmentConnections;
+				}
+			}
+			boolean empty = segmentConnections == 0 && closed.isEmpty();
+			if (empty && !full) {
+				// skip empty delta segment
+				continue;
+			}
+			File file = createTemporary(++segmentSequence);
+			BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+			try {
+				writeHeader(out, writer, full && segments == 0 ? FLAG_FULL : 0);
+				writeRemoved(out, writer, closed);
+				closed.clear();
+				for (byte[] snapshot : snapshots) {
+					if (snapshot != null) {
+						out.write(snapshot);
+					}
+				}
+				SerializationUtil.writeNoItem(out);
+			} finally {
+				out.close();
+			}
+			commit(file, segmentSequence);
+			count += segmentConnections;
+			++segments;
+		}
+		if (last) {
+			File file = createTemporary(++segmentSequence);
+			BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+			try {
+				writeHeader(out, writer, FLAG_FINAL);
+				writeRemoved(out, writer, closed);
+				SerializationUtil.writeNoItem(out);
+			} finally {
+				out.close();
+			}
+			commit(file, segmentSequence);
+		}
+		if (full) {
+			deleteSegmentsBefore(firstSegment);
+			deltaSegments = 0;
+		} else {
+			deltaSegments += segments;
+		}
+		lastCheckpointNanos = startNanos;
+		LOGGER.debug("{} checkpoint, {} connections in {} segments", full ? "full" : "delta", count, segments);
+		return count;
+	}
+
+	/**
+	 * Take snapshots of connections.
+	 * 
+	 * The snapshots are taken on the serial executors of the connections, if
+	 * available, to not write partially updated connections. Connections
+	 * without executing serial executors are not longer updated and the
+	 * snapshots are taken directly.
+	 * 
+	 * @param connections connections to take the snapshots
+	 * @return snapshots in the order of the connections. {@code null}, for
+	 *         closed connections.
+	 * @throws IOException if taking the snapshots timed out or the thread
+	 *             was interrupted
+	 */
+	private static byte[][] snapshot(List<Connection> connections) throws IOException {
+		final byte[][] snapshots = new byte[connections.size()][];
+		final CountDownLatch ready = new CountDownLatch(snapshots.length);
+		for (int index = 0; index < snapshots.length; ++index) {
+			final Connection connection = connections.get(index);
+			final int position = index;
+			Runnable job = new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						DatagramWriter writer = new DatagramWriter(512);
+						if (connection.writeTo(writer)) {
+							snapshots[position] = writer.toByteArray();
+						}
+					} finally {
+						ready.countDown();
+					}
+				}
+			};
+			SerialExecutor executor = connection.getExecutor();
+			if (executor != null && !executor.isShutdown()) {
+				try {
+					executor.execute(job);
+					continue;
+				} catch (RejectedExecutionException ex) {
+					// shutdown in the meantime
+				}
+			}
+			job.run();
+		}
+		try {
+			if (!ready.await(SNAPSHOT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				throw new IOException("Snapshots of connections timed out!");
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while taking snapshots of connections!", ex);
+		}
+		return snapshots;
+	}
+
+	/**
+	 * Load the connections of a complete journal into the connection store.
+	 * 
+	 * The segments are read concurrently. The connections are restored in the
+	 * order of their last update. Deletes the journal afterwards, even if the
+	 * journal is not complete.
+	 * 
+	 * @param threads number of threads to read the segments
+	 * @return number of restored connections
+	 * @throws IOException if an i/o error occurred
+	 * @throws IllegalArgumentException if threads is less than {@code 1}
+	 */
+	public synchronized int load(int threads) throws IOException {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Threads " + threads + " must be at least 1!");
+		}
+		List<Long> segments = listSegments();
+		try {
+			if (segments.isEmpty()) {
+				return 0;
+			}
+			int first = -1;
+			int flags = 0;
+			for (int index = 0; index < segments.size(); ++index) {
+				flags = readFlags(segments.get(index));
+				if ((flags & FLAG_FULL) != 0) {
+					first = index;
+				}
+			}
+			if ((flags & FLAG_FINAL) == 0) {
+				LOGGER.warn("connection journal not finished, skip loading!");
+				return 0;
+			} else if (first < 0) {
+				LOGGER.warn("connection journal without full checkpoint, skip loading!");
+				return 0;
+			}
+			long startNanos = ClockUtil.nanoRealtime();
+			List<Segment> loaded = readSegments(segments.subList(first, segments.size()), threads);
+			Map<ConnectionId, Connection> connections = new LinkedHashMap<>();
+			for (Segment segment : loaded) {
+				// removals happened before the snapshots of the segment
+				for (ConnectionId cid : segment.removed) {
+					connections.remove(cid);
+				}
+				for (Connection connection : segment.connections) {
+					connections.put(connection.getConnectionId(), connection);
+				}
+			}
+			List<Connection> restore = new ArrayList<>(connections.values());
+			Collections.sort(restore, new Comparator<Connection>() {
+
+				@Override
+				public int compare(Connection o1, Connection o2) {
+					long delta = o1.getLastMessageNanos() - o2.getLastMessageNanos();
+					return delta < 0 ? -1 : (delta > 0 ? 1 : 0);
+				}
+			});
+			int count = 0;
+			for (Connection connection : restore) {
+				try {
+					if (store.restore(connection)) {
+						++count;
+					}
+				} catch (IllegalStateException ex) {
+					LOGGER.warn("restore {} failed!", connection.getConnectionId(), ex);
+				}
+			}
+			LOGGER.info("loaded {} connections from {} segments in {} ms", count, loaded.size(),
+					TimeUnit.NANOSECONDS.toMillis(ClockUtil.nanoRealtime() - startNanos));
+			return count;
+		} finally {
+			// restoring the same journal again after a crash would reuse
+			// record sequence numbers
+			deleteSegmentsBefore(Long.MAX_VALUE);
+			deltaSegments = -1;
+		}
+	}
+
+	/**
+	 * Read segments concurrently.
+	 * 
+	 * @param segments sequence numbers of the segments
+	 * @param threads number of threads
+	 * @return list of read segments in the order of the sequence numbers
+	 * @throws IOException if an i/o error occurred
+	 * @throws IllegalArgumentException if a segment is erroneous
+	 */
+	private List<Segment> readSegments(List<Long> segments, int threads) throws IOException {
+		ExecutorService executor = ExecutorsUtil.newFixedThreadPool(Math.min(threads, segments.size()),
+				new DaemonThreadFactory("DTLS-Journal#", NamedThreadFactory.SCANDIUM_THREAD_GROUP)); //$NON-NLS-1$
+		try {
+			List<Future<Segment>> futures = new ArrayList<>(segments.size());
+			for (final Long sequence : segments) {
+				futures.add(executor.submit(new Callable<Segment>() {
+
+					@Override
+					public Segment call() throws IOException {
+						return readSegment(sequence);
+					}
+				}));
+			}
+			List<Segment> result = new ArrayList<>(segments.size());
+			for (Future<Segment> future : futures) {
+				result.add(future.get());
+			}
+			return result;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while loading connections!", ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Read segment.
+	 * 
+	 * @param sequence sequence number of segment
+	 * @return read segment
+	 * @throws IOException if an i/o error occurred
+	 * @throws IllegalArgumentException if the segment is erroneous
+	 */
+	private Segment readSegment(long sequence) throws IOException {
+		InputStream in = new BufferedInputStream(new FileInputStream(getSegment(sequence)));
+		try {
+			DataStreamReader reader = new DataStreamReader(in);
+			long delta = SerializationUtil.readNanotimeSynchronizationMark(reader);
+			readHeader(reader);
+			Segment segment = new Segment();
+			int length;
+			while ((length = SerializationUtil.readStartItem(reader, REMOVED_CID_VERSION, Byte.SIZE)) > 0) {
+				segment.removed.add(new ConnectionId(reader.readBytes(length)));
+			}
+			Connection connection;
+			while ((connection = Connection.fromReader(reader, delta)) != null) {
+				segment.connections.add(connection);
+			}
+			return segment;
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Read flags of segment.
+	 * 
+	 * @param sequence sequence number of segment
+	 * @return flags of segment
+	 * @throws IOException if an i/o error occurred
+	 * @throws IllegalArgumentException if the segment is erroneous
+	 */
+	private int readFlags(long sequence) throws IOException {
+		InputStream in = new BufferedInputStream(new FileInputStream(getSegment(sequence)));
+		try {
+			DataStreamReader reader = new DataStreamReader(in);
+			SerializationUtil.readNanotimeSynchronizationMark(reader);
+			return readHeader(reader);
+		} finally {
+			in.close();
+		}
+	}
+
+	private static int readHeader(DataStreamReader reader) {
+		int length = SerializationUtil.readStartItem(reader, HEADER_VERSION, Byte.SIZE);
+		if (length <= 0) {
+			throw new IllegalArgumentException("Missing segment header!");
+		}
+		DatagramReader rangeReader = reader.createRangeReader(length);
+		int flags = rangeReader.readNextByte() & 0xff;
+		rangeReader.assertFinished("segment-header");
+		return flags;
+	}
+
+	private static void writeHeader(BufferedOutputStream out, DatagramWriter writer, int flags) throws IOException {
+		SerializationUtil.writeNanotimeSynchronizationMark(writer);
+		int position = SerializationUtil.writeStartItem(writer, HEADER_VERSION, Byte.SIZE);
+		writer.writeByte((byte) flags);
+		SerializationUtil.writeFinishedItem(writer, position, Byte.SIZE);
+		writer.writeTo(out);
+	}
+
+	private static void writeRemoved(BufferedOutputStream out, DatagramWriter writer, List<ConnectionId> removed)
+			throws IOException {
+		for (ConnectionId cid : removed) {
+			int position = SerializationUtil.writeStartItem(writer, REMOVED_CID_VERSION, Byte.SIZE);
+			writer.writeBytes(cid.getBytes());
+			SerializationUtil.writeFinishedItem(writer, position, Byte.SIZE);
+		}
+		SerializationUtil.writeNoItem(writer);
+		writer.writeTo(out);
+	}
+
+	private File getSegment(long sequence) {
+		return new File(directory, String.format("%s%016d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+	}
+
+	private File createTemporary(long sequence) throws IOException {
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Directory " + directory + " can't be created!");
+		}
+		return new File(directory, String.format("%s%016d%s", SEGMENT_PREFIX, sequence, TEMPORARY_SUFFIX));
+	}
+
+	/**
+	 * Commit segment.
+	 * 
+	 * Renames the temporary file, after it's completely written.
+	 * 
+	 * @param file temporary file
+	 * @param sequence sequence number of segment
+	 * @throws IOException if renaming failed
+	 */
+	private void commit(File file, long sequence) throws IOException {
+		File segment = getSegment(sequence);
+		if (!file.renameTo(segment)) {
+			throw new IOException("Segment " + segment + " can't be committed!");
+		}
+	}
+
+	/**
+	 * List sequence numbers of segments.
+	 * 
+	 * @return sorted list of sequence numbers
+	 */
+	private List<Long> listSegments() {
+		List<Long> segments = new ArrayList<>();
+		String[] names = directory.list();
+		if (names != null) {
+			for (String name : names) {
+				if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+					try {
+						segments.add(Long.parseLong(
+								name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+					} catch (NumberFormatException ex) {
+						LOGGER.debug("ignore {}", name);
+					}
+				}
+			}
+		}
+		Collections.sort(segments);
+		return segments;
+	}
+
+	/**
+	 * Delete segments before sequence number.
+	 * 
+	 * @param sequence sequence number of first segment to keep.
+	 */
+	private void deleteSegmentsBefore(long sequence) {
+		for (Long segment : listSegments()) {
+			if (segment < sequence) {
+				File file = getSegment(segment);
+				if (!file.delete()) {
+					LOGGER.warn("Segment {} can't be deleted!", file);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Read segment.
+	 */
+	private static class Segment {
+
+		/**
+		 * Connections of segment.
+		 */
+		private final List<Connection> connections = new ArrayList<>();
+		/**
+		 * Connection ids of removed connections. Removed before the
+		 * connections of the segment are applied.
+		 */
+		private final List<ConnectionId> removed = new ArrayList<>();
+	}
+}
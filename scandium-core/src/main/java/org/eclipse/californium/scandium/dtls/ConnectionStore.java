@@ -234,6 +234,17 @@ public interface ConnectionStore extends Iterable<Connection> {
 	 */
 	void stop(List<Runnable> pending);
 
+	/**
+	 * Notify the store, that the connector is stopped.
+	 * <p>
+	 * Called after the serial executors of all connections are stopped and
+	 * the pending jobs are executed.
+	 * 
+	 * @since 4.0
+	 */
+	default void stopped() {
+	}
+
 	/**
 	 * Mark all connections as resumption required.
 	 */
@@ -188,6 +188,13 @@ public final class DTLSSession implements Destroyable {
 	private ServerNames serverNames;
 	private boolean peerSupportsSni;
 
+	/**
+	 * Session ticket received from the server. {@code null}, if not available.
+	 * 
+	 * @since 4.0
+	 */
+	private byte[] sessionTicket;
+
 	/**
 	 * Creates a session using default values for all fields.
 	 */
@@ -242,6 +249,7 @@ public final class DTLSSession implements Destroyable {
 		receiveCertificateType = session.receiveCertificateType();
 		recordSizeLimit = session.getRecordSizeLimit();
 		maxFragmentLength = session.getMaxFragmentLength();
+		sessionTicket = session.getSessionTicket();
 		setServerNames(session.getServerNames());
 	}
 
@@ -258,6 +266,7 @@ public final class DTLSSession implements Destroyable {
 		peerIdentity = null;
 		sendCertificateType = CertificateType.X_509;
 		receiveCertificateType = CertificateType.X_509;
+		sessionTicket = null;
 	}
 
 	@Override
@@ -275,6 +284,33 @@ public final class DTLSSession implements Destroyable {
 		return sessionIdentifier;
 	}
 
+	/**
+	 * Gets the session ticket.
+	 * <p>
+	 * Only used on the client side. The ticket is opaque and was received from
+	 * the server with a {@link NewSessionTicket} message.
+	 * 
+	 * @return session ticket, or {@code null}, if not available.
+	 * @since 4.0
+	 */
+	public byte[] getSessionTicket() {
+		return sessionTicket;
+	}
+
+	/**
+	 * Sets the session ticket.
+	 * 
+	 * @param sessionTicket session ticket. {@code null} or empty, if not
+	 *            available.
+	 * @since 4.0
+	 */
+	void setSessionTicket(byte[] sessionTicket) {
+		if (sessionTicket != null && sessionTicket.length == 0) {
+			sessionTicket = null;
+		}
+		this.sessionTicket = sessionTicket;
+	}
+
 	/**
 	 * Sets the session identifier.
 	 * <p>
@@ -895,13 +931,26 @@ public final class DTLSSession implements Destroyable {
 		if (!Objects.equals(protocolVersion, other.protocolVersion)) {
 			return false;
 		}
+		if (!Arrays.equals(sessionTicket, other.sessionTicket)) {
+			return false;
+		}
 		return true;
 	}
 
 	/**
 	 * Version number for serialization.
+	 * 
+	 * @since 4.0 (added session ticket)
 	 */
-	private static final int VERSION = 3;
+	private static final int VERSION = 4;
+
+	/**
+	 * Version number for serialization before introducing
+	 * {@link #sessionTicket}.
+	 * 
+	 * @since 4.0
+	 */
+	private static final int VERSION_NO_TICKET = 3;
 
 	/**
 	 * Version number for serialization before introducing
@@ -916,7 +965,7 @@ public final class DTLSSession implements Destroyable {
 	 * 
 	 * @since 3.8
 	 */
-	private static final SupportedVersions VERSIONS = new SupportedVersions(VERSION,
+	private static final SupportedVersions VERSIONS = new SupportedVersions(VERSION, VERSION_NO_TICKET,
 			VERSION_DEPRECATED);
 
 	/**
@@ -970,6 +1019,7 @@ public final class DTLSSession implements Destroyable {
 			writer.write(1, Byte.SIZE);
 			PrincipalSerializer.serialize(peerIdentity, writer);
 		}
+		writer.writeVarBytes(sessionTicket, Short.SIZE);
 		SerializationUtil.writeFinishedItem(writer, position, Short.SIZE);
 	}
 
@@ -1070,6 +1120,9 @@ public final class DTLSSession implements Destroyable {
 				throw new IllegalArgumentException("principal failure", e);
 			}
 		}
+		if (version > VERSION_NO_TICKET) {
+			sessionTicket = reader.readVarBytes(Short.SIZE);
+		}
 		reader.assertFinished("dtls-session");
 	}
 }
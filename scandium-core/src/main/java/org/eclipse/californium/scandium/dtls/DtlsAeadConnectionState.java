@@ -101,10 +101,8 @@ public class DtlsAeadConnectionState extends DTLSConnectionState {
 		 * 
 		 * @return the 12 bytes nonce.
 		 */
-		DatagramWriter writer = new DatagramWriter(12, true);
-		iv.writeTo(writer);
-		record.writeExplicitNonce(writer);
-		byte[] nonce = writer.toByteArray();
+		byte[] nonce = new byte[iv.size() + cipherSuite.getRecordIvLength()];
+		record.writeExplicitNonce(nonce, iv.writeTo(nonce, 0));
 		byte[] additionalData = record.generateAdditionalData(fragment.length);
 
 		if (LOGGER.isTraceEnabled()) {
@@ -119,7 +117,7 @@ public class DtlsAeadConnectionState extends DTLSConnectionState {
 		 * http://tools.ietf.org/html/rfc5246#section-6.2.3.3 and
 		 * http://tools.ietf.org/html/draft-mcgrew-tls-aes-ccm-04#section-3
 		 */
-		System.arraycopy(nonce, cipherSuite.getFixedIvLength(), encryptedFragment, 0, cipherSuite.getRecordIvLength());
+		record.writeExplicitNonce(encryptedFragment, 0);
 		Bytes.clear(nonce);
 		LOGGER.trace("==> {} bytes", encryptedFragment.length);
 
@@ -146,10 +144,8 @@ public class DtlsAeadConnectionState extends DTLSConnectionState {
 		 */
 		byte[] additionalData = record.generateAdditionalData(applicationDataLength);
 
-		DatagramWriter writer = new DatagramWriter(12, true);
-		iv.writeTo(writer);
-		writer.writeBytes(ciphertextFragment, 0, recordIvLength);
-		byte[] nonce = writer.toByteArray();
+		byte[] nonce = new byte[iv.size() + recordIvLength];
+		System.arraycopy(ciphertextFragment, 0, nonce, iv.writeTo(nonce, 0), recordIvLength);
 
 		if (LOGGER.isTraceEnabled()) {
 			LOGGER.trace("decrypt: {} bytes", applicationDataLength);
@@ -161,8 +157,8 @@ public class DtlsAeadConnectionState extends DTLSConnectionState {
 			byte[] explicitNonceUsed = Arrays.copyOf(ciphertextFragment, recordIvLength);
 			// retrieve actual explicit nonce as contained in GenericAEADCipher
 			// struct (8 bytes long)
-			record.writeExplicitNonce(writer);
-			byte[] explicitNonce = writer.toByteArray();
+			byte[] explicitNonce = new byte[recordIvLength];
+			record.writeExplicitNonce(explicitNonce, 0);
 			if (!Arrays.equals(explicitNonce, explicitNonceUsed)) {
 				StringBuilder b = new StringBuilder(
 						"The explicit nonce used by the sender does not match the values provided in the DTLS record");
@@ -0,0 +1,366 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import java.net.InetSocketAddress;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.crypto.SecretKey;
+
+import org.eclipse.californium.scandium.config.DtlsConfig;
+import org.eclipse.californium.scandium.dtls.AlertMessage.AlertDescription;
+import org.eclipse.californium.scandium.dtls.AlertMessage.AlertLevel;
+import org.eclipse.californium.scandium.dtls.cipher.CipherSuite;
+import org.eclipse.californium.scandium.dtls.cipher.PseudoRandomFunction;
+import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptography;
+import org.eclipse.californium.scandium.dtls.pskstore.PskStore;
+import org.eclipse.californium.scandium.dtls.x509.CertificateVerifier;
+import org.eclipse.californium.scandium.util.SecretUtil;
+import org.eclipse.californium.scandium.util.ServerNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the CPU intensive handshake functions using a dedicated executor.
+ * <p>
+ * The functions of the {@link PskStore} and the {@link CertificateVerifier},
+ * the signing of the {@link EcdhSignedServerKeyExchange}, the ECDHE key
+ * agreement and the master secret generation are then not longer executed by
+ * the connection's executor, which is shared with the processing of the
+ * application data records. The results are reported using the
+ * {@link HandshakeResultHandler}, the same way as for asynchronous
+ * implementations of {@link PskStore} and {@link CertificateVerifier}. If
+ * the dedicated executor rejects the execution, because its queue is full,
+ * the handshake fails. Executing the function synchronously instead would
+ * move the load back to the connection's executor.
+ * 
+ * @see DtlsConfig#DTLS_HANDSHAKE_CRYPTO_THREAD_COUNT
+ * @since 4.0
+ */
+public class HandshakeCryptoExecutor {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HandshakeCryptoExecutor.class);
+
+	/**
+	 * Dedicated executor for the handshake crypto functions.
+	 */
+	private final Executor executor;
+	/**
+	 * Handler for the results.
+	 */
+	private final HandshakeResultHandler resultHandler;
+
+	/**
+	 * Create handshake crypto executor.
+	 * 
+	 * @param executor dedicated executor for the handshake crypto functions
+	 * @param resultHandler handler for the results
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public HandshakeCryptoExecutor(Executor executor, HandshakeResultHandler resultHandler) {
+		if (executor == null) {
+			throw new NullPointerException("Executor must not be null!");
+		}
+		if (resultHandler == null) {
+			throw new NullPointerException("Result handler must not be null!");
+		}
+		this.executor = executor;
+		this.resultHandler = resultHandler;
+	}
+
+	/**
+	 * Verify certificate using the dedicated executor.
+	 * 
+	 * @param verifier certificate verifier
+	 * @param cid connection ID
+	 * @param serverName indicated server names. May be {@code null}.
+	 * @param remotePeer socket address of remote peer
+	 * @param clientUsage indicator to check certificate usage.
+	 * @param verifySubject {@code true} to verify the certificate's subjects,
+	 *            {@code false}, if not.
+	 * @param truncateCertificatePath {@code true} truncate certificate path at
+	 *            a trusted certificate before validation.
+	 * @param message certificate message to be validated
+	 * @return always {@code null}, the verification is executed by the
+	 *         dedicated executor.
+	 * @throws HandshakeException if the dedicated executor rejects the
+	 *             verification.
+	 * @see CertificateVerifier#verifyCertificate(ConnectionId, ServerNames,
+	 *      InetSocketAddress, boolean, boolean, boolean, CertificateMessage)
+	 */
+	public CertificateVerificationResult verifyCertificate(final CertificateVerifier verifier,
+			final ConnectionId cid, final ServerNames serverName, final InetSocketAddress remotePeer,
+			final boolean clientUsage, final boolean verifySubject, final boolean truncateCertificatePath,
+			final CertificateMessage message) throws HandshakeException {
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					CertificateVerificationResult result;
+					try {
+						result = verifier.verifyCertificate(cid, serverName, remotePeer, clientUsage, verifySubject,
+								truncateCertificatePath, message);
+					} catch (RuntimeException ex) {
+						LOGGER.warn("Certificate verification failed!", ex);
+						result = new CertificateVerificationResult(cid,
+								internalError("Certificate verification failed!", ex), null);
+					}
+					if (result != null) {
+						resultHandler.apply(result);
+					}
+				}
+			});
+			return null;
+		} catch (RejectedExecutionException ex) {
+			throw rejected("verify certificate", ex);
+		}
+	}
+
+	/**
+	 * Request PSK secret result using the dedicated executor.
+	 * 
+	 * @param pskStore PSK store
+	 * @param cid connection id
+	 * @param serverName server name indication. May be {@code null}.
+	 * @param identity PSK identity
+	 * @param cipherSuite cipher suite for the PRF.
+	 * @param otherSecret other secret from ECDHE, or {@code null}. The
+	 *            secret is copied and therefore may be destroyed by the
+	 *            caller after this call.
+	 * @param seed seed for PRF.
+	 * @param useExtendedMasterSecret if {@code true}, use
+	 *            {@code extended_master_secret}, otherwise use
+	 *            {@code master_secret}.
+	 * @return always {@code null}, the request is executed by the dedicated
+	 *         executor. If the {@link PskStore} returns a PSK secret key
+	 *         synchronously, the master secret is also generated by the
+	 *         dedicated executor.
+	 * @throws HandshakeException if the dedicated executor rejects the
+	 *             request.
+	 * @see PskStore#requestPskSecretResult(ConnectionId, ServerNames,
+	 *      PskPublicInformation, String, SecretKey, byte[], boolean)
+	 */
+	public PskSecretResult requestPskSecretResult(final PskStore pskStore, final ConnectionId cid,
+			final ServerNames serverName, final PskPublicInformation identity, final CipherSuite cipherSuite,
+			SecretKey otherSecret, final byte[] seed, final boolean useExtendedMasterSecret)
+			throws HandshakeException {
+		final String hmacAlgorithm = cipherSuite.getPseudoRandomFunctionMacName();
+		final SecretKey secret = SecretUtil.create(otherSecret);
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					PskSecretResult result;
+					try {
+						result = pskStore.requestPskSecretResult(cid, serverName, identity, hmacAlgorithm, secret,
+								seed, useExtendedMasterSecret);
+						if (result != null && result.getSecret() != null
+								&& PskSecretResult.ALGORITHM_PSK.equals(result.getSecret().getAlgorithm())) {
+							SecretKey pskSecret = result.getSecret();
+							SecretKey premasterSecret = PseudoRandomFunction.generatePremasterSecretFromPSK(secret,
+									pskSecret);
+							SecretKey masterSecret = PseudoRandomFunction.generateMasterSecret(
+									cipherSuite.getThreadLocalPseudoRandomFunctionMac(), premasterSecret, seed,
+									useExtendedMasterSecret);
+							SecretUtil.destroy(premasterSecret);
+							SecretUtil.destroy(pskSecret);
+							result = new PskSecretResult(cid, result.getPskPublicInformation(), masterSecret,
+									result.getCustomArgument());
+						}
+					} catch (RuntimeException ex) {
+						LOGGER.warn("PSK secret generation failed!", ex);
+						result = new PskSecretResult(cid, identity, null);
+					} finally {
+						SecretUtil.destroy(secret);
+					}
+					if (result != null) {
+						resultHandler.apply(result);
+					}
+				}
+			});
+			return null;
+		} catch (RejectedExecutionException ex) {
+			SecretUtil.destroy(secret);
+			throw rejected("request PSK secret", ex);
+		}
+	}
+
+	/**
+	 * Create signed server key exchange message using the dedicated executor.
+	 * 
+	 * Reports a {@link ServerKeyExchangeResult}.
+	 * 
+	 * @param cid connection id
+	 * @param signatureAndHashAlgorithm signature and hash algorithm
+	 * @param ecdhe ECDHE key pair
+	 * @param serverPrivateKey server's private key
+	 * @param clientRandom client's random
+	 * @param serverRandom server's random
+	 * @throws HandshakeException if the dedicated executor rejects the
+	 *             signing.
+	 * @see EcdhSignedServerKeyExchange#EcdhSignedServerKeyExchange(SignatureAndHashAlgorithm,
+	 *      XECDHECryptography, PrivateKey, Random, Random)
+	 */
+	public void createServerKeyExchange(final ConnectionId cid,
+			final SignatureAndHashAlgorithm signatureAndHashAlgorithm, final XECDHECryptography ecdhe,
+			final PrivateKey serverPrivateKey, final Random clientRandom, final Random serverRandom)
+			throws HandshakeException {
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					ServerKeyExchangeResult result;
+					try {
+						result = new ServerKeyExchangeResult(cid, new EcdhSignedServerKeyExchange(
+								signatureAndHashAlgorithm, ecdhe, serverPrivateKey, clientRandom, serverRandom));
+					} catch (HandshakeException ex) {
+						result = new ServerKeyExchangeResult(cid, ex);
+					} catch (RuntimeException ex) {
+						LOGGER.warn("Server key exchange signing failed!", ex);
+						result = new ServerKeyExchangeResult(cid, internalError("Server key exchange signing failed!", ex));
+					}
+					resultHandler.apply(result);
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			throw rejected("sign server key exchange", ex);
+		}
+	}
+
+	/**
+	 * Execute ECDHE key agreement and generate the master secret using the
+	 * dedicated executor.
+	 * 
+	 * Reports a {@link KeyAgreementResult} with the master secret.
+	 * 
+	 * @param cid connection id
+	 * @param ecdhe ECDHE key pair
+	 * @param encodedPoint encoded point of the other peer's public key
+	 * @param cipherSuite cipher suite for the PRF.
+	 * @param seed seed for PRF.
+	 * @param useExtendedMasterSecret if {@code true}, use
+	 *            {@code extended_master_secret}, otherwise use
+	 *            {@code master_secret}.
+	 * @throws HandshakeException if the dedicated executor rejects the key
+	 *             agreement.
+	 */
+	public void generateMasterSecret(final ConnectionId cid, final XECDHECryptography ecdhe,
+			final byte[] encodedPoint, final CipherSuite cipherSuite, final byte[] seed,
+			final boolean useExtendedMasterSecret) throws HandshakeException {
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					KeyAgreementResult result;
+					try {
+						SecretKey premasterSecret = ecdhe.generateSecret(encodedPoint);
+						SecretKey masterSecret = PseudoRandomFunction.generateMasterSecret(
+								cipherSuite.getThreadLocalPseudoRandomFunctionMac(), premasterSecret, seed,
+								useExtendedMasterSecret);
+						SecretUtil.destroy(premasterSecret);
+						result = new KeyAgreementResult(cid, masterSecret);
+					} catch (GeneralSecurityException ex) {
+						result = new KeyAgreementResult(cid, illegalParameter(ex));
+					} catch (RuntimeException ex) {
+						LOGGER.warn("Master secret generation failed!", ex);
+						result = new KeyAgreementResult(cid, internalError("Master secret generation failed!", ex));
+					}
+					resultHandler.apply(result);
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			throw rejected("generate master secret", ex);
+		}
+	}
+
+	/**
+	 * Execute ECDHE key agreement using the dedicated executor.
+	 * 
+	 * Reports a {@link KeyAgreementResult} with the ECDHE secret.
+	 * 
+	 * @param cid connection id
+	 * @param ecdhe ECDHE key pair
+	 * @param encodedPoint encoded point of the other peer's public key
+	 * @throws HandshakeException if the dedicated executor rejects the key
+	 *             agreement.
+	 */
+	public void generateSecret(final ConnectionId cid, final XECDHECryptography ecdhe, final byte[] encodedPoint)
+			throws HandshakeException {
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					KeyAgreementResult result;
+					try {
+						result = new KeyAgreementResult(cid, ecdhe.generateSecret(encodedPoint));
+					} catch (GeneralSecurityException ex) {
+						result = new KeyAgreementResult(cid, illegalParameter(ex));
+					} catch (RuntimeException ex) {
+						LOGGER.warn("ECDHE key agreement failed!", ex);
+						result = new KeyAgreementResult(cid, internalError("ECDHE key agreement failed!", ex));
+					}
+					resultHandler.apply(result);
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			throw rejected("ECDHE key agreement", ex);
+		}
+	}
+
+	/**
+	 * Create handshake exception for failed key agreement.
+	 * 
+	 * @param cause cause of the failure
+	 * @return handshake exception with an illegal parameter alert
+	 */
+	private static HandshakeException illegalParameter(GeneralSecurityException cause) {
+		AlertMessage alert = new AlertMessage(AlertLevel.FATAL, AlertDescription.ILLEGAL_PARAMETER);
+		return new HandshakeException("Cannot process handshake message, caused by " + cause.getMessage(), alert,
+				cause);
+	}
+
+	/**
+	 * Create handshake exception for unexpected failures.
+	 * 
+	 * @param message message of the exception
+	 * @param cause cause of the failure
+	 * @return handshake exception with an internal error alert
+	 */
+	private static HandshakeException internalError(String message, RuntimeException cause) {
+		AlertMessage alert = new AlertMessage(AlertLevel.FATAL, AlertDescription.INTERNAL_ERROR);
+		return new HandshakeException(message, alert, cause);
+	}
+
+	/**
+	 * Create handshake exception for rejected execution.
+	 * 
+	 * @param function name of the rejected function
+	 * @param cause rejected execution exception
+	 * @return handshake exception with an internal error alert
+	 */
+	private static HandshakeException rejected(String function, RejectedExecutionException cause) {
+		LOGGER.debug("Handshake crypto execution rejected, {} failed.", function);
+		AlertMessage alert = new AlertMessage(AlertLevel.FATAL, AlertDescription.INTERNAL_ERROR);
+		return new HandshakeException("Handshake crypto executor overloaded!", alert, cause);
+	}
+}
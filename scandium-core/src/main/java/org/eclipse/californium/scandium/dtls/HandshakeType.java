@@ -26,6 +26,13 @@ public enum HandshakeType {
 	CLIENT_HELLO(1),
 	SERVER_HELLO(2),
 	HELLO_VERIFY_REQUEST(3),
+	/**
+	 * See <a href="https://tools.ietf.org/html/rfc5077#section-3.3" target=
+	 * "_blank">RFC 5077, 3.3. NewSessionTicket Handshake Message</a>.
+	 * 
+	 * @since 4.0
+	 */
+	NEW_SESSION_TICKET(4),
 	CERTIFICATE(11),
 	SERVER_KEY_EXCHANGE(12),
 	CERTIFICATE_REQUEST(13),
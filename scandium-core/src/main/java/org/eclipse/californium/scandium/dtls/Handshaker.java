@@ -62,6 +62,7 @@ import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.Inet6Address;
 import java.net.InetSocketAddress;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.Principal;
 import java.security.PrivateKey;
@@ -110,7 +111,9 @@ import org.eclipse.californium.scandium.dtls.cipher.CipherSuite.CertificateKeyAl
 import org.eclipse.californium.scandium.dtls.cipher.PseudoRandomFunction;
 import org.eclipse.californium.scandium.dtls.cipher.PseudoRandomFunction.Label;
 import org.eclipse.californium.scandium.dtls.cipher.RandomManager;
+import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptography;
 import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptography.SupportedGroup;
+import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptographyPool;
 import org.eclipse.californium.scandium.dtls.pskstore.PskStore;
 import org.eclipse.californium.scandium.dtls.x509.CertificateProvider;
 import org.eclipse.californium.scandium.dtls.x509.CertificateVerifier;
@@ -429,6 +432,24 @@ public abstract class Handshaker implements Destroyable {
 	 * @see #addSessionListener(SessionListener)
 	 */
 	private final Set<SessionListener> sessionListeners = new LinkedHashSet<>();
+	/**
+	 * Pool of ephemeral key pairs.
+	 * 
+	 * {@code null}, if the key pairs are generated inline.
+	 * 
+	 * @see #setKeyPairPool(XECDHECryptographyPool)
+	 * @since 4.0
+	 */
+	private XECDHECryptographyPool keyPairPool;
+	/**
+	 * Dedicated executor for the handshake crypto functions.
+	 * 
+	 * {@code null}, if the handshake crypto functions are executed inline.
+	 * 
+	 * @see #setHandshakeCryptoExecutor(HandshakeCryptoExecutor)
+	 * @since 4.0
+	 */
+	private HandshakeCryptoExecutor handshakeCryptoExecutor;
 
 	/**
 	 * Indicates, that {@link #setExpectedStates(HandshakeState[])} has been called
@@ -1115,6 +1136,10 @@ public abstract class Handshaker implements Destroyable {
 			processCertificateVerificationResult((CertificateVerificationResult) handshakeResult);
 		} else if (handshakeResult instanceof CertificateIdentityResult) {
 			processCertificateIdentityResult((CertificateIdentityResult) handshakeResult);
+		} else if (handshakeResult instanceof KeyAgreementResult) {
+			processKeyAgreementResult((KeyAgreementResult) handshakeResult);
+		} else if (handshakeResult instanceof ServerKeyExchangeResult) {
+			processServerKeyExchangeResult((ServerKeyExchangeResult) handshakeResult);
 		}
 		if (changeCipherSuiteMessageExpected) {
 			processNextMessages(null);
@@ -1187,6 +1212,32 @@ public abstract class Handshaker implements Destroyable {
 		}
 	}
 
+	/**
+	 * Process key agreement result of the {@link HandshakeCryptoExecutor}.
+	 * 
+	 * @param keyAgreementResult key agreement result
+	 * @throws HandshakeException if an error occurs
+	 * @throws IllegalStateException if no key agreement is pending.
+	 * @since 4.0
+	 */
+	protected void processKeyAgreementResult(KeyAgreementResult keyAgreementResult) throws HandshakeException {
+		throw new IllegalStateException("key agreement not pending!");
+	}
+
+	/**
+	 * Process server key exchange result of the
+	 * {@link HandshakeCryptoExecutor}.
+	 * 
+	 * @param serverKeyExchangeResult server key exchange result
+	 * @throws HandshakeException if an error occurs
+	 * @throws IllegalStateException if no server key exchange is pending.
+	 * @since 4.0
+	 */
+	protected void processServerKeyExchangeResult(ServerKeyExchangeResult serverKeyExchangeResult)
+			throws HandshakeException {
+		throw new IllegalStateException("server key exchange not pending!");
+	}
+
 	/**
 	 * Do the handshaker specific master secret processing
 	 * 
@@ -1509,12 +1560,19 @@ public abstract class Handshaker implements Destroyable {
 		}
 		DTLSSession session = getSession();
 		ServerNames serverNames = getServerNames();
-		String hmacAlgorithm = session.getCipherSuite().getPseudoRandomFunctionMacName();
+		CipherSuite cipherSuite = session.getCipherSuite();
 		pskRequestPending = true;
 		masterSecretSeed = seed;
 		this.otherSecret = SecretUtil.create(otherSecret);
-		PskSecretResult result = pskStore.requestPskSecretResult(connection.getConnectionId(), serverNames, pskIdentity,
-				hmacAlgorithm, otherSecret, masterSecretSeed, session.useExtendedMasterSecret());
+		PskSecretResult result;
+		HandshakeCryptoExecutor executor = handshakeCryptoExecutor;
+		if (executor != null) {
+			result = executor.requestPskSecretResult(pskStore, connection.getConnectionId(), serverNames, pskIdentity,
+					cipherSuite, otherSecret, masterSecretSeed, session.useExtendedMasterSecret());
+		} else {
+			result = pskStore.requestPskSecretResult(connection.getConnectionId(), serverNames, pskIdentity,
+					cipherSuite.getPseudoRandomFunctionMacName(), otherSecret, masterSecretSeed, session.useExtendedMasterSecret());
+		}
 		if (result != null) {
 			processPskSecretResult(result);
 		}
@@ -2171,6 +2229,59 @@ public abstract class Handshaker implements Destroyable {
 		}
 	}
 
+	/**
+	 * Set pool of ephemeral key pairs.
+	 * 
+	 * @param keyPairPool pool of ephemeral key pairs. {@code null}, to
+	 *            generate the key pairs inline.
+	 * @since 4.0
+	 */
+	public final void setKeyPairPool(XECDHECryptographyPool keyPairPool) {
+		this.keyPairPool = keyPairPool;
+	}
+
+	/**
+	 * Set dedicated executor for the handshake crypto functions.
+	 * 
+	 * @param executor dedicated executor for the handshake crypto functions.
+	 *            {@code null}, to execute them inline.
+	 * @since 4.0
+	 */
+	public final void setHandshakeCryptoExecutor(HandshakeCryptoExecutor executor) {
+		this.handshakeCryptoExecutor = executor;
+	}
+
+	/**
+	 * Get dedicated executor for the handshake crypto functions.
+	 * 
+	 * @return dedicated executor for the handshake crypto functions, or
+	 *         {@code null}, if they are executed inline.
+	 * @since 4.0
+	 */
+	protected final HandshakeCryptoExecutor getHandshakeCryptoExecutor() {
+		return handshakeCryptoExecutor;
+	}
+
+	/**
+	 * Create ephemeral key pair.
+	 * 
+	 * Takes the key pair from the {@link #keyPairPool}, if available, or
+	 * generates it inline.
+	 * 
+	 * @param group group of the key pair
+	 * @return ephemeral key pair
+	 * @throws GeneralSecurityException if the key pair cannot be generated
+	 * @since 4.0
+	 */
+	protected final XECDHECryptography createEphemeralKeyPair(SupportedGroup group) throws GeneralSecurityException {
+		XECDHECryptographyPool pool = keyPairPool;
+		if (pool != null) {
+			return pool.take(group);
+		} else {
+			return new XECDHECryptography(group);
+		}
+	}
+
 	/**
 	 * Removes a listener from the list of listeners to be notified
 	 * about session life cycle events.
@@ -2490,9 +2601,17 @@ public abstract class Handshaker implements Destroyable {
 		certificateVerificationPending = true;
 		this.otherPeersPublicKey = message.getPublicKey();
 
-		CertificateVerificationResult verificationResult = certificateVerifier.verifyCertificate(
-				connection.getConnectionId(), getServerNames(), getPeerAddress(), !isClient(),
-				verifySubject, useTruncatedCertificatePathForVerification, message);
+		CertificateVerificationResult verificationResult;
+		HandshakeCryptoExecutor executor = handshakeCryptoExecutor;
+		if (executor != null) {
+			verificationResult = executor.verifyCertificate(certificateVerifier, connection.getConnectionId(),
+					getServerNames(), getPeerAddress(), !isClient(), verifySubject,
+					useTruncatedCertificatePathForVerification, message);
+		} else {
+			verificationResult = certificateVerifier.verifyCertificate(connection.getConnectionId(),
+					getServerNames(), getPeerAddress(), !isClient(), verifySubject,
+					useTruncatedCertificatePathForVerification, message);
+		}
 		if (verificationResult != null) {
 			processCertificateVerificationResult(verificationResult);
 		}
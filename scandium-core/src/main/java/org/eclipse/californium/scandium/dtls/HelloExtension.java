@@ -199,6 +199,9 @@ public abstract class HelloExtension {
 			case RENEGOTIATION_INFO:
 				extension = RenegotiationInfoExtension.fromExtensionDataReader(extensionDataReader);
 				break;
+			case SESSION_TICKET_TLS:
+				extension = SessionTicketExtension.fromExtensionDataReader(extensionDataReader);
+				break;
 			default:
 				break;
 			}
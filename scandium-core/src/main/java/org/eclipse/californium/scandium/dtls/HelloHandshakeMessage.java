@@ -249,6 +249,17 @@ public abstract class HelloHandshakeMessage extends HandshakeMessage {
 		return extensions.getExtension(ExtensionType.CONNECTION_ID);
 	}
 
+	/**
+	 * Gets the <em>SessionTicket</em> extension data from this message.
+	 * 
+	 * @return the extension data or {@code null}, if this message does not
+	 *         contain the <em>SessionTicket</em> extension.
+	 * @since 4.0
+	 */
+	public SessionTicketExtension getSessionTicketExtension() {
+		return extensions.getExtension(ExtensionType.SESSION_TICKET_TLS);
+	}
+
 	/**
 	 * Checks whether <em>ExtendedMasterSecret</em> extension is present in this
 	 * message.
@@ -77,6 +77,13 @@ import org.slf4j.LoggerFactory;
  * Insertion, lookup and removal of connections is done in <em>O(log n)</em>.
  * </p>
  * <p>
+ * For fixed length connection ids of up to 8 bytes, generated by a
+ * {@link SingleNodeConnectionIdGenerator} or a
+ * {@link MultiNodeConnectionIdGenerator}, the connections are additionally
+ * indexed by the connection id bytes packed into a {@code long}. That speeds up
+ * the lookup by connection id of received records.
+ * </p>
+ * <p>
  * Storing and reading to/from the store is thread safe.
  * </p>
  * <p>
@@ -117,6 +124,26 @@ public class InMemoryConnectionStore implements ConnectionStore {
 	 * @see #attach(ConnectionIdGenerator)
 	 */
 	private ConnectionIdGenerator connectionIdGenerator;
+	/**
+	 * Index of connections by fixed length connection ids.
+	 * 
+	 * {@code null}, if the connection ids of the
+	 * {@link #connectionIdGenerator} don't have a fixed length of up to
+	 * {@link ConnectionIdIndex#MAX_CID_LENGTH} bytes.
+	 * 
+	 * @see #attach(ConnectionIdGenerator)
+	 * @since 4.0
+	 */
+	private volatile ConnectionIdIndex connectionIdIndex;
+	/**
+	 * Journal of connections.
+	 * 
+	 * {@code null}, if not used.
+	 * 
+	 * @see #setJournal(ConnectionJournal)
+	 * @since 4.0
+	 */
+	private volatile ConnectionJournal journal;
 
 	protected String tag = "";
 
@@ -148,6 +175,11 @@ public class InMemoryConnectionStore implements ConnectionStore {
 
 			@Override
 			public void onEviction(final Connection staleConnection) {
+				removeFromIndex(staleConnection);
+				ConnectionJournal journal = InMemoryConnectionStore.this.journal;
+				if (journal != null) {
+					journal.onRemove(staleConnection);
+				}
 				Runnable remove = new Runnable() {
 
 					@Override
@@ -209,6 +241,20 @@ public class InMemoryConnectionStore implements ConnectionStore {
 		return null;
 	}
 
+	/**
+	 * Set journal of connections.
+	 * 
+	 * @param journal journal of connections
+	 * @throws IllegalStateException if a journal is already set
+	 * @since 4.0
+	 */
+	synchronized void setJournal(ConnectionJournal journal) {
+		if (this.journal != null) {
+			throw new IllegalStateException("Journal already set!");
+		}
+		this.journal = journal;
+	}
+
 	@Override
 	public ReadLock readLock() {
 		return connections.readLock();
@@ -242,6 +288,28 @@ public class InMemoryConnectionStore implements ConnectionStore {
 		} else {
 			this.connectionIdGenerator = connectionIdGenerator;
 		}
+		int cidLength = 0;
+		if (this.connectionIdGenerator instanceof SingleNodeConnectionIdGenerator) {
+			cidLength = ((SingleNodeConnectionIdGenerator) this.connectionIdGenerator).getConnectionIdLength();
+		} else if (this.connectionIdGenerator instanceof MultiNodeConnectionIdGenerator) {
+			cidLength = ((MultiNodeConnectionIdGenerator) this.connectionIdGenerator).getConnectionIdLength();
+		}
+		if (0 < cidLength && cidLength <= ConnectionIdIndex.MAX_CID_LENGTH) {
+			ConnectionIdIndex index = new ConnectionIdIndex(cidLength);
+			connections.writeLock().lock();
+			try {
+				for (Connection connection : connections.values()) {
+					ConnectionId cid = connection.getConnectionId();
+					if (index.supports(cid)) {
+						index.put(cid, connection);
+					}
+				}
+				this.connectionIdIndex = index;
+			} finally {
+				connections.writeLock().unlock();
+			}
+			LOGGER.info("{}connection id index for {} bytes", tag, cidLength);
+		}
 	}
 
 	/**
@@ -284,6 +352,7 @@ public class InMemoryConnectionStore implements ConnectionStore {
 			connections.writeLock().lock();
 			try {
 				if (connections.put(connectionId, connection)) {
+					addToIndex(connection);
 					if (LOGGER.isTraceEnabled()) {
 						LOGGER.trace("{}connection: add {} (size {})", tag, connection, connections.size(),
 								new Throwable("connection added!"));
@@ -559,7 +628,13 @@ public class InMemoryConnectionStore implements ConnectionStore {
 
 	@Override
 	public Connection get(ConnectionId cid) {
-		Connection connection = connections.get(cid);
+		ConnectionIdIndex index = connectionIdIndex;
+		Connection connection;
+		if (index != null && index.supports(cid)) {
+			connection = index.get(cid);
+		} else {
+			connection = connections.get(cid);
+		}
 		if (connection == null) {
 			LOGGER.debug("{}connection: missing connection for {}!", tag, cid);
 		} else {
@@ -583,6 +658,11 @@ public class InMemoryConnectionStore implements ConnectionStore {
 		try {
 			removed = connections.remove(connection.getConnectionId(), connection) == connection;
 			if (removed) {
+				removeFromIndex(connection);
+				ConnectionJournal journal = this.journal;
+				if (journal != null) {
+					journal.onRemove(connection);
+				}
 				int pendings = connection.shutdown();
 				if (LOGGER.isTraceEnabled()) {
 					LOGGER.trace("{}connection: remove {} (size {}, left jobs: {})", tag, connection,
@@ -613,6 +693,45 @@ public class InMemoryConnectionStore implements ConnectionStore {
 		return removed;
 	}
 
+	/**
+	 * Add connection to {@link #connectionIdIndex}.
+	 * 
+	 * Must be called holding the write lock.
+	 * 
+	 * @param connection connection to add
+	 * @since 4.0
+	 */
+	private void addToIndex(Connection connection) {
+		ConnectionIdIndex index = connectionIdIndex;
+		if (index != null) {
+			ConnectionId cid = connection.getConnectionId();
+			if (index.supports(cid)) {
+				index.put(cid, connection);
+			}
+		}
+	}
+
+	/**
+	 * Remove connection from {@link #connectionIdIndex}.
+	 * 
+	 * @param connection connection to remove
+	 * @since 4.0
+	 */
+	private void removeFromIndex(Connection connection) {
+		ConnectionIdIndex index = connectionIdIndex;
+		if (index != null) {
+			ConnectionId cid = connection.getConnectionId();
+			if (index.supports(cid)) {
+				connections.writeLock().lock();
+				try {
+					index.remove(cid, connection);
+				} finally {
+					connections.writeLock().unlock();
+				}
+			}
+		}
+	}
+
 	private void removeByEstablishedSessions(SessionId sessionId, Connection connection) {
 		if (connectionsByEstablishedSession != null && sessionId != null && !sessionId.isEmpty()) {
 			connectionsByEstablishedSession.remove(sessionId, connection);
@@ -727,6 +846,15 @@ public class InMemoryConnectionStore implements ConnectionStore {
 			}
 		}
 		connections.clear();
+		ConnectionIdIndex index = connectionIdIndex;
+		if (index != null) {
+			connections.writeLock().lock();
+			try {
+				index.clear();
+			} finally {
+				connections.writeLock().unlock();
+			}
+		}
 		if (connectionsByEstablishedSession != null) {
 			connectionsByEstablishedSession.clear();
 		}
@@ -744,6 +872,25 @@ public class InMemoryConnectionStore implements ConnectionStore {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Writes the final checkpoint of the {@link ConnectionJournal}, if used.
+	 * 
+	 * @since 4.0
+	 */
+	@Override
+	public void stopped() {
+		ConnectionJournal journal = this.journal;
+		if (journal != null) {
+			try {
+				journal.finish();
+			} catch (IOException ex) {
+				LOGGER.warn("{}final checkpoint of connection journal failed!", tag, ex);
+			}
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -856,6 +1003,7 @@ public class InMemoryConnectionStore implements ConnectionStore {
 		connections.writeLock().lock();
 		try {
 			if (connections.put(connectionId, connection, connection.getLastMessageNanos())) {
+				addToIndex(connection);
 				if (LOGGER.isTraceEnabled()) {
 					LOGGER.trace("{}connection: add {} (size {})", tag, connection, connections.size(),
 							new Throwable("connection added!"));
@@ -0,0 +1,90 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import javax.crypto.SecretKey;
+
+/**
+ * Result of the ECDHE key agreement executed by the
+ * {@link HandshakeCryptoExecutor}.
+ * 
+ * On success contains either the master secret, or, for
+ * {@link CipherSuite.KeyExchangeAlgorithm#ECDHE_PSK}, the ECDHE secret. If
+ * failed, contains the handshake exception.
+ * 
+ * @since 4.0
+ */
+public class KeyAgreementResult extends HandshakeResult {
+
+	/**
+	 * Master secret or ECDHE secret.
+	 */
+	private final SecretKey secret;
+	/**
+	 * Handshake exception.
+	 */
+	private final HandshakeException exception;
+
+	/**
+	 * Create result.
+	 * 
+	 * @param cid connection id
+	 * @param secret master secret or ECDHE secret
+	 * @throws NullPointerException if cid or secret is {@code null}.
+	 */
+	public KeyAgreementResult(ConnectionId cid, SecretKey secret) {
+		super(cid, null);
+		if (secret == null) {
+			throw new NullPointerException("secret must not be null!");
+		}
+		this.secret = secret;
+		this.exception = null;
+	}
+
+	/**
+	 * Create result.
+	 * 
+	 * @param cid connection id
+	 * @param exception handshake exception
+	 * @throws NullPointerException if cid or exception is {@code null}.
+	 */
+	public KeyAgreementResult(ConnectionId cid, HandshakeException exception) {
+		super(cid, null);
+		if (exception == null) {
+			throw new NullPointerException("exception must not be null!");
+		}
+		this.secret = null;
+		this.exception = exception;
+	}
+
+	/**
+	 * Get master secret or ECDHE secret.
+	 * 
+	 * @return secret, {@code null}, if the key agreement failed.
+	 */
+	public SecretKey getSecret() {
+		return secret;
+	}
+
+	/**
+	 * Get handshake exception.
+	 * 
+	 * @return handshake exception, {@code null}, if the key agreement
+	 *         succeeded.
+	 */
+	public HandshakeException getException() {
+		return exception;
+	}
+}
@@ -58,6 +58,16 @@ public class MultiNodeConnectionIdGenerator implements NodeConnectionIdGenerator
 		return true;
 	}
 
+	/**
+	 * Get length of connection id.
+	 * 
+	 * @return length of connection id
+	 * @since 4.0
+	 */
+	public int getConnectionIdLength() {
+		return connectionIdLength;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
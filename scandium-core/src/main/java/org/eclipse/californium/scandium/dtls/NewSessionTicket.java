@@ -0,0 +1,147 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import org.eclipse.californium.elements.util.DatagramReader;
+import org.eclipse.californium.elements.util.DatagramWriter;
+import org.eclipse.californium.elements.util.StringUtil;
+
+/**
+ * New session ticket message.
+ * <p>
+ * Sent by the server before its <em>ChangeCipherSpec</em>, if it has included
+ * an empty {@link SessionTicketExtension} in its server hello.
+ * 
+ * <pre>
+ * struct {
+ *    uint32 ticket_lifetime_hint;
+ *    opaque ticket&lt;0..2^16-1&gt;;
+ * } NewSessionTicket;
+ * </pre>
+ * 
+ * See <a href="https://tools.ietf.org/html/rfc5077#section-3.3" target=
+ * "_blank">RFC 5077, 3.3. NewSessionTicket Handshake Message</a> for
+ * additional details.
+ * 
+ * @since 4.0
+ */
+public final class NewSessionTicket extends HandshakeMessage {
+
+	/**
+	 * Maximum length of a ticket.
+	 */
+	public static final int MAX_TICKET_LENGTH = 65535;
+
+	private static final int LIFETIME_BITS = 32;
+
+	private static final int TICKET_LENGTH_BITS = 16;
+
+	/**
+	 * Lifetime hint in seconds. {@code 0}, if not specified.
+	 */
+	private final long lifetimeHint;
+
+	/**
+	 * The opaque ticket.
+	 */
+	private final byte[] ticket;
+
+	/**
+	 * Create new session ticket message.
+	 * 
+	 * @param lifetimeHint lifetime hint in seconds. {@code 0}, if not
+	 *            specified.
+	 * @param ticket opaque ticket. Empty, if the server doesn't issue a ticket.
+	 * @throws NullPointerException if ticket is {@code null}
+	 * @throws IllegalArgumentException if lifetime hint is out of range or the
+	 *             ticket exceeds {@link #MAX_TICKET_LENGTH}
+	 */
+	public NewSessionTicket(long lifetimeHint, byte[] ticket) {
+		if (ticket == null) {
+			throw new NullPointerException("ticket must not be null!");
+		}
+		if (lifetimeHint < 0 || lifetimeHint > 0xffffffffL) {
+			throw new IllegalArgumentException("Lifetime hint " + lifetimeHint + " out of range!");
+		}
+		if (ticket.length > MAX_TICKET_LENGTH) {
+			throw new IllegalArgumentException("Ticket length " + ticket.length + " exceeds " + MAX_TICKET_LENGTH + "!");
+		}
+		this.lifetimeHint = lifetimeHint;
+		this.ticket = ticket;
+	}
+
+	@Override
+	public HandshakeType getMessageType() {
+		return HandshakeType.NEW_SESSION_TICKET;
+	}
+
+	@Override
+	public int getMessageLength() {
+		// fixed: lifetime (4) + ticket length (2)
+		return 6 + ticket.length;
+	}
+
+	@Override
+	public byte[] fragmentToByteArray() {
+		DatagramWriter writer = new DatagramWriter(getMessageLength());
+		writer.writeLong(lifetimeHint, LIFETIME_BITS);
+		writer.write(ticket.length, TICKET_LENGTH_BITS);
+		writer.writeBytes(ticket);
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Get lifetime hint.
+	 * 
+	 * @return lifetime hint in seconds. {@code 0}, if not specified.
+	 */
+	public long getLifetimeHint() {
+		return lifetimeHint;
+	}
+
+	/**
+	 * Get ticket.
+	 * 
+	 * @return ticket. Empty, if the server doesn't issue a ticket.
+	 */
+	public byte[] getTicket() {
+		return ticket;
+	}
+
+	@Override
+	public String toString(int indent) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(super.toString(indent));
+		String indentation = StringUtil.indentation(indent + 1);
+		sb.append(indentation).append("Lifetime Hint: ").append(lifetimeHint).append(" s")
+				.append(StringUtil.lineSeparator());
+		sb.append(indentation).append("Ticket: ").append(ticket.length).append(" bytes")
+				.append(StringUtil.lineSeparator());
+		return sb.toString();
+	}
+
+	/**
+	 * Create new session ticket message from reader.
+	 * 
+	 * @param reader reader with the message's fragment
+	 * @return new session ticket message
+	 */
+	public static NewSessionTicket fromReader(DatagramReader reader) {
+		long lifetimeHint = reader.readLong(LIFETIME_BITS);
+		int length = reader.read(TICKET_LENGTH_BITS);
+		byte[] ticket = reader.readBytes(length);
+		return new NewSessionTicket(lifetimeHint, ticket);
+	}
+}
@@ -316,31 +316,49 @@ public class Record {
 	 * @return a byte array containing the <em>DTLSCiphertext</em> structure
 	 */
 	public byte[] toByteArray() {
-		final boolean useCid = useConnectionId();
 		int length = fragmentBytes.length + RECORD_HEADER_BYTES;
-		if (useCid) {
+		if (useConnectionId()) {
 			length += connectionId.length();
 		}
-		DatagramWriter writer = new DatagramWriter(length);
+		byte[] result = new byte[length];
+		writeTo(result, 0);
+		return result;
+	}
 
+	/**
+	 * Encodes this record into its corresponding <em>DTLSCiphertext</em>
+	 * structure using the provided buffer.
+	 * <p>
+	 * Intended to be used with a reusable (send) buffer in order to avoid
+	 * additional copies of the record on the outgoing path. The buffer must
+	 * provide at least {@link #size()} bytes starting at the offset.
+	 * 
+	 * @param buffer buffer to write the record to
+	 * @param offset offset within the buffer
+	 * @return offset after the written record
+	 * @throws IndexOutOfBoundsException if the record doesn't fit into the
+	 *             buffer
+	 * @since 4.0
+	 */
+	public int writeTo(byte[] buffer, int offset) {
+		final boolean useCid = useConnectionId();
+		int length = fragmentBytes.length;
 		if (useCid) {
-			writer.write(ContentType.TLS12_CID.getCode(), CONTENT_TYPE_BITS);
+			buffer[offset++] = (byte) ContentType.TLS12_CID.getCode();
 		} else {
-			writer.write(type.getCode(), CONTENT_TYPE_BITS);
+			buffer[offset++] = (byte) type.getCode();
 		}
-
-		writer.write(version.getMajor(), VERSION_BITS);
-		writer.write(version.getMinor(), VERSION_BITS);
-
-		writer.write(epoch, EPOCH_BITS);
-		writer.writeLong(sequenceNumber, SEQUENCE_NUMBER_BITS);
+		buffer[offset++] = (byte) version.getMajor();
+		buffer[offset++] = (byte) version.getMinor();
+		offset = writeExplicitNonce(buffer, offset);
 		if (useCid) {
-			writer.writeBytes(connectionId.getBytes());
+			byte[] cid = connectionId.getBytes();
+			System.arraycopy(cid, 0, buffer, offset, cid.length);
+			offset += cid.length;
 		}
-		writer.write(fragmentBytes.length, LENGTH_BITS);
-		writer.writeBytes(fragmentBytes);
-
-		return writer.toByteArray();
+		offset = writeNumber(buffer, offset, length, LENGTH_BITS / Byte.SIZE);
+		System.arraycopy(fragmentBytes, 0, buffer, offset, length);
+		return offset + length;
 	}
 
 	public int size() {
@@ -478,11 +496,44 @@ public class Record {
 	 * @param writer writer for nonce
 	 */
 	protected void writeExplicitNonce(DatagramWriter writer) {
-		//TODO: re-factor to use simple byte array manipulation instead of using bit-based DatagramWriter
 		writer.write(epoch, EPOCH_BITS);
 		writer.writeLong(sequenceNumber, SEQUENCE_NUMBER_BITS);
 	}
 
+	/**
+	 * Writes the explicit part of the nonce to be used with the AEAD Cipher
+	 * into the provided buffer.
+	 * 
+	 * @param buffer buffer for nonce
+	 * @param offset offset within the buffer
+	 * @return offset after the written explicit nonce
+	 * @see #writeExplicitNonce(DatagramWriter)
+	 * @since 4.0
+	 */
+	protected int writeExplicitNonce(byte[] buffer, int offset) {
+		offset = writeNumber(buffer, offset, epoch, EPOCH_BITS / Byte.SIZE);
+		return writeNumber(buffer, offset, sequenceNumber, SEQUENCE_NUMBER_BITS / Byte.SIZE);
+	}
+
+	/**
+	 * Write number big endian into buffer.
+	 * 
+	 * @param buffer buffer to write the number to
+	 * @param offset offset within the buffer
+	 * @param number number to write
+	 * @param bytes number of bytes to write
+	 * @return offset after the written number
+	 * @since 4.0
+	 */
+	private static int writeNumber(byte[] buffer, int offset, long number, int bytes) {
+		int end = offset + bytes;
+		for (int index = end - 1; index >= offset; --index) {
+			buffer[index] = (byte) number;
+			number >>>= Byte.SIZE;
+		}
+		return end;
+	}
+
 	/**
 	 * Generates the additional authentication data.
 	 * 
@@ -521,20 +572,20 @@ public class Record {
 	 * @since 3.0
 	 */
 	protected byte[] generateAdditionalDataCid(int length) {
-		DatagramWriter writer = new DatagramWriter(RECORD_HEADER_BYTES + connectionId.length() + 1 + 1 + 8);
-
-		writer.writeBytes(SEQUENCE_NUMBER_PLACEHOLDER);
-		writer.write(ContentType.TLS12_CID.getCode(), CONTENT_TYPE_BITS);
-		writer.write(connectionId.length(), CID_LENGTH_BITS);
-		writer.write(ContentType.TLS12_CID.getCode(), CONTENT_TYPE_BITS);
-		writer.write(version.getMajor(), VERSION_BITS);
-		writer.write(version.getMinor(), VERSION_BITS);
-		writer.write(epoch, EPOCH_BITS);
-		writer.writeLong(sequenceNumber, SEQUENCE_NUMBER_BITS);
-		writer.writeBytes(connectionId.getBytes());
-		writer.write(length, LENGTH_BITS);
-
-		return writer.toByteArray();
+		byte[] cid = connectionId.getBytes();
+		byte[] additionalData = new byte[RECORD_HEADER_BYTES + cid.length + 1 + 1 + 8];
+		System.arraycopy(SEQUENCE_NUMBER_PLACEHOLDER, 0, additionalData, 0, SEQUENCE_NUMBER_PLACEHOLDER.length);
+		int offset = SEQUENCE_NUMBER_PLACEHOLDER.length;
+		additionalData[offset++] = (byte) ContentType.TLS12_CID.getCode();
+		additionalData[offset++] = (byte) cid.length;
+		additionalData[offset++] = (byte) ContentType.TLS12_CID.getCode();
+		additionalData[offset++] = (byte) version.getMajor();
+		additionalData[offset++] = (byte) version.getMinor();
+		offset = writeExplicitNonce(additionalData, offset);
+		System.arraycopy(cid, 0, additionalData, offset, cid.length);
+		offset += cid.length;
+		writeNumber(additionalData, offset, length, LENGTH_BITS / Byte.SIZE);
+		return additionalData;
 	}
 
 	/**
@@ -553,17 +604,13 @@ public class Record {
 	 * @return the additional authentication data.
 	 */
 	protected byte[] generateAdditionalDataRfc6347(int length) {
-		DatagramWriter writer = new DatagramWriter(RECORD_HEADER_BYTES);
-
-		writer.write(epoch, EPOCH_BITS);
-		writer.writeLong(sequenceNumber, SEQUENCE_NUMBER_BITS);
-
-		writer.write(type.getCode(), CONTENT_TYPE_BITS);
-		writer.write(version.getMajor(), VERSION_BITS);
-		writer.write(version.getMinor(), VERSION_BITS);
-		writer.write(length, LENGTH_BITS);
-
-		return writer.toByteArray();
+		byte[] additionalData = new byte[RECORD_HEADER_BYTES];
+		int offset = writeExplicitNonce(additionalData, 0);
+		additionalData[offset++] = (byte) type.getCode();
+		additionalData[offset++] = (byte) version.getMajor();
+		additionalData[offset++] = (byte) version.getMinor();
+		writeNumber(additionalData, offset, length, LENGTH_BITS / Byte.SIZE);
+		return additionalData;
 	}
 
 	/**
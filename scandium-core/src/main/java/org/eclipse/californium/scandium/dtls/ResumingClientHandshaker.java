@@ -112,6 +112,7 @@ public class ResumingClientHandshaker extends ClientHandshaker {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ResumingClientHandshaker.class);
 
 	private static final HandshakeState[] ABBREVIATED_HANDSHAKE = { 
+			new HandshakeState(HandshakeType.NEW_SESSION_TICKET, true),
 			new HandshakeState(ContentType.CHANGE_CIPHER_SPEC),
 			new HandshakeState(HandshakeType.FINISHED) };
 
@@ -167,6 +168,10 @@ public class ResumingClientHandshaker extends ClientHandshaker {
 			receivedServerHello((ServerHello)message);
 			break;
 
+		case NEW_SESSION_TICKET:
+			receivedNewSessionTicket((NewSessionTicket) message);
+			break;
+
 		case FINISHED:
 			receivedServerFinished((Finished) message);
 			break;
@@ -294,6 +299,7 @@ public class ResumingClientHandshaker extends ClientHandshaker {
 		addRecordSizeLimit(message);
 		addMaxFragmentLength(message);
 		addServerNameIndication(message);
+		addSessionTicket(message, session.getSessionTicket());
 
 		// keep client_hello for a hello_verify_request.
 		clientHello = message;
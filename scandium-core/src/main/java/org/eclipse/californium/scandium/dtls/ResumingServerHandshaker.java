@@ -40,6 +40,7 @@ import org.eclipse.californium.scandium.dtls.AlertMessage.AlertDescription;
 import org.eclipse.californium.scandium.dtls.AlertMessage.AlertLevel;
 import org.eclipse.californium.scandium.dtls.cipher.CipherSuite;
 import org.eclipse.californium.scandium.dtls.resumption.ResumptionVerifier;
+import org.eclipse.californium.scandium.dtls.resumption.SessionTicketProtector;
 import org.eclipse.californium.scandium.util.SecretUtil;
 import org.eclipse.californium.scandium.util.ServerNames;
 import org.slf4j.Logger;
@@ -168,7 +169,10 @@ public class ResumingServerHandshaker extends ServerHandshaker {
 	 * 
 	 * Calls
 	 * {@link #processResumptionVerificationResult(ResumptionVerificationResult)}
-	 * on available resumption result.
+	 * on available resumption result. If a {@link SessionTicketProtector} is
+	 * configured and the client hello contains a valid session ticket, the
+	 * session of that ticket is used without asking the
+	 * {@link ResumptionVerifier}.
 	 * 
 	 * @param clientHello the client's hello message.
 	 * @throws HandshakeException if the server's handshake records creation
@@ -184,6 +188,20 @@ public class ResumingServerHandshaker extends ServerHandshaker {
 			throw new IllegalArgumentException("Client hello doesn't contain session id required for resumption!");
 		}
 		pendingClientHello = clientHello;
+		if (sessionTicketProtector != null) {
+			SessionTicketExtension ticketExtension = clientHello.getSessionTicketExtension();
+			if (ticketExtension != null && ticketExtension.hasTicket()) {
+				DTLSSession session = sessionTicketProtector.unprotect(ticketExtension.getTicket());
+				if (session != null && session.getSessionIdentifier().equals(clientHello.getSessionId())) {
+					LOGGER.debug("Process client hello with session ticket");
+					processResumptionVerificationResult(
+							new ResumptionVerificationResult(getConnection().getConnectionId(), session, null));
+					return;
+				}
+				LOGGER.debug("Session ticket of peer [{}] not valid, use session id.", peerToLog);
+				SecretUtil.destroy(session);
+			}
+		}
 		ResumptionVerificationResult result = resumptionHandler.verifyResumptionRequest(
 				getConnection().getConnectionId(), clientHello.getServerNames(), clientHello.getSessionId());
 		if (result != null) {
@@ -290,6 +308,11 @@ public class ResumingServerHandshaker extends ServerHandshaker {
 		wrapMessage(flight, serverHello);
 		serverRandom = serverHello.getRandom();
 
+		NewSessionTicket newSessionTicket = createNewSessionTicket();
+		if (newSessionTicket != null) {
+			wrapMessage(flight, newSessionTicket);
+		}
+
 		ChangeCipherSpecMessage changeCipherSpecMessage = new ChangeCipherSpecMessage();
 		wrapMessage(flight, changeCipherSpecMessage);
 
@@ -68,6 +68,7 @@ import javax.security.auth.DestroyFailedException;
 import org.eclipse.californium.elements.auth.RawPublicKeyIdentity;
 import org.eclipse.californium.elements.auth.X509CertPath;
 import org.eclipse.californium.elements.config.CertificateAuthenticationMode;
+import org.eclipse.californium.elements.util.Bytes;
 import org.eclipse.californium.elements.util.NoPublicAPI;
 import org.eclipse.californium.scandium.config.DtlsConfig;
 import org.eclipse.californium.scandium.config.DtlsConnectorConfig;
@@ -84,6 +85,7 @@ import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptography;
 import org.eclipse.californium.scandium.dtls.cipher.CipherSuite.CertificateKeyAlgorithm;
 import org.eclipse.californium.scandium.dtls.cipher.CipherSuite.KeyExchangeAlgorithm;
 import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptography.SupportedGroup;
+import org.eclipse.californium.scandium.dtls.resumption.SessionTicketProtector;
 import org.eclipse.californium.scandium.util.SecretUtil;
 import org.eclipse.californium.scandium.util.ServerNames;
 import org.slf4j.Logger;
@@ -229,6 +231,38 @@ public class ServerHandshaker extends Handshaker {
 	 */
 	private XECDHECryptography ecdhe;
 
+	/**
+	 * Pending server flight while signing the server key exchange message
+	 * using the {@link HandshakeCryptoExecutor}.
+	 * 
+	 * @since 4.0
+	 */
+	private DTLSFlight pendingServerFlight;
+
+	/**
+	 * Seed for the master secret, while the ECDHE key agreement is pending
+	 * using the {@link HandshakeCryptoExecutor}. {@code null}, if no key
+	 * agreement is pending.
+	 * 
+	 * @since 4.0
+	 */
+	private byte[] pendingKeyAgreementSeed;
+
+	/**
+	 * Protector for stateless session tickets. {@code null}, if session
+	 * tickets are not issued.
+	 * 
+	 * @since 4.0
+	 */
+	protected final SessionTicketProtector sessionTicketProtector;
+
+	/**
+	 * Indicates, that a {@link NewSessionTicket} is to be sent.
+	 * 
+	 * @since 4.0
+	 */
+	private boolean sendSessionTicket;
+
 	/**
 	 * Creates a handshaker for negotiating a DTLS session with a client
 	 * following the full DTLS handshake protocol.
@@ -261,6 +295,7 @@ public class ServerHandshaker extends Handshaker {
 		this.clientAuthenticationMode = config.get(DtlsConfig.DTLS_CLIENT_AUTHENTICATION_MODE);
 		this.useSessionId = config.get(DtlsConfig.DTLS_SERVER_USE_SESSION_ID);
 		this.useHelloVerifyRequest = config.get(DtlsConfig.DTLS_USE_HELLO_VERIFY_REQUEST);
+		this.sessionTicketProtector = config.getSessionTicketProtector();
 
 		// the server handshake uses the config with exchanged roles!
 		this.supportedClientCertificateTypes = config.getTrustCertificateTypes();
@@ -304,9 +339,11 @@ public class ServerHandshaker extends Handshaker {
 
 			case EC_DIFFIE_HELLMAN:
 				SecretKey masterSecret = receivedClientKeyExchange((ECDHClientKeyExchange) message);
-				applyMasterSecret(masterSecret);
-				SecretUtil.destroy(masterSecret);
-				processMasterSecret();
+				if (masterSecret != null) {
+					applyMasterSecret(masterSecret);
+					SecretUtil.destroy(masterSecret);
+					processMasterSecret();
+				}
 				break;
 
 			default:
@@ -348,6 +385,63 @@ public class ServerHandshaker extends Handshaker {
 		sendFlight(flight);
 	}
 
+	@Override
+	protected boolean hasPendingApiCall() {
+		return pendingServerFlight != null || pendingKeyAgreementSeed != null || super.hasPendingApiCall();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Continues with the PSK secret request for ECDHE_PSK, or applies the
+	 * master secret for ECDHE.
+	 */
+	@Override
+	protected void processKeyAgreementResult(KeyAgreementResult keyAgreementResult) throws HandshakeException {
+		byte[] seed = pendingKeyAgreementSeed;
+		if (seed == null) {
+			throw new IllegalStateException("key agreement not pending!");
+		}
+		pendingKeyAgreementSeed = null;
+		ensureUndestroyed();
+		if (keyAgreementResult.getException() != null) {
+			throw keyAgreementResult.getException();
+		}
+		SecretKey secret = keyAgreementResult.getSecret();
+		try {
+			if (KeyExchangeAlgorithm.ECDHE_PSK == getSession().getKeyExchange()) {
+				requestPskSecretResult(preSharedKeyIdentity, secret, seed);
+			} else {
+				applyMasterSecret(secret);
+				processMasterSecret();
+			}
+		} finally {
+			SecretUtil.destroy(secret);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Adds the signed server key exchange message to the pending flight and
+	 * completes that flight.
+	 */
+	@Override
+	protected void processServerKeyExchangeResult(ServerKeyExchangeResult serverKeyExchangeResult)
+			throws HandshakeException {
+		DTLSFlight flight = pendingServerFlight;
+		if (flight == null) {
+			throw new IllegalStateException("server key exchange not pending!");
+		}
+		pendingServerFlight = null;
+		ensureUndestroyed();
+		if (serverKeyExchangeResult.getException() != null) {
+			throw serverKeyExchangeResult.getException();
+		}
+		wrapMessage(flight, serverKeyExchangeResult.getServerKeyExchange());
+		completeServerFlight(flight);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -454,6 +548,17 @@ public class ServerHandshaker extends Handshaker {
 
 		// Verify client's data
 		verifyFinished(message, md.digest());
+		mdWithClientFinished.update(message.toByteArray());
+
+		/*
+		 * Optional, send NewSessionTicket
+		 */
+		NewSessionTicket newSessionTicket = createNewSessionTicket();
+		if (newSessionTicket != null) {
+			wrapMessage(flight, newSessionTicket);
+			mdWithClientFinished.update(newSessionTicket.toByteArray());
+		}
+
 		/*
 		 * First, send ChangeCipherSpec
 		 */
@@ -464,7 +569,6 @@ public class ServerHandshaker extends Handshaker {
 		/*
 		 * Second, send Finished message
 		 */
-		mdWithClientFinished.update(message.toByteArray());
 		Finished finished = createFinishedMessage(mdWithClientFinished.digest());
 		wrapMessage(flight, finished);
 		sendLastFlight(flight);
@@ -583,7 +687,21 @@ public class ServerHandshaker extends Handshaker {
 
 		createCertificateMessage(flight);
 
-		createServerKeyExchange(flight);
+		if (createServerKeyExchange(flight)) {
+			completeServerFlight(flight);
+		} else {
+			pendingServerFlight = flight;
+			startInitialTimeout();
+		}
+	}
+
+	/**
+	 * Complete server's flight after the server key exchange message.
+	 * 
+	 * @param flight server's flight
+	 * @since 4.0
+	 */
+	private void completeServerFlight(DTLSFlight flight) {
 
 		boolean clientCertificate = createCertificateRequest(flight);
 
@@ -641,7 +759,17 @@ public class ServerHandshaker extends Handshaker {
 		}
 	}
 
-	private void createServerKeyExchange(DTLSFlight flight) throws HandshakeException {
+	/**
+	 * Create server key exchange message.
+	 * 
+	 * @param flight server's flight
+	 * @return {@code true}, if the server key exchange message is created,
+	 *         {@code false}, if the signing is executed by the
+	 *         {@link HandshakeCryptoExecutor}.
+	 * @throws HandshakeException if the server key exchange message could not
+	 *             be created
+	 */
+	private boolean createServerKeyExchange(DTLSFlight flight) throws HandshakeException {
 
 		/*
 		 * Third, send ServerKeyExchange (if required by key exchange algorithm)
@@ -653,7 +781,7 @@ public class ServerHandshaker extends Handshaker {
 				|| KeyExchangeAlgorithm.EC_DIFFIE_HELLMAN == keyExchangeAlgorithm) {
 			try {
 				SupportedGroup ecGroup = cipherSuiteParameters.getSelectedSupportedGroup();
-				ecdhe = new XECDHECryptography(ecGroup);
+				ecdhe = createEphemeralKeyPair(ecGroup);
 				session.setEcGroup(ecGroup);
 			} catch (GeneralSecurityException ex) {
 				AlertMessage alert = new AlertMessage(AlertLevel.FATAL, AlertDescription.ILLEGAL_PARAMETER);
@@ -665,6 +793,12 @@ public class ServerHandshaker extends Handshaker {
 		ServerKeyExchange serverKeyExchange = null;
 		switch (keyExchangeAlgorithm) {
 		case EC_DIFFIE_HELLMAN:
+			HandshakeCryptoExecutor executor = getHandshakeCryptoExecutor();
+			if (executor != null) {
+				executor.createServerKeyExchange(getConnection().getConnectionId(),
+						session.getSignatureAndHashAlgorithm(), ecdhe, privateKey, clientRandom, serverRandom);
+				return false;
+			}
 			serverKeyExchange = new EcdhSignedServerKeyExchange(session.getSignatureAndHashAlgorithm(), ecdhe,
 					privateKey, clientRandom, serverRandom);
 			break;
@@ -691,6 +825,7 @@ public class ServerHandshaker extends Handshaker {
 		if (serverKeyExchange != null) {
 			wrapMessage(flight, serverKeyExchange);
 		}
+		return true;
 	}
 
 	private boolean createCertificateRequest(DTLSFlight flight) {
@@ -737,14 +872,22 @@ public class ServerHandshaker extends Handshaker {
 	 * running the ECDHE key agreement.
 	 * 
 	 * @param message the client's key exchange message.
-	 * @return the master secret.
+	 * @return the master secret, or {@code null}, if the key agreement is
+	 *         executed by the {@link HandshakeCryptoExecutor}.
 	 * @throws HandshakeException if the ECDHE key agreement fails
 	 */
 	private SecretKey receivedClientKeyExchange(ECDHClientKeyExchange message) throws HandshakeException {
+		DTLSSession session = getSession();
+		byte[] seed = generateMasterSecretSeed();
+		HandshakeCryptoExecutor executor = getHandshakeCryptoExecutor();
+		if (executor != null) {
+			pendingKeyAgreementSeed = seed;
+			executor.generateMasterSecret(getConnection().getConnectionId(), ecdhe, message.getEncodedPoint(),
+					session.getCipherSuite(), seed, session.useExtendedMasterSecret());
+			return null;
+		}
 		try {
-			DTLSSession session = getSession();
 			SecretKey premasterSecret = ecdhe.generateSecret(message.getEncodedPoint());
-			byte[] seed = generateMasterSecretSeed();
 			SecretKey masterSecret = PseudoRandomFunction.generateMasterSecret(
 					session.getCipherSuite().getThreadLocalPseudoRandomFunctionMac(), premasterSecret, seed,
 					session.useExtendedMasterSecret());
@@ -786,8 +929,14 @@ public class ServerHandshaker extends Handshaker {
 		try {
 			// use the client's PSK identity to look up the pre-shared key
 			preSharedKeyIdentity = message.getIdentity();
-			otherSecret = ecdhe.generateSecret(message.getEncodedPoint());
 			byte[] seed = generateMasterSecretSeed();
+			HandshakeCryptoExecutor executor = getHandshakeCryptoExecutor();
+			if (executor != null) {
+				pendingKeyAgreementSeed = seed;
+				executor.generateSecret(getConnection().getConnectionId(), ecdhe, message.getEncodedPoint());
+				return;
+			}
+			otherSecret = ecdhe.generateSecret(message.getEncodedPoint());
 			requestPskSecretResult(preSharedKeyIdentity, otherSecret, seed);
 		} catch (GeneralSecurityException ex) {
 			AlertMessage alert = new AlertMessage(AlertLevel.FATAL, AlertDescription.ILLEGAL_PARAMETER);
@@ -901,6 +1050,37 @@ public class ServerHandshaker extends Handshaker {
 				context.setReadConnectionId(connectionId);
 			}
 		}
+
+		if (sessionTicketProtector != null && clientHello.getSessionTicketExtension() != null
+				&& !session.getSessionIdentifier().isEmpty()) {
+			// RFC5077, section 3.2 requires the server to respond with an
+			// empty session ticket extension, if it sends a NewSessionTicket
+			serverHello.addExtension(SessionTicketExtension.emptySessionTicket());
+			sendSessionTicket = true;
+		}
+	}
+
+	/**
+	 * Create new session ticket message.
+	 * <p>
+	 * If the session could not be protected, a new session ticket message with
+	 * an empty ticket is created, see
+	 * <a href="https://tools.ietf.org/html/rfc5077#section-3.3" target=
+	 * "_blank">RFC 5077, 3.3</a>.
+	 * 
+	 * @return new session ticket message, or {@code null}, if no session
+	 *         ticket is to be sent.
+	 * @since 4.0
+	 */
+	protected NewSessionTicket createNewSessionTicket() {
+		if (!sendSessionTicket) {
+			return null;
+		}
+		byte[] ticket = sessionTicketProtector.protect(getSession());
+		if (ticket == null) {
+			ticket = Bytes.EMPTY;
+		}
+		return new NewSessionTicket(sessionTicketProtector.getLifetimeHint(), ticket);
 	}
 
 	/**
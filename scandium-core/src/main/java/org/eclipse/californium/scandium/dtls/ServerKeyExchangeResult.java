@@ -0,0 +1,88 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+/**
+ * Result of the signed {@link ServerKeyExchange} created by the
+ * {@link HandshakeCryptoExecutor}.
+ * 
+ * On success contains the signed server key exchange message. If failed,
+ * contains the handshake exception.
+ * 
+ * @since 4.0
+ */
+public class ServerKeyExchangeResult extends HandshakeResult {
+
+	/**
+	 * Signed server key exchange message.
+	 */
+	private final ServerKeyExchange serverKeyExchange;
+	/**
+	 * Handshake exception.
+	 */
+	private final HandshakeException exception;
+
+	/**
+	 * Create result.
+	 * 
+	 * @param cid connection id
+	 * @param serverKeyExchange signed server key exchange message
+	 * @throws NullPointerException if cid or serverKeyExchange is
+	 *             {@code null}.
+	 */
+	public ServerKeyExchangeResult(ConnectionId cid, ServerKeyExchange serverKeyExchange) {
+		super(cid, null);
+		if (serverKeyExchange == null) {
+			throw new NullPointerException("server key exchange must not be null!");
+		}
+		this.serverKeyExchange = serverKeyExchange;
+		this.exception = null;
+	}
+
+	/**
+	 * Create result.
+	 * 
+	 * @param cid connection id
+	 * @param exception handshake exception
+	 * @throws NullPointerException if cid or exception is {@code null}.
+	 */
+	public ServerKeyExchangeResult(ConnectionId cid, HandshakeException exception) {
+		super(cid, null);
+		if (exception == null) {
+			throw new NullPointerException("exception must not be null!");
+		}
+		this.serverKeyExchange = null;
+		this.exception = exception;
+	}
+
+	/**
+	 * Get signed server key exchange message.
+	 * 
+	 * @return signed server key exchange message, {@code null}, if signing
+	 *         failed.
+	 */
+	public ServerKeyExchange getServerKeyExchange() {
+		return serverKeyExchange;
+	}
+
+	/**
+	 * Get handshake exception.
+	 * 
+	 * @return handshake exception, {@code null}, if signing succeeded.
+	 */
+	public HandshakeException getException() {
+		return exception;
+	}
+}
@@ -0,0 +1,128 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import org.eclipse.californium.elements.util.Bytes;
+import org.eclipse.californium.elements.util.DatagramReader;
+import org.eclipse.californium.elements.util.DatagramWriter;
+import org.eclipse.californium.elements.util.StringUtil;
+
+/**
+ * Session ticket extension.
+ * <p>
+ * An empty extension in the client hello indicates, that the client supports
+ * session tickets, but has no ticket. A not empty extension contains the
+ * ticket of the session to resume. An empty extension in the server hello
+ * indicates, that the server will send a {@link NewSessionTicket}.
+ * <p>
+ * See <a href="https://tools.ietf.org/html/rfc5077#section-3.2" target=
+ * "_blank">RFC 5077, 3.2. SessionTicket TLS Extension</a> for additional
+ * details.
+ * 
+ * @since 4.0
+ */
+public final class SessionTicketExtension extends HelloExtension {
+
+	private static final SessionTicketExtension EMPTY = new SessionTicketExtension(Bytes.EMPTY);
+
+	/**
+	 * The opaque ticket.
+	 */
+	private final byte[] ticket;
+
+	/**
+	 * Create session ticket extension.
+	 * 
+	 * @param ticket opaque ticket. {@code null} or empty, if no ticket is
+	 *            available.
+	 * @throws IllegalArgumentException if ticket exceeds the maximum length of
+	 *             65535 bytes.
+	 */
+	public SessionTicketExtension(byte[] ticket) {
+		super(ExtensionType.SESSION_TICKET_TLS);
+		if (ticket == null) {
+			ticket = Bytes.EMPTY;
+		} else if (ticket.length > NewSessionTicket.MAX_TICKET_LENGTH) {
+			throw new IllegalArgumentException(
+					"Ticket length " + ticket.length + " exceeds " + NewSessionTicket.MAX_TICKET_LENGTH + "!");
+		}
+		this.ticket = ticket;
+	}
+
+	/**
+	 * Get empty session ticket extension.
+	 * 
+	 * @return empty session ticket extension
+	 */
+	public static SessionTicketExtension emptySessionTicket() {
+		return EMPTY;
+	}
+
+	/**
+	 * Get ticket.
+	 * 
+	 * @return ticket. Empty, if not available.
+	 */
+	public byte[] getTicket() {
+		return ticket;
+	}
+
+	/**
+	 * Checks, if the extension contains a ticket.
+	 * 
+	 * @return {@code true}, if a ticket is contained, {@code false}, if the
+	 *         extension is empty.
+	 */
+	public boolean hasTicket() {
+		return ticket.length > 0;
+	}
+
+	@Override
+	public String toString(int indent) {
+		StringBuilder sb = new StringBuilder(super.toString(indent));
+		String indentation = StringUtil.indentation(indent + 1);
+		sb.append(indentation).append("Ticket: ").append(ticket.length).append(" bytes")
+				.append(StringUtil.lineSeparator());
+		return sb.toString();
+	}
+
+	@Override
+	protected int getExtensionLength() {
+		return ticket.length;
+	}
+
+	@Override
+	protected void writeExtensionTo(DatagramWriter writer) {
+		writer.writeBytes(ticket);
+	}
+
+	/**
+	 * Create session ticket extension from extensions data bytes.
+	 * 
+	 * @param extensionDataReader extension data bytes
+	 * @return created session ticket extension
+	 * @throws NullPointerException if extensionData is {@code null}
+	 */
+	public static SessionTicketExtension fromExtensionDataReader(DatagramReader extensionDataReader) {
+		if (extensionDataReader == null) {
+			throw new NullPointerException("session ticket must not be null!");
+		}
+		if (extensionDataReader.bytesAvailable()) {
+			return new SessionTicketExtension(extensionDataReader.readBytesLeft());
+		} else {
+			return EMPTY;
+		}
+	}
+}
@@ -48,6 +48,16 @@ public class SingleNodeConnectionIdGenerator implements ConnectionIdGenerator {
 		return connectionIdLength > 0;
 	}
 
+	/**
+	 * Get length of connection id.
+	 * 
+	 * @return length of connection id
+	 * @since 4.0
+	 */
+	public int getConnectionIdLength() {
+		return connectionIdLength;
+	}
+
 	@Override
 	public ConnectionId createConnectionId() {
 		if (useConnectionId()) {
@@ -48,6 +48,14 @@ public final class AeadBlockCipher {
 	 */
 	public static final String AES_CCM_NO_PADDING = "AES/CCM/NoPadding";
 
+	/**
+	 * Use {@link BulkCCMBlockCipher}, if AES/CTR and AES/CBC are supported.
+	 * Otherwise the {@link CCMBlockCipher} is used.
+	 * 
+	 * @since 4.0
+	 */
+	private static final boolean USE_BULK_CCM = BulkCCMBlockCipher.isSupported();
+
 	/**
 	 * Test, if transformation is "AES/CCM/???".
 	 * 
@@ -102,6 +110,10 @@ public final class AeadBlockCipher {
 	public final static byte[] decrypt(CipherSuite cipherSuite, SecretKey key, byte[] nonce, byte[] additionalData,
 			byte[] crypted, int cryptedOffset, int cryptedLength) throws GeneralSecurityException {
 		if (isAesCcm(cipherSuite.getTransformation())) {
+			if (USE_BULK_CCM) {
+				return BulkCCMBlockCipher.decrypt(key, nonce, additionalData, crypted, cryptedOffset, cryptedLength,
+						cipherSuite.getMacLength());
+			}
 			return CCMBlockCipher.decrypt(key, nonce, additionalData, crypted, cryptedOffset, cryptedLength,
 					cipherSuite.getMacLength());
 		} else {
@@ -124,6 +136,10 @@ public final class AeadBlockCipher {
 	public final static byte[] encrypt(CipherSuite cipherSuite, SecretKey key, byte[] nonce, byte[] additionalData,
 			byte[] message) throws GeneralSecurityException {
 		if (isAesCcm(cipherSuite.getTransformation())) {
+			if (USE_BULK_CCM) {
+				return BulkCCMBlockCipher.encrypt(cipherSuite.getRecordIvLength(), key, nonce, additionalData,
+						message, cipherSuite.getMacLength());
+			}
 			return CCMBlockCipher.encrypt(cipherSuite.getRecordIvLength(), key, nonce, additionalData, message,
 					cipherSuite.getMacLength());
 		} else {
@@ -0,0 +1,309 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls.cipher;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+
+/**
+ * AES-CCM implementation based on bulk AES/CTR and AES/CBC ciphers. See
+ * <a href="https://tools.ietf.org/html/rfc3610" target="_blank">RFC 3610</a>
+ * for details.
+ * <p>
+ * Contrary to {@link CCMBlockCipher}, which calls the AES/ECB cipher for each
+ * single block, this implementation computes the CBC-MAC with one call of a
+ * AES/CBC cipher using a zero IV, and the key stream with one call of a AES/CTR
+ * cipher for the whole record. That enables the JCE provider to use pipelined
+ * hardware AES implementations.
+ * 
+ * @since 4.0
+ */
+public class BulkCCMBlockCipher {
+
+	/**
+	 * CCM is only defined for use with 128-bit block ciphers.
+	 */
+	private static final int BLOCK_SIZE = 16;
+	/**
+	 * 2^16 - 2^8. Lengths of additional data from this value on are encoded
+	 * using 6 bytes.
+	 */
+	private static final int AAD_LONG_LENGTH = 65280;
+
+	private static final ThreadLocalCipher CTR_CIPHER = new ThreadLocalCipher("AES/CTR/NoPadding");
+	private static final ThreadLocalCipher CBC_CIPHER = new ThreadLocalCipher("AES/CBC/NoPadding");
+	private static final IvParameterSpec ZERO_IV = new IvParameterSpec(new byte[BLOCK_SIZE]);
+
+	/**
+	 * Checks, if the bulk AES/CCM cipher is supported.
+	 * 
+	 * Checks, if the AES/CTR and AES/CBC ciphers are supported for this JRE in
+	 * order to build a AES/CCM cipher based on them.
+	 * 
+	 * @return {@code true}, if supported, {@code false}, if not.
+	 */
+	public static boolean isSupported() {
+		return CTR_CIPHER.isSupported() && CBC_CIPHER.isSupported();
+	}
+
+	/**
+	 * See <a href="https://tools.ietf.org/html/rfc3610#section-2.5" target=
+	 * "_blank">RFC 3610</a> for details.
+	 * 
+	 * @param key the encryption key K.
+	 * @param nonce the nonce N.
+	 * @param additionalData the additional authenticated data a.
+	 * @param crypted the encrypted and authenticated message c.
+	 * @param numAuthenticationBytes Number of octets in authentication field.
+	 * @return the decrypted message
+	 * 
+	 * @throws GeneralSecurityException if the message could not be de-crypted,
+	 *             e.g. because the ciphertext's block size is not correct
+	 * @throws InvalidMacException if the message could not be authenticated
+	 */
+	public final static byte[] decrypt(SecretKey key, byte[] nonce, byte[] additionalData, byte[] crypted,
+			int numAuthenticationBytes) throws GeneralSecurityException {
+		return decrypt(key, nonce, additionalData, crypted, 0, crypted.length, numAuthenticationBytes);
+	}
+
+	/**
+	 * See <a href="https://tools.ietf.org/html/rfc3610#section-2.5" target=
+	 * "_blank">RFC 3610</a> for details.
+	 * 
+	 * @param key the encryption key K.
+	 * @param nonce the nonce N.
+	 * @param additionalData the additional authenticated data a.
+	 * @param crypted the encrypted and authenticated message c.
+	 * @param cryptedOffset offset within crypted
+	 * @param cryptedLength length within crypted
+	 * @param numAuthenticationBytes Number of octets in authentication field.
+	 * @return the decrypted message
+	 * 
+	 * @throws GeneralSecurityException if the message could not be de-crypted,
+	 *             e.g. because the ciphertext's block size is not correct
+	 * @throws InvalidMacException if the message could not be authenticated
+	 */
+	public final static byte[] decrypt(SecretKey key, byte[] nonce, byte[] additionalData, byte[] crypted,
+			int cryptedOffset, int cryptedLength, int numAuthenticationBytes) throws GeneralSecurityException {
+		int lengthM = cryptedLength - numAuthenticationBytes;
+		Cipher cipher = CTR_CIPHER.currentWithCause();
+		cipher.init(Cipher.ENCRYPT_MODE, key, counterBlock(nonce, lengthM));
+
+		// block 0 of the key stream for the MAC
+		byte[] block = new byte[BLOCK_SIZE];
+		System.arraycopy(crypted, cryptedOffset + lengthM, block, 0, numAuthenticationBytes);
+		cipher.update(block, 0, BLOCK_SIZE, block, 0);
+		byte[] T = Arrays.copyOf(block, numAuthenticationBytes);
+
+		// blocks 1 ... n of the key stream for the message
+		byte[] decrypted = new byte[lengthM];
+		if (lengthM > 0) {
+			cipher.doFinal(crypted, cryptedOffset, lengthM, decrypted, 0);
+		}
+
+		byte[] mac = mac(key, nonce, additionalData, decrypted, numAuthenticationBytes);
+
+		/*
+		 * If the T value is not correct, the receiver MUST NOT reveal any
+		 * information except for the fact that T is incorrect.
+		 */
+		if (MessageDigest.isEqual(T, mac)) {
+			return decrypted;
+		} else {
+			throw new InvalidMacException(mac, T);
+		}
+	}
+
+	/**
+	 * See <a href="https://tools.ietf.org/html/rfc3610#section-2.2" target=
+	 * "_blank">RFC 3610</a> for details.
+	 * 
+	 * @param key the encryption key K.
+	 * @param nonce the nonce N.
+	 * @param additionalData the additional authenticated data a.
+	 * @param message the message to authenticate and encrypt.
+	 * @param numAuthenticationBytes Number of octets in authentication field.
+	 * @return the encrypted and authenticated message.
+	 * @throws GeneralSecurityException if the data could not be encrypted, e.g.
+	 *             because the JVM does not support the AES cipher algorithm
+	 */
+	public final static byte[] encrypt(SecretKey key, byte[] nonce, byte[] additionalData, byte[] message,
+			int numAuthenticationBytes) throws GeneralSecurityException {
+		return encrypt(0, key, nonce, additionalData, message, numAuthenticationBytes);
+	}
+
+	/**
+	 * See <a href="https://tools.ietf.org/html/rfc3610#section-2.2" target=
+	 * "_blank">RFC 3610</a> for details.
+	 * 
+	 * @param outputOffset offset of the encrypted message within the resulting
+	 *            byte array. Leaves space for the explicit nonce.
+	 * @param key the encryption key K.
+	 * @param nonce the nonce N.
+	 * @param additionalData the additional authenticated data a.
+	 * @param message the message to authenticate and encrypt.
+	 * @param numAuthenticationBytes Number of octets in authentication field.
+	 * @return the encrypted and authenticated message.
+	 * @throws GeneralSecurityException if the data could not be encrypted, e.g.
+	 *             because the JVM does not support the AES cipher algorithm
+	 */
+	public final static byte[] encrypt(int outputOffset, SecretKey key, byte[] nonce, byte[] additionalData,
+			byte[] message, int numAuthenticationBytes) throws GeneralSecurityException {
+		int lengthM = message.length;
+		byte[] block = mac(key, nonce, additionalData, message, numAuthenticationBytes);
+		if (block.length < BLOCK_SIZE) {
+			block = Arrays.copyOf(block, BLOCK_SIZE);
+		}
+
+		Cipher cipher = CTR_CIPHER.currentWithCause();
+		cipher.init(Cipher.ENCRYPT_MODE, key, counterBlock(nonce, lengthM));
+
+		// block 0 of the key stream for the MAC
+		cipher.update(block, 0, BLOCK_SIZE, block, 0);
+
+		// blocks 1 ... n of the key stream for the message
+		byte[] encrypted = new byte[outputOffset + lengthM + numAuthenticationBytes];
+		if (lengthM > 0) {
+			cipher.doFinal(message, 0, lengthM, encrypted, outputOffset);
+		}
+		System.arraycopy(block, 0, encrypted, outputOffset + lengthM, numAuthenticationBytes);
+		return encrypted;
+	}
+
+	/**
+	 * Create the initial counter block A_0.
+	 * 
+	 * See <a href="https://tools.ietf.org/html/rfc3610#section-2.3" target=
+	 * "_blank">RFC 3610 - Encryption</a>.
+	 * 
+	 * @param nonce the nonce N.
+	 * @param lengthM length of the message
+	 * @return initial counter block as IV of the AES/CTR cipher.
+	 * @throws IllegalArgumentException if the nonce length is not supported or
+	 *             the message is too large for that nonce.
+	 */
+	private static IvParameterSpec counterBlock(byte[] nonce, int lengthM) {
+		int L = checkNonce(nonce, lengthM);
+		byte[] block = new byte[BLOCK_SIZE];
+		// Flags = L' = L - 1
+		block[0] = (byte) (L - 1);
+		System.arraycopy(nonce, 0, block, 1, nonce.length);
+		// counter i = 0 (L bytes)
+		return new IvParameterSpec(block);
+	}
+
+	/**
+	 * Computes CBC-MAC in bulk. See
+	 * <a href="https://tools.ietf.org/html/rfc3610#section-2.2" target=
+	 * "_blank">RFC 3610 - Authentication</a> for details.
+	 * 
+	 * @param key the encryption key K.
+	 * @param nonce the nonce N.
+	 * @param a the additional authenticated data.
+	 * @param m the message to authenticate.
+	 * @param numAuthenticationBytes Number of octets in authentication field.
+	 * @return the authentication value T.
+	 * @throws GeneralSecurityException if the AES/CBC cipher fails
+	 */
+	private static byte[] mac(SecretKey key, byte[] nonce, byte[] a, byte[] m, int numAuthenticationBytes)
+			throws GeneralSecurityException {
+		int lengthM = m.length;
+		int lengthA = a.length;
+		int L = checkNonce(nonce, lengthM);
+		int headerA = lengthA == 0 ? 0 : (lengthA < AAD_LONG_LENGTH ? 2 : 6);
+		int blocksA = roundUp(headerA + lengthA);
+		int blocksM = roundUp(lengthM);
+		byte[] input = new byte[BLOCK_SIZE + blocksA + blocksM];
+
+		// B_0: Flags = 64*Adata + 8*M' + L'
+		int adata = lengthA > 0 ? 1 : 0;
+		int mPrime = (numAuthenticationBytes - 2) / 2;
+		input[0] = (byte) (64 * adata + 8 * mPrime + (L - 1));
+		System.arraycopy(nonce, 0, input, 1, nonce.length);
+		setInt(input, BLOCK_SIZE - L, BLOCK_SIZE, lengthM);
+
+		// encoded l(a) followed by a, padded with zeros
+		int offset = BLOCK_SIZE;
+		if (headerA == 2) {
+			setInt(input, offset, offset + 2, lengthA);
+		} else if (headerA == 6) {
+			setInt(input, offset, offset + 2, 0xfffe);
+			setInt(input, offset + 2, offset + 6, lengthA);
+		}
+		System.arraycopy(a, 0, input, offset + headerA, lengthA);
+		offset += blocksA;
+
+		// m, padded with zeros
+		System.arraycopy(m, 0, input, offset, lengthM);
+
+		Cipher cipher = CBC_CIPHER.currentWithCause();
+		cipher.init(Cipher.ENCRYPT_MODE, key, ZERO_IV);
+		cipher.doFinal(input, 0, input.length, input, 0);
+		return Arrays.copyOfRange(input, input.length - BLOCK_SIZE, input.length - BLOCK_SIZE + numAuthenticationBytes);
+	}
+
+	/**
+	 * Check nonce length and message length.
+	 * 
+	 * @param nonce the nonce N.
+	 * @param lengthM length of the message
+	 * @return the size L of the length field
+	 * @throws IllegalArgumentException if the nonce length is not supported or
+	 *             the message is too large for that nonce.
+	 */
+	private static int checkNonce(byte[] nonce, int lengthM) {
+		int nonceL = nonce.length;
+		int L = BLOCK_SIZE - 1 - nonceL;
+		if (L < 2 || L > 8) {
+			throw new IllegalArgumentException("Nonce length " + nonceL + " invalid for blocksize " + BLOCK_SIZE
+					+ " (valid length [" + (BLOCK_SIZE - 9) + "-" + (BLOCK_SIZE - 3) + "])");
+		}
+		if (L < 4 && (lengthM >>> (L * Byte.SIZE)) != 0) {
+			throw new IllegalArgumentException("Length " + lengthM + " too large for nonce " + nonceL
+					+ " and blocksize " + BLOCK_SIZE + " bytes.");
+		}
+		return L;
+	}
+
+	/**
+	 * Round length up to multiple of the block size.
+	 * 
+	 * @param length length
+	 * @return length rounded up to multiple of the block size
+	 */
+	private static int roundUp(int length) {
+		return (length + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+	}
+
+	/**
+	 * Set integer big endian into the range of the buffer.
+	 * 
+	 * @param buffer buffer
+	 * @param offset start offset of the range
+	 * @param end end offset of the range (exclusive)
+	 * @param number number to write
+	 */
+	private static void setInt(byte[] buffer, int offset, int end, int number) {
+		while (end > offset) {
+			buffer[--end] = (byte) number;
+			number >>>= 8;
+		}
+	}
+}
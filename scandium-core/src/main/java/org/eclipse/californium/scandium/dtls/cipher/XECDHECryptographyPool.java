@@ -0,0 +1,271 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls.cipher;
+
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.californium.elements.util.ExecutorsUtil;
+import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptography.SupportedGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of pre-generated ephemeral ECDHE key pairs.
+ * <p>
+ * Generating the ephemeral key pair is one of the expensive parts of a ECDHE
+ * handshake. If many peers handshake at the same time, e.g. after a network
+ * outage, that generation limits the handshake throughput. This pool keeps up
+ * to a configured number of {@link XECDHECryptography} per
+ * {@link SupportedGroup} and refills them using a single background thread.
+ * If the pool of a group is empty, {@link #take(SupportedGroup)} falls back to
+ * generate the key pair inline.
+ * <p>
+ * Each pooled key pair is handed out only once.
+ * 
+ * @see org.eclipse.californium.scandium.config.DtlsConfig#DTLS_EPHEMERAL_KEY_PAIR_POOL_SIZE
+ * @since 4.0
+ */
+public class XECDHECryptographyPool {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(XECDHECryptographyPool.class);
+
+	/**
+	 * Number of key pairs per group.
+	 */
+	private final int size;
+	/**
+	 * Threshold to start the refill.
+	 */
+	private final int refillThreshold;
+	/**
+	 * Pooled key pairs by group.
+	 */
+	private final Map<SupportedGroup, BlockingQueue<XECDHECryptography>> pools;
+	/**
+	 * Indicates, that a refill job is scheduled or running.
+	 */
+	private final AtomicBoolean refilling = new AtomicBoolean();
+	/**
+	 * Number of key pairs generated by the refill thread.
+	 */
+	private final AtomicLong generated = new AtomicLong();
+	/**
+	 * Number of key pairs generated inline, because the pool was empty.
+	 */
+	private final AtomicLong missed = new AtomicLong();
+	/**
+	 * Job to refill the pools.
+	 */
+	private final Runnable refillJob = new Runnable() {
+
+		@Override
+		public void run() {
+			fill();
+		}
+	};
+	/**
+	 * Executor for the refill thread. {@code null}, if not started.
+	 */
+	private volatile ExecutorService executor;
+
+	/**
+	 * Create pool for ephemeral key pairs.
+	 * 
+	 * @param size number of key pairs per group
+	 * @param groups list of groups to pool key pairs for. Not usable groups
+	 *            are ignored.
+	 * @throws NullPointerException if groups is {@code null}
+	 * @throws IllegalArgumentException if size is less than {@code 1}
+	 */
+	public XECDHECryptographyPool(int size, List<SupportedGroup> groups) {
+		if (groups == null) {
+			throw new NullPointerException("Groups must not be null!");
+		}
+		if (size < 1) {
+			throw new IllegalArgumentException("Size " + size + " must not be less than 1!");
+		}
+		this.size = size;
+		this.refillThreshold = (size + 1) / 2;
+		Map<SupportedGroup, BlockingQueue<XECDHECryptography>> pools = new EnumMap<>(SupportedGroup.class);
+		for (SupportedGroup group : groups) {
+			if (group.isUsable()) {
+				pools.put(group, new ArrayBlockingQueue<XECDHECryptography>(size));
+			}
+		}
+		this.pools = Collections.unmodifiableMap(pools);
+	}
+
+	/**
+	 * Start the refill thread and fill the pools.
+	 * 
+	 * @param threadFactory thread factory for the refill thread
+	 */
+	public synchronized void start(ThreadFactory threadFactory) {
+		if (executor == null) {
+			executor = ExecutorsUtil.newFixedThreadPool(1, threadFactory);
+			refill();
+		}
+	}
+
+	/**
+	 * Stop the refill thread and destroy the pooled key pairs.
+	 */
+	public synchronized void stop() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+			for (BlockingQueue<XECDHECryptography> pool : pools.values()) {
+				List<XECDHECryptography> pairs = new ArrayList<>(pool.size());
+				pool.drainTo(pairs);
+				for (XECDHECryptography pair : pairs) {
+					pair.destroy();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Take ephemeral key pair.
+	 * 
+	 * If no pooled key pair is available, a new one is generated inline.
+	 * 
+	 * @param group group of the key pair
+	 * @return ephemeral key pair
+	 * @throws GeneralSecurityException if the key pair cannot be generated
+	 */
+	public XECDHECryptography take(SupportedGroup group) throws GeneralSecurityException {
+		BlockingQueue<XECDHECryptography> pool = pools.get(group);
+		if (pool != null) {
+			XECDHECryptography pair = pool.poll();
+			if (pool.size() < refillThreshold) {
+				refill();
+			}
+			if (pair != null) {
+				return pair;
+			}
+			missed.incrementAndGet();
+		}
+		return new XECDHECryptography(group);
+	}
+
+	/**
+	 * Get number of pooled key pairs of all groups.
+	 * 
+	 * @return number of pooled key pairs
+	 */
+	public int getPooledKeyPairs() {
+		int count = 0;
+		for (BlockingQueue<XECDHECryptography> pool : pools.values()) {
+			count += pool.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Get number of key pairs generated by the refill thread.
+	 * 
+	 * @return number of generated key pairs
+	 */
+	public long getGeneratedKeyPairs() {
+		return generated.get();
+	}
+
+	/**
+	 * Get number of key pairs generated inline, because the pool was empty.
+	 * 
+	 * @return number of key pairs generated inline
+	 */
+	public long getMissedKeyPairs() {
+		return missed.get();
+	}
+
+	/**
+	 * Check, if the refill thread is currently filling the pools.
+	 * 
+	 * @return {@code true}, if the pools are refilled, {@code false},
+	 *         otherwise.
+	 */
+	public boolean isRefilling() {
+		return refilling.get();
+	}
+
+	/**
+	 * Schedule refill job, if not already pending.
+	 */
+	private void refill() {
+		ExecutorService executor = this.executor;
+		if (executor != null && refilling.compareAndSet(false, true)) {
+			try {
+				executor.execute(refillJob);
+			} catch (RejectedExecutionException ex) {
+				refilling.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Fill the pools.
+	 * 
+	 * Generates the key pairs round robin for all groups, until all pools are
+	 * full.
+	 */
+	private void fill() {
+		boolean failed = false;
+		try {
+			boolean more = true;
+			while (more && !Thread.currentThread().isInterrupted()) {
+				more = false;
+				for (Map.Entry<SupportedGroup, BlockingQueue<XECDHECryptography>> entry : pools.entrySet()) {
+					BlockingQueue<XECDHECryptography> pool = entry.getValue();
+					if (pool.size() < size) {
+						XECDHECryptography pair = new XECDHECryptography(entry.getKey());
+						if (pool.offer(pair)) {
+							generated.incrementAndGet();
+							more = true;
+						} else {
+							pair.destroy();
+						}
+					}
+				}
+			}
+		} catch (GeneralSecurityException ex) {
+			LOGGER.warn("Generating ephemeral key pair failed!", ex);
+			failed = true;
+		} finally {
+			refilling.set(false);
+		}
+		if (!failed) {
+			// a take may have missed to schedule the refill
+			for (BlockingQueue<XECDHECryptography> pool : pools.values()) {
+				if (pool.size() < refillThreshold) {
+					refill();
+					break;
+				}
+			}
+		}
+	}
+}
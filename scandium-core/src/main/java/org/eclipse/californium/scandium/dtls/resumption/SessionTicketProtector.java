@@ -0,0 +1,194 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls.resumption;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.eclipse.californium.elements.util.Bytes;
+import org.eclipse.californium.elements.util.DatagramReader;
+import org.eclipse.californium.elements.util.DatagramWriter;
+import org.eclipse.californium.elements.util.EncryptedStreamUtil;
+import org.eclipse.californium.scandium.dtls.DTLSSession;
+import org.eclipse.californium.scandium.dtls.NewSessionTicket;
+import org.eclipse.californium.scandium.util.SecretUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Protector for stateless session tickets.
+ * <p>
+ * Encrypts the state of a {@link DTLSSession} into an opaque ticket, which is
+ * sent to the client and presented again by the client for resumption. The
+ * server is therefore not required to keep the session, resumption also works
+ * after a restart or on other nodes of a cluster, as long as the same key is
+ * used.
+ * <p>
+ * The ticket is protected using {@link EncryptedStreamUtil} with an AEAD
+ * cipher ("AES/GCM/128"). Tickets using a not authenticated cipher are
+ * rejected. The lifetime of a ticket is limited by the creation time of the
+ * session, therefore renewed tickets of resumed sessions don't extend that
+ * lifetime.
+ * <p>
+ * See <a href="https://tools.ietf.org/html/rfc5077" target="_blank">RFC
+ * 5077</a> for additional details.
+ * <p>
+ * The instance is thread-safe.
+ * 
+ * @since 4.0
+ */
+public class SessionTicketProtector {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SessionTicketProtector.class);
+
+	/**
+	 * Cipher specification to protect the tickets.
+	 */
+	private static final String CIPHER_SPEC = "AES/GCM/128";
+
+	/**
+	 * Key to protect the tickets.
+	 */
+	private final SecretKey key;
+
+	/**
+	 * Lifetime of the tickets in milliseconds.
+	 */
+	private final long lifetimeMillis;
+
+	/**
+	 * Create session ticket protector.
+	 * 
+	 * @param key key to protect the tickets. Must be the same for all nodes,
+	 *            which should be able to resume the sessions.
+	 * @param lifetime lifetime of the tickets, starting with the creation of
+	 *            the session.
+	 * @param unit time unit of lifetime
+	 * @throws NullPointerException if key or unit is {@code null}
+	 * @throws IllegalArgumentException if lifetime is less than 1 second, or
+	 *             "AES/GCM/128" is not supported.
+	 */
+	public SessionTicketProtector(SecretKey key, long lifetime, TimeUnit unit) {
+		if (key == null) {
+			throw new NullPointerException("Key must not be null!");
+		}
+		if (unit == null) {
+			throw new NullPointerException("Time unit must not be null!");
+		}
+		if (unit.toSeconds(lifetime) < 1) {
+			throw new IllegalArgumentException("Lifetime must be at least 1s!");
+		}
+		// fail early, if not supported
+		new EncryptedStreamUtil(CIPHER_SPEC);
+		this.key = SecretUtil.create(key);
+		this.lifetimeMillis = unit.toMillis(lifetime);
+	}
+
+	/**
+	 * Get lifetime hint.
+	 * 
+	 * @return lifetime hint for {@link NewSessionTicket} in seconds.
+	 */
+	public long getLifetimeHint() {
+		return Math.min(TimeUnit.MILLISECONDS.toSeconds(lifetimeMillis), 0xffffffffL);
+	}
+
+	/**
+	 * Protect session into ticket.
+	 * 
+	 * @param session session to protect
+	 * @return ticket, or {@code null}, if the session could not be protected.
+	 */
+	public byte[] protect(DTLSSession session) {
+		DatagramWriter writer = new DatagramWriter(true);
+		try {
+			session.writeTo(writer);
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try (OutputStream encrypted = new EncryptedStreamUtil(CIPHER_SPEC).prepare(out, key)) {
+				writer.writeTo(encrypted);
+			}
+			byte[] ticket = out.toByteArray();
+			if (ticket.length > NewSessionTicket.MAX_TICKET_LENGTH) {
+				LOGGER.debug("ticket with {} bytes exceeds the limit!", ticket.length);
+				return null;
+			}
+			return ticket;
+		} catch (IOException ex) {
+			LOGGER.debug("protect ticket failed!", ex);
+			return null;
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Unprotect session from ticket.
+	 * 
+	 * @param ticket ticket to unprotect
+	 * @return session, or {@code null}, if the ticket is invalid or expired.
+	 *         The returned session is to be destroyed after usage.
+	 */
+	public DTLSSession unprotect(byte[] ticket) {
+		if (ticket == null || ticket.length == 0) {
+			return null;
+		}
+		byte[] plain = null;
+		try {
+			InputStream in = new ByteArrayInputStream(ticket);
+			EncryptedStreamUtil util = new EncryptedStreamUtil(CIPHER_SPEC);
+			byte[] seed = util.readSeed(in);
+			if (seed == null || seed.length == 0 || !util.getReadCipher().contains("/GCM/")) {
+				// not encrypted or not authenticated
+				LOGGER.debug("ticket not protected by AEAD cipher!");
+				return null;
+			}
+			try (InputStream decrypted = util.prepare(seed, in, key)) {
+				// read completely to verify the authentication tag
+				ByteArrayOutputStream out = new ByteArrayOutputStream(ticket.length);
+				byte[] buffer = new byte[256];
+				int length;
+				while ((length = decrypted.read(buffer)) > 0) {
+					out.write(buffer, 0, length);
+				}
+				plain = out.toByteArray();
+			}
+			DTLSSession session = DTLSSession.fromReader(new DatagramReader(plain, false));
+			if (session != null) {
+				long age = System.currentTimeMillis() - session.getCreationTime();
+				if (age < 0 || age > lifetimeMillis) {
+					LOGGER.debug("ticket expired!");
+					SecretUtil.destroy(session);
+					session = null;
+				}
+			}
+			return session;
+		} catch (IOException ex) {
+			LOGGER.debug("unprotect ticket failed!", ex);
+		} catch (IllegalArgumentException ex) {
+			LOGGER.debug("invalid ticket!", ex);
+		} finally {
+			if (plain != null) {
+				Bytes.clear(plain);
+			}
+		}
+		return null;
+	}
+}
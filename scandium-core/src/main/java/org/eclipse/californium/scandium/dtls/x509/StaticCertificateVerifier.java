@@ -18,10 +18,12 @@ package org.eclipse.californium.scandium.dtls.x509;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.PublicKey;
 import java.security.cert.CertPath;
 import java.security.cert.CertPathValidatorException;
 import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateExpiredException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
@@ -30,11 +32,14 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.security.auth.x500.X500Principal;
 
 import org.eclipse.californium.elements.auth.RawPublicKeyIdentity;
+import org.eclipse.californium.elements.util.Bytes;
 import org.eclipse.californium.elements.util.CertPathUtil;
+import org.eclipse.californium.elements.util.LeastRecentlyUpdatedCache;
 import org.eclipse.californium.elements.util.SslContextUtil;
 import org.eclipse.californium.elements.util.StringUtil;
 import org.eclipse.californium.scandium.dtls.AlertMessage;
@@ -47,6 +52,7 @@ import org.eclipse.californium.scandium.dtls.CertificateVerificationResult;
 import org.eclipse.californium.scandium.dtls.ConnectionId;
 import org.eclipse.californium.scandium.dtls.HandshakeException;
 import org.eclipse.californium.scandium.dtls.HandshakeResultHandler;
+import org.eclipse.californium.scandium.dtls.cipher.ThreadLocalMessageDigest;
 import org.eclipse.californium.scandium.util.ServerName;
 import org.eclipse.californium.scandium.util.ServerNames;
 import org.slf4j.Logger;
@@ -55,6 +61,13 @@ import org.slf4j.LoggerFactory;
 /**
  * Static certificate verifier based on collections of trusted x509
  * certificates and RPKs.
+ * <p>
+ * Since 4.0 the successfully validated x509 certificate chains may be cached
+ * for a limited time, see
+ * {@link Builder#setVerifiedChainCache(int, long, TimeUnit)}. Known chains then
+ * skip the path validation. The key usage and the subject are still verified
+ * on each handshake. The cache is invalidated, when the trusted certificates
+ * are replaced by {@link #setTrustedCertificates(X509Certificate[])}.
  * 
  * @since 4.0 (Renamed StaticNewAdvancedCertificateVerifier into StaticCertificateVerifier)
  */
@@ -63,6 +76,13 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 	private static final X509Certificate[] X509_TRUST_ALL = new X509Certificate[0];
 	private static final RawPublicKeyIdentity[] RPK_TRUST_ALL = new RawPublicKeyIdentity[0];
 
+	/**
+	 * Message digest to calculate the fingerprint of certificate chains.
+	 * 
+	 * @since 4.0
+	 */
+	private static final ThreadLocalMessageDigest SHA256 = new ThreadLocalMessageDigest("SHA-256");
+
 	/**
 	 * The logger.
 	 */
@@ -70,8 +90,11 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 
 	/**
 	 * Trusted x509 certificates.
+	 * 
+	 * Since 4.0 replaceable by
+	 * {@link #setTrustedCertificates(X509Certificate[])}.
 	 */
-	private final X509Certificate[] trustedCertificates;
+	private volatile X509Certificate[] trustedCertificates;
 
 	/**
 	 * RPK certificate verifier to delegate verification.
@@ -91,6 +114,14 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 	 */
 	private final boolean useEmptyAcceptedIssuers;
 
+	/**
+	 * Cache of validated x509 certificate chains by fingerprint.
+	 * {@code null}, if disabled.
+	 * 
+	 * @since 4.0
+	 */
+	private final LeastRecentlyUpdatedCache<Bytes, VerifiedChain> verifiedChains;
+
 	/**
 	 * Creates static certificate verifier for x509 and RPK.
 	 * 
@@ -133,6 +164,38 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 	public StaticCertificateVerifier(X509Certificate[] trustedCertificates,
 			RawPublicKeyIdentity[] trustedRPKs, List<CertificateType> supportedCertificateTypes,
 			boolean useEmptyAcceptedIssuers) {
+		this(trustedCertificates, trustedRPKs, supportedCertificateTypes, useEmptyAcceptedIssuers, 0, 0,
+				TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Creates static certificate verifier for x509 and RPK with cache for
+	 * validated certificate chains.
+	 * 
+	 * @param trustedCertificates trusted x509 certificates. {@code null} not
+	 *            support x.509, empty, to trust all.
+	 * @param trustedRPKs trusted RPK identities. {@code null} not support RPK,
+	 *            empty, to trust all.
+	 * @param supportedCertificateTypes list of supported certificate type in
+	 *            order of preference. {@code null} to create a list based on
+	 *            the provided trusts with Raw Public key before x509.
+	 * @param useEmptyAcceptedIssuers {@code true} to enable to use a empty list
+	 *            of accepted issuers instead of a list based on the provided
+	 *            certificates.
+	 * @param verifiedChainCacheSize maximum number of cached validated
+	 *            certificate chains. {@code 0} to disable the cache.
+	 * @param verifiedChainTimeout time to keep validated certificate chains
+	 *            in the cache.
+	 * @param unit time unit of the timeout
+	 * @throws IllegalArgumentException if both, trustedCertificates and
+	 *             trustedRPKs, are {@code null}, the supportedCertificateTypes
+	 *             is empty, the trusts for an provided certificate type are
+	 *             {@code null}, or the cache size is negative.
+	 * @since 4.0
+	 */
+	public StaticCertificateVerifier(X509Certificate[] trustedCertificates,
+			RawPublicKeyIdentity[] trustedRPKs, List<CertificateType> supportedCertificateTypes,
+			boolean useEmptyAcceptedIssuers, int verifiedChainCacheSize, long verifiedChainTimeout, TimeUnit unit) {
 		if (trustedCertificates == null && trustedRPKs == null) {
 			throw new IllegalArgumentException("no trusts provided!");
 		}
@@ -159,6 +222,51 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 		this.trustedRPKs = trustedRPKs == null ? null : new HashSet<>(Arrays.asList(trustedRPKs));
 		this.supportedCertificateTypes = Collections.unmodifiableList(supportedCertificateTypes);
 		this.useEmptyAcceptedIssuers = useEmptyAcceptedIssuers;
+		if (verifiedChainCacheSize < 0) {
+			throw new IllegalArgumentException("cache size must not be negative!");
+		}
+		if (verifiedChainCacheSize > 0 && verifiedChainTimeout > 0 && trustedCertificates != null) {
+			this.verifiedChains = new LeastRecentlyUpdatedCache<>(Math.min(verifiedChainCacheSize, 16),
+					verifiedChainCacheSize, verifiedChainTimeout, unit);
+			this.verifiedChains.setHideStaleValues(true);
+		} else {
+			this.verifiedChains = null;
+		}
+	}
+
+	/**
+	 * Replace the trusted x509 certificates.
+	 * 
+	 * Clears the cache of validated certificate chains.
+	 * 
+	 * @param trustedCertificates trusted x509 certificates. Empty, to trust
+	 *            all.
+	 * @throws NullPointerException if trustedCertificates is {@code null}
+	 * @throws IllegalStateException if x509 is not supported
+	 * @since 4.0
+	 */
+	public void setTrustedCertificates(X509Certificate[] trustedCertificates) {
+		if (trustedCertificates == null) {
+			throw new NullPointerException("trusted certificates must not be null!");
+		}
+		if (this.trustedCertificates == null) {
+			throw new IllegalStateException("x509 verification not enabled!");
+		}
+		this.trustedCertificates = Arrays.copyOf(trustedCertificates, trustedCertificates.length);
+		if (verifiedChains != null) {
+			verifiedChains.clear();
+		}
+	}
+
+	/**
+	 * Get number of cached validated certificate chains.
+	 * 
+	 * @return number of cached validated certificate chains. {@code 0}, if
+	 *         the cache is disabled.
+	 * @since 4.0
+	 */
+	public int getVerifiedChainCacheSize() {
+		return verifiedChains == null ? 0 : verifiedChains.size();
 	}
 
 	@Override
@@ -199,6 +307,7 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 				}
 				return new CertificateVerificationResult(cid, publicKey, null);
 			} else {
+				X509Certificate[] trustedCertificates = this.trustedCertificates;
 				if (trustedCertificates == null) {
 					AlertMessage alert = new AlertMessage(AlertLevel.FATAL, AlertDescription.UNSUPPORTED_CERTIFICATE);
 					throw new HandshakeException("x509 verification not enabled!", alert);
@@ -218,8 +327,7 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 								verifyCertificatesSubject(serverNames, remotePeer, x509Certificate);
 							}
 						}
-						certChain = CertPathUtil.validateCertificatePathWithIssuer(truncateCertificatePath, certChain,
-								trustedCertificates);
+						certChain = validateCertificatePath(truncateCertificatePath, certChain, trustedCertificates);
 					}
 					return new CertificateVerificationResult(cid, certChain, null);
 				} catch (CertPathValidatorException e) {
@@ -251,6 +359,70 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 		}
 	}
 
+	/**
+	 * Validate certificate path.
+	 * 
+	 * Uses the cache of validated certificate chains, if enabled.
+	 * 
+	 * @param truncateCertificatePath {@code true} truncate certificate path at
+	 *            a trusted certificate before validation
+	 * @param certChain certificate chain
+	 * @param trustedCertificates trusted certificates
+	 * @return validated (and truncated) certificate path
+	 * @throws GeneralSecurityException if the validation fails
+	 * @since 4.0
+	 */
+	private CertPath validateCertificatePath(boolean truncateCertificatePath, CertPath certChain,
+			X509Certificate[] trustedCertificates) throws GeneralSecurityException {
+		if (verifiedChains == null) {
+			return CertPathUtil.validateCertificatePathWithIssuer(truncateCertificatePath, certChain,
+					trustedCertificates);
+		}
+		Bytes fingerprint = getFingerprint(truncateCertificatePath, certChain);
+		long now = System.currentTimeMillis();
+		VerifiedChain verified = verifiedChains.get(fingerprint);
+		if (verified != null && verified.trustedCertificates == trustedCertificates && now < verified.notAfter) {
+			LOGGER.trace("Certificate chain already validated.");
+			return verified.certChain;
+		}
+		CertPath validatedChain = CertPathUtil.validateCertificatePathWithIssuer(truncateCertificatePath, certChain,
+				trustedCertificates);
+		long notAfter = Long.MAX_VALUE;
+		for (Certificate certificate : validatedChain.getCertificates()) {
+			if (certificate instanceof X509Certificate) {
+				notAfter = Math.min(notAfter, ((X509Certificate) certificate).getNotAfter().getTime());
+			}
+		}
+		verifiedChains.put(fingerprint, new VerifiedChain(validatedChain, trustedCertificates, notAfter));
+		return validatedChain;
+	}
+
+	/**
+	 * Get fingerprint of certificate chain.
+	 * 
+	 * @param truncateCertificatePath {@code true} truncate certificate path at
+	 *            a trusted certificate before validation
+	 * @param certChain certificate chain
+	 * @return fingerprint
+	 * @throws GeneralSecurityException if the fingerprint could not be
+	 *             calculated
+	 * @since 4.0
+	 */
+	private static Bytes getFingerprint(boolean truncateCertificatePath, CertPath certChain)
+			throws GeneralSecurityException {
+		MessageDigest md = SHA256.currentWithCause();
+		md.reset();
+		md.update(truncateCertificatePath ? (byte) 1 : (byte) 0);
+		for (Certificate certificate : certChain.getCertificates()) {
+			try {
+				md.update(certificate.getEncoded());
+			} catch (CertificateEncodingException e) {
+				throw new GeneralSecurityException(e.getMessage(), e);
+			}
+		}
+		return new Bytes(md.digest());
+	}
+
 	/**
 	 * Verify the certificate's subject.
 	 * <p>
@@ -326,6 +498,34 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 		// empty implementation
 	}
 
+	/**
+	 * Validated certificate chain.
+	 * 
+	 * @since 4.0
+	 */
+	private static class VerifiedChain {
+
+		/**
+		 * Validated (and truncated) certificate chain.
+		 */
+		private final CertPath certChain;
+		/**
+		 * Trusted certificates used for the validation.
+		 */
+		private final X509Certificate[] trustedCertificates;
+		/**
+		 * Earliest expiration of the certificates in milliseconds since
+		 * epoch.
+		 */
+		private final long notAfter;
+
+		private VerifiedChain(CertPath certChain, X509Certificate[] trustedCertificates, long notAfter) {
+			this.certChain = certChain;
+			this.trustedCertificates = trustedCertificates;
+			this.notAfter = notAfter;
+		}
+	}
+
 	/**
 	 * Gets a builder.
 	 * 
@@ -358,6 +558,21 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 		 */
 		protected boolean useEmptyAcceptedIssuers;
 
+		/**
+		 * Maximum number of cached validated certificate chains.
+		 * 
+		 * @since 4.0
+		 */
+		protected int verifiedChainCacheSize;
+
+		/**
+		 * Timeout in milliseconds to keep validated certificate chains in
+		 * the cache.
+		 * 
+		 * @since 4.0
+		 */
+		protected long verifiedChainTimeoutMillis;
+
 		/**
 		 * Set trusted x509 certificates
 		 * 
@@ -460,6 +675,34 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 			return this;
 		}
 
+		/**
+		 * Set cache for validated x509 certificate chains.
+		 * <p>
+		 * Peers, which reconnect with the same certificate chain within the
+		 * timeout, skip the path validation. The cache is bounded, if it's
+		 * full, additional chains are not cached until the oldest entry
+		 * expires.
+		 * 
+		 * @param size maximum number of cached chains. {@code 0} to disable
+		 *            the cache.
+		 * @param timeout time to keep validated chains in the cache
+		 * @param unit time unit of timeout
+		 * @return this builder for chaining
+		 * @throws IllegalArgumentException if size or timeout is negative
+		 * @since 4.0
+		 */
+		public Builder setVerifiedChainCache(int size, long timeout, TimeUnit unit) {
+			if (size < 0) {
+				throw new IllegalArgumentException("cache size must not be negative!");
+			}
+			if (timeout < 0) {
+				throw new IllegalArgumentException("cache timeout must not be negative!");
+			}
+			this.verifiedChainCacheSize = size;
+			this.verifiedChainTimeoutMillis = unit.toMillis(timeout);
+			return this;
+		}
+
 		/**
 		 * Check, if any trust is available.
 		 * 
@@ -476,7 +719,8 @@ public class StaticCertificateVerifier implements CertificateVerifier, Configura
 		 */
 		public CertificateVerifier build() {
 			return new StaticCertificateVerifier(trustedCertificates, trustedRPKs, supportedCertificateTypes,
-					useEmptyAcceptedIssuers);
+					useEmptyAcceptedIssuers, verifiedChainCacheSize, verifiedChainTimeoutMillis,
+					TimeUnit.MILLISECONDS);
 		}
 	}
 }
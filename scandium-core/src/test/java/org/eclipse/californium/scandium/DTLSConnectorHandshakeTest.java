@@ -319,6 +319,19 @@ public class DTLSConnectorHandshakeTest {
 			}
 		});
 
+		BuilderSetup cryptoThreads = new BuilderSetup() {
+
+			@Override
+			public String toString() {
+				return "crypto-threads";
+			}
+
+			@Override
+			public void setup(Builder builder) {
+				builder.set(DtlsConfig.DTLS_HANDSHAKE_CRYPTO_THREAD_COUNT, 2);
+			}
+		};
+
 		List<BuilderSetup[]> combinations = new ArrayList<>();
 		if (TestScope.enableIntensiveTests()) {
 			BuilderSetup[] serverSetups = expand(fragmentModes);
@@ -331,6 +344,12 @@ public class DTLSConnectorHandshakeTest {
 			for (BuilderSetup setup : syncModes) {
 				combinations.add(new BuilderSetup[] { setup, setup });
 			}
+			for (BuilderSetup setup : syncModes) {
+				BuilderSetups server = new BuilderSetups();
+				server.add(setup);
+				server.add(cryptoThreads);
+				combinations.add(new BuilderSetup[] { server, setup });
+			}
 		} else {
 			BuilderSetups server = new BuilderSetups();
 			server.add(fragmentModes.get(2));
@@ -348,6 +367,10 @@ public class DTLSConnectorHandshakeTest {
 			client.add(sizeModes.get(0));
 			client.add(syncModes.get(1));
 			combinations.add(new BuilderSetup[] { server, client });
+			server = new BuilderSetups();
+			server.add(syncModes.get(0));
+			server.add(cryptoThreads);
+			combinations.add(new BuilderSetup[] { server, syncModes.get(0) });
 		}
 		return combinations;
 	}
@@ -0,0 +1,240 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium;
+
+import static org.eclipse.californium.scandium.ConnectorHelper.CLIENT_IDENTITY;
+import static org.eclipse.californium.scandium.ConnectorHelper.CLIENT_IDENTITY_SECRET;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.californium.elements.AddressEndpointContext;
+import org.eclipse.californium.elements.RawData;
+import org.eclipse.californium.elements.category.Medium;
+import org.eclipse.californium.elements.rule.TestNameLoggerRule;
+import org.eclipse.californium.elements.rule.ThreadsRule;
+import org.eclipse.californium.scandium.ConnectorHelper.TestContext;
+import org.eclipse.californium.scandium.config.DtlsConfig;
+import org.eclipse.californium.scandium.config.DtlsConnectorConfig;
+import org.eclipse.californium.scandium.dtls.Connection;
+import org.eclipse.californium.scandium.dtls.ConnectionStore;
+import org.eclipse.californium.scandium.dtls.DTLSSession;
+import org.eclipse.californium.scandium.dtls.SessionId;
+import org.eclipse.californium.scandium.dtls.TestInMemorySessionStore;
+import org.eclipse.californium.scandium.dtls.cipher.CipherSuite;
+import org.eclipse.californium.scandium.dtls.pskstore.SinglePskStore;
+import org.eclipse.californium.scandium.dtls.resumption.SessionTicketProtector;
+import org.eclipse.californium.scandium.rule.DtlsNetworkRule;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Verifies behavior of {@link DTLSConnector}.
+ * <p>
+ * Integration test cases verifying the interaction between a client and a
+ * server using stateless session tickets.
+ */
+@Category(Medium.class)
+public class DTLSConnectorSessionTicketTest {
+
+	@ClassRule
+	public static DtlsNetworkRule network = new DtlsNetworkRule(DtlsNetworkRule.Mode.DIRECT,
+			DtlsNetworkRule.Mode.NATIVE);
+
+	@ClassRule
+	public static ThreadsRule cleanup = new ThreadsRule();
+
+	private static final int MAX_TIME_TO_WAIT_SECS = 2;
+
+	@Rule
+	public TestNameLoggerRule names = new TestNameLoggerRule();
+
+	ConnectorHelper serverHelper;
+	DTLSConnector client;
+	ConnectionStore clientConnectionStore;
+
+	@After
+	public void cleanUp() {
+		if (client != null) {
+			client.destroy();
+		}
+		if (serverHelper != null) {
+			serverHelper.destroyServer();
+		}
+	}
+
+	/**
+	 * Start server issuing session tickets.
+	 *
+	 * @param lifetime lifetime of the session tickets in seconds
+	 * @throws Exception if the server could not be started
+	 */
+	private void startServer(long lifetime) throws Exception {
+		SessionTicketProtector protector = new SessionTicketProtector(new SecretKeySpec(new byte[16], "AES"),
+				lifetime, TimeUnit.SECONDS);
+		serverHelper = new ConnectorHelper(network);
+		serverHelper.serverBuilder.setSessionStore(new TestInMemorySessionStore(false))
+				.setSessionTicketProtector(protector);
+		serverHelper.startServer();
+	}
+
+	/**
+	 * Create client using session tickets.
+	 */
+	private void createClient() {
+		DtlsConnectorConfig clientConfig = DtlsConnectorConfig.builder(network.createClientTestConfig())
+				.setLoggingTag("client")
+				.setAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+				.set(DtlsConfig.DTLS_RECEIVER_THREAD_COUNT, 1)
+				.set(DtlsConfig.DTLS_CONNECTOR_THREAD_COUNT, 2)
+				.set(DtlsConfig.DTLS_CLIENT_USE_SESSION_TICKET, true)
+				.setAsList(DtlsConfig.DTLS_CIPHER_SUITES, CipherSuite.TLS_PSK_WITH_AES_128_CCM_8)
+				.setPskStore(new SinglePskStore(CLIENT_IDENTITY, CLIENT_IDENTITY_SECRET.getBytes()))
+				.build();
+		clientConnectionStore = ConnectorHelper.createDebugConnectionStore(clientConfig);
+		client = new DTLSConnector(clientConfig, clientConnectionStore);
+	}
+
+	/**
+	 * Establish session and prepare the client to resume it.
+	 *
+	 * @return test context of the established session
+	 * @throws Exception if the session could not be established
+	 */
+	private TestContext givenAnEstablishedSessionWithTicket() throws Exception {
+		createClient();
+		TestContext clientTestContext = serverHelper.givenAnEstablishedSession(client, false);
+		Connection connection = clientConnectionStore.get(serverHelper.serverEndpoint);
+		assertThat(connection.getEstablishedSession().getSessionTicket(), is(notNullValue()));
+		client.forceResumeSessionFor(serverHelper.serverEndpoint);
+		return clientTestContext;
+	}
+
+	/**
+	 * Remove the connection and the session from the server.
+	 *
+	 * @param clientTestContext test context of the established session
+	 */
+	private void removeServerState(TestContext clientTestContext) {
+		serverHelper.remove(clientTestContext.getClientAddress(), true);
+		serverHelper.serverTestSessionStore.clear();
+	}
+
+	/**
+	 * Send message and wait for the handshake to complete.
+	 *
+	 * @param clientTestContext test context of the established session
+	 * @return session established by the handshake
+	 * @throws Exception if the handshake failed
+	 */
+	private DTLSSession sendAgain(TestContext clientTestContext) throws Exception {
+		clientTestContext.setLatchCount(1);
+		RawData data = RawData.outbound("Hello Again".getBytes(),
+				new AddressEndpointContext(serverHelper.serverEndpoint), null, false);
+		client.send(data);
+		assertTrue(clientTestContext.await(MAX_TIME_TO_WAIT_SECS, TimeUnit.SECONDS));
+		return clientConnectionStore.get(serverHelper.serverEndpoint).getEstablishedSession();
+	}
+
+	@Test
+	public void testFullHandshakeIssuesTicket() throws Exception {
+		startServer(3600);
+		TestContext clientTestContext = givenAnEstablishedSessionWithTicket();
+		Connection connection = clientConnectionStore.get(serverHelper.serverEndpoint);
+		assertThat(connection.getEstablishedSession().getSessionIdentifier(),
+				is(clientTestContext.getSessionIdentifier()));
+	}
+
+	@Test
+	public void testResumesWithTicketWithoutServerSession() throws Exception {
+		startServer(3600);
+		TestContext clientTestContext = givenAnEstablishedSessionWithTicket();
+		SessionId sessionId = clientTestContext.getSessionIdentifier();
+		removeServerState(clientTestContext);
+
+		DTLSSession session = sendAgain(clientTestContext);
+		assertThat(session.getSessionIdentifier(), is(sessionId));
+		assertThat(session.getSessionTicket(), is(notNullValue()));
+		// the resumed session is stored again by the server
+		assertThat(serverHelper.serverTestSessionStore.establishedSessionCounter.get(), is(1));
+	}
+
+	@Test
+	public void testResumesWithRenewedTicket() throws Exception {
+		startServer(3600);
+		TestContext clientTestContext = givenAnEstablishedSessionWithTicket();
+		SessionId sessionId = clientTestContext.getSessionIdentifier();
+		removeServerState(clientTestContext);
+		sendAgain(clientTestContext);
+
+		client.forceResumeSessionFor(serverHelper.serverEndpoint);
+		removeServerState(clientTestContext);
+		DTLSSession session = sendAgain(clientTestContext);
+		assertThat(session.getSessionIdentifier(), is(sessionId));
+	}
+
+	@Test
+	public void testTamperedTicketFallsBackToFullHandshake() throws Exception {
+		startServer(3600);
+		TestContext clientTestContext = givenAnEstablishedSessionWithTicket();
+		SessionId sessionId = clientTestContext.getSessionIdentifier();
+		byte[] ticket = clientConnectionStore.get(serverHelper.serverEndpoint).getEstablishedSession()
+				.getSessionTicket();
+		ticket[ticket.length - 1] ^= 0x55;
+		removeServerState(clientTestContext);
+
+		DTLSSession session = sendAgain(clientTestContext);
+		assertThat(session.getSessionIdentifier(), is(not(equalTo(sessionId))));
+		assertThat(session.getSessionTicket(), is(notNullValue()));
+	}
+
+	@Test
+	public void testTamperedTicketFallsBackToSessionId() throws Exception {
+		startServer(3600);
+		TestContext clientTestContext = givenAnEstablishedSessionWithTicket();
+		SessionId sessionId = clientTestContext.getSessionIdentifier();
+		byte[] ticket = clientConnectionStore.get(serverHelper.serverEndpoint).getEstablishedSession()
+				.getSessionTicket();
+		ticket[ticket.length - 1] ^= 0x55;
+
+		DTLSSession session = sendAgain(clientTestContext);
+		assertThat(session.getSessionIdentifier(), is(sessionId));
+	}
+
+	@Test
+	public void testExpiredTicketFallsBackToFullHandshake() throws Exception {
+		startServer(1);
+		TestContext clientTestContext = givenAnEstablishedSessionWithTicket();
+		SessionId sessionId = clientTestContext.getSessionIdentifier();
+		removeServerState(clientTestContext);
+		Thread.sleep(1500);
+
+		DTLSSession session = sendAgain(clientTestContext);
+		assertThat(session.getSessionIdentifier(), is(not(equalTo(sessionId))));
+		assertThat(session.getSessionTicket(), is(notNullValue()));
+	}
+}
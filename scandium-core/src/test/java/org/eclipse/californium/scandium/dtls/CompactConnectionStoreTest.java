@@ -0,0 +1,237 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import static org.eclipse.californium.scandium.dtls.DTLSContextTest.PRINCIPAL1;
+import static org.eclipse.californium.scandium.dtls.DTLSContextTest.PRINCIPAL2;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.californium.elements.category.Small;
+import org.eclipse.californium.elements.rule.TestTimeRule;
+import org.eclipse.californium.elements.util.TestSynchroneExecutor;
+import org.eclipse.californium.scandium.dtls.cipher.CipherSuite;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Tests of {@link CompactConnectionStore}.
+ */
+@Category(Small.class)
+public class CompactConnectionStoreTest {
+
+	private static final int THRESHOLD_SECONDS = 10;
+	private static final int STALE_THRESHOLD_SECONDS = 100;
+
+	@Rule
+	public TestTimeRule time = new TestTimeRule();
+
+	private final AtomicBoolean running = new AtomicBoolean(true);
+	private ExecutorService executor;
+	private CompactConnectionStore store;
+	private Connection con1;
+	private Connection con2;
+
+	@Before
+	public void setUp() throws Exception {
+		executor = Executors.newSingleThreadExecutor();
+		store = createStore(10);
+		con1 = newConnection(50L, PRINCIPAL1);
+		con2 = newConnection(51L, PRINCIPAL2);
+		store.put(con1);
+		store.put(con2);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testActiveConnectionsAreNotCompacted() {
+		time.addTestTimeShift(THRESHOLD_SECONDS / 2, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		assertThat(store.getCompactedConnections(), is(0));
+		assertThat(store.get(con1.getConnectionId()), is(sameInstance(con1)));
+	}
+
+	@Test
+	public void testIdleConnectionIsExpandedByConnectionId() {
+		ConnectionId cid = con1.getConnectionId();
+		InetSocketAddress address = con1.getPeerAddress();
+		SessionId sessionId = con1.getEstablishedSession().getSessionIdentifier();
+		time.addTestTimeShift(THRESHOLD_SECONDS + 1, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		assertThat(store.getCompactedConnections(), is(2));
+		assertThat(store.remainingCapacity(), is(10));
+
+		Connection connection = store.get(cid);
+		assertThat(connection, is(notNullValue()));
+		assertThat(connection, is(not(sameInstance(con1))));
+		assertThat(connection.isExecuting(), is(true));
+		assertThat(connection.getPeerAddress(), is(address));
+		assertThat(connection.getEstablishedSession().getSessionIdentifier(), is(sessionId));
+		assertThat(store.getCompactedConnections(), is(1));
+		assertThat(store.get(cid), is(sameInstance(connection)));
+	}
+
+	@Test
+	public void testIdleConnectionIsExpandedByAddress() {
+		InetSocketAddress address = con2.getPeerAddress();
+		time.addTestTimeShift(THRESHOLD_SECONDS + 1, TimeUnit.SECONDS);
+		store.shrink(1, running);
+
+		Connection connection = store.get(address);
+		assertThat(connection, is(notNullValue()));
+		assertThat(connection.getConnectionId(), is(con2.getConnectionId()));
+		assertThat(store.getCompactedConnections(), is(1));
+	}
+
+	@Test
+	public void testResumptionRequiredIsAppliedToCompactedConnections() {
+		time.addTestTimeShift(THRESHOLD_SECONDS + 1, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		store.markAllAsResumptionRequired();
+
+		Connection connection = store.get(con1.getConnectionId());
+		assertThat(connection.isResumptionRequired(), is(true));
+	}
+
+	@Test
+	public void testClearRemovesCompactedConnections() {
+		time.addTestTimeShift(THRESHOLD_SECONDS + 1, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		store.clear();
+		assertThat(store.getCompactedConnections(), is(0));
+		assertThat(store.get(con1.getConnectionId()), is(nullValue()));
+	}
+
+	@Test
+	public void testSaveAndLoadCompactedConnections() throws Exception {
+		time.addTestTimeShift(THRESHOLD_SECONDS + 1, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		store.get(con2.getConnectionId());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThat(store.saveConnections(out, 1000), is(2));
+		assertThat(store.getCompactedConnections(), is(0));
+		assertThat(store.get(con1.getConnectionId()), is(nullValue()));
+
+		ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		assertThat(store.loadConnections(in, 0), is(2));
+		assertThat(store.get(con1.getConnectionId()), is(notNullValue()));
+		assertThat(store.get(con2.getConnectionId()), is(notNullValue()));
+	}
+
+	@Test
+	public void testFindExpandsCompactedConnection() {
+		SessionId sessionId = con1.getEstablishedSession().getSessionIdentifier();
+		time.addTestTimeShift(THRESHOLD_SECONDS + 1, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		assertThat(store.getCompactedConnections(), is(2));
+
+		DTLSSession session = store.find(sessionId);
+		assertThat(session, is(notNullValue()));
+		assertThat(session.getSessionIdentifier(), is(sessionId));
+		assertThat(store.getCompactedConnections(), is(1));
+	}
+
+	@Test
+	public void testIteratorIncludesCompactedConnections() {
+		time.addTestTimeShift(THRESHOLD_SECONDS + 1, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		assertThat(store.getCompactedConnections(), is(2));
+
+		List<ConnectionId> cids = new ArrayList<>();
+		Iterator<Connection> iterator = store.iterator();
+		while (iterator.hasNext()) {
+			cids.add(iterator.next().getConnectionId());
+		}
+		assertThat(cids.size(), is(2));
+		assertThat(cids.contains(con1.getConnectionId()), is(true));
+		assertThat(cids.contains(con2.getConnectionId()), is(true));
+	}
+
+	@Test
+	public void testFailingExpandKeepsCompactedConnection() throws Exception {
+		ConnectionId cid = con1.getConnectionId();
+		time.addTestTimeShift(THRESHOLD_SECONDS + 1, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		for (int index = 0; index < 10; ++index) {
+			assertThat(store.put(newConnection(60L + index, PRINCIPAL1)), is(true));
+		}
+		assertThat(store.remainingCapacity(), is(0));
+
+		assertThat(store.get(cid), is(nullValue()));
+		assertThat(store.getCompactedConnections(), is(2));
+	}
+
+	@Test
+	public void testStaleCompactedConnectionIsEvicted() throws Exception {
+		store = createStore(1);
+		store.put(con1);
+		time.addTestTimeShift(THRESHOLD_SECONDS + 1, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		assertThat(store.getCompactedConnections(), is(1));
+
+		store.put(con2);
+		con2.refreshAutoResumptionTime();
+		time.addTestTimeShift(STALE_THRESHOLD_SECONDS, TimeUnit.SECONDS);
+		store.shrink(1, running);
+		assertThat(store.getCompactedConnections(), is(1));
+		assertThat(store.remainingCapacity(), is(10));
+		assertThat(store.get(con1.getConnectionId()), is(nullValue()));
+		assertThat(store.get(con2.getConnectionId()), is(notNullValue()));
+	}
+
+	private CompactConnectionStore createStore(int maxCompactedConnections) {
+		CompactConnectionStore store = new CompactConnectionStore(new InMemoryConnectionStore(10, 1000, null, false),
+				THRESHOLD_SECONDS, STALE_THRESHOLD_SECONDS, TimeUnit.SECONDS, maxCompactedConnections);
+		store.attach(null);
+		store.setExecutor(executor);
+		return store;
+	}
+
+	private Connection newConnection(long ip, Principal principal) throws HandshakeException, UnknownHostException {
+		byte[] address = { 10, 0, 0, (byte) ip };
+		InetSocketAddress peerAddress = new InetSocketAddress(InetAddress.getByAddress(address), 5684);
+		Connection con = new Connection(peerAddress).setConnectorContext(TestSynchroneExecutor.TEST_EXECUTOR, null);
+		DTLSContext dtlsContext = DTLSContextTest.newEstablishedServerDtlsContext(
+				CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_CCM_8, CertificateType.RAW_PUBLIC_KEY, principal);
+		con.getSessionListener().contextEstablished(null, dtlsContext);
+		return con;
+	}
+}
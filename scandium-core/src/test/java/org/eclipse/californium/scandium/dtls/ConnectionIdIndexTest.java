@@ -0,0 +1,97 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.californium.elements.category.Small;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Verifies the {@link ConnectionIdIndex}.
+ */
+@Category(Small.class)
+public class ConnectionIdIndexTest {
+
+	private static final InetSocketAddress PEER = new InetSocketAddress(InetAddress.getLoopbackAddress(), 5684);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooLongConnectionIdIsNotSupported() {
+		new ConnectionIdIndex(ConnectionIdIndex.MAX_CID_LENGTH + 1);
+	}
+
+	@Test
+	public void testSupportsOnlyFixedLength() {
+		ConnectionIdIndex index = new ConnectionIdIndex(4);
+		assertThat(index.supports(new ConnectionId(new byte[4])), is(true));
+		assertThat(index.supports(new ConnectionId(new byte[3])), is(false));
+		assertThat(index.supports(null), is(false));
+	}
+
+	@Test
+	public void testPutGetAndRemove() {
+		SingleNodeConnectionIdGenerator generator = new SingleNodeConnectionIdGenerator(6);
+		ConnectionIdIndex index = new ConnectionIdIndex(6);
+		List<Connection> connections = new ArrayList<>();
+		for (int count = 0; count < 1000; ++count) {
+			Connection connection = new Connection(PEER);
+			ConnectionId cid = generator.createConnectionId();
+			connection.setConnectionId(cid);
+			index.put(cid, connection);
+			connections.add(connection);
+		}
+		assertThat(index.size(), is(connections.size()));
+		for (Connection connection : connections) {
+			ConnectionId cid = new ConnectionId(connection.getConnectionId().getBytes());
+			assertThat(index.get(cid), is(connection));
+		}
+		for (int count = 0; count < connections.size(); count += 2) {
+			Connection connection = connections.get(count);
+			index.remove(connection.getConnectionId(), connection);
+		}
+		assertThat(index.size(), is(connections.size() / 2));
+		for (int count = 0; count < connections.size(); ++count) {
+			Connection connection = connections.get(count);
+			Connection expected = (count & 1) == 0 ? null : connection;
+			assertThat(index.get(connection.getConnectionId()), is(expected));
+		}
+		index.clear();
+		assertThat(index.size(), is(0));
+		assertThat(index.get(connections.get(1).getConnectionId()), is(nullValue()));
+	}
+
+	@Test
+	public void testRemoveKeepsReplacedConnection() {
+		ConnectionIdIndex index = new ConnectionIdIndex(2);
+		ConnectionId cid = new ConnectionId(new byte[] { 0, 1 });
+		Connection connection1 = new Connection(PEER);
+		Connection connection2 = new Connection(PEER);
+		index.put(cid, connection1);
+		index.put(cid, connection2);
+		assertThat(index.size(), is(1));
+		index.remove(cid, connection1);
+		assertThat(index.get(cid), is(connection2));
+		// other connection id
+		assertThat(index.get(new ConnectionId(new byte[] { 1, 0 })), is(nullValue()));
+	}
+}
@@ -0,0 +1,50 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import org.eclipse.californium.elements.category.Small;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Verifies the limit of pending inbound jobs of a {@link Connection}.
+ */
+@Category(Small.class)
+public class ConnectionInboundJobsTest {
+
+	private static final InetSocketAddress PEER = new InetSocketAddress(InetAddress.getLoopbackAddress(), 5684);
+
+	@Test
+	public void testStartInboundJobLimitsPendingJobs() {
+		Connection connection = new Connection(PEER);
+		assertThat(connection.startInboundJob(2), is(true));
+		assertThat(connection.startInboundJob(2), is(true));
+		assertThat(connection.getPendingInboundJobs(), is(2));
+		assertThat(connection.startInboundJob(2), is(false));
+		assertThat(connection.getPendingInboundJobs(), is(2));
+		assertThat(connection.getDroppedInboundJobs(), is(1L));
+
+		connection.finishInboundJob();
+		assertThat(connection.getPendingInboundJobs(), is(1));
+		assertThat(connection.startInboundJob(2), is(true));
+		assertThat(connection.getDroppedInboundJobs(), is(1L));
+	}
+}
@@ -17,10 +17,13 @@ package org.eclipse.californium.scandium.dtls;
 
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.net.InetSocketAddress;
 import java.security.GeneralSecurityException;
@@ -127,6 +130,75 @@ public class CookieGeneratorTest {
 		assertArrayEquals(cookie1, cookie3);
 	}
 
+	@Test
+	public void testCookieGeneratorGeneratesSameCookieForCookieFields() throws GeneralSecurityException {
+		ClientHello clientHello = ClientHelloTest.createClientHello(
+				Collections.singletonList(CipherSuite.TLS_PSK_WITH_AES_128_CBC_SHA256),
+				SignatureAndHashAlgorithm.DEFAULT, Collections.<CertificateType> emptyList(),
+				Collections.<CertificateType> emptyList(), Collections.singletonList(SupportedGroup.secp256r1));
+		ClientHelloCookieFields fields = ClientHelloCookieFields.fromByteArray(clientHello.toByteArray());
+		assertThat(fields, is(notNullValue()));
+		assertFalse(fields.hasCookie());
+		assertThat(fields.getProtocolVersion(), is(clientHello.getProtocolVersion()));
+		assertThat(fields.getMessageSeq(), is(clientHello.getMessageSeq()));
+
+		byte[] cookie1 = generator.generateCookie(peerAddress, clientHello);
+		assertArrayEquals(cookie1, generator.generateCookie(peerAddress, fields));
+
+		clientHello.setCookie(cookie1);
+		fields = ClientHelloCookieFields.fromByteArray(clientHello.toByteArray());
+		assertThat(fields, is(notNullValue()));
+		assertTrue(fields.hasCookie());
+		assertArrayEquals(cookie1, fields.getCookie());
+		assertArrayEquals(cookie1, generator.generateCookie(peerAddress, fields));
+		assertFalse("byte arrays are equal!", Arrays.equals(cookie1, generator.generateCookie(peerAddress2, fields)));
+
+		time.addTestTimeShift(CookieGenerator.COOKIE_LIFETIME_NANOS + 1000, TimeUnit.NANOSECONDS);
+		assertFalse("byte arrays are equal!", Arrays.equals(cookie1, generator.generateCookie(peerAddress, fields)));
+		assertArrayEquals(cookie1, generator.generatePastCookie(peerAddress, fields));
+	}
+
+	@Test
+	public void testCookieFieldsRejectsFragmentedClientHello() {
+		ClientHello clientHello = ClientHelloTest.createClientHello(
+				Collections.singletonList(CipherSuite.TLS_PSK_WITH_AES_128_CBC_SHA256),
+				SignatureAndHashAlgorithm.DEFAULT, Collections.<CertificateType> emptyList(),
+				Collections.<CertificateType> emptyList(), Collections.singletonList(SupportedGroup.secp256r1));
+		byte[] message = clientHello.toByteArray();
+		assertThat(ClientHelloCookieFields.fromByteArray(Arrays.copyOf(message, message.length - 1)),
+				is(nullValue()));
+		// fragment length
+		message[11]--;
+		assertThat(ClientHelloCookieFields.fromByteArray(message), is(nullValue()));
+	}
+
+	@Test
+	public void testCookieFieldsRejectsTruncatedClientHello() {
+		ClientHello clientHello = ClientHelloTest.createClientHello(
+				Collections.singletonList(CipherSuite.TLS_PSK_WITH_AES_128_CBC_SHA256),
+				SignatureAndHashAlgorithm.DEFAULT, Collections.<CertificateType> emptyList(),
+				Collections.<CertificateType> emptyList(), Collections.singletonList(SupportedGroup.secp256r1));
+		byte[] message = clientHello.toByteArray();
+		int headerLength = HandshakeMessage.MESSAGE_HEADER_LENGTH_BYTES;
+		int minLength = 2 + 32 + 1;
+		for (int length = 0; length < message.length - headerLength; ++length) {
+			// truncated message with consistent handshake header
+			byte[] truncated = Arrays.copyOf(message, headerLength + length);
+			writeLength(truncated, 1, length);
+			writeLength(truncated, 9, length);
+			ClientHelloCookieFields fields = ClientHelloCookieFields.fromByteArray(truncated);
+			if (length < minLength) {
+				assertThat("length " + length, fields, is(nullValue()));
+			}
+		}
+	}
+
+	private static void writeLength(byte[] message, int offset, int length) {
+		message[offset] = (byte) (length >> 16);
+		message[offset + 1] = (byte) (length >> 8);
+		message[offset + 2] = (byte) length;
+	}
+
 	@Test
 	public void testCookieGeneratorGeneratesSameCookieMultiThreaded() throws GeneralSecurityException {
 		final int LOOPS = TestScope.enableIntensiveTests() ? 20000 : 2000;
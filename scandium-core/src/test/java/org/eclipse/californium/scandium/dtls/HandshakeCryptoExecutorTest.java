@@ -0,0 +1,158 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.eclipse.californium.elements.category.Small;
+import org.eclipse.californium.elements.util.ExecutorsUtil;
+import org.eclipse.californium.elements.util.TestThreadFactory;
+import org.eclipse.californium.scandium.dtls.AlertMessage.AlertDescription;
+import org.eclipse.californium.scandium.dtls.cipher.CipherSuite;
+import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptography;
+import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptography.SupportedGroup;
+import org.eclipse.californium.scandium.dtls.pskstore.SinglePskStore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Verifies the {@link HandshakeCryptoExecutor}.
+ */
+@Category(Small.class)
+public class HandshakeCryptoExecutorTest {
+
+	private static final PskPublicInformation IDENTITY = new PskPublicInformation("me");
+	private static final byte[] SEED = new byte[64];
+	private static final CipherSuite CIPHER_SUITE = CipherSuite.TLS_PSK_WITH_AES_128_CCM_8;
+
+	private ExecutorService executor;
+	private BlockingQueue<HandshakeResult> results;
+	private HandshakeResultHandler handler;
+	private SinglePskStore pskStore;
+
+	@Before
+	public void setup() {
+		executor = ExecutorsUtil.newFixedThreadPool(1, new TestThreadFactory("HandshakeCrypto-"));
+		results = new LinkedBlockingQueue<>();
+		handler = new HandshakeResultHandler() {
+
+			@Override
+			public void apply(HandshakeResult result) {
+				results.add(result);
+			}
+		};
+		pskStore = new SinglePskStore(IDENTITY.getPublicInfoAsString(), "secret".getBytes());
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testPskSecretResultIsReportedToHandler() throws Exception {
+		HandshakeCryptoExecutor cryptoExecutor = new HandshakeCryptoExecutor(executor, handler);
+		ConnectionId cid = new ConnectionId(new byte[] { 1, 2 });
+		PskSecretResult result = cryptoExecutor.requestPskSecretResult(pskStore, cid, null, IDENTITY, CIPHER_SUITE,
+				null, SEED, false);
+		assertThat(result, is(nullValue()));
+
+		HandshakeResult reported = results.poll(2000, TimeUnit.MILLISECONDS);
+		assertThat(reported, is(notNullValue()));
+		assertThat(reported.getConnectionId(), is(cid));
+		SecretKey masterSecret = ((PskSecretResult) reported).getSecret();
+		assertThat(masterSecret, is(notNullValue()));
+		assertThat(masterSecret.getAlgorithm(), is(PskSecretResult.ALGORITHM_MAC));
+	}
+
+	@Test
+	public void testKeyAgreementResultsAreReportedToHandler() throws Exception {
+		HandshakeCryptoExecutor cryptoExecutor = new HandshakeCryptoExecutor(executor, handler);
+		ConnectionId cid = new ConnectionId(new byte[] { 1, 2 });
+		XECDHECryptography server = new XECDHECryptography(SupportedGroup.secp256r1);
+		XECDHECryptography client = new XECDHECryptography(SupportedGroup.secp256r1);
+		SecretKey expected = client.generateSecret(server.getEncodedPoint());
+
+		cryptoExecutor.generateSecret(cid, server, client.getEncodedPoint());
+		HandshakeResult reported = results.poll(2000, TimeUnit.MILLISECONDS);
+		assertThat(reported, is(instanceOf(KeyAgreementResult.class)));
+		assertThat(reported.getConnectionId(), is(cid));
+		assertThat(((KeyAgreementResult) reported).getSecret(), is(expected));
+
+		cryptoExecutor.generateMasterSecret(cid, server, client.getEncodedPoint(), CIPHER_SUITE, SEED, false);
+		reported = results.poll(2000, TimeUnit.MILLISECONDS);
+		assertThat(reported, is(instanceOf(KeyAgreementResult.class)));
+		assertThat(((KeyAgreementResult) reported).getSecret().getAlgorithm(), is(PskSecretResult.ALGORITHM_MAC));
+
+		byte[] invalidPoint = new byte[client.getEncodedPoint().length];
+		invalidPoint[0] = 4;
+		cryptoExecutor.generateSecret(cid, server, invalidPoint);
+		reported = results.poll(2000, TimeUnit.MILLISECONDS);
+		assertThat(reported, is(instanceOf(KeyAgreementResult.class)));
+		assertThat(((KeyAgreementResult) reported).getException().getAlert().getDescription(),
+				is(AlertDescription.ILLEGAL_PARAMETER));
+	}
+
+	@Test
+	public void testServerKeyExchangeResultIsReportedToHandler() throws Exception {
+		HandshakeCryptoExecutor cryptoExecutor = new HandshakeCryptoExecutor(executor, handler);
+		ConnectionId cid = new ConnectionId(new byte[] { 1, 2 });
+		XECDHECryptography ecdhe = new XECDHECryptography(SupportedGroup.secp256r1);
+		cryptoExecutor.createServerKeyExchange(cid, SignatureAndHashAlgorithm.SHA256_WITH_ECDSA, ecdhe,
+				DtlsTestTools.getPrivateKey(), new Random(), new Random());
+
+		HandshakeResult reported = results.poll(2000, TimeUnit.MILLISECONDS);
+		assertThat(reported, is(instanceOf(ServerKeyExchangeResult.class)));
+		assertThat(reported.getConnectionId(), is(cid));
+		ServerKeyExchange message = ((ServerKeyExchangeResult) reported).getServerKeyExchange();
+		assertThat(message, is(instanceOf(EcdhSignedServerKeyExchange.class)));
+	}
+
+	@Test
+	public void testRejectedExecutionFailsHandshake() {
+		Executor rejecting = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException("test");
+			}
+		};
+		HandshakeCryptoExecutor cryptoExecutor = new HandshakeCryptoExecutor(rejecting, handler);
+		ConnectionId cid = new ConnectionId(new byte[] { 1, 2 });
+		try {
+			cryptoExecutor.requestPskSecretResult(pskStore, cid, null, IDENTITY, CIPHER_SUITE, null, SEED, false);
+			fail("HandshakeException expected!");
+		} catch (HandshakeException ex) {
+			assertThat(ex.getAlert().getDescription(), is(AlertDescription.INTERNAL_ERROR));
+		}
+		assertThat(results.isEmpty(), is(true));
+	}
+}
@@ -29,9 +29,11 @@ import static org.eclipse.californium.scandium.dtls.DTLSContextTest.PRINCIPAL2;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
 import java.security.Principal;
 import java.util.Arrays;
 import java.util.Map;
@@ -369,6 +371,9 @@ public class InMemoryConnectionStoreTest {
 
 		// assert that the store has still two entries
 		assertThat(store.remainingCapacity(), is(0));
+		// assert that the evicted connection is not longer available
+		assertThat(store.get(con1.getConnectionId()), is(nullValue()));
+		assertThat(store.get(con3.getConnectionId()), is(con3));
 
 		if (store instanceof InMemoryConnectionStore) {
 			Map<Principal, Connection> connectionsByPrincipal = ((InMemoryConnectionStore) store).connectionsByPrincipal;
@@ -462,6 +467,109 @@ public class InMemoryConnectionStoreTest {
 		}
 	}
 
+	@Test
+	public void testJournalCheckpointAndLoad() throws Exception {
+		InMemoryConnectionStore store = new InMemoryConnectionStore(INITIAL_CAPACITY, 1000, null, false);
+		store.attach(null);
+		File directory = Files.createTempDirectory("journal").toFile();
+		try {
+			ConnectionJournal journal = new ConnectionJournal(store, directory, 4, 1);
+			Connection con2 = newConnection(51L, PRINCIPAL2);
+			assertTrue(store.put(con));
+			assertTrue(store.put(con2));
+			// full checkpoint, one segment per connection
+			assertThat(journal.checkpoint(), is(2));
+			assertThat(directory.list().length, is(2));
+
+			store.remove(con2, false);
+			Connection con3 = newConnection(52L, PRINCIPAL2);
+			assertTrue(store.put(con3));
+			// delta checkpoint with con3 and removed con2
+			assertThat(journal.checkpoint(), is(1));
+			assertThat(journal.finish(), is(0));
+
+			InMemoryConnectionStore store2 = new InMemoryConnectionStore(INITIAL_CAPACITY, 1000, null, false);
+			store2.attach(null);
+			ConnectionJournal journal2 = new ConnectionJournal(store2, directory, 4, 1);
+			assertThat(journal2.load(2), is(2));
+			assertRestored(store2, con);
+			assertThat(store2.get(con2.getConnectionId()), is(nullValue()));
+			assertRestored(store2, con3);
+			// journal is deleted after loading
+			assertThat(directory.list().length, is(0));
+		} finally {
+			deleteDirectory(directory);
+		}
+	}
+
+	@Test
+	public void testJournalLoadsConnectionReaddedAfterRemove() throws Exception {
+		InMemoryConnectionStore store = new InMemoryConnectionStore(INITIAL_CAPACITY, 1000, null, false);
+		store.attach(null);
+		File directory = Files.createTempDirectory("journal").toFile();
+		try {
+			ConnectionJournal journal = new ConnectionJournal(store, directory, 4, 16);
+			assertTrue(store.put(con));
+			assertThat(journal.checkpoint(), is(1));
+
+			store.remove(con, false);
+			Connection con2 = newConnection(51L, PRINCIPAL2);
+			con2.setConnectionId(con.getConnectionId());
+			assertTrue(store.restore(con2));
+			// delta checkpoint with removed con and re-added con2
+			assertThat(journal.checkpoint(), is(1));
+			// final checkpoint, when the connector is stopped
+			store.stopped();
+
+			InMemoryConnectionStore store2 = new InMemoryConnectionStore(INITIAL_CAPACITY, 1000, null, false);
+			store2.attach(null);
+			ConnectionJournal journal2 = new ConnectionJournal(store2, directory, 4, 16);
+			assertThat(journal2.load(2), is(1));
+			assertRestored(store2, con2);
+		} finally {
+			deleteDirectory(directory);
+		}
+	}
+
+	@Test
+	public void testJournalNotFinishedIsNotLoaded() throws Exception {
+		InMemoryConnectionStore store = new InMemoryConnectionStore(INITIAL_CAPACITY, 1000, null, false);
+		store.attach(null);
+		File directory = Files.createTempDirectory("journal").toFile();
+		try {
+			ConnectionJournal journal = new ConnectionJournal(store, directory, 4, 16);
+			assertTrue(store.put(con));
+			assertThat(journal.checkpoint(), is(1));
+
+			InMemoryConnectionStore store2 = new InMemoryConnectionStore(INITIAL_CAPACITY, 1000, null, false);
+			store2.attach(null);
+			ConnectionJournal journal2 = new ConnectionJournal(store2, directory, 4, 16);
+			assertThat(journal2.load(2), is(0));
+			assertThat(store2.get(con.getConnectionId()), is(nullValue()));
+			assertThat(directory.list().length, is(0));
+		} finally {
+			deleteDirectory(directory);
+		}
+	}
+
+	private static void assertRestored(InMemoryConnectionStore store, Connection connection) {
+		Connection restored = store.get(connection.getConnectionId());
+		assertThat(restored, is(notNullValue()));
+		// last message nanos are adjusted to the current nano time
+		assertThat(restored.getPeerAddress(), is(connection.getPeerAddress()));
+		assertThat(restored.getEstablishedDtlsContext(), is(connection.getEstablishedDtlsContext()));
+	}
+
+	private static void deleteDirectory(File directory) {
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		directory.delete();
+	}
+
 	private Connection newConnection(long ip, Principal principal) throws HandshakeException, UnknownHostException {
 
 		InetAddress addr = InetAddress.getByAddress(longToIp(ip));
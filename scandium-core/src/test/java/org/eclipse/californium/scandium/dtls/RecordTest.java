@@ -152,6 +152,52 @@ public class RecordTest {
 		assertTrue(Arrays.equals(decryptedData, payloadData));
 	}
 
+	@Test
+	public void testWriteToBufferEqualsToByteArray() throws Exception {
+		byte[] fragment = newGenericAEADCipherFragment();
+		Record record = new Record(ContentType.APPLICATION_DATA, protocolVer, EPOCH, SEQUENCE_NO, null, fragment, ClockUtil.nanoRealtime(), false);
+		byte[] expected = record.toByteArray();
+		assertEquals(record.size(), expected.length);
+		assertEquals(TYPE_APPL_DATA, expected[0]);
+		assertEquals(EPOCH, expected[4]);
+		assertEquals(SEQUENCE_NO, expected[10]);
+		assertEquals(fragment.length, expected[12] & 0xff);
+
+		byte[] buffer = new byte[expected.length + 20];
+		int end = record.writeTo(buffer, 10);
+		assertEquals(10 + expected.length, end);
+		assertTrue(Arrays.equals(expected, Arrays.copyOfRange(buffer, 10, end)));
+	}
+
+	@Test
+	public void testWriteToBufferWithConnectionId() throws Exception {
+		byte[] fragment = newGenericAEADCipherFragment();
+		ConnectionId cid = new ConnectionId(new byte[] { 1, 2, 3 });
+		Record record = new Record(ContentType.TLS12_CID, protocolVer, EPOCH, SEQUENCE_NO, cid, fragment, ClockUtil.nanoRealtime(), false);
+		byte[] expected = record.toByteArray();
+		assertEquals(record.size(), expected.length);
+		assertEquals(ContentType.TLS12_CID.getCode(), expected[0]);
+		assertEquals(3, expected[13]);
+		assertEquals(fragment.length, expected[15] & 0xff);
+
+		byte[] buffer = new byte[expected.length];
+		assertEquals(expected.length, record.writeTo(buffer, 0));
+		assertTrue(Arrays.equals(expected, buffer));
+	}
+
+	@Test
+	public void testGenerateAdditionalData() throws Exception {
+		Record record = new Record(ContentType.APPLICATION_DATA, protocolVer, EPOCH, SEQUENCE_NO, null, new byte[0], ClockUtil.nanoRealtime(), false);
+		byte[] seq_num = new byte[]{0x00, (byte) EPOCH, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) SEQUENCE_NO};
+		byte[] additionalData = new byte[]{TYPE_APPL_DATA, (byte) protocolVer.getMajor(), (byte) protocolVer.getMinor(), 0, (byte) payloadLength};
+		additionalData = Bytes.concatenate(seq_num, additionalData);
+		assertTrue(Arrays.equals(additionalData, record.generateAdditionalData(payloadLength)));
+
+		byte[] nonce = new byte[seq_num.length + 2];
+		assertEquals(seq_num.length + 1, record.writeExplicitNonce(nonce, 1));
+		assertTrue(Arrays.equals(seq_num, Arrays.copyOfRange(nonce, 1, seq_num.length + 1)));
+	}
+
 	byte[] newGenericAEADCipherFragment() throws GeneralSecurityException {
 		// 64bit sequence number, consisting of 16bit epoch (0) + 48bit sequence number (5)
 		byte[] seq_num = new byte[]{0x00, (byte) EPOCH, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) SEQUENCE_NO};
@@ -0,0 +1,157 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls.cipher;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.californium.elements.category.Small;
+import org.eclipse.californium.elements.util.Bytes;
+import org.eclipse.californium.elements.util.JceProviderUtil;
+import org.eclipse.californium.elements.util.StringUtil;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Verifies the {@link BulkCCMBlockCipher} against the test vectors of RFC 3610
+ * and the {@link CCMBlockCipher}.
+ */
+@Category(Small.class)
+@RunWith(Parameterized.class)
+public class BulkCCMBlockCipherTest {
+
+	static final byte[] aesKeyBytes = StringUtil.hex2ByteArray("C90E6AA2EF6034969054C49665BA039E");
+	static final SecretKey aesKey = new SecretKeySpec(aesKeyBytes, "AES");
+
+	@BeforeClass
+	public static void init() {
+		JceProviderUtil.init();
+		assumeTrue("AES/CTR and AES/CBC required", BulkCCMBlockCipher.isSupported());
+	}
+
+	@Parameterized.Parameters
+	public static List<Object[]> parameters() {
+		List<Object[]> parameters = new ArrayList<>();
+		parameters.add(new Object[] { 0, 0, 7 });
+		parameters.add(new Object[] { 5, 0, 7 });
+		parameters.add(new Object[] { 13, 1, 7 });
+		parameters.add(new Object[] { 15, 13, 8 });
+		parameters.add(new Object[] { 16, 14, 8 });
+		parameters.add(new Object[] { 17, 15, 12 });
+		parameters.add(new Object[] { 31, 30, 13 });
+		parameters.add(new Object[] { 32, 31, 12 });
+		parameters.add(new Object[] { 33, 32, 12 });
+		parameters.add(new Object[] { 65805, 256, 8 });
+		parameters.add(new Object[] { 1024, 65536, 12 });
+		return parameters;
+	}
+
+	static final Random random = new Random();
+
+	final int payloadLength;
+	final int aLength;
+	final int nonceLength;
+
+	byte[] additionalData;
+	byte[] nonce;
+	byte[] payloadData;
+
+	public BulkCCMBlockCipherTest(int payloadLength, int aLength, int nonceLength) {
+		this.payloadLength = payloadLength;
+		this.aLength = aLength;
+		this.nonceLength = nonceLength;
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		payloadData = Bytes.createBytes(random, payloadLength);
+		additionalData = Bytes.createBytes(random, aLength);
+		nonce = Bytes.createBytes(random, nonceLength);
+	}
+
+	/**
+	 * Packet Vector #1 of RFC 3610.
+	 */
+	@Test
+	public void testRfc3610PacketVector1() throws Exception {
+		SecretKey key = new SecretKeySpec(StringUtil.hex2ByteArray("C0C1C2C3C4C5C6C7C8C9CACBCCCDCECF"), "AES");
+		byte[] nonce = StringUtil.hex2ByteArray("00000003020100A0A1A2A3A4A5");
+		byte[] additionalData = StringUtil.hex2ByteArray("0001020304050607");
+		byte[] message = StringUtil.hex2ByteArray("08090A0B0C0D0E0F101112131415161718191A1B1C1D1E");
+		byte[] expected = StringUtil
+				.hex2ByteArray("588C979A61C663D2F066D0C2C0F989806D5F6B61DAC38417E8D12CFDF926E0");
+
+		byte[] encryptedData = BulkCCMBlockCipher.encrypt(key, nonce, additionalData, message, 8);
+		assertThat(encryptedData, is(expected));
+		byte[] decryptedData = BulkCCMBlockCipher.decrypt(key, nonce, additionalData, encryptedData, 8);
+		assertThat(decryptedData, is(message));
+	}
+
+	@Test
+	public void testEncryptionMatchesCCMBlockCipher() throws Exception {
+		for (int macLength : new int[] { 4, 8, 16 }) {
+			byte[] expected = CCMBlockCipher.encrypt(8, aesKey, nonce, additionalData, payloadData, macLength);
+			byte[] encryptedData = BulkCCMBlockCipher.encrypt(8, aesKey, nonce, additionalData, payloadData,
+					macLength);
+			assertThat(encryptedData, is(expected));
+		}
+	}
+
+	@Test
+	public void testDecryptCCMBlockCipher() throws Exception {
+		byte[] encryptedData = CCMBlockCipher.encrypt(8, aesKey, nonce, additionalData, payloadData, 8);
+		byte[] decryptedData = BulkCCMBlockCipher.decrypt(aesKey, nonce, additionalData, encryptedData, 8,
+				encryptedData.length - 8, 8);
+		assertThat(decryptedData, is(payloadData));
+	}
+
+	@Test(expected = InvalidMacException.class)
+	public void testDifferentAdditionalData() throws Exception {
+		byte[] encryptedData = BulkCCMBlockCipher.encrypt(aesKey, nonce, additionalData, payloadData, 8);
+		byte[] additionalData2 = Arrays.copyOf(additionalData, additionalData.length + 1);
+		additionalData2[0] ^= 0x55;
+		BulkCCMBlockCipher.decrypt(aesKey, nonce, additionalData2, encryptedData, 8);
+	}
+
+	@Test(expected = InvalidMacException.class)
+	public void testModifiedCiphertext() throws Exception {
+		byte[] encryptedData = BulkCCMBlockCipher.encrypt(aesKey, nonce, additionalData, payloadData, 8);
+		encryptedData[encryptedData.length / 2] ^= 0x55;
+		BulkCCMBlockCipher.decrypt(aesKey, nonce, additionalData, encryptedData, 8);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooShortNonce() throws Exception {
+		BulkCCMBlockCipher.encrypt(aesKey, Arrays.copyOf(nonce, 6), additionalData, payloadData, 8);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooLongNonce() throws Exception {
+		BulkCCMBlockCipher.encrypt(aesKey, Arrays.copyOf(nonce, 14), additionalData, payloadData, 8);
+	}
+}
@@ -0,0 +1,117 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls.cipher;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.californium.elements.category.Medium;
+import org.eclipse.californium.elements.util.Bytes;
+import org.eclipse.californium.elements.util.DaemonThreadFactory;
+import org.eclipse.californium.elements.util.JceProviderUtil;
+import org.eclipse.californium.scandium.dtls.cipher.XECDHECryptography.SupportedGroup;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(Medium.class)
+public class XECDHECryptographyPoolTest {
+
+	private static final int POOL_SIZE = 4;
+	private static final long TIMEOUT_MILLIS = 2000;
+
+	private XECDHECryptographyPool pool;
+
+	@BeforeClass
+	public static void init() {
+		JceProviderUtil.init();
+	}
+
+	@Before
+	public void setup() {
+		pool = new XECDHECryptographyPool(POOL_SIZE, Arrays.asList(SupportedGroup.secp256r1));
+	}
+
+	@After
+	public void tearDown() {
+		pool.stop();
+	}
+
+	@Test
+	public void testTakeWithoutStartGeneratesInline() throws GeneralSecurityException {
+		XECDHECryptography ecdhe = pool.take(SupportedGroup.secp256r1);
+		assertThat(ecdhe, is(notNullValue()));
+		assertThat(ecdhe.getSupportedGroup(), is(SupportedGroup.secp256r1));
+		assertThat(pool.getMissedKeyPairs(), is(1L));
+		assertThat(pool.getGeneratedKeyPairs(), is(0L));
+	}
+
+	@Test
+	public void testTakeNotPooledGroupGeneratesInline() throws GeneralSecurityException {
+		SupportedGroup group = SupportedGroup.secp384r1;
+		if (group.isUsable()) {
+			XECDHECryptography ecdhe = pool.take(group);
+			assertThat(ecdhe.getSupportedGroup(), is(group));
+			assertThat(pool.getMissedKeyPairs(), is(0L));
+		}
+	}
+
+	@Test
+	public void testTakePooledKeyPairs() throws Exception {
+		pool.start(new DaemonThreadFactory("KeyPairPool#"));
+		waitForPooledKeyPairs(POOL_SIZE);
+		assertThat(pool.getGeneratedKeyPairs(), is((long) POOL_SIZE));
+
+		Set<Bytes> points = new HashSet<>();
+		for (int index = 0; index < POOL_SIZE; ++index) {
+			XECDHECryptography ecdhe = pool.take(SupportedGroup.secp256r1);
+			assertThat(ecdhe.isDestroyed(), is(false));
+			points.add(new Bytes(ecdhe.getEncodedPoint()));
+		}
+		assertThat(points.size(), is(POOL_SIZE));
+		assertThat(pool.getMissedKeyPairs(), is(0L));
+
+		// refilled in background
+		waitForPooledKeyPairs(POOL_SIZE);
+		assertThat(pool.getGeneratedKeyPairs(), is(not(0L)));
+		XECDHECryptography ecdhe = pool.take(SupportedGroup.secp256r1);
+		assertThat(points.contains(new Bytes(ecdhe.getEncodedPoint())), is(false));
+	}
+
+	@Test
+	public void testStopClearsPool() throws Exception {
+		pool.start(new DaemonThreadFactory("KeyPairPool#"));
+		waitForPooledKeyPairs(POOL_SIZE);
+		pool.stop();
+		assertThat(pool.getPooledKeyPairs(), is(0));
+	}
+
+	private void waitForPooledKeyPairs(int count) throws InterruptedException {
+		long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (pool.getPooledKeyPairs() < count && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertThat(pool.getPooledKeyPairs(), is(count));
+	}
+}
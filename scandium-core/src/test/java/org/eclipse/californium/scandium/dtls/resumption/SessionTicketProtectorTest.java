@@ -0,0 +1,98 @@
+/********************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * 
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License
+ * v1.0 which is available at
+ * https://www.eclipse.org/org/documents/edl-v10.php.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ********************************************************************************/
+package org.eclipse.californium.scandium.dtls.resumption;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.californium.elements.category.Small;
+import org.eclipse.californium.scandium.dtls.CertificateType;
+import org.eclipse.californium.scandium.dtls.DTLSSession;
+import org.eclipse.californium.scandium.dtls.DTLSSessionTest;
+import org.eclipse.californium.scandium.dtls.HandshakeMessage;
+import org.eclipse.californium.scandium.dtls.NewSessionTicket;
+import org.eclipse.californium.scandium.dtls.cipher.CipherSuite;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(Small.class)
+public class SessionTicketProtectorTest {
+
+	SessionTicketProtector protector;
+	DTLSSession session;
+
+	@Before
+	public void setUp() {
+		protector = new SessionTicketProtector(new SecretKeySpec(new byte[16], "AES"), 1, TimeUnit.HOURS);
+		session = DTLSSessionTest.newEstablishedServerSession(CipherSuite.TLS_PSK_WITH_AES_128_CCM_8,
+				CertificateType.X_509);
+	}
+
+	@Test
+	public void testProtectAndUnprotect() {
+		byte[] ticket = protector.protect(session);
+		assertThat(ticket, is(notNullValue()));
+
+		DTLSSession unprotected = protector.unprotect(ticket);
+		assertThat(unprotected, is(notNullValue()));
+		assertThat(unprotected, is(session));
+	}
+
+	@Test
+	public void testTamperedTicketIsRejected() {
+		byte[] ticket = protector.protect(session);
+		ticket[ticket.length - 1] ^= 0x55;
+
+		assertThat(protector.unprotect(ticket), is(nullValue()));
+	}
+
+	@Test
+	public void testTicketWithOtherKeyIsRejected() {
+		byte[] ticket = protector.protect(session);
+		byte[] key = new byte[16];
+		key[0] = 1;
+		SessionTicketProtector other = new SessionTicketProtector(new SecretKeySpec(key, "AES"), 1, TimeUnit.HOURS);
+
+		assertThat(other.unprotect(ticket), is(nullValue()));
+	}
+
+	@Test
+	public void testEmptyTicketIsRejected() {
+		assertThat(protector.unprotect(new byte[0]), is(nullValue()));
+		assertThat(protector.unprotect(null), is(nullValue()));
+	}
+
+	@Test
+	public void testLifetimeHint() {
+		assertThat(protector.getLifetimeHint(), is(3600L));
+	}
+
+	@Test
+	public void testNewSessionTicketSerialization() throws Exception {
+		byte[] ticket = protector.protect(session);
+		NewSessionTicket message = new NewSessionTicket(protector.getLifetimeHint(), ticket);
+
+		NewSessionTicket parsed = (NewSessionTicket) HandshakeMessage.fromByteArray(message.toByteArray());
+		assertThat(parsed.getLifetimeHint(), is(3600L));
+		assertThat(parsed.getTicket(), is(ticket));
+	}
+}
@@ -16,24 +16,42 @@
 package org.eclipse.californium.scandium.dtls.x509;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assume.assumeThat;
 
+import java.security.cert.CertPath;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.security.auth.x500.X500Principal;
 
 import org.eclipse.californium.elements.category.Small;
+import org.eclipse.californium.elements.rule.TestTimeRule;
+import org.eclipse.californium.scandium.dtls.CertificateMessage;
+import org.eclipse.californium.scandium.dtls.CertificateVerificationResult;
+import org.eclipse.californium.scandium.dtls.ConnectionId;
 import org.eclipse.californium.scandium.dtls.DtlsTestTools;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 @Category(Small.class)
 public class CertificateVerifierTest {
 
+	private static final long CACHE_TIMEOUT_SECONDS = 60;
+	private static final ConnectionId CID = new ConnectionId(new byte[] { 1, 2, 3, 4 });
+
+	@Rule
+	public TestTimeRule time = new TestTimeRule();
+
 	private static X509Certificate[] trusts;
 	private static Set<X500Principal> issuers;
 
@@ -61,4 +79,47 @@ public class CertificateVerifierTest {
 		assertThat(certificateVerifier.getAcceptedIssuers().size(), is(issuers.size()));
 	}
 
+	@Test
+	public void testVerifiedChainCache() {
+		StaticCertificateVerifier certificateVerifier = createCachingVerifier();
+		CertPath path1 = verifyClientCertificate(certificateVerifier);
+		assertThat(certificateVerifier.getVerifiedChainCacheSize(), is(1));
+		CertPath path2 = verifyClientCertificate(certificateVerifier);
+		assertThat(path2, is(sameInstance(path1)));
+		assertThat(certificateVerifier.getVerifiedChainCacheSize(), is(1));
+	}
+
+	@Test
+	public void testVerifiedChainCacheExpires() {
+		StaticCertificateVerifier certificateVerifier = createCachingVerifier();
+		CertPath path1 = verifyClientCertificate(certificateVerifier);
+		time.addTestTimeShift(CACHE_TIMEOUT_SECONDS + 1, TimeUnit.SECONDS);
+		CertPath path2 = verifyClientCertificate(certificateVerifier);
+		assertThat(path2, is(not(sameInstance(path1))));
+	}
+
+	@Test
+	public void testVerifiedChainCacheClearedByNewTrusts() {
+		StaticCertificateVerifier certificateVerifier = createCachingVerifier();
+		CertPath path1 = verifyClientCertificate(certificateVerifier);
+		certificateVerifier.setTrustedCertificates(trusts);
+		assertThat(certificateVerifier.getVerifiedChainCacheSize(), is(0));
+		CertPath path2 = verifyClientCertificate(certificateVerifier);
+		assertThat(path2, is(not(sameInstance(path1))));
+	}
+
+	private StaticCertificateVerifier createCachingVerifier() {
+		return (StaticCertificateVerifier) StaticCertificateVerifier.builder().setTrustedCertificates(trusts)
+				.setVerifiedChainCache(10, CACHE_TIMEOUT_SECONDS, TimeUnit.SECONDS).build();
+	}
+
+	private CertPath verifyClientCertificate(StaticCertificateVerifier certificateVerifier) {
+		CertificateMessage message = new CertificateMessage(
+				Arrays.asList(DtlsTestTools.getClientCertificateChain()));
+		CertificateVerificationResult result = certificateVerifier.verifyCertificate(CID, null, null, true, false,
+				false, message);
+		assertThat(result.getException(), is(nullValue()));
+		assertThat(result.getCertificatePath(), is(notNullValue()));
+		return result.getCertificatePath();
+	}
 }